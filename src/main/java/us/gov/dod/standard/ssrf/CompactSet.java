@@ -0,0 +1,315 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact, insertion-ordered Set implementation for SSRF child collections.
+ * <p>
+ * Most SSRF collections (case numbers, remarks, references, points of contact,
+ * etc.) hold between zero and three entries. A HashSet costs a backing HashMap,
+ * a hash table and one entry object per element. This set instead stores up to
+ * {@link #THRESHOLD} elements in a small array, searched linearly, and only
+ * promotes to a (linked) hash set above that size. An empty CompactSet holds no
+ * array at all.
+ * <p>
+ * Elements are iterated in insertion order. As with HashSet, NULL elements are
+ * permitted and the set is not thread safe.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @param <E> the element type
+ * @since 3.1.0
+ */
+public class CompactSet<E> extends AbstractSet<E> {
+
+  /**
+   * The maximum number of elements held in the array. Larger sets are
+   * promoted to a hash set.
+   */
+  static final int THRESHOLD = 8;
+  /**
+   * The initial array capacity.
+   */
+  private static final int INITIAL_CAPACITY = 2;
+
+  /**
+   * The array elements, NULL if the set has never held an element. This is
+   * not used once the set is promoted.
+   */
+  private Object[] elements;
+  /**
+   * The number of array elements.
+   */
+  private int size;
+  /**
+   * The promoted hash set, if the set has grown beyond the threshold.
+   */
+  private Set<E> hashSet;
+  /**
+   * The modification count, used to detect concurrent modification in array
+   * iterators. This counts every structural change, including those made
+   * after promotion to a hash set.
+   */
+  private int modCount;
+
+  /**
+   * Construct a new, empty set.
+   */
+  public CompactSet() {
+  }
+
+  /**
+   * Construct a new set containing the elements of the indicated collection.
+   *
+   * @param collection the elements to add
+   */
+  public CompactSet(Collection<? extends E> collection) {
+    addAll(collection);
+  }
+
+  @Override
+  public int size() {
+    return hashSet != null ? hashSet.size() : size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return hashSet != null ? hashSet.contains(o) : indexOf(o) >= 0;
+  }
+
+  /**
+   * Get the modification count of this set. The count changes whenever an
+   * element is added or removed, so it may be used as a cheap version stamp
+   * by views compiled from the set content.
+   *
+   * @return the modification count
+   */
+  public int getModCount() {
+    return modCount;
+  }
+
+  @Override
+  public boolean add(E e) {
+    if (hashSet != null) {
+      return modified(hashSet.add(e));
+    }
+    if (indexOf(e) >= 0) {
+      return false;
+    }
+    if (size == THRESHOLD) {
+      /**
+       * Promote to a hash set. The array is released.
+       */
+      hashSet = new LinkedHashSet<>(THRESHOLD * 4);
+      for (int i = 0; i < size; i++) {
+        hashSet.add(elementAt(i));
+      }
+      hashSet.add(e);
+      elements = null;
+      size = 0;
+      modCount++;
+      return true;
+    }
+    if (elements == null) {
+      elements = new Object[INITIAL_CAPACITY];
+    } else if (size == elements.length) {
+      elements = Arrays.copyOf(elements, Math.min(THRESHOLD, size * 2));
+    }
+    elements[size++] = e;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (hashSet != null) {
+      return modified(hashSet.remove(o));
+    }
+    int index = indexOf(o);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    if (hashSet != null) {
+      /**
+       * Clear the promoted set so that its open iterators fail fast.
+       */
+      hashSet.clear();
+    }
+    hashSet = null;
+    elements = null;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return hashSet != null ? new HashIterator() : new ArrayIterator();
+  }
+
+  /**
+   * Count a modification of the promoted hash set.
+   *
+   * @param changed TRUE if the hash set changed
+   * @return the changed value
+   */
+  private boolean modified(boolean changed) {
+    if (changed) {
+      modCount++;
+    }
+    return changed;
+  }
+
+  /**
+   * Find an element in the array.
+   *
+   * @param o the element
+   * @return the element index, -1 if not present
+   */
+  private int indexOf(Object o) {
+    if (o == null) {
+      for (int i = 0; i < size; i++) {
+        if (elements[i] == null) {
+          return i;
+        }
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        if (o.equals(elements[i])) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Remove an array element, preserving insertion order.
+   *
+   * @param index the element index
+   */
+  private void removeAt(int index) {
+    System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+    elements[--size] = null;
+    modCount++;
+  }
+
+  @SuppressWarnings("unchecked")
+  private E elementAt(int index) {
+    return (E) elements[index];
+  }
+
+  /**
+   * Insertion-ordered iterator over the array elements.
+   */
+  private final class ArrayIterator implements Iterator<E> {
+
+    /**
+     * The index of the next element.
+     */
+    private int next;
+    /**
+     * The index of the last returned element, -1 if none or removed.
+     */
+    private int last = -1;
+    /**
+     * The expected modification count.
+     */
+    private int expectedModCount = modCount;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns TRUE after a concurrent modification so that {@link #next()}
+     * throws ConcurrentModificationException. A promotion to a hash set
+     * empties the array and would otherwise end the iteration silently.
+     */
+    @Override
+    public boolean hasNext() {
+      return next < size || modCount != expectedModCount;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return elementAt(last);
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(last);
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /**
+   * Iterator over the promoted hash set that counts removals.
+   */
+  private final class HashIterator implements Iterator<E> {
+
+    private final Iterator<E> iterator = hashSet.iterator();
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public E next() {
+      return iterator.next();
+    }
+
+    @Override
+    public void remove() {
+      iterator.remove();
+      modCount++;
+    }
+  }
+
+}
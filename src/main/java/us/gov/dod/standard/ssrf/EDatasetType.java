@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf;
 
+import java.util.HashMap;
+import java.util.Map;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 
@@ -132,6 +134,18 @@ public enum EDatasetType {
    */
   TX(Transmitter.class);
 
+  /**
+   * Index of dataset types by class type. This supports constant time lookup
+   * from the Common constructor.
+   */
+  private static final Map<Class<?>, EDatasetType> CLASS_INDEX = new HashMap<>();
+
+  static {
+    for (EDatasetType eSerialType : EDatasetType.values()) {
+      CLASS_INDEX.put(eSerialType.getClazz(), eSerialType);
+    }
+  }
+
   /**
    * The class type.
    */
@@ -171,12 +185,7 @@ public enum EDatasetType {
    * @return the serial number data type code
    */
   public static EDatasetType fromInstance(Class<?> clazz) {
-    for (EDatasetType eSerialType : EDatasetType.values()) {
-      if (eSerialType.getClazz().equals(clazz)) {
-        return eSerialType;
-      }
-    }
-    return null;
+    return CLASS_INDEX.get(clazz);
   }
 
   /**
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Primitive, sorted Set of non-negative int index values.
+ * <p>
+ * SSRF remark and external reference cross-references ("remarks" and
+ * "extReferences" attributes) are short lists of UN6 index values. This set
+ * stores them as a sorted int array rather than as boxed BigInteger instances
+ * in a hash set. It implements Set&lt;BigInteger&gt; so that existing code
+ * continues to work; BigInteger instances are created only when the set is
+ * iterated. Use the int methods to avoid boxing altogether.
+ * <p>
+ * Values are iterated in ascending order. NULL and negative values are not
+ * permitted. The set is not thread safe.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class IndexSet extends AbstractSet<BigInteger> {
+
+  /**
+   * An empty int array.
+   */
+  private static final int[] EMPTY = new int[0];
+
+  /**
+   * The sorted values. Only the first {@link #size} entries are used.
+   */
+  private int[] values = EMPTY;
+  /**
+   * The number of values.
+   */
+  private int size;
+  /**
+   * The modification count, used to detect concurrent modification in
+   * iterators.
+   */
+  private int modCount;
+
+  /**
+   * Construct a new, empty set.
+   */
+  public IndexSet() {
+  }
+
+  /**
+   * Parse a whitespace delimited list of index values (e.g. "1 2 12").
+   *
+   * @param list the index list
+   * @return a new set of the list values
+   * @throws IllegalArgumentException if a value is not a non-negative integer
+   */
+  public static IndexSet valueOf(String list) {
+    IndexSet set = new IndexSet();
+    int length = list.length();
+    int i = 0;
+    while (i < length) {
+      while (i < length && Character.isWhitespace(list.charAt(i))) {
+        i++;
+      }
+      if (i == length) {
+        break;
+      }
+      long value = 0;
+      int start = i;
+      while (i < length && !Character.isWhitespace(list.charAt(i))) {
+        char c = list.charAt(i++);
+        if (c < '0' || c > '9' || value > Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("Invalid index value \"" + list.substring(start, Math.min(length, i)) + "\" in list \"" + list + "\"");
+        }
+        value = value * 10 + (c - '0');
+      }
+      if (value > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid index value \"" + list.substring(start, i) + "\" in list \"" + list + "\"");
+      }
+      set.add((int) value);
+    }
+    return set;
+  }
+
+  /**
+   * Add an index value.
+   *
+   * @param value the non-negative index value
+   * @return TRUE if the set did not already contain the value
+   */
+  public boolean add(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative index value " + value);
+    }
+    int index = Arrays.binarySearch(values, 0, size, value);
+    if (index >= 0) {
+      return false;
+    }
+    index = -index - 1;
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size == 0 ? 2 : size * 2);
+    }
+    System.arraycopy(values, index, values, index + 1, size - index);
+    values[index] = value;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Determine if the set contains an index value.
+   *
+   * @param value the index value
+   * @return TRUE if the set contains the value
+   */
+  public boolean contains(int value) {
+    return Arrays.binarySearch(values, 0, size, value) >= 0;
+  }
+
+  /**
+   * Remove an index value.
+   *
+   * @param value the index value
+   * @return TRUE if the set contained the value
+   */
+  public boolean remove(int value) {
+    int index = Arrays.binarySearch(values, 0, size, value);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  /**
+   * Get the largest index value.
+   *
+   * @return the largest value, -1 if the set is empty
+   */
+  public int max() {
+    return size > 0 ? values[size - 1] : -1;
+  }
+
+  /**
+   * Get the index values.
+   *
+   * @return a new, sorted array of the index values
+   */
+  public int[] toIntArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  /**
+   * Get the index values as a space delimited list (e.g. "1 2 12").
+   *
+   * @return the index list
+   */
+  public String toList() {
+    StringBuilder sb = new StringBuilder(size * 3);
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      sb.append(values[i]);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Add an index value.
+   *
+   * @param e the non-negative index value
+   * @return TRUE if the set did not already contain the value
+   * @throws IllegalArgumentException if the value is negative or too large
+   */
+  @Override
+  public boolean add(BigInteger e) {
+    if (e.signum() < 0 || e.bitLength() > 31) {
+      throw new IllegalArgumentException("Invalid index value " + e);
+    }
+    return add(e.intValue());
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof BigInteger && ((BigInteger) o).bitLength() <= 31 && contains(((BigInteger) o).intValue());
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return o instanceof BigInteger && ((BigInteger) o).bitLength() <= 31 && remove(((BigInteger) o).intValue());
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    values = EMPTY;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public Iterator<BigInteger> iterator() {
+    return new Iterator<BigInteger>() {
+      private int next;
+      private int last = -1;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public BigInteger next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        last = next++;
+        return BigInteger.valueOf(values[last]);
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        removeAt(last);
+        next = last;
+        last = -1;
+        expectedModCount = modCount;
+      }
+    };
+  }
+
+  /**
+   * Remove the value at an array index.
+   *
+   * @param index the array index
+   */
+  private void removeAt(int index) {
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    modCount++;
+  }
+
+}
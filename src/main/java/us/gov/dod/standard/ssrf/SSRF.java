@@ -62,6 +62,14 @@ public class SSRF extends SchemaRoot<SSRF> {
    */
   @XmlTransient
   private SSRFProperties ssrfProperties;
+  /**
+   * The shared SSRF Profile associated with this SSRF instance. This is used
+   * only if no local SSRF Properties are set.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private SSRFProfile ssrfProfile;
 
   /**
    * Set the SSRF Properties for this SSRF instance.
@@ -79,6 +87,61 @@ public class SSRF extends SchemaRoot<SSRF> {
   public void setProperties(SSRFProperties ssrfProperties) {
     this.ssrfProperties = new SSRFProperties();
     this.ssrfProperties.putAll(ssrfProperties);
+    this.ssrfProfile = null;
+  }
+
+  /**
+   * Set the shared SSRF Profile for this SSRF instance.
+   * <p>
+   * The profile is referenced, not copied, and any update to the registered
+   * profile is applied the next time this SSRF instance is assembled. Calling
+   * {@link #setProperty(String, String)} or
+   * {@link #setProperties(SSRFProperties)} replaces the profile with a local
+   * SSRF Properties copy.
+   *
+   * @param ssrfProfile a SSRFProfile instance
+   * @since 3.1.0
+   */
+  public void setProfile(SSRFProfile ssrfProfile) {
+    this.ssrfProfile = ssrfProfile;
+    this.ssrfProperties = null;
+  }
+
+  /**
+   * Set the shared SSRF Profile for this SSRF instance.
+   *
+   * @param profileName a registered SSRF profile name (e.g. "default")
+   * @see #setProfile(SSRFProfile)
+   * @since 3.1.0
+   */
+  public void setProfile(String profileName) {
+    setProfile(SSRFProfile.getInstance(profileName));
+  }
+
+  /**
+   * Set the shared SSRF Profile for this SSRF instance.
+   *
+   * @param profileName a registered SSRF profile name (e.g. "default")
+   * @return the current SSRF instance
+   * @see #setProfile(SSRFProfile)
+   * @since 3.1.0
+   */
+  public SSRF withProfile(String profileName) {
+    setProfile(profileName);
+    return this;
+  }
+
+  /**
+   * Get the SSRF Properties currently in effect for this SSRF instance: the
+   * local SSRF Properties if set, otherwise the shared SSRF Profile properties.
+   *
+   * @return the SSRF Properties in effect; NULL if none are configured
+   */
+  private SSRFProperties getEffectiveProperties() {
+    if (ssrfProperties != null) {
+      return ssrfProperties;
+    }
+    return ssrfProfile != null ? ssrfProfile.getProperties() : null;
   }
 
   /**
@@ -94,6 +157,10 @@ public class SSRF extends SchemaRoot<SSRF> {
   public void setProperty(String propertyName, String propertyValue) {
     if (ssrfProperties == null) {
       ssrfProperties = new SSRFProperties();
+      if (ssrfProfile != null) {
+        ssrfProperties.putAll(ssrfProfile.getProperties());
+        ssrfProfile = null;
+      }
     }
     ssrfProperties.setProperty(propertyName, propertyValue);
   }
@@ -105,7 +172,7 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @return TRUE if the internal SSRF Properties configuration is not null;
    */
   public boolean isSetProperties() {
-    return this.ssrfProperties != null;
+    return this.ssrfProperties != null || this.ssrfProfile != null;
   }
 
   /**
@@ -149,6 +216,11 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @param propertyName a SSRF property name (e.g. "ChannelPlan.name")
    */
   public void unsetProperty(String propertyName) {
+    if (ssrfProperties == null && ssrfProfile != null) {
+      ssrfProperties = new SSRFProperties();
+      ssrfProperties.putAll(ssrfProfile.getProperties());
+      ssrfProfile = null;
+    }
     if (ssrfProperties != null) {
       ssrfProperties.remove(propertyName);
     }
@@ -164,7 +236,8 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @return the value in this property list with the specified key value.
    */
   public String getProperty(String propertyName) {
-    return ssrfProperties != null ? ssrfProperties.getProperty(propertyName) : null;
+    SSRFProperties properties = getEffectiveProperties();
+    return properties != null ? properties.getProperty(propertyName) : null;
   }//</editor-fold>
 
   //<editor-fold defaultstate="collapsed" desc="Export to XML">
@@ -179,8 +252,9 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @since 3.1.0
    */
   private void assemble() {
-    if (ssrfProperties != null) {
-      SSRFUtility.setProperties(ssrfProperties, this);
+    SSRFProperties properties = getEffectiveProperties();
+    if (properties != null) {
+      SSRFUtility.setProperties(properties, this);
     }
     SSRFUtility.prepare(this);
   }
@@ -298,7 +372,27 @@ public class SSRF extends SchemaRoot<SSRF> {
    *                   because the document is invalid or incomplete
    */
   public static SSRF fromXml(String xml) throws Exception {
-    SSRF ssrf = SSRFUtility.unmarshal(xml, SSRF.class);
+    return fromXml(xml, null);
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy, sharing
+   * repeated String values.
+   * <p>
+   * This is the same as {@link #fromXml(String)} except that repeated String
+   * values (codes, names, etc.) in the XML document are replaced by their
+   * canonical instance in the indicated interner. Use
+   * {@link SSRFInterner#newInstance()} to share values within the document
+   * only or {@link SSRFInterner#getGlobal()} to share values across documents.
+   *
+   * @param xml      A SSRF XML document
+   * @param interner the String interner to use; NULL to not intern values
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   */
+  public static SSRF fromXml(String xml, SSRFInterner interner) throws Exception {
+    SSRF ssrf = SSRFUtility.unmarshal(xml, SSRF.class, interner);
     SSRFUtility.postLoad(ssrf);
     return ssrf;
   }//</editor-fold>
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Import-time String interner.
+ * <p>
+ * SSRF documents repeat the same short values (pick-list codes such as "Y" or
+ * "N", service codes, station classes, organisation names) many thousands of
+ * times. When an interner is provided to
+ * {@link SSRFUtility#unmarshal(String, Class, SSRFInterner)} every String value
+ * read by the un-marshaler is replaced by a canonical instance, so that equal
+ * values in the loaded object graph share one String.
+ * <p>
+ * An interner may be scoped to a single document ({@link #newInstance()}),
+ * in which case it is discarded with the document, or shared across
+ * documents ({@link #getGlobal()}), in which case its size is bounded. Once a
+ * bounded interner is full new values are no longer admitted (they are passed
+ * through un-interned) while existing canonical values continue to be shared.
+ * <p>
+ * Only Strings are shared. Strings are immutable, so a data item whose value
+ * is later changed simply references a new String: sharing is copy-on-write by
+ * construction. SSRF data item instances are mutable and are never shared.
+ * Classification and releasability code lists are enumerated types and are
+ * already canonical.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class SSRFInterner {
+
+  /**
+   * The maximum number of values held by the global interner.
+   */
+  public static final int GLOBAL_CAPACITY = 65536;
+  /**
+   * The maximum length of an interned value. Longer values (e.g. remarks and
+   * descriptions) are rarely repeated and are passed through un-interned.
+   */
+  public static final int MAX_LENGTH = 64;
+
+  /**
+   * The shared, bounded global interner.
+   */
+  private static final SSRFInterner GLOBAL = new SSRFInterner(GLOBAL_CAPACITY);
+  /**
+   * The interner in use by the un-marshaler on the current thread, if any.
+   */
+  private static final ThreadLocal<SSRFInterner> CURRENT = new ThreadLocal<>();
+
+  /**
+   * The maximum number of values held. Zero indicates unbounded.
+   */
+  private final int capacity;
+  /**
+   * The canonical values.
+   */
+  private final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+
+  /**
+   * Construct a new interner.
+   *
+   * @param capacity the maximum number of values held, zero for unbounded
+   */
+  private SSRFInterner(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Get a new, unbounded interner. Use one instance per imported document (or
+   * group of related documents) so that the canonical values are discarded
+   * with the document.
+   *
+   * @return a new interner
+   */
+  public static SSRFInterner newInstance() {
+    return new SSRFInterner(0);
+  }
+
+  /**
+   * Get a new interner holding at most the indicated number of values.
+   *
+   * @param capacity the maximum number of values held
+   * @return a new interner
+   */
+  public static SSRFInterner newInstance(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Interner capacity must be positive.");
+    }
+    return new SSRFInterner(capacity);
+  }
+
+  /**
+   * Get the shared global interner. The global interner holds at most
+   * {@link #GLOBAL_CAPACITY} values.
+   *
+   * @return the global interner
+   */
+  public static SSRFInterner getGlobal() {
+    return GLOBAL;
+  }
+
+  /**
+   * Get the interner in use by the un-marshaler on the current thread. This is
+   * called by the XML adapters and data types while a document is read.
+   *
+   * @return the current interner, NULL if none is in use
+   */
+  public static SSRFInterner getCurrent() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Set the interner in use by the un-marshaler on the current thread.
+   *
+   * @param interner the interner, NULL to clear
+   */
+  static void setCurrent(SSRFInterner interner) {
+    if (interner == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(interner);
+    }
+  }
+
+  /**
+   * Get the canonical instance of a String value.
+   *
+   * @param value the value
+   * @return the canonical instance equal to the value, or the value itself if
+   *         it is null, too long or cannot be admitted.
+   */
+  public String intern(String value) {
+    if (value == null || value.length() > MAX_LENGTH) {
+      return value;
+    }
+    String canonical = values.get(value);
+    if (canonical != null) {
+      return canonical;
+    }
+    if (capacity > 0 && values.size() >= capacity) {
+      return value;
+    }
+    canonical = values.putIfAbsent(value, value);
+    return canonical != null ? canonical : value;
+  }
+
+  /**
+   * Get the number of canonical values held.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * Discard all canonical values.
+   */
+  public void clear() {
+    values.clear();
+  }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Named SSRF Properties profile.
+ * <p>
+ * A SSRF profile is a process-wide, named handle to a read-only
+ * {@link SSRFProperties} configuration (e.g. "default", or a classification
+ * and releasability variant). Profiles are registered once and shared by
+ * reference: SSRF instances configured with a profile (see
+ * {@link SSRF#setProfile(String)}) do not copy its properties and reuse its
+ * compiled rule index and property application plans.
+ * <p>
+ * Profiles are loaded on first use from the classpath resource
+ * <code>META-INF/profiles/[name].properties</code>, or may be registered
+ * programmatically or loaded from the file system. A profile's properties may
+ * be replaced at any time, either by re-registering the profile or
+ * automatically by {@link #watch(File)}; the replacement is atomic and is seen
+ * by every SSRF instance holding the profile. Profile properties are
+ * read-only: every mutator, including those of the key, value and entry views,
+ * throws UnsupportedOperationException.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class SSRFProfile {
+
+  private static final Logger logger = Logger.getLogger(SSRFProfile.class.getName());
+
+  /**
+   * The name of the default SSRF profile. The default profile is a global
+   * classification Unclassified configuration.
+   */
+  public static final String DEFAULT = "default";
+  /**
+   * The SSRF profile file name extension.
+   */
+  private static final String EXTENSION = ".properties";
+  /**
+   * 500 ms. The time a watched profile file must be unchanged before it is
+   * re-loaded.
+   */
+  public static final long QUIET_PERIOD = 500;
+  /**
+   * The registered SSRF profiles, indexed by name.
+   */
+  private static final ConcurrentMap<String, SSRFProfile> PROFILES = new ConcurrentHashMap<>();
+
+  /**
+   * The profile name.
+   */
+  private final String name;
+  /**
+   * The current read-only profile properties.
+   */
+  private volatile SSRFProperties properties;
+
+  /**
+   * Construct a new SSRF profile.
+   *
+   * @param name       the profile name
+   * @param properties the read-only profile properties
+   */
+  private SSRFProfile(String name, SSRFProperties properties) {
+    this.name = name;
+    this.properties = properties;
+  }
+
+  /**
+   * Get the named SSRF profile.
+   * <p>
+   * If the profile is not yet registered it is loaded from the classpath
+   * resource <code>META-INF/profiles/[name].properties</code>.
+   *
+   * @param name the profile name (e.g. "default")
+   * @return the SSRF profile
+   * @throws IllegalArgumentException if the profile is not registered and no
+   *                                  classpath resource exists or the resource
+   *                                  cannot be read
+   */
+  public static SSRFProfile getInstance(String name) {
+    SSRFProfile profile = PROFILES.get(name);
+    if (profile != null) {
+      return profile;
+    }
+    InputStream inputStream = SSRFProfile.class.getClassLoader().getResourceAsStream("META-INF/profiles/" + name + EXTENSION);
+    if (inputStream == null) {
+      throw new IllegalArgumentException("SSRF profile " + name + " is not registered.");
+    }
+    SSRFProperties p = new SSRFProperties();
+    try (InputStream in = inputStream) {
+      p.load(in);
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("SSRF profile " + name + " cannot be read: " + ex.getMessage(), ex);
+    }
+    profile = new SSRFProfile(name, p.readOnlyCopy());
+    SSRFProfile existing = PROFILES.putIfAbsent(name, profile);
+    return existing != null ? existing : profile;
+  }
+
+  /**
+   * Register (or replace) a named SSRF profile.
+   * <p>
+   * A read-only copy of the input properties is registered. If the profile is
+   * already registered its properties are replaced atomically.
+   *
+   * @param name       the profile name
+   * @param properties the profile properties
+   * @return the SSRF profile
+   */
+  public static SSRFProfile register(String name, SSRFProperties properties) {
+    SSRFProperties readOnly = properties.isReadOnly() ? properties : properties.readOnlyCopy();
+    SSRFProfile profile = PROFILES.get(name);
+    if (profile == null) {
+      profile = new SSRFProfile(name, readOnly);
+      SSRFProfile existing = PROFILES.putIfAbsent(name, profile);
+      if (existing == null) {
+        return profile;
+      }
+      profile = existing;
+    }
+    profile.properties = readOnly;
+    return profile;
+  }
+
+  /**
+   * Register (or replace) a named SSRF profile from a properties file.
+   *
+   * @param name the profile name
+   * @param file the properties file
+   * @return the SSRF profile
+   * @throws IOException if the file cannot be read, is malformed or does not
+   *                     exist
+   */
+  public static SSRFProfile load(String name, File file) throws IOException {
+    SSRFProperties p = new SSRFProperties();
+    p.load(file);
+    return register(name, p);
+  }
+
+  /**
+   * Watch a directory of SSRF profile files.
+   * <p>
+   * Every <code>[name].properties</code> file in the directory is loaded and
+   * registered as the profile [name]. A daemon thread then watches the
+   * directory and re-loads a profile whenever its file is created or modified.
+   * <p>
+   * Changes are debounced: a file is re-loaded only after it has been quiet
+   * (no further create or modify events) for {@link #QUIET_PERIOD}
+   * milliseconds, and the re-loaded properties are registered only if the file
+   * did not change while it was being read. If a file cannot be read the
+   * previous profile properties are retained.
+   *
+   * @param directory the profile directory
+   * @return a handle to stop watching the directory
+   * @throws IOException if the directory cannot be read or watched
+   */
+  public static Closeable watch(File directory) throws IOException {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      throw new IOException("Not a readable directory: " + directory);
+    }
+    for (File file : files) {
+      if (file.isFile() && file.getName().endsWith(EXTENSION)) {
+        reload(file);
+      }
+    }
+    final Path path = directory.toPath();
+    final WatchService watchService = FileSystems.getDefault().newWatchService();
+    path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    Thread thread = new Thread(new Runnable() {
+
+      @Override
+      public void run() {
+        /**
+         * Changed files and the time (ms) of their most recent event. A file is
+         * re-loaded once it has been quiet for the quiet period.
+         */
+        Map<File, Long> pending = new HashMap<>();
+        try {
+          for (;;) {
+            WatchKey key = pending.isEmpty()
+                           ? watchService.take()
+                           : watchService.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS);
+            long now = System.nanoTime() / 1000000;
+            if (key != null) {
+              for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.context() instanceof Path && event.context().toString().endsWith(EXTENSION)) {
+                  pending.put(path.resolve((Path) event.context()).toFile(), now);
+                }
+              }
+              if (!key.reset()) {
+                return;
+              }
+            }
+            for (Iterator<Map.Entry<File, Long>> iterator = pending.entrySet().iterator(); iterator.hasNext();) {
+              Map.Entry<File, Long> entry = iterator.next();
+              if (now - entry.getValue() >= QUIET_PERIOD) {
+                iterator.remove();
+                reload(entry.getKey());
+              }
+            }
+          }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+        }
+      }
+    }, "SSRFProfile-" + directory.getName());
+    thread.setDaemon(true);
+    thread.start();
+    return watchService;
+  }
+
+  /**
+   * Re-load a profile file. Errors are logged and the previous profile
+   * properties (if any) are retained.
+   * <p>
+   * The file is read into a new properties instance which is registered only
+   * if the file was read successfully and was not modified while it was being
+   * read. A file that is still being written is skipped; its next modify event
+   * triggers another re-load.
+   *
+   * @param file the profile file
+   */
+  private static void reload(File file) {
+    String fileName = file.getName();
+    long lastModified = file.lastModified();
+    long length = file.length();
+    SSRFProperties p = new SSRFProperties();
+    try (InputStream in = new FileInputStream(file)) {
+      p.load(in);
+    } catch (IOException | IllegalArgumentException ex) {
+      logger.log(Level.WARNING, "Failed to load SSRF profile {0}:  {1}", new Object[]{file, ex.getMessage()});
+      return;
+    }
+    if (file.lastModified() != lastModified || file.length() != length) {
+      logger.log(Level.FINE, "SSRF profile {0} changed while loading. Skipped.", file);
+      return;
+    }
+    register(fileName.substring(0, fileName.length() - EXTENSION.length()), p);
+  }
+
+  /**
+   * Get the profile name.
+   *
+   * @return the profile name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get the current profile properties.
+   *
+   * @return the current read-only profile properties
+   */
+  public SSRFProperties getProperties() {
+    return properties;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+}
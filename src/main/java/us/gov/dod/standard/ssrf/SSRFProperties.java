@@ -49,6 +49,26 @@ public class SSRFProperties extends Properties {
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * The compiled rule index for this properties configuration. This is built
+   * on first lookup and rebuilt when the modification stamp has changed.
+   */
+  private transient volatile SSRFPropertyRules rules;
+  /**
+   * The modification stamp at which the compiled rule index was built.
+   */
+  private transient int rulesStamp;
+  /**
+   * The modification stamp. This is advanced by put, putAll, remove, clear
+   * and load.
+   */
+  private transient volatile int stamp;
+  /**
+   * Indicator that this properties configuration is read-only. Read-only
+   * configurations are shared by reference (see {@link SSRFProfile}).
+   */
+  private boolean readOnly;
+
   /**
    * Get an instance of the default SSRF properties configuration.
    * <p>
@@ -61,19 +81,63 @@ public class SSRFProperties extends Properties {
    * before assigning it to a SSRF configuration. Typically at minimum the
    * "TSerial.organisation" property is set to a four-character organization
    * code.
+   * <p>
+   * The returned instance is a copy of the registered
+   * {@link SSRFProfile#DEFAULT} profile. To share the default profile without
+   * copying it use {@link SSRF#setProfile(String)}.
+   * <p>
+   * If the default profile cannot be loaded the error is logged and an empty
+   * SSRFProperties instance is returned.
    *
    * @return the default SSRFProperties "Unclassified" instance
    */
   public static SSRFProperties getDefault() {
     SSRFProperties p = new SSRFProperties();
     try {
-      p.load(SSRFProperties.class.getClassLoader().getResourceAsStream("META-INF/profiles/default.properties"));
-    } catch (IOException ex) {
+      p.putAll(SSRFProfile.getInstance(SSRFProfile.DEFAULT).getProperties());
+    } catch (IllegalArgumentException ex) {
       Logger.getLogger(SSRFProperties.class.getName()).log(Level.SEVERE, null, ex);
     }
     return p;
   }
 
+  /**
+   * Get a read-only copy of this properties configuration. The copy rule index
+   * is compiled immediately.
+   *
+   * @return a read-only copy of this properties configuration
+   * @since 3.1.0
+   */
+  public SSRFProperties readOnlyCopy() {
+    SSRFProperties p = new SSRFProperties();
+    p.putAll(this);
+    p.readOnly = true;
+    p.getRules();
+    return p;
+  }
+
+  /**
+   * Determine if this properties configuration is read-only.
+   *
+   * @return TRUE if this properties configuration cannot be modified
+   * @since 3.1.0
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Ensure this properties configuration is not read-only.
+   *
+   * @throws UnsupportedOperationException if this properties configuration is
+   *                                       read-only
+   */
+  private void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("SSRF properties are read-only.");
+    }
+  }
+
   /**
    * Determine if the properties contains the indicated class.
    * <p>
@@ -140,20 +204,116 @@ public class SSRFProperties extends Properties {
    */
   public String getProperty(String classPath, String fieldName, String defaultValue) {
     /**
-     * First try a specific match for the full class path PLUS field.
+     * First try a specific match for the full class path PLUS field. If the
+     * specific match failed then try for a global match. If no global value is
+     * set then return the user-defined default value.
      */
-    Pattern p = Pattern.compile(classPath + "\\." + fieldName + "$");
-    for (Map.Entry<Object, Object> entry : entrySet()) {
-      Matcher m = p.matcher(entry.getKey().toString());
-      if (m.find()) {
-        return (String) entry.getValue();
+    String value = getRules().find(classPath, fieldName);
+    return value != null ? value : defaultValue;
+  }
+
+  /**
+   * Get the property application plan for the indicated class type at the
+   * indicated class path.
+   * <p>
+   * Plans are cached until this properties configuration is modified.
+   *
+   * @param clazz     the class type
+   * @param classPath the dot-delimited class path (e.g. "SSRF.Contact.TSerial")
+   * @return the property application plan
+   */
+  SSRFPropertyPlan getPlan(Class<?> clazz, String classPath) {
+    return getRules().getPlan(clazz, classPath);
+  }
+
+  /**
+   * Get the compiled rule index for this properties configuration, building
+   * it if required.
+   *
+   * @return the compiled rule index
+   */
+  private SSRFPropertyRules getRules() {
+    SSRFPropertyRules compiled = rules;
+    if (compiled == null || rulesStamp != stamp) {
+      synchronized (this) {
+        compiled = rules;
+        if (compiled == null || rulesStamp != stamp) {
+          rulesStamp = stamp;
+          compiled = new SSRFPropertyRules(this);
+          rules = compiled;
+        }
       }
     }
-    /**
-     * If the specific match failed then try for a global match. If no global
-     * value is set then return the user-defined default value.
-     */
-    return getProperty(fieldName) != null ? getProperty(fieldName) : defaultValue;
+    return compiled;
+  }
+
+  /**
+   * Internal method called before every modification of this properties
+   * configuration. Advances the modification stamp so that the compiled rule
+   * index is rebuilt on the next lookup.
+   *
+   * @throws UnsupportedOperationException if this properties configuration is
+   *                                       read-only
+   */
+  private void modified() {
+    checkWritable();
+    stamp++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Advances the modification stamp.
+   *
+   * @throws UnsupportedOperationException if this properties configuration is
+   *                                       read-only
+   */
+  @Override
+  public synchronized Object put(Object key, Object value) {
+    modified();
+    return super.put(key, value);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Advances the modification stamp.
+   *
+   * @throws UnsupportedOperationException if this properties configuration is
+   *                                       read-only
+   */
+  @Override
+  public synchronized void putAll(Map<?, ?> t) {
+    modified();
+    super.putAll(t);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Advances the modification stamp.
+   *
+   * @throws UnsupportedOperationException if this properties configuration is
+   *                                       read-only
+   */
+  @Override
+  public synchronized Object remove(Object key) {
+    modified();
+    return super.remove(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Advances the modification stamp.
+   *
+   * @throws UnsupportedOperationException if this properties configuration is
+   *                                       read-only
+   */
+  @Override
+  public synchronized void clear() {
+    modified();
+    super.clear();
   }
 
   /**
@@ -170,6 +330,7 @@ public class SSRFProperties extends Properties {
    *                     exist
    */
   public synchronized void load(File inFile) throws IOException {
+    modified();
     super.load(new FileInputStream(inFile));
   }
 
@@ -187,6 +348,7 @@ public class SSRFProperties extends Properties {
    * @throws InvalidPropertiesFormatException if the XML could not be parsed.
    */
   public synchronized void loadFromXML(File inFile) throws IOException, InvalidPropertiesFormatException {
+    modified();
     super.loadFromXML(new FileInputStream(inFile));
   }
 
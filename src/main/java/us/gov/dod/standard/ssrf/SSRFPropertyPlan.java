@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.MetadataAttributes;
+
+/**
+ * Pre-computed property application plan for one class at one class path.
+ * <p>
+ * A plan lists the instance fields of a class in the order they are inspected
+ * by {@link SSRFUtility#setProperties(SSRFProperties, Object)} together with,
+ * for each field configured in a {@link SSRFProperties} profile, the resolved
+ * SET setter method and the setter argument already converted to its
+ * parameter type (either an enumerated constant or a String).
+ * <p>
+ * The optional metadata attributes of an {@link AMetadata} class are held in a
+ * {@link MetadataAttributes} side object. These are planned as if they were
+ * fields of the class itself so that profile values (e.g. "quality") continue
+ * to apply to them.
+ * <p>
+ * Plans are built once per (profile, class, class path) and cached in the
+ * profile's compiled {@link SSRFPropertyRules}, so they are discarded together
+ * with the rule index whenever the profile is modified.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+final class SSRFPropertyPlan {
+
+  private static final Logger logger = Logger.getLogger(SSRFPropertyPlan.class.getName());
+
+  /**
+   * Accessible instance fields, followed by the side object holding each field,
+   * indexed by class type. Field reflection is independent of the profile and
+   * is shared by all plans.
+   */
+  private static final ConcurrentMap<Class<?>, Field[][]> CLASS_FIELDS = new ConcurrentHashMap<>();
+
+  /**
+   * The accessible instance fields of the class.
+   */
+  final Field[] fields;
+  /**
+   * The side object field holding each field. Entries are NULL for fields
+   * declared by the class (or its super classes) directly.
+   */
+  final Field[] owners;
+  /**
+   * The SET setter to call for each field, if a property is configured.
+   * Entries are NULL where no property is configured or no setter exists.
+   */
+  final Method[] setters;
+  /**
+   * The pre-converted setter argument for each configured field.
+   */
+  final Object[] values;
+  /**
+   * Indicator that configured values should overwrite existing (non-null)
+   * field values. This is the case only for the TSerial class type.
+   */
+  final boolean overwrite;
+
+  /**
+   * Build a property application plan.
+   *
+   * @param rules     the compiled profile rules
+   * @param clazz     the class type to plan
+   * @param classPath the dot-delimited class path to the class type (e.g.
+   *                  "SSRF.Contact.TSerial")
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  SSRFPropertyPlan(SSRFPropertyRules rules, Class<?> clazz, String classPath) {
+    Field[][] classFields = getFields(clazz);
+    this.fields = classFields[0];
+    this.owners = classFields[1];
+    this.setters = new Method[fields.length];
+    this.values = new Object[fields.length];
+    this.overwrite = clazz.getSimpleName().equals("TSerial");
+    for (int i = 0; i < fields.length; i++) {
+      Field field = fields[i];
+      /**
+       * First try to get the most specific property value possible (e.g.
+       * "SSRF.Contact.TSerial.organisation"). If none is found then look for a
+       * less specific, class level value (e.g. "TSerial.organisation") and
+       * finally for a global value (e.g. "cls").
+       */
+      String propertyValue = rules.findRule(classPath, field.getName());
+      if (propertyValue == null) {
+        propertyValue = rules.findRule(clazz.getSimpleName(), field.getName());
+      }
+      if (propertyValue == null) {
+        propertyValue = rules.findGlobal(field.getName());
+      }
+      if (propertyValue == null) {
+        continue;
+      }
+      Method method = SSRFUtility.findSetMethod(clazz, field);
+      if (method == null || method.getParameterTypes().length == 0) {
+        continue;
+      }
+      /**
+       * Handle the case where the class is an enumerated type.
+       */
+      Class<?> paramType = method.getParameterTypes()[0];
+      try {
+        values[i] = paramType.isEnum()
+                    ? Enum.valueOf((Class<Enum>) paramType, propertyValue)
+                    : propertyValue;
+        setters[i] = method;
+      } catch (IllegalArgumentException ex) {
+        logger.log(Level.SEVERE, "Invalid SSRF property {0}.{1} value {2}:  {3}",
+                   new Object[]{classPath, field.getName(), propertyValue, ex.getMessage()});
+      }
+    }
+  }
+
+  /**
+   * Get the value of a planned field.
+   *
+   * @param index    the field index
+   * @param instance the object instance
+   * @return the field value, NULL if the field or its side object is not set
+   * @throws IllegalAccessException if the field is not accessible
+   */
+  Object get(int index, Object instance) throws IllegalAccessException {
+    if (owners[index] != null) {
+      instance = owners[index].get(instance);
+      if (instance == null) {
+        return null;
+      }
+    }
+    return fields[index].get(instance);
+  }
+
+  /**
+   * Get the accessible declared and inherited instance fields of a class type
+   * and the side object field holding each.
+   *
+   * @param clazz the class type to inspect
+   * @return the class instance fields and their owning side object fields
+   */
+  private static Field[][] getFields(Class<?> clazz) {
+    Field[][] fields = CLASS_FIELDS.get(clazz);
+    if (fields == null) {
+      List<Field> fieldList = new ArrayList<>();
+      List<Field> ownerList = new ArrayList<>();
+      for (Field field : SSRFUtility.findDeclaredAndInheritedFields(clazz)) {
+        /**
+         * Important: Enable access to the Object instance fields (public,
+         * protected and private).
+         */
+        field.setAccessible(true);
+        /**
+         * Expand the metadata attributes side object into its fields.
+         */
+        if (field.getType().equals(MetadataAttributes.class) && AMetadata.class.isAssignableFrom(clazz)) {
+          for (Field attribute : SSRFUtility.findDeclaredAndInheritedFields(MetadataAttributes.class)) {
+            attribute.setAccessible(true);
+            fieldList.add(attribute);
+            ownerList.add(field);
+          }
+          continue;
+        }
+        fieldList.add(field);
+        ownerList.add(null);
+      }
+      fields = new Field[][]{fieldList.toArray(new Field[fieldList.size()]),
+                             ownerList.toArray(new Field[ownerList.size()])};
+      Field[][] existing = CLASS_FIELDS.putIfAbsent(clazz, fields);
+      if (existing != null) {
+        fields = existing;
+      }
+    }
+    return fields;
+  }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled, read-only rule index of a {@link SSRFProperties} profile.
+ * <p>
+ * Each property key is a dot-delimited class path followed by a field name
+ * (e.g. "SSRF.Contact.TSerial.organisation"). Keys are stored in a suffix trie
+ * of their class path segments, indexed by field name and walked from the
+ * right-most (innermost) class name outward. A lookup for a class path
+ * therefore costs one hash probe per class path segment, regardless of the
+ * number of properties in the profile.
+ * <p>
+ * A rule matches a class path if the rule key ends with the class path plus
+ * field name on a segment boundary. When several rules match the most specific
+ * (the one with the fewest additional leading segments) wins. Ties are broken
+ * by the alphabetical order of the key so that lookups are deterministic.
+ * Keys without a dot are global field values and are used when no class rule
+ * matches.
+ * <p>
+ * Lookup results are memoized per (class path, field), and the resulting
+ * {@link SSRFPropertyPlan} per (class, class path). A rule index is immutable
+ * once built and is discarded by its owning {@link SSRFProperties} whenever the
+ * profile is modified.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+final class SSRFPropertyRules {
+
+  /**
+   * Marker for a memoized lookup that found no value.
+   */
+  private static final String NOT_FOUND = new String();
+
+  /**
+   * The suffix trie root nodes, indexed by field name.
+   */
+  private final Map<String, Node> fields = new HashMap<>();
+  /**
+   * Global (class-independent) field values, indexed by field name.
+   */
+  private final Map<String, String> globals = new HashMap<>();
+  /**
+   * Memoized lookup results indexed by class path then field name.
+   */
+  private final ConcurrentMap<String, ConcurrentMap<String, String>> memo = new ConcurrentHashMap<>();
+  /**
+   * Property application plans indexed by class type then class path.
+   */
+  private final ConcurrentMap<Class<?>, ConcurrentMap<String, SSRFPropertyPlan>> plans = new ConcurrentHashMap<>();
+
+  /**
+   * Compile the indicated property entries into a rule index.
+   *
+   * @param properties the property key and value pairs to compile
+   */
+  SSRFPropertyRules(Map<Object, Object> properties) {
+    for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+      if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof String)) {
+        continue;
+      }
+      String key = (String) entry.getKey();
+      int fieldStart = key.lastIndexOf('.');
+      if (fieldStart < 0) {
+        globals.put(key, (String) entry.getValue());
+        continue;
+      }
+      String fieldName = key.substring(fieldStart + 1);
+      Node node = fields.get(fieldName);
+      if (node == null) {
+        node = new Node();
+        fields.put(fieldName, node);
+      }
+      /**
+       * Walk the class path segments from right to left, creating nodes as
+       * required, then record the value at the terminal node.
+       */
+      int end = fieldStart;
+      while (end >= 0) {
+        int start = key.lastIndexOf('.', end - 1);
+        node = node.child(key.substring(start + 1, end));
+        end = start;
+      }
+      node.key = key;
+      node.value = (String) entry.getValue();
+    }
+    for (Node node : fields.values()) {
+      node.resolve(0);
+    }
+  }
+
+  /**
+   * Find the most specific property value for the indicated class path and
+   * field.
+   *
+   * @param classPath the dot-delimited class path (e.g. "SSRF.Contact.TSerial")
+   * @param fieldName the field name (e.g. "organisation")
+   * @return the configured class rule value, if set; otherwise the global field
+   *         value, if set; otherwise NULL.
+   */
+  String find(String classPath, String fieldName) {
+    ConcurrentMap<String, String> fieldMemo = memo.get(classPath);
+    if (fieldMemo == null) {
+      fieldMemo = new ConcurrentHashMap<>();
+      ConcurrentMap<String, String> existing = memo.putIfAbsent(classPath, fieldMemo);
+      if (existing != null) {
+        fieldMemo = existing;
+      }
+    }
+    String value = fieldMemo.get(fieldName);
+    if (value == null) {
+      value = findRule(classPath, fieldName);
+      if (value == null) {
+        value = globals.get(fieldName);
+      }
+      fieldMemo.put(fieldName, value == null ? NOT_FOUND : value);
+      return value;
+    }
+    return value == NOT_FOUND ? null : value;
+  }
+
+  /**
+   * Get the property application plan for the indicated class type at the
+   * indicated class path, building it if required.
+   *
+   * @param clazz     the class type
+   * @param classPath the dot-delimited class path (e.g. "SSRF.Contact.TSerial")
+   * @return the property application plan
+   */
+  SSRFPropertyPlan getPlan(Class<?> clazz, String classPath) {
+    ConcurrentMap<String, SSRFPropertyPlan> classPlans = plans.get(clazz);
+    if (classPlans == null) {
+      classPlans = new ConcurrentHashMap<>();
+      ConcurrentMap<String, SSRFPropertyPlan> existing = plans.putIfAbsent(clazz, classPlans);
+      if (existing != null) {
+        classPlans = existing;
+      }
+    }
+    SSRFPropertyPlan plan = classPlans.get(classPath);
+    if (plan == null) {
+      plan = new SSRFPropertyPlan(this, clazz, classPath);
+      classPlans.put(classPath, plan);
+    }
+    return plan;
+  }
+
+  /**
+   * Walk the suffix trie for the indicated class path and field. This ignores
+   * global field values.
+   *
+   * @param classPath the dot-delimited class path
+   * @param fieldName the field name
+   * @return the most specific matching class rule value, if found; otherwise
+   *         NULL.
+   */
+  String findRule(String classPath, String fieldName) {
+    Node node = fields.get(fieldName);
+    int end = classPath.length();
+    while (node != null && end >= 0) {
+      int start = classPath.lastIndexOf('.', end - 1);
+      node = node.children == null ? null : node.children.get(classPath.substring(start + 1, end));
+      end = start;
+    }
+    return node != null && node.best != null ? node.best.value : null;
+  }
+
+  /**
+   * Get the global (class-independent) value for the indicated field.
+   *
+   * @param fieldName the field name
+   * @return the global field value, if set; otherwise NULL.
+   */
+  String findGlobal(String fieldName) {
+    return globals.get(fieldName);
+  }
+
+  /**
+   * A suffix trie node. Each node represents one class name segment.
+   */
+  private static final class Node {
+
+    /**
+     * The child nodes indexed by the next class name to the left.
+     */
+    private Map<String, Node> children;
+    /**
+     * The full property key terminating at this node, if any.
+     */
+    private String key;
+    /**
+     * The property value terminating at this node, if any.
+     */
+    private String value;
+    /**
+     * The most specific terminal node in this subtree.
+     */
+    private Node best;
+    /**
+     * The depth of the {@link #best} terminal node.
+     */
+    private int bestDepth;
+
+    /**
+     * Get or create the child node for the indicated class name.
+     *
+     * @param segment the class name
+     * @return the child node
+     */
+    private Node child(String segment) {
+      if (children == null) {
+        children = new HashMap<>();
+      }
+      Node node = children.get(segment);
+      if (node == null) {
+        node = new Node();
+        children.put(segment, node);
+      }
+      return node;
+    }
+
+    /**
+     * Pre-compute the most specific terminal node for this subtree.
+     *
+     * @param depth the depth of this node
+     */
+    private void resolve(int depth) {
+      if (key != null) {
+        best = this;
+        bestDepth = depth;
+      }
+      if (children == null) {
+        return;
+      }
+      for (Node node : children.values()) {
+        node.resolve(depth + 1);
+        if (node.best != null
+            && (best == null
+                || node.bestDepth < bestDepth
+                || (node.bestDepth == bestDepth && node.best.key.compareTo(best.key) < 0))) {
+          best = node.best;
+          bestDepth = node.bestDepth;
+        }
+      }
+    }
+  }
+
+}
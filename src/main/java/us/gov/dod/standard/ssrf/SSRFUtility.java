@@ -21,8 +21,11 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -81,6 +84,11 @@ public class SSRFUtility {
    * incrementing from one (1).
    */
   private static final AtomicInteger atomicIndex = new AtomicInteger();
+  /**
+   * XML value property accessor methods, indexed by class type. See
+   * {@link #findXmlValueAccessors(Class)}.
+   */
+  private static final ConcurrentMap<Class<?>, List<Method>> XML_VALUE_ACCESSORS = new ConcurrentHashMap<>();
 
   /**
    * Get the next guaranteed unique index compatible with SSRF "idx" fields. *
@@ -409,9 +417,51 @@ public class SSRFUtility {
         }
       }
     }
+    /**
+     * Validate data type values that are bound to XML through an annotated
+     * property accessor method instead of a field (e.g. the scaled numeric
+     * data types, which hold a primitive value).
+     */
+    for (Method method : findXmlValueAccessors(clazz)) {
+      try {
+        validateAdapter(method.getAnnotation(XmlJavaTypeAdapter.class), method.invoke(instance));
+      } catch (Exception exception) {
+        messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + ".value (" + instance.getClass().getSimpleName() + ") :  " + exception.getMessage());
+      }
+    }
     return messages;
   }
 
+  /**
+   * Get the XML value property accessor methods of a class type. These are
+   * zero-argument methods annotated with both {@link XmlValue} and
+   * {@link XmlJavaTypeAdapter}. The methods are made accessible.
+   *
+   * @param clazz the class type to inspect
+   * @return a non-null list of accessor methods, cached per class type
+   */
+  private static List<Method> findXmlValueAccessors(Class<?> clazz) {
+    List<Method> methods = XML_VALUE_ACCESSORS.get(clazz);
+    if (methods == null) {
+      methods = new ArrayList<>(1);
+      for (Class<?> clazzType = clazz; clazzType != null && clazzType != Object.class; clazzType = clazzType.getSuperclass()) {
+        for (Method method : clazzType.getDeclaredMethods()) {
+          if (method.getParameterTypes().length == 0
+              && method.isAnnotationPresent(XmlValue.class)
+              && method.isAnnotationPresent(XmlJavaTypeAdapter.class)) {
+            method.setAccessible(true);
+            methods.add(method);
+          }
+        }
+      }
+      List<Method> existing = XML_VALUE_ACCESSORS.putIfAbsent(clazz, methods);
+      if (existing != null) {
+        methods = existing;
+      }
+    }
+    return methods;
+  }
+
   /**
    * Validate a field setting.
    * <p>
@@ -442,24 +492,39 @@ public class SSRFUtility {
      */
     for (Annotation annotation : field.getAnnotations()) {
       if (annotation instanceof XmlJavaTypeAdapter) {
-        /**
-         * If an XmlJavaTypeAdapter annotation is found then instantiate the
-         * XmlAdapter class referred to in the "value" field and attempt to
-         * marshal the field value. This action will complete silently if the
-         * field value is valid and throw an exception if the field value is not
-         * valid (as determined by the marshal method).
-         */
-        try {
-          XmlAdapter<Object, Object> adapterInstance = ((XmlJavaTypeAdapter) annotation).value().getConstructor().newInstance();
-          adapterInstance.marshal(fieldValue);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException ex) {
-          logger.log(Level.WARNING, "XmlJavaTypeAdapter failed to instantiate: {0}", ex.getMessage());
-          logger.log(Level.SEVERE, null, ex);
-        }
+        validateAdapter((XmlJavaTypeAdapter) annotation, fieldValue);
       }
     }
   }
 
+  /**
+   * Validate a value against an XmlJavaTypeAdapter.
+   * <p>
+   * The XmlAdapter class referred to in the annotation "value" field is
+   * instantiated and called to marshal the value. This action will complete
+   * silently if the value is valid and throw an exception if the value is not
+   * valid (as determined by the marshal method).
+   * <p>
+   * If the value is null then NO VALIDATION is done.
+   *
+   * @param annotation the XmlJavaTypeAdapter annotation
+   * @param value      the configured value
+   * @throws Exception the XmlAdapter marshal error, thrown ONLY if the value is
+   *                   not valid
+   */
+  private static void validateAdapter(XmlJavaTypeAdapter annotation, Object value) throws Exception {
+    if (value == null) {
+      return;
+    }
+    try {
+      XmlAdapter<Object, Object> adapterInstance = annotation.value().getConstructor().newInstance();
+      adapterInstance.marshal(value);
+    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException ex) {
+      logger.log(Level.WARNING, "XmlJavaTypeAdapter failed to instantiate: {0}", ex.getMessage());
+      logger.log(Level.SEVERE, null, ex);
+    }
+  }
+
   /**
    * Inspect the field and field type to get a user-friendly error label.
    * <p>
@@ -494,7 +559,10 @@ public class SSRFUtility {
    * <p>
    * Reflection does not expose inherited fields. This method implements a
    * recursive search (up to but not including the base Object) of the Class
-   * inheritance tree and returns all declared fields.
+   * inheritance tree and returns all declared instance fields.
+   * <p>
+   * Static fields are class-level configurations (e.g. the Serial allocator),
+   * not instance data, and are not returned.
    *
    * @param clazz the class type to inspect
    * @return a non-null {@link HashSet} instance of Fields
@@ -503,7 +571,11 @@ public class SSRFUtility {
     Set<Field> fieldSet = new HashSet<>();
     Class<?> clazzType = clazz;
     while (clazzType != null && clazzType != Object.class) {
-      fieldSet.addAll(Arrays.asList(clazzType.getDeclaredFields()));
+      for (Field field : clazzType.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          fieldSet.add(field);
+        }
+      }
       clazzType = clazzType.getSuperclass();
     }
     return fieldSet;
@@ -837,12 +909,22 @@ public class SSRFUtility {
    * into their proper location and preparing the SSRF software class hierarchy
    * for working.
    *
+   * <p>
+   * A serial number to dataset index is opened on the SSRF instance for the
+   * duration of this method so that dataset references are resolved in linear
+   * time.
+   *
    * @param ssrf a {@link SSRF} instance
    * @return The input SSRF instance after post-load. The live object is
    *         returned to support method chaining.
    */
   public static SSRF postLoad(SSRF ssrf) {
-    postLoad(ssrf, ssrf);
+    ssrf.openDatasetIndex();
+    try {
+      postLoad(ssrf, ssrf);
+    } finally {
+      ssrf.closeDatasetIndex();
+    }
     return ssrf;
   }
 
@@ -1046,10 +1128,6 @@ public class SSRFUtility {
      * Assign the class type under study to a local variable for convenience.
      */
     Class<?> clazz = instance.getClass();
-    /**
-     * Append the object instance to the classPath.
-     */
-    String classPathInternal = classPath + "." + clazz.getSimpleName();
     /**
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
@@ -1059,16 +1137,20 @@ public class SSRFUtility {
       return;
     }
     /**
-     * Iterate through the list of declared fields (public, protected and
-     * private) and inspect each according to its annotated configuration and
-     * state.
+     * Append the object instance to the classPath.
      */
-    for (Field field : findDeclaredAndInheritedFields(clazz)) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    String classPathInternal = classPath.isEmpty()
+                               ? clazz.getSimpleName()
+                               : classPath + "." + clazz.getSimpleName();
+    /**
+     * Get the pre-computed property application plan for this class at this
+     * classPath. The plan lists the instance fields and, for each field with a
+     * configured property, the SET setter and the converted (either an ENUM or
+     * String) setter value. Plans are cached by the SSRF properties instance
+     * until it is modified.
+     */
+    SSRFPropertyPlan plan = properties.getPlan(clazz, classPathInternal);
+    for (int i = 0; i < plan.fields.length; i++) {
       /**
        * Try to recurse into the configured field value. Get the instance field
        * value. Skip (do not check and fail gracefully) if the field value is
@@ -1076,63 +1158,32 @@ public class SSRFUtility {
        */
       Object fieldValue;
       try {
-        fieldValue = field.get(instance);
+        fieldValue = plan.get(i, instance);
       } catch (IllegalArgumentException | IllegalAccessException ex) {
         continue;
       }
       /**
-       * If the field value is not set then inspect the properties to determine
-       * if a user-defined setting exists for this field.
+       * If the field value is not set and a property is configured then try to
+       * invoke the SET setter with the user-defined properties configuration.
+       * Ignore all errors to fail gracefully.
        * <p>
        * Special condition: Default values may be overwritten (only) in class
        * type TSerial.
        */
-      if (fieldValue == null || clazz.getSimpleName().equals("TSerial")) {
+      if (fieldValue == null || plan.overwrite) {
+        Method method = plan.setters[i];
+        if (method != null) {
+          try {
+            method.invoke(instance, plan.values[i]);
+          } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            logger.log(Level.SEVERE, "Failed to set SSRF property {0} as {1}:  {2}",
+                       new Object[]{plan.fields[i], plan.values[i], ex.getMessage()});
+          }
+        }
         /**
-         * First try to get the most specific property value possible (e.g.
-         * "SSRF.Contact.TSerial.organisation"). If none is found then look for
-         * a less specific, class level value (e.g. "TSerial.organisation"). If
-         * a configured property is found for the classPath (or class) and the
-         * current field try to set the value using the WITH setter.
+         * If the field is null then there is nothing to recurse into.
          */
-        String propertyValue = properties.getProperty(classPathInternal.replaceFirst("\\.", ""), field.getName());
-        if (propertyValue == null) {
-          propertyValue = properties.getProperty(clazz, field);
-        }
-        if (propertyValue != null) {
-          /**
-           * Get the SET setter.
-           */
-          Method method = findSetMethod(clazz, field);
-//          if (method == null) {            method = findSetMethod(clazz, field);          }
-          if (method != null && method.getParameterTypes().length != 0) {
-            Class<?> paramType = method.getParameterTypes()[0];
-            /**
-             * Handle the case where the class is an enumerated type.
-             */
-            Object objectValue;
-            if (paramType.isEnum()) {
-              objectValue = Enum.valueOf((Class<Enum>) paramType, propertyValue);
-            } else {
-              objectValue = propertyValue;
-            }
-            /**
-             * Try to invoke the SET setter with the user-defined properties
-             * configuration (either an ENUM or String). Ignore all errors to
-             * fail gracefully.
-             */
-            try {
-              method.invoke(instance, objectValue);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-              logger.log(Level.SEVERE, "Failed to set SSRF property {0} as {1}:  {2}",
-                         new Object[]{field, objectValue, ex.getMessage()});
-            }
-          }
-        } else {
-          /**
-           * If the field is null and no SSRF Property is configured for this
-           * field then skip it.
-           */
+        if (fieldValue == null) {
           continue;
         }
       }
@@ -1304,6 +1355,9 @@ public class SSRFUtility {
    * Parse an XML file into a container class. This method calls the JAXB
    * un-marshaler and returns a class containing all of the content defined in
    * the XML file.
+   * <p>
+   * Common instances built by the un-marshaler do not generate a default
+   * Serial or EntryDateTime; these are read from the XML content.
    *
    * @param <T>   the class type to be returned
    * @param xml   the XML source content
@@ -1314,8 +1368,39 @@ public class SSRFUtility {
    *                       type
    */
   public static <T> T unmarshal(String xml, Class<T> clazz) throws JAXBException {
+    return unmarshal(xml, clazz, null);
+  }
+
+  /**
+   * Parse an XML file into a container class, sharing repeated String values.
+   * <p>
+   * This is the same as {@link #unmarshal(String, Class)} except that every
+   * String value read from the XML file is replaced by its canonical instance
+   * in the indicated interner.
+   *
+   * @param <T>      the class type to be returned
+   * @param xml      the XML source content
+   * @param clazz    the parsed and populated class type; this is the same as
+   *                 the class type that is returned
+   * @param interner the String interner to use; NULL to not intern values
+   * @return the XML source file parsed into the identified class type
+   * @throws JAXBException if the XML source file does not match the input class
+   *                       type
+   */
+  public static <T> T unmarshal(String xml, Class<T> clazz, SSRFInterner interner) throws JAXBException {
     Unmarshaller unmarshaller = JAXBContext.newInstance(clazz).createUnmarshaller();
-    return clazz.cast(unmarshaller.unmarshal(new ByteArrayInputStream(xml.getBytes())));
+    /**
+     * Skip default Serial and EntryDateTime generation while the un-marshaler
+     * builds Common instances; both are read from the XML.
+     */
+    Common.setUnmarshalling(true);
+    SSRFInterner.setCurrent(interner);
+    try {
+      return clazz.cast(unmarshaller.unmarshal(new ByteArrayInputStream(xml.getBytes())));
+    } finally {
+      SSRFInterner.setCurrent(null);
+      Common.setUnmarshalling(false);
+    }
   }
 
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
+
+/**
+ * A collision-free, sequence-based {@link SerialAllocator}.
+ * <p>
+ * Serial numbers are built from a configured country and organisation prefix
+ * plus a serial identifier composed of an (optional) identifier prefix and a
+ * base-36 sequence number. For example "USA:ABCD:AS:k3j9x1a".
+ * <p>
+ * Sequence numbers are handed out to each thread in blocks. Each thread then
+ * allocates from its own block without contention; only the hand-out of a new
+ * block touches the shared counter. With a block size of one (1) the sequence
+ * is strictly incrementing across all threads.
+ * <p>
+ * Allocation does not use {@link UUID}, SecureRandom or regular expressions.
+ * The default configuration (see {@link #SequenceSerialAllocator()}) uses a
+ * random eight character identifier prefix (about 41 bits), generated once
+ * per allocator, to keep serial numbers unique between allocator instances and
+ * between runs. This leaves seven base-36 characters (more than 78 billion
+ * values) for the sequence number.
+ *
+ * @author Key Bridge LLC &lt;developer@keybridge.ch&gt;
+ * @version 3.1.0, 10/18/2026
+ */
+public class SequenceSerialAllocator implements SerialAllocator {
+
+  /**
+   * 1,024. The default number of sequence values handed to each thread at a
+   * time.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+  /**
+   * 15. The maximum serial identifier (part 4) length.
+   */
+  private static final int MAX_SERIAL_LENGTH = 15;
+  /**
+   * 8. The random session tag length.
+   */
+  private static final int SESSION_TAG_LENGTH = 8;
+  /**
+   * 36^8. The number of distinct session tags.
+   */
+  private static final long SESSION_TAG_RANGE = 2821109907456L;
+
+  /**
+   * The serial number Country part. May be null if not set.
+   */
+  private final ListCCY country;
+  /**
+   * The serial number Organisation code part. Empty if not set.
+   */
+  private final String organisation;
+  /**
+   * A fixed prefix applied to every serial identifier. Empty if not set.
+   */
+  private final String prefix;
+  /**
+   * The number of sequence values handed to each thread at a time.
+   */
+  private final int blockSize;
+  /**
+   * The shared sequence counter. This holds the next unallocated block start.
+   */
+  private final AtomicLong sequence;
+  /**
+   * The current thread sequence block: [next value, block limit (exclusive)].
+   */
+  private final ThreadLocal<long[]> block = new ThreadLocal<long[]>() {
+    @Override
+    protected long[] initialValue() {
+      return new long[]{0, 0};
+    }
+  };
+
+  /**
+   * Construct a new default SequenceSerialAllocator.
+   * <p>
+   * The country is set to the current system default locale, the organisation
+   * is left blank and the serial identifier is prefixed with a random
+   * eight-character session tag.
+   */
+  public SequenceSerialAllocator() {
+    this(defaultCountry(), null, sessionTag(), 1, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Construct a new SequenceSerialAllocator with a configured country and
+   * organisation prefix.
+   * <p>
+   * The serial identifier is prefixed with a random eight-character session
+   * tag.
+   *
+   * @param country      the serial number Country part (REQUIRED)
+   * @param organisation the serial number Organisation code (OPTIONAL). Format
+   *                     is S4.
+   */
+  public SequenceSerialAllocator(ListCCY country, String organisation) {
+    this(country, organisation, sessionTag(), 1, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Construct a new fully configured SequenceSerialAllocator.
+   *
+   * @param country      the serial number Country part (REQUIRED)
+   * @param organisation the serial number Organisation code (OPTIONAL). Format
+   *                     is S4.
+   * @param prefix       a fixed serial identifier prefix (OPTIONAL). Must
+   *                     contain no white space and be shorter than 15
+   *                     characters.
+   * @param initialValue the first sequence value to allocate. Must be zero or
+   *                     greater.
+   * @param blockSize    the number of sequence values handed to each thread
+   *                     at a time. Must be one or greater.
+   * @throws IllegalArgumentException if a parameter is out of range
+   */
+  public SequenceSerialAllocator(ListCCY country, String organisation, String prefix, long initialValue, int blockSize) {
+    if (organisation != null && organisation.length() > 4) {
+      throw new IllegalArgumentException("String length violation S4 [0, 4]. Length is " + organisation.length() + " for \"" + organisation + "\"");
+    }
+    if (prefix != null && prefix.length() >= MAX_SERIAL_LENGTH) {
+      throw new IllegalArgumentException("Serial prefix must be shorter than " + MAX_SERIAL_LENGTH + " characters: \"" + prefix + "\"");
+    }
+    if (initialValue < 0) {
+      throw new IllegalArgumentException("Serial sequence initial value must be unsigned.");
+    }
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Serial sequence block size must be one or greater.");
+    }
+    this.country = country;
+    this.organisation = organisation != null ? organisation.toUpperCase(Locale.getDefault()) : "";
+    this.prefix = prefix != null ? prefix : "";
+    this.blockSize = blockSize;
+    this.sequence = new AtomicLong(initialValue);
+  }
+
+  /**
+   * Allocate a new, unique serial number for the indicated dataset type.
+   *
+   * @param datasetType the dataset type
+   * @return a new Serial instance
+   * @throws IllegalStateException if the sequence is exhausted
+   */
+  @Override
+  public Serial allocate(EDatasetType datasetType) {
+    String serial = prefix.isEmpty()
+                    ? Long.toString(nextValue(), Character.MAX_RADIX)
+                    : prefix.concat(Long.toString(nextValue(), Character.MAX_RADIX));
+    if (serial.length() > MAX_SERIAL_LENGTH) {
+      throw new IllegalStateException("Serial sequence exhausted for prefix \"" + prefix + "\"");
+    }
+    return Serial.getInstance(country, organisation, datasetType, serial);
+  }
+
+  /**
+   * Get the next sequence value. Values are taken from the current thread
+   * block; a new block is taken from the shared sequence when the current
+   * block is used up.
+   *
+   * @return the next unique sequence value
+   */
+  private long nextValue() {
+    if (blockSize == 1) {
+      return sequence.getAndIncrement();
+    }
+    long[] current = block.get();
+    if (current[0] >= current[1]) {
+      current[0] = sequence.getAndAdd(blockSize);
+      current[1] = current[0] + blockSize;
+    }
+    return current[0]++;
+  }
+
+  /**
+   * Get the serial number Country part.
+   *
+   * @return the country, NULL if not set
+   */
+  public ListCCY getCountry() {
+    return country;
+  }
+
+  /**
+   * Get the serial number Organisation code part.
+   *
+   * @return the organisation code, empty if not set
+   */
+  public String getOrganisation() {
+    return organisation;
+  }
+
+  /**
+   * Get the serial identifier prefix.
+   *
+   * @return the serial identifier prefix, empty if not set
+   */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * Internal helper method to get the Country for the system default locale.
+   *
+   * @return the default locale country, NULL if the default locale country is
+   *         not a recognized CCY value
+   */
+  private static ListCCY defaultCountry() {
+    try {
+      return ListCCY.valueOf(Locale.getDefault().getISO3Country());
+    } catch (IllegalArgumentException | MissingResourceException ex) {
+      Logger.getLogger(SequenceSerialAllocator.class.getName()).log(Level.WARNING, "Default locale country is not a CCY value: {0}", Locale.getDefault());
+      return null;
+    }
+  }
+
+  /**
+   * Internal helper method to generate a random eight-character base-36
+   * session tag. This is called once per allocator instance.
+   * <p>
+   * The tag carries about 41 random bits, so the chance of two of ten thousand
+   * allocators sharing a tag is about two in one hundred thousand.
+   *
+   * @return an eight-character alphanumeric String
+   */
+  private static String sessionTag() {
+    long random = UUID.randomUUID().getLeastSignificantBits() & Long.MAX_VALUE;
+    String tag = Long.toString(random % SESSION_TAG_RANGE, Character.MAX_RADIX);
+    while (tag.length() < SESSION_TAG_LENGTH) {
+      tag = "0".concat(tag);
+    }
+    return tag;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+/**
+ * Serial number allocator service provider interface.
+ * <p>
+ * A SerialAllocator produces the {@link Serial} instance assigned to every
+ * newly constructed dataset (see {@link Common}). The active allocator is
+ * configured with {@link Serial#setAllocator(SerialAllocator)}.
+ * <p>
+ * Implementations MUST be thread safe and MUST NOT return the same serial
+ * number twice. Use {@link Serial#getInstance(us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY, String, EDatasetType, String)}
+ * to build the returned instance from its component parts.
+ *
+ * @author Key Bridge LLC &lt;developer@keybridge.ch&gt;
+ * @version 3.1.0, 10/18/2026
+ * @see SequenceSerialAllocator
+ */
+public interface SerialAllocator {
+
+  /**
+   * Allocate a new, unique serial number for the indicated dataset type.
+   *
+   * @param datasetType the dataset type; this determines the third part of the
+   *                    serial number
+   * @return a new Serial instance
+   */
+  public Serial allocate(EDatasetType datasetType);
+}
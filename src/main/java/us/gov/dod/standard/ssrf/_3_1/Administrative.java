@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.administrative.CodeList;
 import us.gov.dod.standard.ssrf._3_1.administrative.Dataset;
@@ -98,7 +98,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   @XmlElement(name = "Dataset")
-  private Set<Dataset> dataset;
+  private CompactSet<Dataset> dataset;
   /**
    * CodeList (Optional)
    * <p>
@@ -110,7 +110,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   @XmlElement(name = "CodeList")
-  private Set<CodeList> codeList;
+  private CompactSet<CodeList> codeList;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -198,7 +198,7 @@ public class Administrative extends Common<Administrative> {
    */
   public Set<Dataset> getDataset() {
     if (dataset == null) {
-      dataset = new HashSet<>();
+      dataset = new CompactSet<>();
     }
     return this.dataset;
   }
@@ -230,7 +230,7 @@ public class Administrative extends Common<Administrative> {
    */
   public Set<CodeList> getCodeList() {
     if (codeList == null) {
-      codeList = new HashSet<>();
+      codeList = new CompactSet<>();
     }
     return this.codeList;
   }
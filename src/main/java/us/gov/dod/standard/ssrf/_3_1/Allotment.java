@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.allotment.AllotFreq;
 import us.gov.dod.standard.ssrf._3_1.allotment.Emission;
@@ -182,7 +183,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Project")
-  private Set<Project> project;
+  private CompactSet<Project> project;
   /**
    * POCInformation (Optional)
    * <p>
@@ -192,7 +193,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * LocationRef (Required)
    * <p>
@@ -201,7 +202,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   @XmlElement(name = "LocationRef", required = true, nillable = true)
-  private Set<Serial> locationRef;
+  private CompactSet<Serial> locationRef;
   /**
    * Emission (Optional)
    * <p>
@@ -211,7 +212,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Emission")
-  private Set<Emission> emission;
+  private CompactSet<Emission> emission;
   /**
    * AllotFreq (Required)
    * <p>
@@ -221,7 +222,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   @XmlElement(name = "AllotFreq", required = true)
-  private Set<AllotFreq> allotFreq;
+  private CompactSet<AllotFreq> allotFreq;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -466,7 +467,7 @@ public class Allotment extends Common<Allotment> {
    */
   public Set<Project> getProject() {
     if (project == null) {
-      project = new HashSet<>();
+      project = new CompactSet<>();
     }
     return this.project;
   }
@@ -498,7 +499,7 @@ public class Allotment extends Common<Allotment> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -532,7 +533,7 @@ public class Allotment extends Common<Allotment> {
   @Deprecated
   public Set<Serial> getLocationRef() {
     if (locationRef == null) {
-      locationRef = new HashSet<>();
+      locationRef = new CompactSet<>();
     }
     return this.locationRef;
   }
@@ -564,7 +565,7 @@ public class Allotment extends Common<Allotment> {
    */
   public Set<Emission> getEmission() {
     if (emission == null) {
-      emission = new HashSet<>();
+      emission = new CompactSet<>();
     }
     return this.emission;
   }
@@ -596,7 +597,7 @@ public class Allotment extends Common<Allotment> {
    */
   public Set<AllotFreq> getAllotFreq() {
     if (allotFreq == null) {
-      allotFreq = new HashSet<>();
+      allotFreq = new CompactSet<>();
     }
     return this.allotFreq;
   }
@@ -990,7 +991,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Location> location;
+  private CompactSet<Location> location;
 
   /**
    * Get the LocationRef
@@ -1002,7 +1003,7 @@ public class Allotment extends Common<Allotment> {
    */
   public Set<Location> getLocation() {
     if (location == null) {
-      location = new HashSet<>();
+      location = new CompactSet<>();
     }
     return location;
   }
@@ -1056,11 +1057,13 @@ public class Allotment extends Common<Allotment> {
   @Override
   public void prepare() {
     super.prepare();
-    if (locationRef == null) {
-      locationRef = new HashSet<>();
-    }
-    for (Location instance : getLocation()) {
-      locationRef.add(instance.getSerial());
+    if (isSetLocation()) {
+      if (locationRef == null) {
+        locationRef = new CompactSet<>();
+      }
+      for (Location instance : getLocation()) {
+        locationRef.add(instance.getSerial());
+      }
     }
   }
 
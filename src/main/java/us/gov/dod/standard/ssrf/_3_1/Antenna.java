@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.antenna.AntHardware;
 import us.gov.dod.standard.ssrf._3_1.antenna.AntMode;
@@ -320,7 +320,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * Nomenclature (Optional)
    * <p>
@@ -334,7 +334,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature")
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
   /**
    * AntHardware (Optional)
    * <p>
@@ -344,7 +344,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   @XmlElement(name = "AntHardware")
-  private Set<AntHardware> antHardware;
+  private CompactSet<AntHardware> antHardware;
   /**
    * AntMode (Optional)
    * <p>
@@ -355,7 +355,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   @XmlElement(name = "AntMode")
-  private Set<AntMode> antMode;
+  private CompactSet<AntMode> antMode;
   /**
    * US:UsingCountries (Optional)
    * <p>
@@ -365,7 +365,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   @XmlElement(name = "UsingCountries")
-  private Set<UsingCountries> usingCountries;
+  private CompactSet<UsingCountries> usingCountries;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -914,7 +914,7 @@ public class Antenna extends Common<Antenna> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -948,7 +948,7 @@ public class Antenna extends Common<Antenna> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
@@ -980,7 +980,7 @@ public class Antenna extends Common<Antenna> {
    */
   public Set<AntHardware> getAntHardware() {
     if (antHardware == null) {
-      antHardware = new HashSet<>();
+      antHardware = new CompactSet<>();
     }
     return this.antHardware;
   }
@@ -1012,7 +1012,7 @@ public class Antenna extends Common<Antenna> {
    */
   public Set<AntMode> getAntMode() {
     if (antMode == null) {
-      antMode = new HashSet<>();
+      antMode = new CompactSet<>();
     }
     return this.antMode;
   }
@@ -1044,7 +1044,7 @@ public class Antenna extends Common<Antenna> {
    */
   public Set<UsingCountries> getUsingCountries() {
     if (usingCountries == null) {
-      usingCountries = new HashSet<>();
+      usingCountries = new CompactSet<>();
     }
     return this.usingCountries;
   }
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.allotment.Project;
@@ -703,7 +704,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Project")
-  private Set<Project> project;
+  private CompactSet<Project> project;
   /**
    * POCInformation (Optional)
    * <p>
@@ -713,7 +714,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * SysofStation (Optional)
    * <p>
@@ -724,7 +725,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "SysOfStation")
-  private Set<SysOfStation> sysOfStation;
+  private CompactSet<SysOfStation> sysOfStation;
   /**
    * RelatedRef (Optional)
    * <p>
@@ -734,7 +735,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "RelatedRef", nillable = true)
-  private Set<Serial> relatedRef;
+  private CompactSet<Serial> relatedRef;
   /**
    * Configuration (Required)
    * <p>
@@ -745,7 +746,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Configuration", required = true)
-  private Set<Configuration> configuration;
+  private CompactSet<Configuration> configuration;
   /**
    * Station (Required)
    * <p>
@@ -755,7 +756,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Station", required = true)
-  private Set<Station> station;
+  private CompactSet<Station> station;
   /**
    * Link (Required)
    * <p>
@@ -769,7 +770,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Link", required = true)
-  private Set<Link> link;
+  private CompactSet<Link> link;
   /**
    * US:StatusLog (Optional)
    * <p>
@@ -779,7 +780,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "StatusLog")
-  private Set<StatusLog> statusLog;
+  private CompactSet<StatusLog> statusLog;
   /**
    * US:AsgnAllotOwner (Optional)
    * <p>
@@ -789,7 +790,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "AsgnAllotOwner")
-  private Set<AsgnAllotOwner> asgnAllotOwner;
+  private CompactSet<AsgnAllotOwner> asgnAllotOwner;
   /**
    * US:CircuitRemarks (Optional)
    * <p>
@@ -799,7 +800,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "CircuitRemarks", nillable = true)
-  private Set<CircuitRemarks> circuitRemarks;
+  private CompactSet<CircuitRemarks> circuitRemarks;
   /**
    * US:CoordinationData (Optional)
    * <p>
@@ -808,7 +809,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "CoordinationData")
-  private Set<CoordinationData> coordinationData;
+  private CompactSet<CoordinationData> coordinationData;
   /**
    * US:DocketNum (Optional)
    * <p>
@@ -817,7 +818,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "DocketNum", nillable = true)
-  private Set<DocketNum> docketNum;
+  private CompactSet<DocketNum> docketNum;
   /**
    * US:HostDocketNum (Optional)
    * <p>
@@ -827,7 +828,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "HostDocketNum", nillable = true)
-  private Set<HostDocketNum> hostDocketNum;
+  private CompactSet<HostDocketNum> hostDocketNum;
   /**
    * US:OffTheShelfEquipment (Optional)
    * <p>
@@ -838,7 +839,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "OffTheShelfEquipment", nillable = true)
-  private Set<OffTheShelfEquipment> offTheShelfEquipment;
+  private CompactSet<OffTheShelfEquipment> offTheShelfEquipment;
   /**
    * US:PreviousAuthorization (Optional)
    * <p>
@@ -848,7 +849,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "PreviousAuthorization")
-  private Set<PreviousAuthorization> previousAuthorization;
+  private CompactSet<PreviousAuthorization> previousAuthorization;
   /**
    * US:RecordNote (Optional)
    * <p>
@@ -858,7 +859,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlElement(name = "RecordNote")
-  private Set<RecordNote> recordNote;
+  private CompactSet<RecordNote> recordNote;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -2306,7 +2307,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<Project> getProject() {
     if (project == null) {
-      project = new HashSet<>();
+      project = new CompactSet<>();
     }
     return this.project;
   }
@@ -2338,7 +2339,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -2372,7 +2373,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<SysOfStation> getSysOfStation() {
     if (sysOfStation == null) {
-      sysOfStation = new HashSet<>();
+      sysOfStation = new CompactSet<>();
     }
     return this.sysOfStation;
   }
@@ -2407,7 +2408,7 @@ public class Assignment extends Common<Assignment> {
   @Deprecated
   public Set<Serial> getRelatedRef() {
     if (relatedRef == null) {
-      relatedRef = new HashSet<>();
+      relatedRef = new CompactSet<>();
     }
     return this.relatedRef;
   }
@@ -2440,7 +2441,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<Configuration> getConfiguration() {
     if (configuration == null) {
-      configuration = new HashSet<>();
+      configuration = new CompactSet<>();
     }
     return this.configuration;
   }
@@ -2472,7 +2473,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<Station> getStation() {
     if (station == null) {
-      station = new HashSet<>();
+      station = new CompactSet<>();
     }
     return this.station;
   }
@@ -2508,7 +2509,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<Link> getLink() {
     if (link == null) {
-      link = new HashSet<>();
+      link = new CompactSet<>();
     }
     return this.link;
   }
@@ -2540,7 +2541,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<StatusLog> getStatusLog() {
     if (statusLog == null) {
-      statusLog = new HashSet<>();
+      statusLog = new CompactSet<>();
     }
     return this.statusLog;
   }
@@ -2572,7 +2573,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<AsgnAllotOwner> getAsgnAllotOwner() {
     if (asgnAllotOwner == null) {
-      asgnAllotOwner = new HashSet<>();
+      asgnAllotOwner = new CompactSet<>();
     }
     return this.asgnAllotOwner;
   }
@@ -2605,7 +2606,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<CircuitRemarks> getCircuitRemarks() {
     if (circuitRemarks == null) {
-      circuitRemarks = new HashSet<>();
+      circuitRemarks = new CompactSet<>();
     }
     return this.circuitRemarks;
   }
@@ -2637,7 +2638,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<CoordinationData> getCoordinationData() {
     if (coordinationData == null) {
-      coordinationData = new HashSet<>();
+      coordinationData = new CompactSet<>();
     }
     return this.coordinationData;
   }
@@ -2669,7 +2670,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<DocketNum> getDocketNum() {
     if (docketNum == null) {
-      docketNum = new HashSet<>();
+      docketNum = new CompactSet<>();
     }
     return this.docketNum;
   }
@@ -2701,7 +2702,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<HostDocketNum> getHostDocketNum() {
     if (hostDocketNum == null) {
-      hostDocketNum = new HashSet<>();
+      hostDocketNum = new CompactSet<>();
     }
     return this.hostDocketNum;
   }
@@ -2734,7 +2735,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<OffTheShelfEquipment> getOffTheShelfEquipment() {
     if (offTheShelfEquipment == null) {
-      offTheShelfEquipment = new HashSet<>();
+      offTheShelfEquipment = new CompactSet<>();
     }
     return this.offTheShelfEquipment;
   }
@@ -2767,7 +2768,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<PreviousAuthorization> getPreviousAuthorization() {
     if (previousAuthorization == null) {
-      previousAuthorization = new HashSet<>();
+      previousAuthorization = new CompactSet<>();
     }
     return this.previousAuthorization;
   }
@@ -2799,7 +2800,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<RecordNote> getRecordNote() {
     if (recordNote == null) {
-      recordNote = new HashSet<>();
+      recordNote = new CompactSet<>();
     }
     return this.recordNote;
   }
@@ -4158,7 +4159,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Common<?>> related;
+  private CompactSet<Common<?>> related;
 
   /**
    * Get the RelatedRef
@@ -4171,7 +4172,7 @@ public class Assignment extends Common<Assignment> {
    */
   public Set<Common<?>> getRelated() {
     if (related == null) {
-      related = new HashSet<>();
+      related = new CompactSet<>();
     }
     return related;
   }
@@ -4227,9 +4228,12 @@ public class Assignment extends Common<Assignment> {
   @Override
   public void prepare() {
     super.prepare();
-    this.relatedRef = new HashSet<>();
-    for (Common<?> instance : getRelated()) {
-      this.relatedRef.add(instance.getSerial());
+    this.relatedRef = null;
+    if (isSetRelated()) {
+      this.relatedRef = new CompactSet<>();
+      for (Common<?> instance : getRelated()) {
+        this.relatedRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.channelplan.Channel;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.DT;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
@@ -82,7 +82,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   @XmlElement(name = "Channel", required = true)
-  private Set<Channel> channel;
+  private CompactSet<Channel> channel;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -130,7 +130,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    */
   public Set<Channel> getChannel() {
     if (channel == null) {
-      channel = new HashSet<>();
+      channel = new CompactSet<>();
     }
     return this.channel;
   }
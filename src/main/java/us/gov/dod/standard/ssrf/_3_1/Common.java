@@ -17,8 +17,14 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.math.BigInteger;
 import java.util.*;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.*;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.CompactSet;
+import us.gov.dod.standard.ssrf.IndexSet;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterINDEXLIST;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterRELEASABILITY;
 import us.gov.dod.standard.ssrf._3_1.common.CaseNum;
 import us.gov.dod.standard.ssrf._3_1.common.ExtReferenceRef;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
@@ -362,7 +368,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   @XmlElement(name = "CaseNum")
-  protected Set<CaseNum> caseNum;
+  protected CompactSet<CaseNum> caseNum;
   /**
    * ExtReferenceRef (Optional)
    * <p>
@@ -372,7 +378,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   @XmlElement(name = "ExtReferenceRef", nillable = true)
-  protected Set<ExtReferenceRef> extReferenceRef;
+  protected CompactSet<ExtReferenceRef> extReferenceRef;
   /**
    * remarks - additional information applicable to this data item. (Optional)
    * <p>
@@ -387,7 +393,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   @XmlElement(name = "Remarks", nillable = true)
-  protected Set<Remarks> remarks;//</editor-fold>
+  protected CompactSet<Remarks> remarks;//</editor-fold>
 
   //<editor-fold defaultstate="collapsed" desc="Optional Attribute Fields">
   /**
@@ -400,12 +406,16 @@ public abstract class Common<T> implements Comparable<T> {
    * data item.
    * <p>
    * Format is List of L:CCY
+   * <p>
+   * Developer note: Country codes are held in a bit vector backed EnumSet so
+   * that releasability comparisons (e.g. containsAll, retainAll) are simple
+   * word operations.
    *
    * @since 3.1.0
    */
-  @XmlList
   @XmlAttribute(name = "releasability")
-  protected Set<ListCCY> releasability;
+  @XmlJavaTypeAdapter(value = XmlAdapterRELEASABILITY.class)
+  protected EnumSet<ListCCY> releasability;
   /**
    * remarks - Links to Data Item Remarks (Optional)
    * <p>
@@ -415,9 +425,9 @@ public abstract class Common<T> implements Comparable<T> {
    *
    * @since 3.1.0
    */
-  @XmlList
   @XmlAttribute(name = "remarks")
-  protected Set<BigInteger> remarkRef;
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  protected IndexSet remarkRef;
   /**
    * extReferences - Links to External References (Optional)
    * <p>
@@ -428,9 +438,9 @@ public abstract class Common<T> implements Comparable<T> {
    *
    * @since 3.1.0
    */
-  @XmlList
   @XmlAttribute(name = "extReferences")
-  protected Set<BigInteger> extReferences;
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  protected IndexSet extReferences;
   /**
    * US:legacyReleasability - Legacy Releasability (Optional)
    * <p>
@@ -486,17 +496,76 @@ public abstract class Common<T> implements Comparable<T> {
   @XmlAttribute(name = "idref")
   protected String idref;//</editor-fold>
 
+  /**
+   * Per-thread flag indicating that instances are being constructed by the
+   * JAXB un-marshaler. When set the constructor skips generating default
+   * values that would be immediately overwritten by the imported XML content.
+   */
+  private static final ThreadLocal<Boolean> UNMARSHALLING = new ThreadLocal<>();
+
   /**
    * Abstract constructor for the Common class type.
    * <p>
    * This constructor sets the minimum mandatory fields {@link #serial} with a
    * programmatically generated {@link Serial} instance and
    * {@link #entryDateTime} with the current DATETIME.
+   * <p>
+   * When called by the JAXB un-marshaler (see
+   * {@link #setUnmarshalling(boolean)}) the default values are not generated.
+   * Any mandatory field left empty by the imported XML is instead set in
+   * {@link #afterUnmarshal(Unmarshaller, Object)}.
    */
-  @SuppressWarnings("unchecked")
   public Common() {
-    this.serial = Serial.getInstance((Class<? extends Common<?>>) this.getClass());
-    this.entryDateTime = new DT(Calendar.getInstance());
+    if (!Boolean.TRUE.equals(UNMARSHALLING.get())) {
+      setDefaultValues();
+    }
+  }
+
+  /**
+   * Set the minimum mandatory fields {@link #serial} and
+   * {@link #entryDateTime} if they are not already configured.
+   */
+  @SuppressWarnings("unchecked")
+  private void setDefaultValues() {
+    if (this.serial == null) {
+      this.serial = Serial.getInstance((Class<? extends Common<?>>) this.getClass());
+    }
+    if (this.entryDateTime == null) {
+      this.entryDateTime = new DT();
+      this.entryDateTime.setTime(System.currentTimeMillis());
+    }
+  }
+
+  /**
+   * Indicate whether Common instances created on the current thread are being
+   * built by the JAXB un-marshaler.
+   * <p>
+   * While set, the Common constructor does not generate a default
+   * {@link Serial} or {@link #entryDateTime} since both are immediately
+   * replaced by the values read from XML. This flag is managed by
+   * {@link us.gov.dod.standard.ssrf.SSRFUtility#unmarshal(String, Class)} and
+   * must always be cleared in a finally block.
+   *
+   * @param unmarshalling TRUE while the current thread is un-marshaling XML
+   * @since 3.1.0
+   */
+  public static void setUnmarshalling(boolean unmarshalling) {
+    if (unmarshalling) {
+      UNMARSHALLING.set(Boolean.TRUE);
+    } else {
+      UNMARSHALLING.remove();
+    }
+  }
+
+  /**
+   * JAXB un-marshal callback. Sets any mandatory field not provided by the
+   * imported XML to its programmatically generated default value.
+   *
+   * @param unmarshaller the un-marshaler
+   * @param parent       the parent object
+   */
+  private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    setDefaultValues();
   }
 
   //<editor-fold defaultstate="collapsed" desc="Getters and Setters">
@@ -1131,7 +1200,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   public Set<CaseNum> getCaseNum() {
     if (caseNum == null) {
-      caseNum = new HashSet<>();
+      caseNum = new CompactSet<>();
     }
     return this.caseNum;
   }
@@ -1163,7 +1232,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   public Set<ExtReferenceRef> getExtReferenceRef() {
     if (extReferenceRef == null) {
-      extReferenceRef = new HashSet<>();
+      extReferenceRef = new CompactSet<>();
     }
     return this.extReferenceRef;
   }
@@ -1193,7 +1262,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   public Set<Remarks> getRemarks() {
     if (remarks == null) {
-      remarks = new HashSet<>();
+      remarks = new CompactSet<>();
     }
     return this.remarks;
   }
@@ -1257,7 +1326,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   public Set<ListCCY> getReleasability() {
     if (releasability == null) {
-      releasability = new HashSet<>();
+      releasability = EnumSet.noneOf(ListCCY.class);
     }
     return this.releasability;
   }
@@ -1288,7 +1357,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   public Set<BigInteger> getRemarkRef() {
     if (remarkRef == null) {
-      remarkRef = new HashSet<>();
+      remarkRef = new IndexSet();
     }
     return this.remarkRef;
   }
@@ -1318,7 +1387,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   public Set<BigInteger> getExtReferences() {
     if (extReferences == null) {
-      extReferences = new HashSet<>();
+      extReferences = new IndexSet();
     }
     return this.extReferences;
   }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.contact.Address;
 import us.gov.dod.standard.ssrf._3_1.contact.EMail;
 import us.gov.dod.standard.ssrf._3_1.contact.TelephoneFax;
@@ -149,7 +150,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   @XmlElement(name = "Address")
-  private Set<Address> address;
+  private CompactSet<Address> address;
   /**
    * TelephoneFax (Optional)
    * <p>
@@ -159,7 +160,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   @XmlElement(name = "TelephoneFax")
-  private Set<TelephoneFax> telephoneFax;
+  private CompactSet<TelephoneFax> telephoneFax;
   /**
    * Email (Optional)
    * <p>
@@ -168,7 +169,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   @XmlElement(name = "EMail")
-  private Set<EMail> eMail;
+  private CompactSet<EMail> eMail;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -374,7 +375,7 @@ public class Contact extends Common<Contact> {
    */
   public Set<Address> getAddress() {
     if (address == null) {
-      address = new HashSet<>();
+      address = new CompactSet<>();
     }
     return this.address;
   }
@@ -406,7 +407,7 @@ public class Contact extends Common<Contact> {
    */
   public Set<TelephoneFax> getTelephoneFax() {
     if (telephoneFax == null) {
-      telephoneFax = new HashSet<>();
+      telephoneFax = new CompactSet<>();
     }
     return this.telephoneFax;
   }
@@ -437,7 +438,7 @@ public class Contact extends Common<Contact> {
    */
   public Set<EMail> getEMail() {
     if (eMail == null) {
-      eMail = new HashSet<>();
+      eMail = new CompactSet<>();
     }
     return this.eMail;
   }
@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.allotment.Project;
 import us.gov.dod.standard.ssrf._3_1.fedeployment.AtWaypoint;
@@ -249,7 +249,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   @XmlElement(name = "Project")
-  private Set<Project> project;
+  private CompactSet<Project> project;
   /**
    * AtWayPoint (Optional)
    * <p>
@@ -259,7 +259,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   @XmlElement(name = "AtWaypoint")
-  private Set<AtWaypoint> atWaypoint;
+  private CompactSet<AtWaypoint> atWaypoint;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -698,7 +698,7 @@ public class FEDeployment extends Common<FEDeployment> {
    */
   public Set<Project> getProject() {
     if (project == null) {
-      project = new HashSet<>();
+      project = new CompactSet<>();
     }
     return this.project;
   }
@@ -730,7 +730,7 @@ public class FEDeployment extends Common<FEDeployment> {
    */
   public Set<AtWaypoint> getAtWaypoint() {
     if (atWaypoint == null) {
-      atWaypoint = new HashSet<>();
+      atWaypoint = new CompactSet<>();
     }
     return this.atWaypoint;
   }
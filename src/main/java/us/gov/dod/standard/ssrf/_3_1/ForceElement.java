@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.antenna.Nomenclature;
@@ -191,7 +192,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * Assets (Optional)
    * <p>
@@ -201,7 +202,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   @XmlElement(name = "Assets")
-  private Set<Assets> assets;
+  private CompactSet<Assets> assets;
   /**
    * Nomenclature (Required)
    * <p>
@@ -215,7 +216,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature", required = true)
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
   /**
    * US:StockNum (Optional)
    * <p>
@@ -225,7 +226,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   @XmlElement(name = "StockNum")
-  private Set<StockNum> stockNum;
+  private CompactSet<StockNum> stockNum;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -542,7 +543,7 @@ public class ForceElement extends Common<ForceElement> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -575,7 +576,7 @@ public class ForceElement extends Common<ForceElement> {
    */
   public Set<Assets> getAssets() {
     if (assets == null) {
-      assets = new HashSet<>();
+      assets = new CompactSet<>();
     }
     return this.assets;
   }
@@ -609,7 +610,7 @@ public class ForceElement extends Common<ForceElement> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
@@ -641,7 +642,7 @@ public class ForceElement extends Common<ForceElement> {
    */
   public Set<StockNum> getStockNum() {
     if (stockNum == null) {
-      stockNum = new HashSet<>();
+      stockNum = new CompactSet<>();
     }
     return this.stockNum;
   }
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
@@ -648,7 +649,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -2146,7 +2147,7 @@ public class IntfReport extends Common<IntfReport> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
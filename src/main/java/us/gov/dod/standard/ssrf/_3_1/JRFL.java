@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -245,7 +246,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   @XmlElement(name = "JRFLEntry", required = true)
-  private Set<JRFLEntry> jrflEntry;
+  private CompactSet<JRFLEntry> jrflEntry;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -658,7 +659,7 @@ public class JRFL extends Common<JRFL> {
    */
   public Set<JRFLEntry> getJRFLEntry() {
     if (jrflEntry == null) {
-      jrflEntry = new HashSet<>();
+      jrflEntry = new CompactSet<>();
     }
     return this.jrflEntry;
   }
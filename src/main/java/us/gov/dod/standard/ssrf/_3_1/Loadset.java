@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.loadset.JammingChannelProfile;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -213,7 +213,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   @XmlElement(name = "JammingChannelProfile", required = true)
-  private Set<JammingChannelProfile> jammingChannelProfile;
+  private CompactSet<JammingChannelProfile> jammingChannelProfile;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -506,7 +506,7 @@ public class Loadset extends Common<Loadset> {
    */
   public Set<JammingChannelProfile> getJammingChannelProfile() {
     if (jammingChannelProfile == null) {
-      jammingChannelProfile = new HashSet<>();
+      jammingChannelProfile = new CompactSet<>();
     }
     return this.jammingChannelProfile;
   }
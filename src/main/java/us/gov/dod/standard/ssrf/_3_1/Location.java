@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
@@ -235,7 +236,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * AntFeedpointHeight - Antenna Feedpoint Height (Optional)
    * <p>
@@ -250,7 +251,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   @XmlElement(name = "Point")
-  private Set<Point> point;
+  private CompactSet<Point> point;
   /**
    * Polygon (Optional)
    * <p>
@@ -261,7 +262,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   @XmlElement(name = "Polygon")
-  private Set<Polygon> polygon;
+  private CompactSet<Polygon> polygon;
   /**
    * Ellipse (Optional)
    * <p>
@@ -272,7 +273,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   @XmlElement(name = "Ellipse")
-  private Set<Ellipse> ellipse;
+  private CompactSet<Ellipse> ellipse;
   /**
    * LocationRef - Element Content (Required)
    * <p>
@@ -283,7 +284,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   @XmlElement(name = "LocationRef", nillable = true)
-  private Set<Serial> locationRef;
+  private CompactSet<Serial> locationRef;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -582,7 +583,7 @@ public class Location extends Common<Location> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -615,7 +616,7 @@ public class Location extends Common<Location> {
    */
   public Set<Point> getPoint() {
     if (point == null) {
-      point = new HashSet<>();
+      point = new CompactSet<>();
     }
     return this.point;
   }
@@ -648,7 +649,7 @@ public class Location extends Common<Location> {
    */
   public Set<Polygon> getPolygon() {
     if (polygon == null) {
-      polygon = new HashSet<>();
+      polygon = new CompactSet<>();
     }
     return this.polygon;
   }
@@ -681,7 +682,7 @@ public class Location extends Common<Location> {
    */
   public Set<Ellipse> getEllipse() {
     if (ellipse == null) {
-      ellipse = new HashSet<>();
+      ellipse = new CompactSet<>();
     }
     return this.ellipse;
   }
@@ -713,7 +714,7 @@ public class Location extends Common<Location> {
   @Deprecated
   public Set<Serial> getLocationRef() {
     if (locationRef == null) {
-      locationRef = new HashSet<>();
+      locationRef = new CompactSet<>();
     }
     return this.locationRef;
   }
@@ -1121,7 +1122,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Location> location;
+  private CompactSet<Location> location;
 
   /**
    * Get the serial of the referenced Location..
@@ -1131,7 +1132,7 @@ public class Location extends Common<Location> {
    */
   public Set<Location> getLocation() {
     if (location == null) {
-      location = new HashSet<>();
+      location = new CompactSet<>();
     }
     return location;
   }
@@ -1181,9 +1182,12 @@ public class Location extends Common<Location> {
   @Override
   public void prepare() {
     super.prepare();
-    this.locationRef = new HashSet<>();
-    for (Location instance : getLocation()) {
-      this.locationRef.add(instance.getSerial());
+    this.locationRef = null;
+    if (isSetLocation()) {
+      this.locationRef = new CompactSet<>();
+      for (Location instance : getLocation()) {
+        this.locationRef.add(instance.getSerial());
+      }
     }
   }
 
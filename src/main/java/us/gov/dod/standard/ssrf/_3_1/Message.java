@@ -15,14 +15,13 @@
  */
 package us.gov.dod.standard.ssrf._3_1;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
-import us.gov.dod.standard.ssrf.SSRFUtility;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.DT;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S40;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -84,7 +83,7 @@ public class Message extends Common<Message> {
   private TString secondaryDatasets;
 
   @XmlElement(name = "DatasetRef", required = true, nillable = true)
-  private Set<Serial> datasetRef;
+  private CompactSet<Serial> datasetRef;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -166,7 +165,7 @@ public class Message extends Common<Message> {
   @Deprecated
   public Set<Serial> getDatasetRef() {
     if (datasetRef == null) {
-      datasetRef = new HashSet<>();
+      datasetRef = new CompactSet<>();
     }
     return this.datasetRef;
   }
@@ -278,7 +277,7 @@ public class Message extends Common<Message> {
 
   //<editor-fold defaultstate="collapsed" desc="SSRF Referenced Object Instances">
   @XmlTransient
-  private Set<Common<?>> data;
+  private CompactSet<Common<?>> data;
 
   /**
    * Get .
@@ -288,7 +287,7 @@ public class Message extends Common<Message> {
    */
   public Set<Common<?>> getData() {
     if (data == null) {
-      data = new HashSet<>();
+      data = new CompactSet<>();
     }
     return data;
   }
@@ -338,9 +337,12 @@ public class Message extends Common<Message> {
   @Override
   public void prepare() {
     super.prepare();
-    this.datasetRef = new HashSet<>();
-    for (Common<?> instance : getData()) {
-      this.datasetRef.add(instance.getSerial());
+    this.datasetRef = null;
+    if (isSetData()) {
+      this.datasetRef = new CompactSet<>();
+      for (Common<?> instance : getData()) {
+        this.datasetRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -361,35 +363,18 @@ public class Message extends Common<Message> {
       return;
     }
     /**
-     * Scan ALL the data lists in the SSRF (SchemaRoot) object.
+     * Resolve each reference against the SSRF (SchemaRoot) serial number index.
+     * The index is shared across all Messages when opened by the post-load
+     * process; otherwise it is built once for this Message.
      */
-    for (Field field : SSRFUtility.findDeclaredAndInheritedFields(root.getClass())) {
-      try {
-        field.setAccessible(true);
-        /**
-         * Ignore fields that are NOT.
-         */
-        Object fieldValue = field.get(root);
-        if (fieldValue == null) {
-          continue;
-        }
-        System.out.println("field type " + field.getType().getSimpleName());
-        if (field.getType().getSuperclass().equals(Collection.class)) {
-          System.out.println("  superclass is a collection");
-        }
-        /**
-         * Only process field values that are instance of a collection.
-         */
-        if (fieldValue instanceof Collection) {
-          for (Object entry : (Iterable<? extends Object>) fieldValue) {
-            if (entry != null) {
-              if (datasetRef.contains(((Common<?>) entry).getSerial())) {
-                data.add((Common<?>) entry);
-              }
-            }
-          }
-        }
-      } catch (SecurityException | IllegalArgumentException | IllegalAccessException securityException) {
+    Map<Serial, Common<?>> datasetIndex = root.getDatasetIndex();
+    for (Serial serial : datasetRef) {
+      if (serial == null) {
+        continue;
+      }
+      Common<?> instance = datasetIndex.get(serial);
+      if (instance != null) {
+        getData().add(instance);
       }
     }
   }//</editor-fold>
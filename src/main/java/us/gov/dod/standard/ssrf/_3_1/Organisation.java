@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.contact.Address;
 import us.gov.dod.standard.ssrf._3_1.contact.EMail;
@@ -163,7 +164,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   @XmlElement(name = "Address")
-  private Set<Address> address;
+  private CompactSet<Address> address;
   /**
    * TelephoneFax (Optional)
    * <p>
@@ -173,7 +174,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   @XmlElement(name = "TelephoneFax")
-  private Set<TelephoneFax> telephoneFax;
+  private CompactSet<TelephoneFax> telephoneFax;
   /**
    * Email (Optional)
    * <p>
@@ -184,7 +185,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   @XmlElement(name = "EMail")
-  private Set<EMail> eMail;
+  private CompactSet<EMail> eMail;
   /**
    * RoleRef (Optional)
    * <p>
@@ -193,7 +194,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   @XmlElement(name = "RoleRef", nillable = true)
-  private Set<Serial> roleRef;
+  private CompactSet<Serial> roleRef;
   /**
    * RelatedOrganisation (Optional)
    * <p>
@@ -204,7 +205,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   @XmlElement(name = "RelatedOrganisation")
-  private Set<RelatedOrganisation> relatedOrganisation;
+  private CompactSet<RelatedOrganisation> relatedOrganisation;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -445,7 +446,7 @@ public class Organisation extends Common<Organisation> {
    */
   public Set<Address> getAddress() {
     if (address == null) {
-      address = new HashSet<>();
+      address = new CompactSet<>();
     }
     return this.address;
   }
@@ -477,7 +478,7 @@ public class Organisation extends Common<Organisation> {
    */
   public Set<TelephoneFax> getTelephoneFax() {
     if (telephoneFax == null) {
-      telephoneFax = new HashSet<>();
+      telephoneFax = new CompactSet<>();
     }
     return this.telephoneFax;
   }
@@ -508,7 +509,7 @@ public class Organisation extends Common<Organisation> {
    */
   public Set<EMail> getEMail() {
     if (eMail == null) {
-      eMail = new HashSet<>();
+      eMail = new CompactSet<>();
     }
     return this.eMail;
   }
@@ -542,7 +543,7 @@ public class Organisation extends Common<Organisation> {
   @Deprecated
   public Set<Serial> getRoleRef() {
     if (roleRef == null) {
-      roleRef = new HashSet<>();
+      roleRef = new CompactSet<>();
     }
     return this.roleRef;
   }
@@ -575,7 +576,7 @@ public class Organisation extends Common<Organisation> {
    */
   public Set<RelatedOrganisation> getRelatedOrganisation() {
     if (relatedOrganisation == null) {
-      relatedOrganisation = new HashSet<>();
+      relatedOrganisation = new CompactSet<>();
     }
     return this.relatedOrganisation;
   }
@@ -952,7 +953,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Role> role;
+  private CompactSet<Role> role;
 
   /**
    * Get the RoleRef
@@ -964,7 +965,7 @@ public class Organisation extends Common<Organisation> {
    */
   public Set<Role> getRole() {
     if (role == null) {
-      role = new HashSet<>();
+      role = new CompactSet<>();
     }
     return role;
   }
@@ -1018,9 +1019,12 @@ public class Organisation extends Common<Organisation> {
   @Override
   public void prepare() {
     super.prepare();
-    this.roleRef = new HashSet<>();
-    for (Role instance : getRole()) {
-      this.roleRef.add(instance.getSerial());
+    this.roleRef = null;
+    if (isSetRole()) {
+      this.roleRef = new CompactSet<>();
+      for (Role instance : getRole()) {
+        this.roleRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.antenna.Nomenclature;
 import us.gov.dod.standard.ssrf._3_1.antenna.UsingCountries;
@@ -130,7 +130,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * Nomenclature (Optional)
    * <p>
@@ -144,7 +144,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature")
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
   /**
    * Deployment (Optional)
    * <p>
@@ -157,7 +157,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "Deployment")
-  private Set<Deployment> deployment;
+  private CompactSet<Deployment> deployment;
   /**
    * Configuration (Optional)
    * <p>
@@ -173,7 +173,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "Configuration")
-  private Set<Configuration> configuration;
+  private CompactSet<Configuration> configuration;
   /**
    * RelatedSystem (Optional)
    * <p>
@@ -183,7 +183,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "RelatedSystem")
-  private Set<RelatedSystem> relatedSystem;
+  private CompactSet<RelatedSystem> relatedSystem;
   /**
    * US:StockNum (Optional)
    * <p>
@@ -193,7 +193,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "StockNum")
-  private Set<StockNum> stockNum;
+  private CompactSet<StockNum> stockNum;
   /**
    * US:UsingCountries (Optional)
    * <p>
@@ -203,7 +203,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   @XmlElement(name = "UsingCountries")
-  private Set<UsingCountries> usingCountries;
+  private CompactSet<UsingCountries> usingCountries;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -314,7 +314,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -348,7 +348,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
@@ -384,7 +384,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<Deployment> getDeployment() {
     if (deployment == null) {
-      deployment = new HashSet<>();
+      deployment = new CompactSet<>();
     }
     return this.deployment;
   }
@@ -422,7 +422,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<Configuration> getConfiguration() {
     if (configuration == null) {
-      configuration = new HashSet<>();
+      configuration = new CompactSet<>();
     }
     return this.configuration;
   }
@@ -454,7 +454,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<RelatedSystem> getRelatedSystem() {
     if (relatedSystem == null) {
-      relatedSystem = new HashSet<>();
+      relatedSystem = new CompactSet<>();
     }
     return this.relatedSystem;
   }
@@ -486,7 +486,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<StockNum> getStockNum() {
     if (stockNum == null) {
-      stockNum = new HashSet<>();
+      stockNum = new CompactSet<>();
     }
     return this.stockNum;
   }
@@ -518,7 +518,7 @@ public class RFSystem extends Common<RFSystem> {
    */
   public Set<UsingCountries> getUsingCountries() {
     if (usingCountries == null) {
-      usingCountries = new HashSet<>();
+      usingCountries = new CompactSet<>();
     }
     return this.usingCountries;
   }
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -202,7 +203,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   @XmlElement(name = "JammingAuthority")
-  private Set<JammingAuthority> jammingAuthority;
+  private CompactSet<JammingAuthority> jammingAuthority;
   /**
    * US:JammingPlan (Optional)
    * <p>
@@ -212,7 +213,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   @XmlElement(name = "JammingPlan")
-  private Set<JammingPlan> jammingPlan;
+  private CompactSet<JammingPlan> jammingPlan;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -481,7 +482,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    */
   public Set<JammingAuthority> getJammingAuthority() {
     if (jammingAuthority == null) {
-      jammingAuthority = new HashSet<>();
+      jammingAuthority = new CompactSet<>();
     }
     return this.jammingAuthority;
   }
@@ -513,7 +514,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    */
   public Set<JammingPlan> getJammingPlan() {
     if (jammingPlan == null) {
-      jammingPlan = new HashSet<>();
+      jammingPlan = new CompactSet<>();
     }
     return this.jammingPlan;
   }
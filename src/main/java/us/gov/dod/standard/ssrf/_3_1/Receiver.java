@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.antenna.Nomenclature;
 import us.gov.dod.standard.ssrf._3_1.antenna.UsingCountries;
@@ -174,7 +174,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * Nomenclature (Optional)
    * <p>
@@ -188,7 +188,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature")
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
   /**
    * Deployment (Optional)
    * <p>
@@ -201,7 +201,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   @XmlElement(name = "Deployment")
-  private Set<Deployment> deployment;
+  private CompactSet<Deployment> deployment;
   /**
    * Curve (Optional)
    * <p>
@@ -214,7 +214,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   @XmlElement(name = "Curve")
-  private Set<Curve> curve;
+  private CompactSet<Curve> curve;
   /**
    * RxMode (Optional)
    * <p>
@@ -224,7 +224,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   @XmlElement(name = "RxMode")
-  private Set<RxMode> rxMode;
+  private CompactSet<RxMode> rxMode;
   /**
    * US:UsingCountries (Optional)
    * <p>
@@ -234,7 +234,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   @XmlElement(name = "UsingCountries")
-  private Set<UsingCountries> usingCountries;
+  private CompactSet<UsingCountries> usingCountries;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -477,7 +477,7 @@ public class Receiver extends Common<Receiver> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -511,7 +511,7 @@ public class Receiver extends Common<Receiver> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
@@ -547,7 +547,7 @@ public class Receiver extends Common<Receiver> {
    */
   public Set<Deployment> getDeployment() {
     if (deployment == null) {
-      deployment = new HashSet<>();
+      deployment = new CompactSet<>();
     }
     return this.deployment;
   }
@@ -582,7 +582,7 @@ public class Receiver extends Common<Receiver> {
    */
   public Set<Curve> getCurve() {
     if (curve == null) {
-      curve = new HashSet<>();
+      curve = new CompactSet<>();
     }
     return this.curve;
   }
@@ -614,7 +614,7 @@ public class Receiver extends Common<Receiver> {
    */
   public Set<RxMode> getRxMode() {
     if (rxMode == null) {
-      rxMode = new HashSet<>();
+      rxMode = new CompactSet<>();
     }
     return this.rxMode;
   }
@@ -646,7 +646,7 @@ public class Receiver extends Common<Receiver> {
    */
   public Set<UsingCountries> getUsingCountries() {
     if (usingCountries == null) {
-      usingCountries = new HashSet<>();
+      usingCountries = new CompactSet<>();
     }
     return this.usingCountries;
   }
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.contact.Address;
 import us.gov.dod.standard.ssrf._3_1.contact.EMail;
@@ -142,7 +143,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   @XmlElement(name = "Address")
-  private Set<Address> address;
+  private CompactSet<Address> address;
   /**
    * TelephoneFax (Optional)
    * <p>
@@ -152,7 +153,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   @XmlElement(name = "TelephoneFax")
-  private Set<TelephoneFax> telephoneFax;
+  private CompactSet<TelephoneFax> telephoneFax;
   /**
    * Email (Optional)
    * <p>
@@ -161,7 +162,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   @XmlElement(name = "EMail")
-  private Set<EMail> eMail;
+  private CompactSet<EMail> eMail;
   /**
    * ContactRef (Optional)
    * <p>
@@ -170,7 +171,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   @XmlElement(name = "ContactRef", nillable = true)
-  private Set<Serial> contactRef;
+  private CompactSet<Serial> contactRef;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -359,7 +360,7 @@ public class Role extends Common<Role> {
    */
   public Set<Address> getAddress() {
     if (address == null) {
-      address = new HashSet<>();
+      address = new CompactSet<>();
     }
     return this.address;
   }
@@ -391,7 +392,7 @@ public class Role extends Common<Role> {
    */
   public Set<TelephoneFax> getTelephoneFax() {
     if (telephoneFax == null) {
-      telephoneFax = new HashSet<>();
+      telephoneFax = new CompactSet<>();
     }
     return this.telephoneFax;
   }
@@ -422,7 +423,7 @@ public class Role extends Common<Role> {
    */
   public Set<EMail> getEMail() {
     if (eMail == null) {
-      eMail = new HashSet<>();
+      eMail = new CompactSet<>();
     }
     return this.eMail;
   }
@@ -456,7 +457,7 @@ public class Role extends Common<Role> {
   @Deprecated
   public Set<Serial> getContactRef() {
     if (contactRef == null) {
-      contactRef = new HashSet<>();
+      contactRef = new CompactSet<>();
     }
     return this.contactRef;
   }
@@ -776,7 +777,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Contact> contact;
+  private CompactSet<Contact> contact;
 
   /**
    * Get the ContactRef
@@ -788,7 +789,7 @@ public class Role extends Common<Role> {
    */
   public Set<Contact> getContact() {
     if (contact == null) {
-      contact = new HashSet<>();
+      contact = new CompactSet<>();
     }
     return contact;
   }
@@ -842,9 +843,12 @@ public class Role extends Common<Role> {
   @Override
   public void prepare() {
     super.prepare();
-    this.contactRef = new HashSet<>();
-    for (Contact instance : getContact()) {
-      this.contactRef.add(instance.getSerial());
+    this.contactRef = null;
+    if (isSetContact()) {
+      this.contactRef = new CompactSet<>();
+      for (Contact instance : getContact()) {
+        this.contactRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
@@ -264,7 +265,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   @XmlElement(name = "CommentSource")
-  private Set<CommentSource> commentSource;
+  private CompactSet<CommentSource> commentSource;
   /**
    * StageLocation (Optional)
    * <p>
@@ -274,7 +275,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   @XmlElement(name = "StageLocation")
-  private Set<StageLocation> stageLocation;
+  private CompactSet<StageLocation> stageLocation;
   /**
    * Configuration (Optional)
    * <p>
@@ -290,7 +291,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   @XmlElement(name = "Configuration")
-  private Set<Configuration> configuration;
+  private CompactSet<Configuration> configuration;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -770,7 +771,7 @@ public class SSReply extends Common<SSReply> {
    */
   public Set<CommentSource> getCommentSource() {
     if (commentSource == null) {
-      commentSource = new HashSet<>();
+      commentSource = new CompactSet<>();
     }
     return this.commentSource;
   }
@@ -802,7 +803,7 @@ public class SSReply extends Common<SSReply> {
    */
   public Set<StageLocation> getStageLocation() {
     if (stageLocation == null) {
-      stageLocation = new HashSet<>();
+      stageLocation = new CompactSet<>();
     }
     return this.stageLocation;
   }
@@ -840,7 +841,7 @@ public class SSReply extends Common<SSReply> {
    */
   public Set<Configuration> getConfiguration() {
     if (configuration == null) {
-      configuration = new HashSet<>();
+      configuration = new CompactSet<>();
     }
     return this.configuration;
   }
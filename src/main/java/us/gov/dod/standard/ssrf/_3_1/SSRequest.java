@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.allotment.Project;
 import us.gov.dod.standard.ssrf._3_1.antenna.Nomenclature;
@@ -419,7 +420,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "Project")
-  private Set<Project> project;
+  private CompactSet<Project> project;
   /**
    * CurrentStage - Current Stage (Optional)
    * <p>
@@ -430,7 +431,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "Stage")
-  private Set<Stage> stage;
+  private CompactSet<Stage> stage;
   /**
    * Nomenclature (Optional)
    * <p>
@@ -442,7 +443,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature")
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
   /**
    * POCInformation (Optional)
    * <p>
@@ -452,7 +453,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * RelatedSupportability (Optional)
    * <p>
@@ -462,7 +463,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "RelatedSupportability")
-  private Set<RelatedSupportability> relatedSupportability;
+  private CompactSet<RelatedSupportability> relatedSupportability;
   /**
    * HostNation (Optional)
    * <p>
@@ -474,7 +475,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "HostNation", nillable = true)
-  private Set<HostNation> hostNation;
+  private CompactSet<HostNation> hostNation;
   /**
    * US:WartimeUse - Wartime Use (Optional)
    * <p>
@@ -485,7 +486,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "Time")
-  private Set<Time> time;
+  private CompactSet<Time> time;
   /**
    * DiagramEndpoint (Optional)
    * <p>
@@ -494,7 +495,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "DiagramEndpoint")
-  private Set<DiagramEndpoint> diagramEndpoint;
+  private CompactSet<DiagramEndpoint> diagramEndpoint;
   /**
    * DiagramLine (Optional)
    * <p>
@@ -503,7 +504,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "DiagramLine")
-  private Set<DiagramLine> diagramLine;
+  private CompactSet<DiagramLine> diagramLine;
   /**
    * Configuration (Optional)
    * <p>
@@ -518,7 +519,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "Configuration")
-  private Set<Configuration> configuration;
+  private CompactSet<Configuration> configuration;
   /**
    * US:StatusLog (Optional)
    * <p>
@@ -528,7 +529,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   @XmlElement(name = "StatusLog")
-  private Set<StatusLog> statusLog;
+  private CompactSet<StatusLog> statusLog;
   /**
    * US:Trunking (Optional)
    * <p>
@@ -1386,7 +1387,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<Project> getProject() {
     if (project == null) {
-      project = new HashSet<>();
+      project = new CompactSet<>();
     }
     return this.project;
   }
@@ -1415,7 +1416,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<Stage> getStage() {
     if (stage == null) {
-      stage = new HashSet<>();
+      stage = new CompactSet<>();
     }
     return this.stage;
   }
@@ -1449,7 +1450,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
@@ -1481,7 +1482,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -1513,7 +1514,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<RelatedSupportability> getRelatedSupportability() {
     if (relatedSupportability == null) {
-      relatedSupportability = new HashSet<>();
+      relatedSupportability = new CompactSet<>();
     }
     return this.relatedSupportability;
   }
@@ -1547,7 +1548,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<HostNation> getHostNation() {
     if (hostNation == null) {
-      hostNation = new HashSet<>();
+      hostNation = new CompactSet<>();
     }
     return this.hostNation;
   }
@@ -1576,7 +1577,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<Time> getTime() {
     if (time == null) {
-      time = new HashSet<>();
+      time = new CompactSet<>();
     }
     return this.time;
   }
@@ -1608,7 +1609,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<DiagramEndpoint> getDiagramEndpoint() {
     if (diagramEndpoint == null) {
-      diagramEndpoint = new HashSet<>();
+      diagramEndpoint = new CompactSet<>();
     }
     return this.diagramEndpoint;
   }
@@ -1640,7 +1641,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<DiagramLine> getDiagramLine() {
     if (diagramLine == null) {
-      diagramLine = new HashSet<>();
+      diagramLine = new CompactSet<>();
     }
     return this.diagramLine;
   }
@@ -1675,7 +1676,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<Configuration> getConfiguration() {
     if (configuration == null) {
-      configuration = new HashSet<>();
+      configuration = new CompactSet<>();
     }
     return this.configuration;
   }
@@ -1707,7 +1708,7 @@ public class SSRequest extends Common<SSRequest> {
    */
   public Set<StatusLog> getStatusLog() {
     if (statusLog == null) {
-      statusLog = new HashSet<>();
+      statusLog = new CompactSet<>();
     }
     return this.statusLog;
   }
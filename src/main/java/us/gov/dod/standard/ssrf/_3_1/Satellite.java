@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.antenna.Nomenclature;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
@@ -283,7 +284,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   @XmlElement(name = "RFSystemRef", nillable = true)
-  private Set<Serial> rfSystemRef;
+  private CompactSet<Serial> rfSystemRef;
   /**
    * EarthStation (Optional)
    * <p>
@@ -293,7 +294,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   @XmlElement(name = "EarthStation")
-  private Set<EarthStation> earthStation;
+  private CompactSet<EarthStation> earthStation;
   /**
    * ServiceArea (Optional)
    * <p>
@@ -302,7 +303,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   @XmlElement(name = "ServiceArea", nillable = true)
-  private Set<ServiceArea> serviceArea;
+  private CompactSet<ServiceArea> serviceArea;
   /**
    * Nomenclature (Optional)
    * <p>
@@ -316,7 +317,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature")
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -871,7 +872,7 @@ public class Satellite extends Common<Satellite> {
    */
   public Set<Serial> getRFSystemRef() {
     if (rfSystemRef == null) {
-      rfSystemRef = new HashSet<>();
+      rfSystemRef = new CompactSet<>();
     }
     return this.rfSystemRef;
   }
@@ -903,7 +904,7 @@ public class Satellite extends Common<Satellite> {
    */
   public Set<EarthStation> getEarthStation() {
     if (earthStation == null) {
-      earthStation = new HashSet<>();
+      earthStation = new CompactSet<>();
     }
     return this.earthStation;
   }
@@ -935,7 +936,7 @@ public class Satellite extends Common<Satellite> {
    */
   public Set<ServiceArea> getServiceArea() {
     if (serviceArea == null) {
-      serviceArea = new HashSet<>();
+      serviceArea = new CompactSet<>();
     }
     return this.serviceArea;
   }
@@ -969,7 +970,7 @@ public class Satellite extends Common<Satellite> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
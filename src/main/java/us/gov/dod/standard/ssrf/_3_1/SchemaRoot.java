@@ -17,14 +17,18 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SMADEF;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 
 /**
  * SchemaRoot is an abstract class extended by {@link SSRF} and {@link SMADEF}
@@ -67,79 +71,79 @@ import us.gov.dod.standard.ssrf.SSRF;
 public abstract class SchemaRoot<T> {
 
   @XmlElement(name = "Contact")
-  protected Set<Contact> contact;
+  protected CompactSet<Contact> contact;
 
   @XmlElement(name = "Role")
-  protected Set<Role> role;
+  protected CompactSet<Role> role;
 
   @XmlElement(name = "Organisation")
-  protected Set<Organisation> organisation;
+  protected CompactSet<Organisation> organisation;
 
   @XmlElement(name = "ExternalReference")
-  protected Set<ExternalReference> externalReference;
+  protected CompactSet<ExternalReference> externalReference;
 
   @XmlElement(name = "Administrative")
-  protected Set<Administrative> administrative;
+  protected CompactSet<Administrative> administrative;
 
   @XmlElement(name = "Location")
-  protected Set<Location> location;
+  protected CompactSet<Location> location;
 
   @XmlElement(name = "ChannelPlan")
-  protected Set<ChannelPlan> channelPlan;
+  protected CompactSet<ChannelPlan> channelPlan;
 
   @XmlElement(name = "TOA")
-  protected Set<TOA> toa;
+  protected CompactSet<TOA> toa;
 
   @XmlElement(name = "Transmitter")
-  protected Set<Transmitter> transmitter;
+  protected CompactSet<Transmitter> transmitter;
 
   @XmlElement(name = "Receiver")
-  protected Set<Receiver> receiver;
+  protected CompactSet<Receiver> receiver;
 
   @XmlElement(name = "Antenna")
-  protected Set<Antenna> antenna;
+  protected CompactSet<Antenna> antenna;
 
   @XmlElement(name = "RFSystem")
-  protected Set<RFSystem> rfSystem;
+  protected CompactSet<RFSystem> rfSystem;
 
   @XmlElement(name = "SSRequest")
-  protected Set<SSRequest> ssRequest;
+  protected CompactSet<SSRequest> ssRequest;
 
   @XmlElement(name = "SSReply")
-  protected Set<SSReply> ssReply;
+  protected CompactSet<SSReply> ssReply;
 
   @XmlElement(name = "Allotment")
-  protected Set<Allotment> allotment;
+  protected CompactSet<Allotment> allotment;
 
   @XmlElement(name = "Assignment")
-  protected Set<Assignment> assignment;
+  protected CompactSet<Assignment> assignment;
 
   @XmlElement(name = "Satellite")
-  protected Set<Satellite> satellite;
+  protected CompactSet<Satellite> satellite;
 
   @XmlElement(name = "IntfReport")
-  protected Set<IntfReport> intfReport;
+  protected CompactSet<IntfReport> intfReport;
 
   @XmlElement(name = "JRFL")
-  protected Set<JRFL> jrfl;
+  protected CompactSet<JRFL> jrfl;
 
   @XmlElement(name = "ForceElement")
-  protected Set<ForceElement> forceElement;
+  protected CompactSet<ForceElement> forceElement;
 
   @XmlElement(name = "FEDeployment")
-  protected Set<FEDeployment> feDeployment;
+  protected CompactSet<FEDeployment> feDeployment;
 
   @XmlElement(name = "Message")
-  protected Set<Message> message;
+  protected CompactSet<Message> message;
 
   @XmlElement(name = "Note")
-  protected Set<Note> note;
+  protected CompactSet<Note> note;
 
   @XmlElement(name = "Loadset")
-  protected Set<Loadset> loadset;
+  protected CompactSet<Loadset> loadset;
 
   @XmlElement(name = "RadiationPlan")
-  protected Set<RadiationPlan> radiationPlan;
+  protected CompactSet<RadiationPlan> radiationPlan;
 
   /**
    * Get Contacts.
@@ -149,7 +153,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Contact> getContact() {
     if (contact == null) {
-      contact = new HashSet<>();
+      contact = new CompactSet<>();
     }
     return this.contact;
   }
@@ -178,7 +182,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Role> getRole() {
     if (role == null) {
-      role = new HashSet<>();
+      role = new CompactSet<>();
     }
     return this.role;
   }
@@ -207,7 +211,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Organisation> getOrganisation() {
     if (organisation == null) {
-      organisation = new HashSet<>();
+      organisation = new CompactSet<>();
     }
     return this.organisation;
   }
@@ -236,7 +240,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<ExternalReference> getExternalReference() {
     if (externalReference == null) {
-      externalReference = new HashSet<>();
+      externalReference = new CompactSet<>();
     }
     return this.externalReference;
   }
@@ -265,7 +269,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Administrative> getAdministrative() {
     if (administrative == null) {
-      administrative = new HashSet<>();
+      administrative = new CompactSet<>();
     }
     return this.administrative;
   }
@@ -293,7 +297,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Location> getLocation() {
     if (location == null) {
-      location = new HashSet<>();
+      location = new CompactSet<>();
     }
     return this.location;
   }
@@ -321,7 +325,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<ChannelPlan> getChannelPlan() {
     if (channelPlan == null) {
-      channelPlan = new HashSet<>();
+      channelPlan = new CompactSet<>();
     }
     return this.channelPlan;
   }
@@ -349,7 +353,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<TOA> getTOA() {
     if (toa == null) {
-      toa = new HashSet<>();
+      toa = new CompactSet<>();
     }
     return this.toa;
   }
@@ -377,7 +381,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Transmitter> getTransmitter() {
     if (transmitter == null) {
-      transmitter = new HashSet<>();
+      transmitter = new CompactSet<>();
     }
     return this.transmitter;
   }
@@ -405,7 +409,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Receiver> getReceiver() {
     if (receiver == null) {
-      receiver = new HashSet<>();
+      receiver = new CompactSet<>();
     }
     return this.receiver;
   }
@@ -433,7 +437,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Antenna> getAntenna() {
     if (antenna == null) {
-      antenna = new HashSet<>();
+      antenna = new CompactSet<>();
     }
     return this.antenna;
   }
@@ -461,7 +465,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<RFSystem> getRFSystem() {
     if (rfSystem == null) {
-      rfSystem = new HashSet<>();
+      rfSystem = new CompactSet<>();
     }
     return this.rfSystem;
   }
@@ -489,7 +493,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<SSRequest> getSSRequest() {
     if (ssRequest == null) {
-      ssRequest = new HashSet<>();
+      ssRequest = new CompactSet<>();
     }
     return this.ssRequest;
   }
@@ -517,7 +521,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<SSReply> getSSReply() {
     if (ssReply == null) {
-      ssReply = new HashSet<>();
+      ssReply = new CompactSet<>();
     }
     return this.ssReply;
   }
@@ -545,7 +549,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Allotment> getAllotment() {
     if (allotment == null) {
-      allotment = new HashSet<>();
+      allotment = new CompactSet<>();
     }
     return this.allotment;
   }
@@ -573,7 +577,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Assignment> getAssignment() {
     if (assignment == null) {
-      assignment = new HashSet<>();
+      assignment = new CompactSet<>();
     }
     return this.assignment;
   }
@@ -601,7 +605,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Satellite> getSatellite() {
     if (satellite == null) {
-      satellite = new HashSet<>();
+      satellite = new CompactSet<>();
     }
     return this.satellite;
   }
@@ -629,7 +633,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<IntfReport> getIntfReport() {
     if (intfReport == null) {
-      intfReport = new HashSet<>();
+      intfReport = new CompactSet<>();
     }
     return this.intfReport;
   }
@@ -657,7 +661,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<JRFL> getJRFL() {
     if (jrfl == null) {
-      jrfl = new HashSet<>();
+      jrfl = new CompactSet<>();
     }
     return this.jrfl;
   }
@@ -686,7 +690,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<ForceElement> getForceElement() {
     if (forceElement == null) {
-      forceElement = new HashSet<>();
+      forceElement = new CompactSet<>();
     }
     return this.forceElement;
   }
@@ -715,7 +719,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<FEDeployment> getFEDeployment() {
     if (feDeployment == null) {
-      feDeployment = new HashSet<>();
+      feDeployment = new CompactSet<>();
     }
     return this.feDeployment;
   }
@@ -743,7 +747,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Message> getMessage() {
     if (message == null) {
-      message = new HashSet<>();
+      message = new CompactSet<>();
     }
     return this.message;
   }
@@ -771,7 +775,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Note> getNote() {
     if (note == null) {
-      note = new HashSet<>();
+      note = new CompactSet<>();
     }
     return this.note;
   }
@@ -799,7 +803,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<Loadset> getLoadset() {
     if (loadset == null) {
-      loadset = new HashSet<>();
+      loadset = new CompactSet<>();
     }
     return this.loadset;
   }
@@ -828,7 +832,7 @@ public abstract class SchemaRoot<T> {
    */
   public Set<RadiationPlan> getRadiationPlan() {
     if (radiationPlan == null) {
-      radiationPlan = new HashSet<>();
+      radiationPlan = new CompactSet<>();
     }
     return this.radiationPlan;
   }
@@ -1549,6 +1553,78 @@ public abstract class SchemaRoot<T> {
     return (T) this;
   }
 
+  //<editor-fold defaultstate="collapsed" desc="Dataset Index">
+  /**
+   * A serial number to dataset index over all of the SchemaRoot dataset
+   * collections. This is only set while the index is open (e.g. during
+   * post-load processing) and is otherwise NULL.
+   */
+  @XmlTransient
+  private Map<Serial, Common<?>> datasetIndex;
+
+  /**
+   * Get a serial number to dataset index over all of the SchemaRoot dataset
+   * collections.
+   * <p>
+   * If the index is open (see {@link #openDatasetIndex()}) the shared index is
+   * returned. Otherwise a new index is built from the current collections. The
+   * index is built in a single pass and supports linear-time resolution of
+   * dataset references (e.g. {@link Message} DatasetRef).
+   *
+   * @return a non-null, possibly empty map of serial numbers to datasets
+   * @since 3.1.0
+   */
+  public Map<Serial, Common<?>> getDatasetIndex() {
+    return datasetIndex != null ? datasetIndex : buildDatasetIndex();
+  }
+
+  /**
+   * Build and retain a serial number to dataset index over all of the
+   * SchemaRoot dataset collections.
+   * <p>
+   * The index is a snapshot. It is not updated when the dataset collections
+   * are changed and should be closed with {@link #closeDatasetIndex()} when no
+   * longer required.
+   *
+   * @since 3.1.0
+   */
+  public void openDatasetIndex() {
+    this.datasetIndex = buildDatasetIndex();
+  }
+
+  /**
+   * Release the retained dataset index.
+   *
+   * @since 3.1.0
+   */
+  public void closeDatasetIndex() {
+    this.datasetIndex = null;
+  }
+
+  /**
+   * Internal method to build a serial number to dataset index.
+   *
+   * @return a new map of serial numbers to datasets
+   */
+  private Map<Serial, Common<?>> buildDatasetIndex() {
+    Map<Serial, Common<?>> index = new HashMap<>();
+    for (Set<? extends Common<?>> datasets : Arrays.<Set<? extends Common<?>>>asList(
+      contact, role, organisation, externalReference, administrative,
+      location, channelPlan, toa, transmitter, receiver, antenna, rfSystem,
+      ssRequest, ssReply, allotment, assignment, satellite, intfReport, jrfl,
+      forceElement, feDeployment, message, note, loadset, radiationPlan)) {
+      if (datasets == null) {
+        continue;
+      }
+      for (Common<?> dataset : datasets) {
+        if (dataset != null && dataset.isSetSerial()) {
+          index.put(dataset.getSerial(), dataset);
+        }
+      }
+    }
+    return index;
+  }//</editor-fold>
+
   /**
    * Get a string representation of this SchemaRoot instance configuration.
    *
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -118,7 +119,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   @XmlElement(name = "Footnote")
-  private Set<Footnote> footnote;
+  private CompactSet<Footnote> footnote;
   /**
    * ChannelPlanRef (Optional)
    * <p>
@@ -127,7 +128,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   @XmlElement(name = "ChannelPlanRef", nillable = true)
-  private Set<Serial> channelPlanRef;
+  private CompactSet<Serial> channelPlanRef;
   /**
    * Country (Optional)
    * <p>
@@ -137,7 +138,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   @XmlElement(name = "Country", nillable = true)
-  private Set<Country> country;
+  private CompactSet<Country> country;
   /**
    * FreqBand (Required)
    * <p>
@@ -148,7 +149,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   @XmlElement(name = "FreqBand", required = true)
-  private Set<FreqBand> freqBand;
+  private CompactSet<FreqBand> freqBand;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -289,7 +290,7 @@ public class TOA extends Common<TOA> {
    */
   public Set<Footnote> getFootnote() {
     if (footnote == null) {
-      footnote = new HashSet<>();
+      footnote = new CompactSet<>();
     }
     return this.footnote;
   }
@@ -323,7 +324,7 @@ public class TOA extends Common<TOA> {
   @Deprecated
   public Set<Serial> getChannelPlanRef() {
     if (channelPlanRef == null) {
-      channelPlanRef = new HashSet<>();
+      channelPlanRef = new CompactSet<>();
     }
     return this.channelPlanRef;
   }
@@ -355,7 +356,7 @@ public class TOA extends Common<TOA> {
    */
   public Set<Country> getCountry() {
     if (country == null) {
-      country = new HashSet<>();
+      country = new CompactSet<>();
     }
     return this.country;
   }
@@ -389,7 +390,7 @@ public class TOA extends Common<TOA> {
    */
   public Set<FreqBand> getFreqBand() {
     if (freqBand == null) {
-      freqBand = new HashSet<>();
+      freqBand = new CompactSet<>();
     }
     return this.freqBand;
   }
@@ -676,7 +677,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<ChannelPlan> channelPlan;
+  private CompactSet<ChannelPlan> channelPlan;
 
   /**
    * Get the ChannelPlanRef
@@ -688,7 +689,7 @@ public class TOA extends Common<TOA> {
    */
   public Set<ChannelPlan> getChannelPlan() {
     if (channelPlan == null) {
-      channelPlan = new HashSet<>();
+      channelPlan = new CompactSet<>();
     }
     return channelPlan;
   }
@@ -742,9 +743,12 @@ public class TOA extends Common<TOA> {
   @Override
   public void prepare() {
     super.prepare();
-    this.channelPlanRef = new HashSet<>();
-    for (ChannelPlan instance : getChannelPlan()) {
-      this.channelPlanRef.add(instance.getSerial());
+    this.channelPlanRef = null;
+    if (isSetChannelPlan()) {
+      this.channelPlanRef = new CompactSet<>();
+      for (ChannelPlan instance : getChannelPlan()) {
+        this.channelPlanRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.antenna.Nomenclature;
 import us.gov.dod.standard.ssrf._3_1.antenna.UsingCountries;
@@ -196,7 +196,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * Nomenclature (Optional)
    * <p>
@@ -210,7 +210,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   @XmlElement(name = "Nomenclature")
-  private Set<Nomenclature> nomenclature;
+  private CompactSet<Nomenclature> nomenclature;
   /**
    * Deployment (Optional)
    * <p>
@@ -223,7 +223,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   @XmlElement(name = "Deployment")
-  private Set<Deployment> deployment;
+  private CompactSet<Deployment> deployment;
   /**
    * Curve (Optional)
    * <p>
@@ -236,7 +236,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   @XmlElement(name = "Curve")
-  private Set<Curve> curve;
+  private CompactSet<Curve> curve;
   /**
    * TxMode (Optional)
    * <p>
@@ -246,7 +246,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   @XmlElement(name = "TxMode")
-  private Set<TxMode> txMode;
+  private CompactSet<TxMode> txMode;
   /**
    * US:UsingCountries (Optional)
    * <p>
@@ -256,7 +256,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   @XmlElement(name = "UsingCountries")
-  private Set<UsingCountries> usingCountries;
+  private CompactSet<UsingCountries> usingCountries;
 
   /**
    * No arg constructor. Initializes the Common required fields.
@@ -530,7 +530,7 @@ public class Transmitter extends Common<Transmitter> {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -564,7 +564,7 @@ public class Transmitter extends Common<Transmitter> {
    */
   public Set<Nomenclature> getNomenclature() {
     if (nomenclature == null) {
-      nomenclature = new HashSet<>();
+      nomenclature = new CompactSet<>();
     }
     return this.nomenclature;
   }
@@ -600,7 +600,7 @@ public class Transmitter extends Common<Transmitter> {
    */
   public Set<Deployment> getDeployment() {
     if (deployment == null) {
-      deployment = new HashSet<>();
+      deployment = new CompactSet<>();
     }
     return this.deployment;
   }
@@ -635,7 +635,7 @@ public class Transmitter extends Common<Transmitter> {
    */
   public Set<Curve> getCurve() {
     if (curve == null) {
-      curve = new HashSet<>();
+      curve = new CompactSet<>();
     }
     return this.curve;
   }
@@ -667,7 +667,7 @@ public class Transmitter extends Common<Transmitter> {
    */
   public Set<TxMode> getTxMode() {
     if (txMode == null) {
-      txMode = new HashSet<>();
+      txMode = new CompactSet<>();
     }
     return this.txMode;
   }
@@ -699,7 +699,7 @@ public class Transmitter extends Common<Transmitter> {
    */
   public Set<UsingCountries> getUsingCountries() {
     if (usingCountries == null) {
-      usingCountries = new HashSet<>();
+      usingCountries = new CompactSet<>();
     }
     return this.usingCountries;
   }
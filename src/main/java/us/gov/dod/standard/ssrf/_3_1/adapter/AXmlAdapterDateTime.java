@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+
+/**
+ * Abstract date and dateTime type XmlAdapter. Values are bound as UTC epoch
+ * milliseconds (epoch days for {@link XmlAdapterDATE}) and converted by the
+ * {@link DateTimeConverter}, without Calendar, Date or formatter instances.
+ *
+ * @author Jesse Caulfield
+ * @since 3.1.0
+ */
+public abstract class AXmlAdapterDateTime extends XmlAdapter<String, Long> {
+
+  /**
+   * Convert a value type to a bound type.
+   *
+   * @param v The value to be converted. Must be non-null.
+   * @return the converted value in UTC epoch milliseconds
+   * @throws IllegalArgumentException if the value is not a valid date or
+   *                                  dateTime
+   */
+  @Override
+  public Long unmarshal(String v) {
+    return v != null ? DateTimeConverter.parse(v) : null;
+  }
+
+}
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 
 /**
@@ -84,6 +85,39 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    * defined.
    */
   private final Integer maxInclusive;
+  /**
+   * The maximum value allowed by the digit declaration. This is calculated
+   * once from the total and fraction digits.
+   */
+  private final double maxDigitsValue;
+  /**
+   * Ten raised to the power of the total digits, or Long.MAX_VALUE if larger.
+   * Integer parts below this limit cannot exceed the total digit count.
+   */
+  private final long digitLimit;
+  /**
+   * Per-thread decimal formatter. The format depends only upon the digit
+   * declaration; DecimalFormat is not thread safe and is expensive to create,
+   * so one instance is cached per thread.
+   */
+  private final ThreadLocal<DecimalFormat> decimalFormat = new ThreadLocal<DecimalFormat>() {
+
+    @Override
+    protected DecimalFormat initialValue() {
+      return buildDecimalFormat();
+    }
+  };
+  /**
+   * Per-thread symbols of the cached decimal format, used by the fast path to
+   * print the same decimal separator as the decimal format.
+   */
+  private final ThreadLocal<DecimalFormatSymbols> decimalFormatSymbols = new ThreadLocal<DecimalFormatSymbols>() {
+
+    @Override
+    protected DecimalFormatSymbols initialValue() {
+      return decimalFormat.get().getDecimalFormatSymbols();
+    }
+  };
 
   /**
    * Construct a new Number adapter. The minimum and maximum inclusive values
@@ -117,17 +151,22 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
     this.fractionDigits = fractionDigits;
     this.minInclusive = minInclusive;
     this.maxInclusive = maxInclusive;
+    this.maxDigitsValue = getMaxInclusive().doubleValue();
+    long limit = 1;
+    for (int i = 0; totalDigits != null && i < totalDigits && limit < Long.MAX_VALUE / 10; i++) {
+      limit *= 10;
+    }
+    this.digitLimit = totalDigits != null && totalDigits < 19 ? limit : Long.MAX_VALUE;
   }
 
   /**
    * Internal method to build a Decimal Format based upon the total available
-   * digits and the input value. Produces a decimal format pattern defined by
-   * the total and fraction digit count.
+   * digits. Produces a decimal format pattern defined by the total and
+   * fraction digit count.
    *
-   * @param v the input value to marshal
    * @return a decimal format pattern
    */
-  private DecimalFormat buildDecimalFormat(Number v) {
+  private DecimalFormat buildDecimalFormat() {
     if (totalDigits == null || fractionDigits == null) {
       return new DecimalFormat("#");
     }
@@ -154,11 +193,68 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    */
   @Override
   public String marshal(Number v) throws Exception {
+    convert(v);
     /**
-     * If there is no configured decimal format then print a plain, normal (non
-     * scientific notation) number.
+     * If there is no configured decimal format then integer values print
+     * directly. Decimal values with a digit declaration are printed by the fast
+     * path where possible. Otherwise print a plain, normal (non scientific
+     * notation) number with the cached decimal format.
      */
-    return buildDecimalFormat(convert(v)).format(v);
+    if (totalDigits == null || fractionDigits == null) {
+      if (v instanceof BigInteger || v instanceof Long || v instanceof Integer || v instanceof Short) {
+        return v.toString();
+      }
+    } else if (v instanceof BigDecimal) {
+      String formatted = format((BigDecimal) v);
+      if (formatted != null) {
+        return formatted;
+      }
+    }
+    return decimalFormat.get().format(v);
+  }
+
+  /**
+   * Fast path to print a BigDecimal with the configured digit declaration.
+   * <p>
+   * The output is identical to the decimal format: rounded HALF_UP to the
+   * maximum fraction digits, trailing zeros removed to a minimum of one
+   * fraction digit, no grouping, with the prefix, suffix and decimal separator
+   * of the decimal format locale. Values that the decimal format would treat
+   * specially (no fraction digits, a negative value rounding to zero, an
+   * integer part exceeding the maximum integer digits or a locale with
+   * non-ASCII digits) are not handled.
+   *
+   * @param v the value to print
+   * @return the formatted value; NULL if the value is not handled
+   */
+  private String format(BigDecimal v) {
+    DecimalFormatSymbols symbols = decimalFormatSymbols.get();
+    if (fractionDigits < 1 || symbols.getZeroDigit() != '0') {
+      return null;
+    }
+    BigDecimal rounded = v.scale() == fractionDigits ? v : v.setScale(fractionDigits, RoundingMode.HALF_UP);
+    if (rounded.signum() == 0 && v.signum() < 0) {
+      return null;
+    }
+    String plain = rounded.abs().toPlainString();
+    int point = plain.indexOf('.');
+    int integerDigits = point < 0 ? plain.length() : point;
+    if (integerDigits > Math.max(1, totalDigits - fractionDigits - 1)) {
+      return null;
+    }
+    DecimalFormat format = decimalFormat.get();
+    StringBuilder sb = new StringBuilder(plain.length() + 4);
+    sb.append(rounded.signum() < 0 ? format.getNegativePrefix() : format.getPositivePrefix());
+    if (point < 0) {
+      sb.append(plain).append(symbols.getDecimalSeparator()).append('0');
+    } else {
+      int end = plain.length();
+      while (end > point + 2 && plain.charAt(end - 1) == '0') {
+        end--;
+      }
+      sb.append(plain, 0, point).append(symbols.getDecimalSeparator()).append(plain, point + 1, end);
+    }
+    return sb.append(rounded.signum() < 0 ? format.getNegativeSuffix() : format.getPositiveSuffix()).toString();
   }
 
   /**
@@ -192,16 +288,17 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
     /**
      * Validate the max/min values.
      */
-    if (minInclusive != null && v.doubleValue() < minInclusive) {
+    double doubleValue = v.doubleValue();
+    if (minInclusive != null && doubleValue < minInclusive) {
       throw new Exception("Minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + ": min " + minInclusive + " exceeded by " + v + ".");
     }
-    if (maxInclusive != null && v.doubleValue() > maxInclusive) {
+    if (maxInclusive != null && doubleValue > maxInclusive) {
       throw new Exception("Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + ": max " + maxInclusive + " exceeded by " + v + ".");
     }
-    if (maxInclusive == null && v.doubleValue() > getMaxInclusive().doubleValue()) {
+    if (maxInclusive == null && doubleValue > maxDigitsValue) {
       throw new Exception("Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "")
                           + " pattern "
-                          + buildDecimalFormat(v).toPattern()
+                          + decimalFormat.get().toPattern()
                           + " exceeded.");
     }
     /**
@@ -212,14 +309,28 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
         throw new Exception("Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " " + totalDigits + " digits exceeded by \"" + v + "\".");
       }
     } else if (v instanceof BigDecimal || v instanceof Double) {
-      if (totalDigits != null && totalDigits < getDigitCount(BigInteger.valueOf(v.intValue()))) {
+      /**
+       * Only integer parts at or beyond the digit limit can exceed the total
+       * digit count.
+       */
+      int intValue = v.intValue();
+      if (totalDigits != null
+          && Math.abs((long) intValue) >= digitLimit
+          && totalDigits < getDigitCount(BigInteger.valueOf(intValue))) {
         throw new Exception("Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " " + totalDigits + " digits exceeded by \"" + v + "\".");
       }
       /**
        * Set the number precision to ensure it matches the required XML style
-       * pattern.
+       * pattern. Values are rounded through their double value. A BigDecimal
+       * already at the required scale with at most 15 significant digits is
+       * returned unchanged: a double holds 15 significant decimal digits
+       * exactly, so rounding through the double would return the same value.
        */
-      return new BigDecimal(v.doubleValue()).setScale((fractionDigits != null ? fractionDigits : 0), RoundingMode.HALF_UP);
+      int scale = fractionDigits != null ? fractionDigits : 0;
+      if (v instanceof BigDecimal && ((BigDecimal) v).scale() == scale && ((BigDecimal) v).precision() <= 15) {
+        return v;
+      }
+      return new BigDecimal(doubleValue).setScale(scale, RoundingMode.HALF_UP);
     }
     /**
      * Default fall through with whatever Number type was presented.
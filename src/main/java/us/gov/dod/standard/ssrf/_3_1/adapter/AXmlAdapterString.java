@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_1.adapter;
 import java.util.Locale;
 import java.util.regex.Pattern;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf.SSRFInterner;
 
 /**
  * Abstract String type XmlAdapter.
@@ -58,12 +59,17 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
    * The REGEX pattern that the string must conform to.
    */
   private final String pattern;
+  /**
+   * The compiled REGEX pattern, shared by all adapter instances.
+   */
+  private final Pattern compiledPattern;
 
   public AXmlAdapterString(Integer minLength, Integer maxLength) {
     this.minLength = minLength;
     this.maxLength = maxLength;
     this.upperCase = false;
     this.pattern = null;
+    this.compiledPattern = null;
   }
 
   public AXmlAdapterString(Integer minLength, Integer maxLength, String pattern) {
@@ -71,6 +77,7 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
     this.maxLength = maxLength;
     this.upperCase = false;
     this.pattern = pattern;
+    this.compiledPattern = PatternRegistry.compile(pattern);
   }
 
   public AXmlAdapterString(Integer minLength, Integer maxLength, boolean upperCase, String pattern) {
@@ -78,6 +85,7 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
     this.maxLength = maxLength;
     this.upperCase = upperCase;
     this.pattern = pattern;
+    this.compiledPattern = PatternRegistry.compile(pattern);
   }
 
   /**
@@ -109,7 +117,12 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
    */
   @Override
   public String unmarshal(String v) throws Exception {
-    return convert(v);
+    /**
+     * Share the value with equal values in the document if an interner is in
+     * use.
+     */
+    SSRFInterner interner = SSRFInterner.getCurrent();
+    return interner != null ? interner.intern(convert(v)) : convert(v);
   }
 
   /**
@@ -132,7 +145,7 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
      * If the string length is valid then validate the pattern if applicable.
      */
     if (pattern != null) {
-      if (!Pattern.compile(pattern).matcher(v).find()) {
+      if (!matches(v)) {
         throw new Exception("String pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " requires " + pattern + " received \"" + v + "\"");
       }
     }
@@ -142,6 +155,20 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
     return upperCase ? v.toUpperCase(Locale.getDefault()) : v;
   }
 
+  /**
+   * Determine if a value conforms to the adapter pattern.
+   * <p>
+   * The default implementation searches the value with the compiled REGEX
+   * pattern. Adapters for frequently used formats may override this method
+   * with a faster, non-allocating validator.
+   *
+   * @param v the (non-null) value
+   * @return TRUE if the value conforms to the pattern
+   */
+  protected boolean matches(String v) {
+    return compiledPattern.matcher(v).find();
+  }
+
   /**
    * Get the maximum string length.
    *
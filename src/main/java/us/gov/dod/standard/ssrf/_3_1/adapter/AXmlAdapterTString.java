@@ -59,12 +59,17 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
    * The REGEX pattern that the string must conform to.
    */
   private final String pattern;
+  /**
+   * The compiled REGEX pattern, shared by all adapter instances.
+   */
+  private final Pattern compiledPattern;
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength) {
     this.minLength = minLength;
     this.maxLength = maxLength;
     this.upperCase = false;
     this.pattern = null;
+    this.compiledPattern = null;
   }
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength, String pattern) {
@@ -72,6 +77,7 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     this.maxLength = maxLength;
     this.upperCase = false;
     this.pattern = pattern;
+    this.compiledPattern = PatternRegistry.compile(pattern);
   }
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength, boolean upperCase, String pattern) {
@@ -79,6 +85,7 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     this.maxLength = maxLength;
     this.upperCase = upperCase;
     this.pattern = pattern;
+    this.compiledPattern = PatternRegistry.compile(pattern);
   }
 
   /**
@@ -136,7 +143,7 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
      * If the string length is valid then validate the pattern if applicable.
      */
     if (pattern != null) {
-      if (!Pattern.compile(pattern).matcher(v).find()) {
+      if (!matches(v)) {
         throw new Exception("String pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern + "] for \"" + v + "\".");
       }
     }
@@ -146,6 +153,20 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     return upperCase ? v.toUpperCase(Locale.getDefault()) : v;
   }
 
+  /**
+   * Determine if a value conforms to the adapter pattern.
+   * <p>
+   * The default implementation searches the value with the compiled REGEX
+   * pattern. Adapters for frequently used formats may override this method
+   * with a faster, non-allocating validator.
+   *
+   * @param v the (non-null) value
+   * @return TRUE if the value conforms to the pattern
+   */
+  protected boolean matches(String v) {
+    return compiledPattern.matcher(v).find();
+  }
+
   /**
    * Get the maximum string length.
    *
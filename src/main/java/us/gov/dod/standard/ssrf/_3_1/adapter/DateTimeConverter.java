@@ -0,0 +1,375 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.TimeZone;
+
+/**
+ * Allocation-light conversion between SSRF D strings and epoch days, and
+ * between SSRF DT strings and UTC epoch milliseconds.
+ * <p>
+ * D is a date value formatted in 10 characters as YYYY-MM-DD. DT is a date /
+ * time value formatted in 20 to 24 characters as YYYY-MM-DDThh:mm:ss[.ddd]Z.
+ * Both formats are compliant with the W3C Recommendation on XML Schema.
+ * <p>
+ * This class replaces {@link java.text.SimpleDateFormat} and
+ * {@link javax.xml.bind.DatatypeConverter} on the import and export paths: it
+ * is stateless, thread safe and does not create Calendar, Date or formatter
+ * instances. Dates are computed in the proleptic Gregorian calendar.
+ * <p>
+ * A D value is a calendar date, not an instant: it is held as an epoch day
+ * (the number of days since 1970-01-01) and reads and prints the same in
+ * every time zone.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class DateTimeConverter {
+
+  /**
+   * The number of milliseconds in one day.
+   */
+  private static final long MILLIS_PER_DAY = 86400000L;
+  /**
+   * The number of days from 0000-03-01 to 1970-01-01.
+   */
+  private static final long DAYS_0000_TO_1970 = 719468L;
+
+  private DateTimeConverter() {
+  }
+
+  /**
+   * Parse a W3C XML Schema xs:date or xs:dateTime value.
+   * <p>
+   * Accepted formats are YYYY-MM-DD and YYYY-MM-DDThh:mm:ss[.f*], each with an
+   * optional time zone designator "Z" or (+|-)hh:mm. Values without a time
+   * zone designator are read in the default (local) time zone. Fractional
+   * seconds beyond milliseconds are truncated.
+   *
+   * @param value the date or dateTime value
+   * @return the UTC epoch milliseconds
+   * @throws IllegalArgumentException if the value is not a valid xs:date or
+   *                                  xs:dateTime
+   */
+  public static long parse(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Null date value.");
+    }
+    String v = value.trim();
+    int length = v.length();
+    if (length < 10 || v.charAt(4) != '-' || v.charAt(7) != '-') {
+      throw invalid(value);
+    }
+    int year = digits(v, 0, 4, value);
+    int month = digits(v, 5, 2, value);
+    int day = digits(v, 8, 2, value);
+    if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+      throw invalid(value);
+    }
+    long millis = daysFromCivil(year, month, day) * MILLIS_PER_DAY;
+    int position = 10;
+    if (position < length && v.charAt(position) == 'T') {
+      if (length < 19 || v.charAt(13) != ':' || v.charAt(16) != ':') {
+        throw invalid(value);
+      }
+      int hour = digits(v, 11, 2, value);
+      int minute = digits(v, 14, 2, value);
+      int second = digits(v, 17, 2, value);
+      if (hour > 24 || minute > 59 || second > 59 || (hour == 24 && (minute > 0 || second > 0))) {
+        throw invalid(value);
+      }
+      millis += ((hour * 60L + minute) * 60L + second) * 1000L;
+      position = 19;
+      if (position < length && v.charAt(position) == '.') {
+        int start = ++position;
+        int fraction = 0;
+        while (position < length && isDigit(v.charAt(position))) {
+          if (position - start < 3) {
+            fraction = fraction * 10 + (v.charAt(position) - '0');
+          }
+          position++;
+        }
+        if (position == start) {
+          throw invalid(value);
+        }
+        for (int i = position - start; i < 3; i++) {
+          fraction *= 10;
+        }
+        millis += fraction;
+      }
+    }
+    /**
+     * Apply the optional time zone designator.
+     */
+    if (position < length) {
+      char c = v.charAt(position);
+      if (c == 'Z' && position + 1 == length) {
+        return millis;
+      }
+      if ((c != '+' && c != '-') || position + 6 != length || v.charAt(position + 3) != ':') {
+        throw invalid(value);
+      }
+      int hours = digits(v, position + 1, 2, value);
+      int minutes = digits(v, position + 4, 2, value);
+      if (hours > 14 || minutes > 59) {
+        throw invalid(value);
+      }
+      long offset = (hours * 60L + minutes) * 60000L;
+      millis += c == '+' ? -offset : offset;
+      return millis;
+    }
+    return toUTC(millis, TimeZone.getDefault());
+  }
+
+  /**
+   * Parse a W3C XML Schema xs:date value into an epoch day.
+   * <p>
+   * The accepted format is YYYY-MM-DD with an optional time zone designator
+   * "Z" or (+|-)hh:mm. The time zone designator is validated but does not
+   * change the calendar date.
+   *
+   * @param value the date value
+   * @return the number of days since 1970-01-01
+   * @throws IllegalArgumentException if the value is not a valid xs:date
+   */
+  public static long parseDate(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Null date value.");
+    }
+    String v = value.trim();
+    int length = v.length();
+    if (length < 10 || v.charAt(4) != '-' || v.charAt(7) != '-') {
+      throw invalid(value);
+    }
+    int year = digits(v, 0, 4, value);
+    int month = digits(v, 5, 2, value);
+    int day = digits(v, 8, 2, value);
+    if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+      throw invalid(value);
+    }
+    if (length > 10) {
+      char c = v.charAt(10);
+      if (c == 'Z' ? length != 11
+          : (c != '+' && c != '-') || length != 16 || v.charAt(13) != ':'
+            || digits(v, 11, 2, value) > 14 || digits(v, 14, 2, value) > 59) {
+        throw invalid(value);
+      }
+    }
+    return daysFromCivil(year, month, day);
+  }
+
+  /**
+   * Get the epoch day of an instant in a time zone.
+   *
+   * @param millis the UTC epoch milliseconds
+   * @param zone   the time zone
+   * @return the number of days since 1970-01-01 of the calendar date at the
+   *         instant in the time zone
+   */
+  public static long toEpochDay(long millis, TimeZone zone) {
+    return floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY);
+  }
+
+  /**
+   * Get the instant of midnight at the start of an epoch day in a time zone.
+   *
+   * @param epochDay the number of days since 1970-01-01
+   * @param zone     the time zone
+   * @return the UTC epoch milliseconds
+   */
+  public static long toEpochMillis(long epochDay, TimeZone zone) {
+    return toUTC(epochDay * MILLIS_PER_DAY, zone);
+  }
+
+  /**
+   * Convert a local wall clock time to UTC.
+   * <p>
+   * The zone offset is first estimated from the raw offset and then
+   * corrected once for daylight saving time.
+   *
+   * @param local the local time, in milliseconds since 1970-01-01T00:00:00 on
+   *              the local wall clock
+   * @param zone  the time zone
+   * @return the UTC epoch milliseconds
+   */
+  private static long toUTC(long local, TimeZone zone) {
+    int offset = zone.getOffset(local - zone.getRawOffset());
+    return local - zone.getOffset(local - offset);
+  }
+
+  /**
+   * Print an epoch day as a SSRF D value (YYYY-MM-DD).
+   *
+   * @param epochDay the number of days since 1970-01-01
+   * @return the D value
+   */
+  public static String printDate(long epochDay) {
+    char[] buffer = new char[10];
+    printDate(buffer, epochDay);
+    return new String(buffer);
+  }
+
+  /**
+   * Print UTC epoch milliseconds as a SSRF DT value
+   * (YYYY-MM-DDThh:mm:ss.dddZ).
+   *
+   * @param millis the UTC epoch milliseconds
+   * @return the DT value
+   */
+  public static String printDateTime(long millis) {
+    char[] buffer = new char[24];
+    long days = floorDiv(millis, MILLIS_PER_DAY);
+    int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+    printDate(buffer, days);
+    buffer[10] = 'T';
+    print(buffer, 11, 2, millisOfDay / 3600000);
+    buffer[13] = ':';
+    print(buffer, 14, 2, millisOfDay / 60000 % 60);
+    buffer[16] = ':';
+    print(buffer, 17, 2, millisOfDay / 1000 % 60);
+    buffer[19] = '.';
+    print(buffer, 20, 3, millisOfDay % 1000);
+    buffer[23] = 'Z';
+    return new String(buffer);
+  }
+
+  /**
+   * Write the YYYY-MM-DD civil date for an epoch day into the first ten
+   * characters of a buffer.
+   *
+   * @param buffer the output buffer
+   * @param days   the number of days since 1970-01-01
+   */
+  private static void printDate(char[] buffer, long days) {
+    /**
+     * Convert the epoch day to a civil (proleptic Gregorian) date. Days are
+     * counted in 400 year eras starting on 0000-03-01 so that the leap day is
+     * the last day of each year.
+     */
+    long z = days + DAYS_0000_TO_1970;
+    long era = (z >= 0 ? z : z - 146096) / 146097;
+    int dayOfEra = (int) (z - era * 146097);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int mp = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    print(buffer, 0, 4, (int) year);
+    buffer[4] = '-';
+    print(buffer, 5, 2, month);
+    buffer[7] = '-';
+    print(buffer, 8, 2, day);
+  }
+
+  /**
+   * Get the number of days since 1970-01-01 for a civil (proleptic Gregorian)
+   * date.
+   *
+   * @param year  the year
+   * @param month the month (1 to 12)
+   * @param day   the day of month (1 to 31)
+   * @return the epoch day
+   */
+  private static long daysFromCivil(int year, int month, int day) {
+    int y = month <= 2 ? year - 1 : year;
+    int era = (y >= 0 ? y : y - 399) / 400;
+    int yearOfEra = y - era * 400;
+    int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097L + dayOfEra - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Get the number of days in a month.
+   *
+   * @param year  the year
+   * @param month the month (1 to 12)
+   * @return the number of days in the month
+   */
+  private static int daysInMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Floor division. Equivalent to Math.floorDiv, which requires Java 8.
+   *
+   * @param x the dividend
+   * @param y the divisor
+   * @return the largest value less than or equal to the algebraic quotient
+   */
+  private static long floorDiv(long x, long y) {
+    long q = x / y;
+    return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+  }
+
+  /**
+   * Write a zero-padded decimal number into a buffer.
+   *
+   * @param buffer the output buffer
+   * @param offset the buffer offset
+   * @param width  the number of digits
+   * @param number the non-negative number
+   */
+  private static void print(char[] buffer, int offset, int width, int number) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      buffer[i] = (char) ('0' + number % 10);
+      number /= 10;
+    }
+  }
+
+  /**
+   * Read a fixed-width decimal number.
+   *
+   * @param v      the value
+   * @param offset the first digit position
+   * @param width  the number of digits
+   * @param value  the original value, for error messages
+   * @return the number
+   * @throws IllegalArgumentException if a character is not a digit
+   */
+  private static int digits(String v, int offset, int width, String value) {
+    int number = 0;
+    for (int i = offset; i < offset + width; i++) {
+      char c = v.charAt(i);
+      if (!isDigit(c)) {
+        throw invalid(value);
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static IllegalArgumentException invalid(String value) {
+    return new IllegalArgumentException("Invalid date or dateTime value \"" + value + "\".");
+  }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+/**
+ * Hand-written, character level validators and parsers for the most frequently
+ * used SSRF string formats.
+ * <p>
+ * These methods recognize the canonical form of each format without creating
+ * Matcher, String or boxed number instances. They are strict: a value that is
+ * not recognized here may still be accepted by the (more lenient) XSD REGEX,
+ * so callers should fall back to the compiled pattern when a method returns
+ * FALSE or NaN.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class FormatValidator {
+
+  /**
+   * EMSDES character 1: nature of the signal modulating the main carrier.
+   */
+  private static final String EMSDES_1 = "ABCDFGHJKLMNPQRVWX-";
+  /**
+   * EMSDES character 2: nature of the signal(s) modulating the main carrier.
+   */
+  private static final String EMSDES_2 = "0123789X-";
+  /**
+   * EMSDES character 3: type of information to be transmitted.
+   */
+  private static final String EMSDES_3 = "ABCDEFNWX-";
+  /**
+   * EMSDES character 4 (optional): details of the signal(s).
+   */
+  private static final String EMSDES_4 = "ABCDEFGHJKLMNWX";
+  /**
+   * EMSDES character 5 (optional): nature of multiplexing.
+   */
+  private static final String EMSDES_5 = "CFNTWX";
+
+  private FormatValidator() {
+  }
+
+  /**
+   * Determine if a value is a canonical SERIAL number.
+   * <p>
+   * The format is <code>[A-Z0-9-]{1,5}:\w{0,4}:[A-Z]{2}:\S{1,15}</code>,
+   * matched against the entire value.
+   *
+   * @param v the value
+   * @return TRUE if the entire value is a SERIAL number
+   */
+  public static boolean isSerial(CharSequence v) {
+    if (v == null) {
+      return false;
+    }
+    int length = v.length();
+    int i = 0;
+    /**
+     * Country, organisation and dataset type parts.
+     */
+    while (i < length && i < 5 && isSerialCountry(v.charAt(i))) {
+      i++;
+    }
+    if (i == 0 || i == length || v.charAt(i++) != ':') {
+      return false;
+    }
+    int start = i;
+    while (i < length && i - start < 4 && isWord(v.charAt(i))) {
+      i++;
+    }
+    if (i == length || v.charAt(i++) != ':') {
+      return false;
+    }
+    if (length - i < 4
+        || !isUpper(v.charAt(i)) || !isUpper(v.charAt(i + 1)) || v.charAt(i + 2) != ':') {
+      return false;
+    }
+    /**
+     * Serial part.
+     */
+    i += 3;
+    if (length - i < 1 || length - i > 15) {
+      return false;
+    }
+    for (; i < length; i++) {
+      if (isWhitespace(v.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determine if a value is a canonical emission designator (EMSDES).
+   * <p>
+   * The value must be three to five characters, each drawn from the set
+   * permitted at its position, matched against the entire value. The fourth
+   * (details) and fifth (multiplexing) characters are each optional.
+   *
+   * @param v the value
+   * @return TRUE if the entire value is an emission designator
+   */
+  public static boolean isEmissionDesignator(CharSequence v) {
+    if (v == null) {
+      return false;
+    }
+    int length = v.length();
+    return length >= 3 && length <= 5
+           && EMSDES_1.indexOf(v.charAt(0)) >= 0
+           && EMSDES_2.indexOf(v.charAt(1)) >= 0
+           && EMSDES_3.indexOf(v.charAt(2)) >= 0
+           && (length == 3
+               || (length == 4 && (EMSDES_4.indexOf(v.charAt(3)) >= 0 || EMSDES_5.indexOf(v.charAt(3)) >= 0))
+               || (length == 5 && EMSDES_4.indexOf(v.charAt(3)) >= 0 && EMSDES_5.indexOf(v.charAt(4)) >= 0));
+  }
+
+  /**
+   * Parse a canonical DMS-encoded latitude or longitude to decimal degrees.
+   * <p>
+   * The format is <code>D..DMMSS[.h[h]]H</code>: degreeDigits degree digits,
+   * two minute digits [0-5][0-9], two second digits [0-5][0-9], an optional
+   * one or two digit decimal fraction of seconds and the hemisphere character.
+   * The result is identical to the value computed from the parsed degree,
+   * minute and (decimal) second components.
+   *
+   * @param v            the value
+   * @param degreeDigits the number of degree digits (2 for latitude, 3 for
+   *                     longitude)
+   * @param maxDegrees   the maximum degree component
+   * @param positive     the positive hemisphere character (N or E)
+   * @param negative     the negative hemisphere character (S or W)
+   * @return the coordinate in decimal degrees, NaN if the value is not in the
+   *         canonical format
+   */
+  public static double parseDMS(CharSequence v, int degreeDigits, int maxDegrees, char positive, char negative) {
+    if (v == null) {
+      return Double.NaN;
+    }
+    int length = v.length();
+    int end = degreeDigits + 4;
+    if (length != end + 1 && length != end + 3 && length != end + 4) {
+      return Double.NaN;
+    }
+    int degrees = 0;
+    for (int i = 0; i < degreeDigits; i++) {
+      int d = digit(v.charAt(i));
+      if (d < 0) {
+        return Double.NaN;
+      }
+      degrees = degrees * 10 + d;
+    }
+    int m1 = digit(v.charAt(degreeDigits));
+    int m2 = digit(v.charAt(degreeDigits + 1));
+    int s1 = digit(v.charAt(degreeDigits + 2));
+    int s2 = digit(v.charAt(degreeDigits + 3));
+    if (degrees > maxDegrees || m1 < 0 || m1 > 5 || m2 < 0 || s1 < 0 || s1 > 5 || s2 < 0) {
+      return Double.NaN;
+    }
+    /**
+     * Seconds are computed as a single division of exact integers so that the
+     * result equals Double.valueOf() applied to the decimal seconds string.
+     */
+    int seconds = s1 * 10 + s2;
+    double sec = seconds;
+    if (length > end + 1) {
+      if (v.charAt(end) != '.') {
+        return Double.NaN;
+      }
+      int h1 = digit(v.charAt(end + 1));
+      if (h1 < 0) {
+        return Double.NaN;
+      }
+      if (length == end + 3) {
+        sec = (seconds * 10 + h1) / 10.0;
+      } else {
+        int h2 = digit(v.charAt(end + 2));
+        if (h2 < 0) {
+          return Double.NaN;
+        }
+        sec = (seconds * 100 + h1 * 10 + h2) / 100.0;
+      }
+    }
+    char hemisphere = v.charAt(length - 1);
+    if (hemisphere != positive && hemisphere != negative) {
+      return Double.NaN;
+    }
+    double decimalDegree = degrees + ((m1 * 10 + m2) + (sec / 60)) / 60;
+    return hemisphere == negative ? -1 * decimalDegree : decimalDegree;
+  }
+
+  /**
+   * Get the value of a decimal digit character.
+   *
+   * @param c the character
+   * @return the digit value, -1 if the character is not a digit
+   */
+  private static int digit(char c) {
+    return c >= '0' && c <= '9' ? c - '0' : -1;
+  }
+
+  private static boolean isUpper(char c) {
+    return c >= 'A' && c <= 'Z';
+  }
+
+  private static boolean isSerialCountry(char c) {
+    return isUpper(c) || (c >= '0' && c <= '9') || c == '-';
+  }
+
+  /**
+   * Determine if a character is a REGEX word character [a-zA-Z_0-9].
+   */
+  private static boolean isWord(char c) {
+    return isUpper(c) || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+  }
+
+  /**
+   * Determine if a character is a REGEX whitespace character [ \t\n\x0B\f\r].
+   */
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of compiled REGEX patterns used by the string type adapters.
+ * <p>
+ * JAXB and the SSRFUtility validation methods create adapter instances freely,
+ * so each adapter pattern is compiled once here and shared by all instances.
+ * Pattern instances are immutable and thread safe.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class PatternRegistry {
+
+  /**
+   * The compiled patterns, indexed by REGEX.
+   */
+  private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+  private PatternRegistry() {
+  }
+
+  /**
+   * Get the compiled pattern for a REGEX, compiling it on first use.
+   *
+   * @param regex the regular expression
+   * @return the shared compiled pattern, null if the REGEX is null
+   */
+  public static Pattern compile(String regex) {
+    if (regex == null) {
+      return null;
+    }
+    Pattern pattern = PATTERNS.get(regex);
+    if (pattern == null) {
+      Pattern compiled = Pattern.compile(regex);
+      pattern = PATTERNS.putIfAbsent(regex, compiled);
+      if (pattern == null) {
+        pattern = compiled;
+      }
+    }
+    return pattern;
+  }
+
+}
@@ -17,22 +17,39 @@ package us.gov.dod.standard.ssrf._3_1.adapter;
 
 /**
  * SSRF Date type adapter.
+ * <p>
+ * D is a date value formatted in 10 characters as YYYY-MM-DD (year-month-day).
+ * This format is compliant with the W3C Recommendation on XML Schema.
+ * <p>
+ * D is a calendar date, not an instant. Values are bound as epoch days (the
+ * number of days since 1970-01-01) so that a date reads and prints the same
+ * in every time zone.
  *
  * @author Jesse Caulfield
  */
-public class XmlAdapterDATE extends AXmlAdapterCalendar {
+public class XmlAdapterDATE extends AXmlAdapterDateTime {
 
   /**
-   * The Date pattern.
-   * <p>
-   * D is a date value formatted in 10 characters as YYYY-MM-DD
-   * (year-month-day). This format is compliant with the W3C Recommendation on
-   * XML Schema.
+   * Convert a value type to a bound type.
+   *
+   * @param v The value to be converted. Must be non-null.
+   * @return the converted value as an epoch day
+   * @throws IllegalArgumentException if the value is not a valid date
    */
-  private static final String PATTERN = "yyyy-MM-dd";
+  @Override
+  public Long unmarshal(String v) {
+    return v != null ? DateTimeConverter.parseDate(v) : null;
+  }
 
-  public XmlAdapterDATE() {
-    super(PATTERN);
+  /**
+   * Convert a bound type to a value type.
+   *
+   * @param v The value to be converted, as an epoch day. Can be null.
+   * @return the converted value
+   */
+  @Override
+  public String marshal(Long v) {
+    return v != null ? DateTimeConverter.printDate(v) : null;
   }
 
 }
@@ -17,24 +17,27 @@ package us.gov.dod.standard.ssrf._3_1.adapter;
 
 /**
  * SSRF DateTime type adapter.
+ * <p>
+ * DT is a date / time value formatted in 20 to 24 characters as
+ * YYYY-MM-DDThh:mm:ss[.ddd]Z (year-
+ * month-day"T"hours:minutes:seconds.milliseconds"Z"), where the milliseconds
+ * part is optional. This format is compliant with the W3C Recommendation on XML
+ * Schema. Values are always written with milliseconds.
  *
  * @author Jesse Caulfield
  */
-public class XmlAdapterDATETIME extends AXmlAdapterCalendar {
+public class XmlAdapterDATETIME extends AXmlAdapterDateTime {
 
   /**
-   * "yyyy-MM-dd'T'HH:mm:ss.SSSZ". The DateTime pattern.
-   * <p>
-   * DT is a date / time value formatted in 20 to 24 characters as
-   * YYYY-MM-DDThh:mm:ss[.ddd]Z (year-
-   * month-day"T"hours:minutes:seconds.milliseconds"Z"), where the milliseconds
-   * part is optional. This format is compliant with the W3C Recommendation on
-   * XML Schema.
+   * Convert a bound type to a value type.
+   *
+   * @param v The value to be converted, in UTC epoch milliseconds. Can be
+   *          null.
+   * @return the converted value
    */
-  private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
-
-  public XmlAdapterDATETIME() {
-    super(PATTERN);
+  @Override
+  public String marshal(Long v) {
+    return v != null ? DateTimeConverter.printDateTime(v) : null;
   }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf.IndexSet;
+
+/**
+ * SSRF index list type adapter.
+ * <p>
+ * Converts a whitespace delimited list of UN6 index values (e.g. the "remarks"
+ * and "extReferences" metadata attributes) directly to and from a primitive
+ * {@link IndexSet}, without creating intermediate BigInteger instances. An
+ * empty set is not marshalled.
+ *
+ * @author Jesse Caulfield
+ */
+public class XmlAdapterINDEXLIST extends XmlAdapter<String, IndexSet> {
+
+  /**
+   * The maximum UN6 index value.
+   */
+  private static final int MAX_VALUE = 999999;
+
+  /**
+   * Convert a value type to a bound type.
+   *
+   * @param v The value to be converted. Can be null.
+   * @return the converted value
+   * @throws Exception if the list contains a value that is not a UN6 index
+   */
+  @Override
+  public IndexSet unmarshal(String v) throws Exception {
+    return v != null ? validate(IndexSet.valueOf(v)) : null;
+  }
+
+  /**
+   * Convert a bound type to a value type.
+   *
+   * @param v The value to be converted. Can be null.
+   * @return the converted value, null if the set is empty
+   * @throws Exception if the set contains a value that is not a UN6 index
+   */
+  @Override
+  public String marshal(IndexSet v) throws Exception {
+    return v != null && !v.isEmpty() ? validate(v).toList() : null;
+  }
+
+  /**
+   * Validate that all index values are UN6 values.
+   *
+   * @param v the index set
+   * @return the index set
+   * @throws Exception if a value is out of range
+   */
+  private IndexSet validate(IndexSet v) throws Exception {
+    if (v.max() > MAX_VALUE) {
+      throw new Exception("Index value " + v.max() + " exceeds UN6 maximum " + MAX_VALUE + ".");
+    }
+    return v;
+  }
+
+}
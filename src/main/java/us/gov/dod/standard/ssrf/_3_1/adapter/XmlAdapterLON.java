@@ -43,6 +43,10 @@ public class XmlAdapterLON extends AXmlAdapterNumber {
    * expanded version of the validation pattern.
    */
   private static final String REGEX = "((0[0-9][0-9])|(1[0-9][0-9]))([0-5][0-9])([0-5][0-9]\\.?([0-9]{1,2})?)(E|W)";
+  /**
+   * The compiled extraction pattern. Pattern instances are thread safe.
+   */
+  private static final Pattern COMPILED_REGEX = Pattern.compile(REGEX);
 
   /**
    * Construct a new adapter instance.
@@ -75,10 +79,14 @@ public class XmlAdapterLON extends AXmlAdapterNumber {
       return null;
     }
     /**
-     * Extract the DMS-encoded value. If the REGEX matches then validate the
-     * number value.
+     * Parse canonical DMS-encoded values directly. Otherwise extract the
+     * DMS-encoded value. If the REGEX matches then validate the number value.
      */
-    Matcher m = Pattern.compile(REGEX).matcher(v);
+    double decimalDegrees = FormatValidator.parseDMS(v, 3, 199, 'E', 'W');
+    if (!Double.isNaN(decimalDegrees)) {
+      return super.convert(decimalDegrees);
+    }
+    Matcher m = COMPILED_REGEX.matcher(v);
     if (m.find()) {
       return super.convert(DMStoDEC(Integer.valueOf(m.group(1)),
                                     Integer.valueOf(m.group(4)),
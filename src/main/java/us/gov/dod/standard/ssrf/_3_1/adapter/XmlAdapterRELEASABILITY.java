@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.EnumSet;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
+
+/**
+ * SSRF releasability list type adapter.
+ * <p>
+ * Converts a whitespace delimited list of L:CCY country codes (e.g. the
+ * "releasability" attribute) directly to and from a bit vector backed
+ * {@link EnumSet}. Country codes are resolved with the indexed
+ * {@link ListCCY#fromValue(String)} lookup. An empty set is not marshalled.
+ *
+ * @author Jesse Caulfield
+ */
+public class XmlAdapterRELEASABILITY extends XmlAdapter<String, EnumSet<ListCCY>> {
+
+  /**
+   * Convert a value type to a bound type.
+   *
+   * @param v The value to be converted. Can be null.
+   * @return the converted value
+   * @throws Exception if the list contains a value that is not a L:CCY code
+   */
+  @Override
+  public EnumSet<ListCCY> unmarshal(String v) throws Exception {
+    if (v == null) {
+      return null;
+    }
+    EnumSet<ListCCY> set = EnumSet.noneOf(ListCCY.class);
+    int length = v.length();
+    int i = 0;
+    while (i < length) {
+      while (i < length && Character.isWhitespace(v.charAt(i))) {
+        i++;
+      }
+      int start = i;
+      while (i < length && !Character.isWhitespace(v.charAt(i))) {
+        i++;
+      }
+      if (i > start) {
+        set.add(ListCCY.fromValue(v.substring(start, i)));
+      }
+    }
+    return set;
+  }
+
+  /**
+   * Convert a bound type to a value type.
+   *
+   * @param v The value to be converted. Can be null.
+   * @return the converted value, null if the set is empty
+   * @throws Exception never
+   */
+  @Override
+  public String marshal(EnumSet<ListCCY> v) throws Exception {
+    if (v == null || v.isEmpty()) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(v.size() * 4);
+    for (ListCCY listCCY : v) {
+      if (sb.length() > 0) {
+        sb.append(' ');
+      }
+      sb.append(listCCY.value());
+    }
+    return sb.toString();
+  }
+
+}
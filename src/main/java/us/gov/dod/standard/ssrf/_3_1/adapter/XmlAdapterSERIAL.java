@@ -35,4 +35,17 @@ public class XmlAdapterSERIAL extends AXmlAdapterString {
     super(1, 29, false, "[A-Z0-9-]{1,5}:\\w{0,4}:[A-Z]{2}:\\S{1,15}");
   }
 
+  /**
+   * Determine if a value is a SERIAL number. Canonical values are recognized
+   * by a character level validator; other values are checked against the
+   * REGEX pattern.
+   *
+   * @param v the (non-null) value
+   * @return TRUE if the value conforms to the SERIAL pattern
+   */
+  @Override
+  protected boolean matches(String v) {
+    return FormatValidator.isSerial(v) || super.matches(v);
+  }
+
 }
@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.adapter.types;
 
 import us.gov.dod.standard.ssrf._3_1.adapter.AXmlAdapterString;
+import us.gov.dod.standard.ssrf._3_1.adapter.FormatValidator;
 
 /**
  * XML data type adapter for the SSRF EMSDES data type.
@@ -28,4 +29,17 @@ public class XmlAdapterEMSDES extends AXmlAdapterString {
   public XmlAdapterEMSDES() {
     super(1, 5, false, "(A|B|C|D|F|G|H|J|K|L|M|N|P|Q|R|V|W|X|-)(0|1|2|3|7|8|9|X|-)(A|B|C|D|E|F|N|W|X|-)(A|B|C|D|E|F|G|H|J|K|L|M|N|W|X)?(C|F|N|T|W|X)?");
   }
+
+  /**
+   * Determine if a value is an emission designator. Canonical values are
+   * recognized by a character level validator; other values are checked
+   * against the REGEX pattern.
+   *
+   * @param v the (non-null) value
+   * @return TRUE if the value conforms to the EMSDES pattern
+   */
+  @Override
+  protected boolean matches(String v) {
+    return FormatValidator.isEmissionDesignator(v) || super.matches(v);
+  }
 }
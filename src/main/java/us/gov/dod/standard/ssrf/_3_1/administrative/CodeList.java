@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Administrative;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
@@ -125,7 +126,7 @@ public class CodeList {
    * @since 3.1.0
    */
   @XmlElement(name = "Code")
-  private Set<Code> code;
+  private CompactSet<Code> code;
 
   /**
    * Get the intended type of modification to the given code list..
@@ -289,7 +290,7 @@ public class CodeList {
    */
   public Set<Code> getCode() {
     if (code == null) {
-      code = new HashSet<>();
+      code = new CompactSet<>();
     }
     return this.code;
   }
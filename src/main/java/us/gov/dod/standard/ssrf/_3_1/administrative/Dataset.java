@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1.administrative;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Administrative;
 import us.gov.dod.standard.ssrf._3_1.Common;
@@ -86,7 +87,7 @@ public class Dataset {
    * @since 3.1.0
    */
   @XmlElement(name = "MissingRef", nillable = true)
-  private Set<Serial> missingRef;
+  private CompactSet<Serial> missingRef;
 
   /**
    * Get the serial of the referenced Dataset..
@@ -190,7 +191,7 @@ public class Dataset {
   @Deprecated
   public Set<Serial> getMissingRef() {
     if (missingRef == null) {
-      missingRef = new HashSet<>();
+      missingRef = new CompactSet<>();
     }
     return this.missingRef;
   }
@@ -340,7 +341,7 @@ public class Dataset {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Common<?>> missing;
+  private CompactSet<Common<?>> missing;
 
   /**
    * Get the MissingRef
@@ -354,7 +355,7 @@ public class Dataset {
    */
   public Set<Common<?>> getMissing() {
     if (missing == null) {
-      missing = new HashSet<>();
+      missing = new CompactSet<>();
     }
     return missing;
   }
@@ -410,9 +411,12 @@ public class Dataset {
    * @since 3.1.0
    */
   public void prepare() {
-    this.missingRef = new HashSet<>();
-    for (Common<?> instance : getMissing()) {
-      this.missingRef.add(instance.getSerial());
+    this.missingRef = null;
+    if (isSetMissing()) {
+      this.missingRef = new CompactSet<>();
+      for (Common<?> instance : getMissing()) {
+        this.missingRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.allotment;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Allotment;
 import us.gov.dod.standard.ssrf._3_1.Location;
@@ -123,7 +123,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   @XmlElement(name = "LocationRestriction", nillable = true)
-  private Set<Serial> locationRestrictionRef;
+  private CompactSet<Serial> locationRestrictionRef;
 
   /**
    * Get the nominal frequency or minimum value of the frequency range..
@@ -289,7 +289,7 @@ public class AllotFreq {
    */
   public Set<Serial> getLocationRestrictionRef() {
     if (locationRestrictionRef == null) {
-      locationRestrictionRef = new HashSet<>();
+      locationRestrictionRef = new CompactSet<>();
     }
     return this.locationRestrictionRef;
   }
@@ -441,7 +441,7 @@ public class AllotFreq {
 
   //<editor-fold defaultstate="collapsed" desc="SSRF Referenced Object Instances">
   @XmlTransient
-  private Set<Location> locationRestriction;
+  private CompactSet<Location> locationRestriction;
 
   /**
    * Get .
@@ -451,7 +451,7 @@ public class AllotFreq {
    */
   public Set<Location> getLocationRestriction() {
     if (locationRestriction == null) {
-      locationRestriction = new HashSet<>();
+      locationRestriction = new CompactSet<>();
     }
     return locationRestriction;
   }
@@ -499,9 +499,12 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void prepare() {
-    this.locationRestrictionRef = new HashSet<>();
-    for (Location instance : getLocationRestriction()) {
-      this.locationRestrictionRef.add(instance.getSerial());
+    this.locationRestrictionRef = null;
+    if (isSetLocationRestriction()) {
+      this.locationRestrictionRef = new CompactSet<>();
+      for (Location instance : getLocationRestriction()) {
+        this.locationRestrictionRef.add(instance.getSerial());
+      }
     }
   }
 
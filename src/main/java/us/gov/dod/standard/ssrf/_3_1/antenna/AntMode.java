@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Antenna;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.*;
@@ -426,7 +426,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "AntGain")
-  private Set<AntGain> antGain;
+  private CompactSet<AntGain> antGain;
   /**
    * AntFreqs (Optional)
    * <p>
@@ -436,7 +436,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "AntFreqs")
-  private Set<AntFreqs> antFreqs;
+  private CompactSet<AntFreqs> antFreqs;
   /**
    * AntPattern (Optional)
    * <p>
@@ -450,7 +450,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "AntPattern")
-  private Set<AntPattern> antPattern;
+  private CompactSet<AntPattern> antPattern;
   /**
    * AntEfficiency (Optional)
    * <p>
@@ -460,7 +460,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "AntEfficiency")
-  private Set<AntEfficiency> antEfficiency;
+  private CompactSet<AntEfficiency> antEfficiency;
   /**
    * Complex Element VSWR stores the Voltage Standing Wave Ratio information for
    * an Antenna Mode; it may be used to describe the VSWR curve as a function of
@@ -469,7 +469,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "VSWR")
-  private Set<VSWR> vswr;
+  private CompactSet<VSWR> vswr;
   /**
    * US:ObservedLobeAnalysis (Optional)
    * <p>
@@ -479,7 +479,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedLobeAnalysis")
-  private Set<ObservedLobeAnalysis> observedLobeAnalysis;
+  private CompactSet<ObservedLobeAnalysis> observedLobeAnalysis;
   /**
    * US:ObservedPolarisationAnalysis (Optional)
    * <p>
@@ -489,7 +489,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedPolarisationAnalysis")
-  private Set<ObservedPolarisationAnalysis> observedPolarisationAnalysis;
+  private CompactSet<ObservedPolarisationAnalysis> observedPolarisationAnalysis;
   /**
    * US:ObservedScanAnalysis (Optional)
    * <p>
@@ -499,7 +499,7 @@ public class AntMode {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedScanAnalysis")
-  private Set<ObservedScanAnalysis> observedScanAnalysis;
+  private CompactSet<ObservedScanAnalysis> observedScanAnalysis;
 
   /**
    * Get a short name for the mode; this name should be a meaningful
@@ -1390,7 +1390,7 @@ public class AntMode {
    */
   public Set<AntGain> getAntGain() {
     if (antGain == null) {
-      antGain = new HashSet<>();
+      antGain = new CompactSet<>();
     }
     return this.antGain;
   }
@@ -1422,7 +1422,7 @@ public class AntMode {
    */
   public Set<AntFreqs> getAntFreqs() {
     if (antFreqs == null) {
-      antFreqs = new HashSet<>();
+      antFreqs = new CompactSet<>();
     }
     return this.antFreqs;
   }
@@ -1458,7 +1458,7 @@ public class AntMode {
    */
   public Set<AntPattern> getAntPattern() {
     if (antPattern == null) {
-      antPattern = new HashSet<>();
+      antPattern = new CompactSet<>();
     }
     return this.antPattern;
   }
@@ -1490,7 +1490,7 @@ public class AntMode {
    */
   public Set<AntEfficiency> getAntEfficiency() {
     if (antEfficiency == null) {
-      antEfficiency = new HashSet<>();
+      antEfficiency = new CompactSet<>();
     }
     return this.antEfficiency;
   }
@@ -1523,7 +1523,7 @@ public class AntMode {
    */
   public Set<VSWR> getVSWR() {
     if (vswr == null) {
-      vswr = new HashSet<>();
+      vswr = new CompactSet<>();
     }
     return this.vswr;
   }
@@ -1555,7 +1555,7 @@ public class AntMode {
    */
   public Set<ObservedLobeAnalysis> getObservedLobeAnalysis() {
     if (observedLobeAnalysis == null) {
-      observedLobeAnalysis = new HashSet<>();
+      observedLobeAnalysis = new CompactSet<>();
     }
     return this.observedLobeAnalysis;
   }
@@ -1588,7 +1588,7 @@ public class AntMode {
    */
   public Set<ObservedPolarisationAnalysis> getObservedPolarisationAnalysis() {
     if (observedPolarisationAnalysis == null) {
-      observedPolarisationAnalysis = new HashSet<>();
+      observedPolarisationAnalysis = new CompactSet<>();
     }
     return this.observedPolarisationAnalysis;
   }
@@ -1621,7 +1621,7 @@ public class AntMode {
    */
   public Set<ObservedScanAnalysis> getObservedScanAnalysis() {
     if (observedScanAnalysis == null) {
-      observedScanAnalysis = new HashSet<>();
+      observedScanAnalysis = new CompactSet<>();
     }
     return this.observedScanAnalysis;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Az180;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAP;
@@ -126,7 +126,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   @XmlElement(name = "AntPatternPoint", required = true)
-  private Set<AntPatternPoint> antPatternPoint;
+  private CompactSet<AntPatternPoint> antPatternPoint;
 
   /**
    * Get the type of the pattern cut. A Theta cut holds Phi constant while
@@ -279,7 +279,7 @@ public class AntPattern {
    */
   public Set<AntPatternPoint> getAntPatternPoint() {
     if (antPatternPoint == null) {
-      antPatternPoint = new HashSet<>();
+      antPatternPoint = new CompactSet<>();
     }
     return this.antPatternPoint;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -109,7 +109,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   @XmlElement(name = "Manufacturer")
-  private Set<Manufacturer> manufacturer;
+  private CompactSet<Manufacturer> manufacturer;
 
   /**
    * Get the type of nomenclature (commercial, military, etc)..
@@ -252,7 +252,7 @@ public class Nomenclature {
    */
   public Set<Manufacturer> getManufacturer() {
     if (manufacturer == null) {
-      manufacturer = new HashSet<>();
+      manufacturer = new CompactSet<>();
     }
     return this.manufacturer;
   }
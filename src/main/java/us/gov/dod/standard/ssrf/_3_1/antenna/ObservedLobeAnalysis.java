@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S10;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S25;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -127,7 +127,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedLobeValues")
-  private Set<ObservedLobeValues> observedLobeValues;
+  private CompactSet<ObservedLobeValues> observedLobeValues;
 
   /**
    * Get In Data Item BeamType (US), indicate the pattern beam type that best
@@ -278,7 +278,7 @@ public class ObservedLobeAnalysis {
    */
   public Set<ObservedLobeValues> getObservedLobeValues() {
     if (observedLobeValues == null) {
-      observedLobeValues = new HashSet<>();
+      observedLobeValues = new CompactSet<>();
     }
     return this.observedLobeValues;
   }
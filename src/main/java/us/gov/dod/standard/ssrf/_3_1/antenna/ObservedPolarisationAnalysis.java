@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCPO;
@@ -398,7 +398,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedPolarisationValues")
-  private Set<ObservedPolarisationValues> observedPolarisationValues;
+  private CompactSet<ObservedPolarisationValues> observedPolarisationValues;
 
   /**
    * Get the ratio of the polarisation ellipse major axis to its minor axis
@@ -1165,7 +1165,7 @@ public class ObservedPolarisationAnalysis {
    */
   public Set<ObservedPolarisationValues> getObservedPolarisationValues() {
     if (observedPolarisationValues == null) {
-      observedPolarisationValues = new HashSet<>();
+      observedPolarisationValues = new CompactSet<>();
     }
     return this.observedPolarisationValues;
   }
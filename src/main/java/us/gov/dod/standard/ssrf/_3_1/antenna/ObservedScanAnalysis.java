@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUS7;
@@ -548,7 +548,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedScanValues")
-  private Set<ObservedScanValues> observedScanValues;
+  private CompactSet<ObservedScanValues> observedScanValues;
 
   /**
    * Get In Data Item ScanHorzContinuous (US), indicate the if the scan azimuth
@@ -1713,7 +1713,7 @@ public class ObservedScanAnalysis {
    */
   public Set<ObservedScanValues> getObservedScanValues() {
     if (observedScanValues == null) {
-      observedScanValues = new HashSet<>();
+      observedScanValues = new CompactSet<>();
     }
     return this.observedScanValues;
   }
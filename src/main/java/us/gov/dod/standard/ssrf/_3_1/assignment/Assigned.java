@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCIR;
 
@@ -204,7 +205,7 @@ public class Assigned {
    * @since 3.1.0
    */
   @XmlElement(name = "Freq")
-  private Set<Freq> freq;
+  private CompactSet<Freq> freq;
   /**
    * FreqOld (Optional)
    * <p>
@@ -214,7 +215,7 @@ public class Assigned {
    * @since 3.1.0
    */
   @XmlElement(name = "FreqOld", nillable = true)
-  private Set<FreqOld> freqOld;
+  private CompactSet<FreqOld> freqOld;
 
   /**
    * Get an application-specific measure of the quality for the assigned
@@ -532,7 +533,7 @@ public class Assigned {
    */
   public Set<Freq> getFreq() {
     if (freq == null) {
-      freq = new HashSet<>();
+      freq = new CompactSet<>();
     }
     return this.freq;
   }
@@ -564,7 +565,7 @@ public class Assigned {
    */
   public Set<FreqOld> getFreqOld() {
     if (freqOld == null) {
-      freqOld = new HashSet<>();
+      freqOld = new CompactSet<>();
     }
     return this.freqOld;
   }
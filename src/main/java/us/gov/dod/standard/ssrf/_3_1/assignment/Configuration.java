@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.common.CaseNum;
@@ -274,7 +275,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "Notation")
-  private Set<Notation> notation;
+  private CompactSet<Notation> notation;
   /**
    * Usage (Optional)
    * <p>
@@ -284,7 +285,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "Usage")
-  private Set<Usage> usage;
+  private CompactSet<Usage> usage;
   /**
    * ConfigFreq (Optional)
    * <p>
@@ -297,7 +298,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "ConfigFreq")
-  private Set<ConfigFreq> configFreq;
+  private CompactSet<ConfigFreq> configFreq;
   /**
    * TxRef (Optional)
    * <p>
@@ -307,7 +308,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "TxRef")
-  private Set<TxRef> txRef;
+  private CompactSet<TxRef> txRef;
   /**
    * RxRef (Optional)
    * <p>
@@ -317,7 +318,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "RxRef")
-  private Set<RxRef> rxRef;
+  private CompactSet<RxRef> rxRef;
   /**
    * CaseNum (Optional)
    * <p>
@@ -326,7 +327,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "CaseNum")
-  private Set<CaseNum> caseNum;
+  private CompactSet<CaseNum> caseNum;
   /**
    * US:ConfigEmission (Optional)
    * <p>
@@ -337,7 +338,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "ConfigEmission")
-  private Set<ConfigEmission> configEmission;
+  private CompactSet<ConfigEmission> configEmission;
   /**
    * LoadsetRef (Optional)
    * <p>
@@ -347,7 +348,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "LoadsetRef", nillable = true)
-  private Set<Serial> loadsetRef;
+  private CompactSet<Serial> loadsetRef;
   /**
    * US:ObservedERPAnalysis (Optional)
    * <p>
@@ -357,7 +358,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedERPAnalysis")
-  private Set<ObservedERPAnalysis> observedERPAnalysis;
+  private CompactSet<ObservedERPAnalysis> observedERPAnalysis;
 
   /**
    * Get a short name for the configuration; this name should be a meaningful
@@ -909,7 +910,7 @@ public class Configuration {
    */
   public Set<Notation> getNotation() {
     if (notation == null) {
-      notation = new HashSet<>();
+      notation = new CompactSet<>();
     }
     return this.notation;
   }
@@ -941,7 +942,7 @@ public class Configuration {
    */
   public Set<Usage> getUsage() {
     if (usage == null) {
-      usage = new HashSet<>();
+      usage = new CompactSet<>();
     }
     return this.usage;
   }
@@ -974,7 +975,7 @@ public class Configuration {
    */
   public Set<ConfigFreq> getConfigFreq() {
     if (configFreq == null) {
-      configFreq = new HashSet<>();
+      configFreq = new CompactSet<>();
     }
     return this.configFreq;
   }
@@ -1006,7 +1007,7 @@ public class Configuration {
    */
   public Set<TxRef> getTxRef() {
     if (txRef == null) {
-      txRef = new HashSet<>();
+      txRef = new CompactSet<>();
     }
     return this.txRef;
   }
@@ -1038,7 +1039,7 @@ public class Configuration {
    */
   public Set<RxRef> getRxRef() {
     if (rxRef == null) {
-      rxRef = new HashSet<>();
+      rxRef = new CompactSet<>();
     }
     return this.rxRef;
   }
@@ -1070,7 +1071,7 @@ public class Configuration {
    */
   public Set<CaseNum> getCaseNum() {
     if (caseNum == null) {
-      caseNum = new HashSet<>();
+      caseNum = new CompactSet<>();
     }
     return this.caseNum;
   }
@@ -1103,7 +1104,7 @@ public class Configuration {
    */
   public Set<ConfigEmission> getConfigEmission() {
     if (configEmission == null) {
-      configEmission = new HashSet<>();
+      configEmission = new CompactSet<>();
     }
     return this.configEmission;
   }
@@ -1138,7 +1139,7 @@ public class Configuration {
   @Deprecated
   public Set<Serial> getLoadsetRef() {
     if (loadsetRef == null) {
-      loadsetRef = new HashSet<>();
+      loadsetRef = new CompactSet<>();
     }
     return this.loadsetRef;
   }
@@ -1170,7 +1171,7 @@ public class Configuration {
    */
   public Set<ObservedERPAnalysis> getObservedERPAnalysis() {
     if (observedERPAnalysis == null) {
-      observedERPAnalysis = new HashSet<>();
+      observedERPAnalysis = new CompactSet<>();
     }
     return this.observedERPAnalysis;
   }
@@ -1846,7 +1847,7 @@ public class Configuration {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<Loadset> loadset;
+  private CompactSet<Loadset> loadset;
 
   /**
    * Get the LoadsetRef
@@ -1859,7 +1860,7 @@ public class Configuration {
    */
   public Set<Loadset> getLoadset() {
     if (loadset == null) {
-      loadset = new HashSet<>();
+      loadset = new CompactSet<>();
     }
     return loadset;
   }
@@ -1913,9 +1914,12 @@ public class Configuration {
    * @since 3.1.0
    */
   public void prepare() {
-    this.loadsetRef = new HashSet<>();
-    for (Loadset instance : getLoadset()) {
-      this.loadsetRef.add(instance.getSerial());
+    this.loadsetRef = null;
+    if (isSetLoadset()) {
+      this.loadsetRef = new CompactSet<>();
+      for (Loadset instance : getLoadset()) {
+        this.loadsetRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -18,9 +18,11 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.IndexSet;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterINDEXLIST;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUFN;
@@ -61,7 +63,8 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   @XmlAttribute(name = "remarks")
-  private Set<BigInteger> remarks;
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  private IndexSet remarks;
   /**
    * extReferences - Links to External References (Optional)
    * <p>
@@ -73,7 +76,8 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   @XmlAttribute(name = "extReferences")
-  private Set<BigInteger> extReferences;
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  private IndexSet extReferences;
   /**
    * US:legacyReleasability - Legacy Releasability (Optional)
    * <p>
@@ -207,7 +211,7 @@ public class DetailedFunction {
    */
   public Set<BigInteger> getRemarks() {
     if (remarks == null) {
-      remarks = new HashSet<>();
+      remarks = new IndexSet();
     }
     return this.remarks;
   }
@@ -237,7 +241,7 @@ public class DetailedFunction {
    */
   public Set<BigInteger> getExtReferences() {
     if (extReferences == null) {
-      extReferences = new HashSet<>();
+      extReferences = new IndexSet();
     }
     return this.extReferences;
   }
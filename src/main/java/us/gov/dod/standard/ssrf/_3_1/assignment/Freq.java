@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.AsgnFreqBase;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US5;
@@ -92,7 +92,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   @XmlElement(name = "PairedFreq")
-  private Set<PairedFreq> pairedFreq;
+  private CompactSet<PairedFreq> pairedFreq;
   /**
    * US:NarrowBandPlanning (Optional)
    * <p>
@@ -102,7 +102,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   @XmlElement(name = "NarrowBandPlanning")
-  private Set<NarrowBandPlanning> narrowBandPlanning;
+  private CompactSet<NarrowBandPlanning> narrowBandPlanning;
 
   /**
    * Get the TAD associated to the assigned frequency. A Tactical Air Designator
@@ -178,7 +178,7 @@ public class Freq extends AsgnFreqBase {
    */
   public Set<PairedFreq> getPairedFreq() {
     if (pairedFreq == null) {
-      pairedFreq = new HashSet<>();
+      pairedFreq = new CompactSet<>();
     }
     return this.pairedFreq;
   }
@@ -210,7 +210,7 @@ public class Freq extends AsgnFreqBase {
    */
   public Set<NarrowBandPlanning> getNarrowBandPlanning() {
     if (narrowBandPlanning == null) {
-      narrowBandPlanning = new HashSet<>();
+      narrowBandPlanning = new CompactSet<>();
     }
     return this.narrowBandPlanning;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S25;
@@ -144,7 +144,7 @@ public class Link {
    * @since 3.1.0
    */
   @XmlElement(name = "Tuning")
-  private Set<Tuning> tuning;
+  private CompactSet<Tuning> tuning;
   /**
    * StationConfig (Required)
    * <p>
@@ -155,7 +155,7 @@ public class Link {
    * @since 3.1.0
    */
   @XmlElement(name = "StationConfig", required = true)
-  private Set<StationConfig> stationConfig;
+  private CompactSet<StationConfig> stationConfig;
   /**
    * Assigned (Optional)
    * <p>
@@ -165,7 +165,7 @@ public class Link {
    * @since 3.1.0
    */
   @XmlElement(name = "Assigned")
-  private Set<Assigned> assigned;
+  private CompactSet<Assigned> assigned;
   /**
    * US:DCSTrunk (Optional)
    * <p>
@@ -176,10 +176,10 @@ public class Link {
    * @since 3.1.0
    */
   @XmlElement(name = "DCSTrunk", nillable = true)
-  private Set<DCSTrunk> dcsTrunk;
+  private CompactSet<DCSTrunk> dcsTrunk;
 
   @XmlElement(name = "DetailedFunction", nillable = true)
-  private Set<DetailedFunction> detailedFunction;
+  private CompactSet<DetailedFunction> detailedFunction;
 
   /**
    * Get a unique identifier for the link. This identifier should be a
@@ -376,7 +376,7 @@ public class Link {
    */
   public Set<Tuning> getTuning() {
     if (tuning == null) {
-      tuning = new HashSet<>();
+      tuning = new CompactSet<>();
     }
     return this.tuning;
   }
@@ -409,7 +409,7 @@ public class Link {
    */
   public Set<StationConfig> getStationConfig() {
     if (stationConfig == null) {
-      stationConfig = new HashSet<>();
+      stationConfig = new CompactSet<>();
     }
     return this.stationConfig;
   }
@@ -441,7 +441,7 @@ public class Link {
    */
   public Set<Assigned> getAssigned() {
     if (assigned == null) {
-      assigned = new HashSet<>();
+      assigned = new CompactSet<>();
     }
     return this.assigned;
   }
@@ -474,7 +474,7 @@ public class Link {
    */
   public Set<DCSTrunk> getDCSTrunk() {
     if (dcsTrunk == null) {
-      dcsTrunk = new HashSet<>();
+      dcsTrunk = new CompactSet<>();
     }
     return this.dcsTrunk;
   }
@@ -503,7 +503,7 @@ public class Link {
    */
   public Set<DetailedFunction> getDetailedFunction() {
     if (detailedFunction == null) {
-      detailedFunction = new HashSet<>();
+      detailedFunction = new CompactSet<>();
     }
     return this.detailedFunction;
   }
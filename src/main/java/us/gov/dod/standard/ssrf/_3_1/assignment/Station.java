@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
@@ -282,7 +282,7 @@ public class Station {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * US:StationLoc (Required)
    * <p>
@@ -294,7 +294,7 @@ public class Station {
    * @since 3.1.0
    */
   @XmlElement(name = "StationLoc", required = true)
-  private Set<StationLoc> stationLoc;
+  private CompactSet<StationLoc> stationLoc;
 
   /**
    * Get the unique identifier of one of the stations used by this Assignment at
@@ -759,7 +759,7 @@ public class Station {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -793,7 +793,7 @@ public class Station {
    */
   public Set<StationLoc> getStationLoc() {
     if (stationLoc == null) {
-      stationLoc = new HashSet<>();
+      stationLoc = new CompactSet<>();
     }
     return this.stationLoc;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAU;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCO;
@@ -263,7 +263,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   @XmlElement(name = "Blanking")
-  private Set<Blanking> blanking;
+  private CompactSet<Blanking> blanking;
 
   /**
    * Get whether the StationConfig is acting as a transmitter, receiver or
@@ -744,7 +744,7 @@ public class StationConfig {
    */
   public Set<Blanking> getBlanking() {
     if (blanking == null) {
-      blanking = new HashSet<>();
+      blanking = new CompactSet<>();
     }
     return this.blanking;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.AsgnFreqBase;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -137,7 +137,7 @@ public class Tuning {
    * @since 3.1.0
    */
   @XmlElement(name = "RequestedFreq")
-  private Set<AsgnFreqBase> requestedFreq;
+  private CompactSet<AsgnFreqBase> requestedFreq;
 
   /**
    * Get the tuning increment expressed of the requested frequency range. This
@@ -338,7 +338,7 @@ public class Tuning {
    */
   public Set<AsgnFreqBase> getRequestedFreq() {
     if (requestedFreq == null) {
-      requestedFreq = new HashSet<>();
+      requestedFreq = new CompactSet<>();
     }
     return this.requestedFreq;
   }
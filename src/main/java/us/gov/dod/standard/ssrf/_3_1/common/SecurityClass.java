@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
@@ -163,7 +164,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   @XmlElement(name = "Downgrade")
-  private Set<Downgrade> downgrade;
+  private CompactSet<Downgrade> downgrade;
   /**
    * US:ClsDerived (Optional)
    * <p>
@@ -173,7 +174,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   @XmlElement(name = "ClsDerived")
-  private Set<ClsDerived> clsDerived;
+  private CompactSet<ClsDerived> clsDerived;
 
   /**
    * Get the identity, by name and position, or by personal identifier, of the
@@ -423,7 +424,7 @@ public class SecurityClass {
    */
   public Set<Downgrade> getDowngrade() {
     if (downgrade == null) {
-      downgrade = new HashSet<>();
+      downgrade = new CompactSet<>();
     }
     return this.downgrade;
   }
@@ -455,7 +456,7 @@ public class SecurityClass {
    */
   public Set<ClsDerived> getClsDerived() {
     if (clsDerived == null) {
-      clsDerived = new HashSet<>();
+      clsDerived = new CompactSet<>();
     }
     return this.clsDerived;
   }
@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.jrfl;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Allotment;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
@@ -319,7 +319,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   @XmlElement(name = "Project")
-  private Set<Project> project;
+  private CompactSet<Project> project;
   /**
    * POCInformation (Optional)
    * <p>
@@ -329,7 +329,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   @XmlElement(name = "POCInformation")
-  private Set<POCInformation> pocInformation;
+  private CompactSet<POCInformation> pocInformation;
   /**
    * JRFLEntryLocation (Optional)
    * <p>
@@ -339,7 +339,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   @XmlElement(name = "JRFLEntryLocation")
-  private Set<JRFLEntryLocation> jrflEntryLocation;
+  private CompactSet<JRFLEntryLocation> jrflEntryLocation;
 
   /**
    * Get In Data Item ProtectionCode, indicate the type of JRFL entry..
@@ -933,7 +933,7 @@ public class JRFLEntry {
    */
   public Set<Project> getProject() {
     if (project == null) {
-      project = new HashSet<>();
+      project = new CompactSet<>();
     }
     return this.project;
   }
@@ -965,7 +965,7 @@ public class JRFLEntry {
    */
   public Set<POCInformation> getPOCInformation() {
     if (pocInformation == null) {
-      pocInformation = new HashSet<>();
+      pocInformation = new CompactSet<>();
     }
     return this.pocInformation;
   }
@@ -997,7 +997,7 @@ public class JRFLEntry {
    */
   public Set<JRFLEntryLocation> getJRFLEntryLocation() {
     if (jrflEntryLocation == null) {
-      jrflEntryLocation = new HashSet<>();
+      jrflEntryLocation = new CompactSet<>();
     }
     return this.jrflEntryLocation;
   }
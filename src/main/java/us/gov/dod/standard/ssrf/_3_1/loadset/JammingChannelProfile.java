@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.loadset;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Loadset;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -285,7 +285,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   @XmlElement(name = "TimingDeconflictionProtocol")
-  private Set<TimingDeconflictionProtocol> timingDeconflictionProtocol;
+  private CompactSet<TimingDeconflictionProtocol> timingDeconflictionProtocol;
 
   /**
    * Get the signal level required to activate the loadset, for systems capable
@@ -862,7 +862,7 @@ public class JammingChannelProfile {
    */
   public Set<TimingDeconflictionProtocol> getTimingDeconflictionProtocol() {
     if (timingDeconflictionProtocol == null) {
-      timingDeconflictionProtocol = new HashSet<>();
+      timingDeconflictionProtocol = new CompactSet<>();
     }
     return this.timingDeconflictionProtocol;
   }
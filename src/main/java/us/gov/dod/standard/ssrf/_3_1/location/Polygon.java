@@ -18,9 +18,9 @@ package us.gov.dod.standard.ssrf._3_1.location;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Altitude;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -77,7 +77,7 @@ public class Polygon {
    * @since 3.1.0
    */
   @XmlElement(name = "PolygonPoint", required = true)
-  private Set<PolygonPoint> polygonPoint;
+  private CompactSet<PolygonPoint> polygonPoint;
   /**
    * idx - Index (Required)
    * <p>
@@ -205,7 +205,7 @@ public class Polygon {
    */
   public Set<PolygonPoint> getPolygonPoint() {
     if (polygonPoint == null) {
-      polygonPoint = new HashSet<>();
+      polygonPoint = new CompactSet<>();
     }
     return this.polygonPoint;
   }
@@ -17,10 +17,11 @@ package us.gov.dod.standard.ssrf._3_1.metadata;
 
 import java.math.BigInteger;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.IndexSet;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterINDEXLIST;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterMEMO;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS10;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS255;
@@ -79,91 +80,70 @@ public abstract class AMetadata<T> {
   protected ListCCL cls;
 
   /**
-   * remark References - Links to Data Item Remarks (Optional)
+   * The optional metadata attributes: remarks, extReferences,
+   * legacyReleasability, quality, recommendedValue, idref and availability.
    * <p>
-   * A list of Common/Remarks idx values applicable to the current data item.
-   * <p>
-   * Format is List of UN6
-   */
-  @XmlList
-  @XmlAttribute(name = "remarks")
-  protected Set<BigInteger> remarkRef;
-  /**
-   * extReferences - Links to External References (Optional)
-   * <p>
-   * A list of Common/ExtReferenceRef idx values applicable to the current data
-   * item.
-   * <p>
-   * Format is List of UN6
-   */
-  @XmlList
-  @XmlAttribute(name = "extReferences")
-  protected Set<BigInteger> extReferences;
-  /**
-   * US:legacyReleasability - Legacy Releasability (Optional)
-   * <p>
-   * One or more special handling instructions in sentence format, not code
-   * format. For example, "Approved for public release; distribution is
-   * unlimited". Multiple special handling instructions are separated by "|”
-   * (i.e., ASCII character #124).
-   * <p>
-   * Format is Memo
-   */
-  @XmlAttribute(name = "legacyReleasability")
-  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
-  protected String legacyReleasability;
-  /**
-   * US:quality - Data Quality (Optional)
-   * <p>
-   * One or more data quality indicator(s), separated by "|” (i.e., ASCII
-   * character #124), for the contents of the associated Data Item For example,
-   * "Outlier" | "Non-CodeList".
-   * <p>
-   * Format is S255
+   * These are rarely configured and are held in a side object that is only
+   * allocated when one of them is set. The side object is not bound directly:
+   * its attributes are marshalled onto this data item element through the
+   * annotated property accessor methods.
    */
-  @XmlAttribute(name = "quality")
-  @XmlJavaTypeAdapter(value = XmlAdapterS255.class)
-  protected String quality;
+  @XmlTransient
+  protected MetadataAttributes attributes;
+
   /**
-   * US:recommendedValue - Recommended Value (Optional)
-   * <p>
-   * A value that is most probably correct.
-   * <p>
-   * Format is Memo
+   * Metadata types require a zero argument constructor.
    */
-  @XmlAttribute(name = "recommendedValue")
-  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
-  protected String recommendedValue;
+  public AMetadata() {
+  }
+
   /**
-   * idref - Data Item ID (Optional)
-   * <p>
-   * A unique identifier for each Data Item in the Dataset. Within each Dataset,
-   * the idref value must be unique for every occurrence. If a received Dataset
-   * uses idrefs and it is expected that the Dataset will be exchanged, the
-   * idrefs should be considered required. If the receiving system is the
-   * permanent end of the line for the Dataset, the idrefs may be considered
-   * optional.
-   * <p>
-   * Format is S10
+   * Get the optional metadata attributes side object, allocating it if
+   * required.
+   *
+   * @return a non-null MetadataAttributes instance
    */
-  @XmlAttribute(name = "idref")
-  @XmlJavaTypeAdapter(value = XmlAdapterS10.class)
-  protected String idref;
+  private MetadataAttributes attributes() {
+    if (attributes == null) {
+      attributes = new MetadataAttributes();
+    }
+    return attributes;
+  }
+
   /**
-   * US:availability - data supporting legacy equipment certification business
-   * practice.
-   * <p>
-   * Values should be selected from one of "Unknown", "N/A", "Not Available" or
-   * "Not Applicable", when data is not available.
+   * JAXB property accessor for the remarks attribute. Unlike
+   * {@link #getRemarkRef()} this does not allocate an empty set.
+   *
+   * @return the remark references, if set
    */
-  @XmlAttribute(name = "availability")
-  @XmlJavaTypeAdapter(value = XmlAdapterS30.class)
-  protected String availability;
+  @XmlAttribute(name = "remarks")
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  private IndexSet getXmlRemarkRef() {
+    return attributes != null ? attributes.remarkRef : null;
+  }
+
+  private void setXmlRemarkRef(IndexSet value) {
+    if (value != null || attributes != null) {
+      attributes().remarkRef = value;
+    }
+  }
 
   /**
-   * Metadata types require a zero argument constructor.
+   * JAXB property accessor for the extReferences attribute. Unlike
+   * {@link #getExtReferences()} this does not allocate an empty set.
+   *
+   * @return the external references, if set
    */
-  public AMetadata() {
+  @XmlAttribute(name = "extReferences")
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  private IndexSet getXmlExtReferences() {
+    return attributes != null ? attributes.extReferences : null;
+  }
+
+  private void setXmlExtReferences(IndexSet value) {
+    if (value != null || attributes != null) {
+      attributes().extReferences = value;
+    }
   }
 
   /**
@@ -193,10 +173,11 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public Set<BigInteger> getRemarkRef() {
-    if (remarkRef == null) {
-      remarkRef = new HashSet<>();
+    MetadataAttributes a = attributes();
+    if (a.remarkRef == null) {
+      a.remarkRef = new IndexSet();
     }
-    return this.remarkRef;
+    return a.remarkRef;
   }
 
   /**
@@ -206,14 +187,16 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public boolean isSetRemarkRef() {
-    return ((this.remarkRef != null) && (!this.remarkRef.isEmpty()));
+    return ((this.attributes != null) && (this.attributes.remarkRef != null) && (!this.attributes.remarkRef.isEmpty()));
   }
 
   /**
    * Clear the RemarkIndex field. This sets the field to null.
    */
   public void unsetRemarkRef() {
-    this.remarkRef = null;
+    if (this.attributes != null) {
+      this.attributes.remarkRef = null;
+    }
   }
 
   /**
@@ -235,8 +218,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "idref")
+  @XmlJavaTypeAdapter(value = XmlAdapterS10.class)
   public String getIdref() {
-    return idref;
+    return attributes != null ? attributes.idref : null;
   }
 
   /**
@@ -250,7 +235,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setIdref(String value) {
-    this.idref = value;
+    if (value != null || attributes != null) {
+      attributes().idref = value;
+    }
   }
 
   /**
@@ -259,7 +246,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdref() {
-    return (this.idref != null);
+    return (this.attributes != null && this.attributes.idref != null);
   }
 
   /**
@@ -269,8 +256,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "availability")
+  @XmlJavaTypeAdapter(value = XmlAdapterS30.class)
   public String getAvailability() {
-    return availability;
+    return attributes != null ? attributes.availability : null;
   }
 
   /**
@@ -281,7 +270,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setAvailability(String value) {
-    this.availability = value;
+    if (value != null || attributes != null) {
+      attributes().availability = value;
+    }
   }
 
   /**
@@ -290,7 +281,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetAvailability() {
-    return (this.availability != null);
+    return (this.attributes != null && this.attributes.availability != null);
   }
 
   /**
@@ -300,10 +291,11 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public Set<BigInteger> getExtReferences() {
-    if (extReferences == null) {
-      extReferences = new HashSet<>();
+    MetadataAttributes a = attributes();
+    if (a.extReferences == null) {
+      a.extReferences = new IndexSet();
     }
-    return this.extReferences;
+    return a.extReferences;
   }
 
   /**
@@ -312,14 +304,16 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetExtReferences() {
-    return ((this.extReferences != null) && (!this.extReferences.isEmpty()));
+    return ((this.attributes != null) && (this.attributes.extReferences != null) && (!this.attributes.extReferences.isEmpty()));
   }
 
   /**
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
-    this.extReferences = null;
+    if (this.attributes != null) {
+      this.attributes.extReferences = null;
+    }
   }
 
   /**
@@ -330,8 +324,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "legacyReleasability")
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
   public String getLegacyReleasability() {
-    return legacyReleasability;
+    return attributes != null ? attributes.legacyReleasability : null;
   }
 
   /**
@@ -343,7 +339,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setLegacyReleasability(String value) {
-    this.legacyReleasability = value;
+    if (value != null || attributes != null) {
+      attributes().legacyReleasability = value;
+    }
   }
 
   /**
@@ -352,7 +350,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetLegacyReleasability() {
-    return (this.legacyReleasability != null);
+    return (this.attributes != null && this.attributes.legacyReleasability != null);
   }
 
   /**
@@ -362,8 +360,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "quality")
+  @XmlJavaTypeAdapter(value = XmlAdapterS255.class)
   public String getQuality() {
-    return quality;
+    return attributes != null ? attributes.quality : null;
   }
 
   /**
@@ -374,7 +374,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setQuality(String value) {
-    this.quality = value;
+    if (value != null || attributes != null) {
+      attributes().quality = value;
+    }
   }
 
   /**
@@ -383,7 +385,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetQuality() {
-    return (this.quality != null);
+    return (this.attributes != null && this.attributes.quality != null);
   }
 
   /**
@@ -391,8 +393,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "recommendedValue")
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
   public String getRecommendedValue() {
-    return recommendedValue;
+    return attributes != null ? attributes.recommendedValue : null;
   }
 
   /**
@@ -401,7 +405,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setRecommendedValue(String value) {
-    this.recommendedValue = value;
+    if (value != null || attributes != null) {
+      attributes().recommendedValue = value;
+    }
   }
 
   /**
@@ -410,7 +416,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetRecommendedValue() {
-    return (this.recommendedValue != null);
+    return (this.attributes != null && this.attributes.recommendedValue != null);
   }
 
   /**
@@ -420,12 +426,16 @@ public abstract class AMetadata<T> {
    */
   @Override
   public String toString() {
+    if (attributes == null) {
+      return (cls != null ? "    cls [" + cls + "]" : "");
+    }
+    MetadataAttributes a = attributes;
     return (cls != null ? "    cls [" + cls + "]" : "")
-           + (extReferences != null ? "    extReferences [" + extReferences + "]" : "")
-           + (legacyReleasability != null ? "    legacyReleasability [" + legacyReleasability + "]" : "")
-           + (quality != null ? "    quality [" + quality + "]" : "")
-           + (recommendedValue != null ? "    recommendedValue [" + recommendedValue + "]" : "")
-           + (remarkRef != null ? "    rem [" + remarkRef + "]" : "");
+           + (a.extReferences != null ? "    extReferences [" + a.extReferences + "]" : "")
+           + (a.legacyReleasability != null ? "    legacyReleasability [" + a.legacyReleasability + "]" : "")
+           + (a.quality != null ? "    quality [" + a.quality + "]" : "")
+           + (a.recommendedValue != null ? "    recommendedValue [" + a.recommendedValue + "]" : "")
+           + (a.remarkRef != null ? "    rem [" + a.remarkRef + "]" : "");
   }
 
   /**
@@ -449,7 +459,7 @@ public abstract class AMetadata<T> {
    */
   public T withExtReferences(BigInteger... values) {
     if (values != null) {
-      getExtReferences().addAll(new HashSet<>(Arrays.asList(values)));
+      getExtReferences().addAll(Arrays.asList(values));
     }
     return (T) this;
   }
@@ -515,7 +525,7 @@ public abstract class AMetadata<T> {
    */
   public T withRemarkRef(BigInteger... values) {
     if (values != null) {
-      getRemarkRef().addAll(new HashSet<>(Arrays.asList(values)));
+      getRemarkRef().addAll(Arrays.asList(values));
     }
     return (T) this;
   }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata;
+
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.IndexSet;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterINDEXLIST;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterMEMO;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS10;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS255;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS30;
+
+/**
+ * Side object holding the optional SSRF Standard Metadata Attributes of an
+ * {@link AMetadata} data item.
+ * <p>
+ * Apart from the required classification these attributes are almost never
+ * set, yet {@link AMetadata} is extended by every SSRF field value. The
+ * optional attributes are therefore held in this side object, which is only
+ * allocated when one of them is configured, and referenced from a single
+ * AMetadata field. The attributes are marshalled onto the owning data item
+ * element by the AMetadata property accessors. The adapter annotations here
+ * are retained to support field validation.
+ * <p>
+ * Developer note: This class is not part of the SSRF specification. Access the
+ * attributes through the {@link AMetadata} getter and setter methods.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+@XmlTransient
+public final class MetadataAttributes {
+
+  /**
+   * remark References - Links to Data Item Remarks (Optional)
+   * <p>
+   * Format is List of UN6
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  IndexSet remarkRef;
+  /**
+   * extReferences - Links to External References (Optional)
+   * <p>
+   * Format is List of UN6
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterINDEXLIST.class)
+  IndexSet extReferences;
+  /**
+   * US:legacyReleasability - Legacy Releasability (Optional)
+   * <p>
+   * Format is Memo
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
+  String legacyReleasability;
+  /**
+   * US:quality - Data Quality (Optional)
+   * <p>
+   * Format is S255
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterS255.class)
+  String quality;
+  /**
+   * US:recommendedValue - Recommended Value (Optional)
+   * <p>
+   * Format is Memo
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
+  String recommendedValue;
+  /**
+   * idref - Data Item ID (Optional)
+   * <p>
+   * Format is S10
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterS10.class)
+  String idref;
+  /**
+   * US:availability - data supporting legacy equipment certification business
+   * practice. (Optional)
+   * <p>
+   * Format is S30
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterS30.class)
+  String availability;
+
+  /**
+   * Metadata types require a zero argument constructor.
+   */
+  public MetadataAttributes() {
+  }
+
+  /**
+   * Determine if no metadata attribute is configured.
+   *
+   * @return TRUE if all attributes are null or empty
+   */
+  boolean isEmpty() {
+    return (remarkRef == null || remarkRef.isEmpty())
+           && (extReferences == null || extReferences.isEmpty())
+           && legacyReleasability == null
+           && quality == null
+           && recommendedValue == null
+           && idref == null
+           && availability == null;
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Fixed-point conversion utilities for the numeric SSRF data types.
+ * <p>
+ * Numeric data types (e.g. FreqM, dBW, Lat) hold their value as a primitive
+ * long scaled by ten to the power of the data type fraction digits. For example
+ * a FreqM (UN(16,9)) value of 123.45 MHz is held as 123450000000. Every SSRF
+ * numeric format has at most 18 digits, so every valid value fits in a long.
+ * The BigDecimal accessors of the data types are views created from the scaled
+ * value.
+ * <p>
+ * A value that cannot be held exactly (too many fraction digits or out of
+ * range) is not rounded or rejected: the data type holds {@link #INEXACT} and
+ * keeps the BigDecimal as given, so that it is reported by validation.
+ * <p>
+ * Developer note: This class is not part of the SSRF specification.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class ScaledValue {
+
+  /**
+   * Long.MIN_VALUE. The scaled value of an unset (null) number.
+   */
+  public static final long UNSET = Long.MIN_VALUE;
+  /**
+   * Long.MIN_VALUE + 1. The scaled value of a number that cannot be held
+   * exactly; the data type holds the BigDecimal instead.
+   */
+  public static final long INEXACT = Long.MIN_VALUE + 1;
+
+  /**
+   * Powers of ten as doubles, indexed by exponent. Each is exact.
+   */
+  private static final double[] POWERS = new double[19];
+
+  static {
+    POWERS[0] = 1;
+    for (int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * 10;
+    }
+  }
+
+  private ScaledValue() {
+  }
+
+  /**
+   * Convert a BigDecimal to a scaled long.
+   *
+   * @param value the value. May be null.
+   * @param scale the number of fraction digits (0 to 18)
+   * @return the scaled value; {@link #UNSET} if the value is null;
+   *         {@link #INEXACT} if the value has more fraction digits than the
+   *         scale or does not fit in a long
+   */
+  public static long valueOf(BigDecimal value, int scale) {
+    if (value == null) {
+      return UNSET;
+    }
+    if (value.scale() > scale && value.stripTrailingZeros().scale() > scale) {
+      return INEXACT;
+    }
+    BigInteger unscaled = value.setScale(scale).unscaledValue();
+    if (unscaled.bitLength() > 63 || unscaled.longValue() == UNSET || unscaled.longValue() == INEXACT) {
+      return INEXACT;
+    }
+    return unscaled.longValue();
+  }
+
+  /**
+   * Convert a scaled long to a BigDecimal with the indicated scale.
+   *
+   * @param value   the scaled value
+   * @param inexact the value held if the scaled value is {@link #INEXACT}
+   * @param scale   the number of fraction digits
+   * @return a BigDecimal view of the value; NULL if the value is
+   *         {@link #UNSET}
+   */
+  public static BigDecimal toBigDecimal(long value, BigDecimal inexact, int scale) {
+    if (value == INEXACT) {
+      return inexact;
+    }
+    return value == UNSET ? null : BigDecimal.valueOf(value, scale);
+  }
+
+  /**
+   * Convert a scaled long to a double. This does not allocate.
+   *
+   * @param value   the scaled value
+   * @param inexact the value held if the scaled value is {@link #INEXACT}
+   * @param scale   the number of fraction digits (0 to 18)
+   * @return the nearest double to the value; NaN if the value is
+   *         {@link #UNSET}
+   */
+  public static double toDouble(long value, BigDecimal inexact, int scale) {
+    if (value == INEXACT) {
+      return inexact.doubleValue();
+    }
+    return value == UNSET ? Double.NaN : value / POWERS[scale];
+  }
+
+  /**
+   * Hash code of a scaled value. Numerically equal values have the same hash
+   * code.
+   *
+   * @param value   the scaled value
+   * @param inexact the value held if the scaled value is {@link #INEXACT}
+   * @return the hash code
+   */
+  public static int hashCode(long value, BigDecimal inexact) {
+    if (value == INEXACT) {
+      return inexact.stripTrailingZeros().hashCode();
+    }
+    return (int) (value ^ (value >>> 32));
+  }
+
+  /**
+   * Determine if two scaled values of the same scale are numerically equal.
+   * An inexact value is never equal to an exact one.
+   *
+   * @param value        the scaled value
+   * @param inexact      the value held if the scaled value is {@link #INEXACT}
+   * @param otherValue   the other scaled value
+   * @param otherInexact the value held if the other scaled value is
+   *                     {@link #INEXACT}
+   * @return TRUE if the values are numerically equal
+   */
+  public static boolean equals(long value, BigDecimal inexact, long otherValue, BigDecimal otherInexact) {
+    if (value == INEXACT && otherValue == INEXACT) {
+      return inexact.compareTo(otherInexact) == 0;
+    }
+    return value == otherValue;
+  }
+
+  /**
+   * Compare two set scaled values of the same scale numerically.
+   *
+   * @param value        the scaled value
+   * @param inexact      the value held if the scaled value is {@link #INEXACT}
+   * @param otherValue   the other scaled value
+   * @param otherInexact the value held if the other scaled value is
+   *                     {@link #INEXACT}
+   * @param scale        the number of fraction digits
+   * @return the comparison result
+   */
+  public static int compare(long value, BigDecimal inexact, long otherValue, BigDecimal otherInexact, int scale) {
+    if (value == INEXACT || otherValue == INEXACT) {
+      return toBigDecimal(value, inexact, scale).compareTo(toBigDecimal(otherValue, otherInexact, scale));
+    }
+    return Long.compare(value, otherValue);
+  }
+}
@@ -15,7 +15,6 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Objects;
@@ -25,6 +24,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.adapter.DateTimeConverter;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterDATE;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 
@@ -39,25 +39,16 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 @XmlType(name = "TDate", propOrder = {"value"})
 public class TDate extends AMetadata<TDate> implements IMetadataType, Comparable<TDate> {
 
-  /**
-   * UTC. The default time zone.
-   */
-  private static final TimeZone TIMEZONE = TimeZone.getTimeZone("UTC");
-  /**
-   * "yyyy-MM-dd". The Date pattern.
-   * <p>
-   * D is a date value formatted in 10 characters as YYYY-MM-DD
-   * (year-month-day). This format is compliant with the W3C Recommendation on
-   * XML Schema.
-   */
-  private static final String PATTERN = "yyyy-MM-dd";
-
   /**
    * The value to which the metadata attributes are associated.
+   * <p>
+   * The value is stored as the epoch day of the calendar date: the number of
+   * days since 1970-01-01. A date is not an instant and reads and prints the
+   * same in every time zone.
    */
   @XmlValue
-  @XmlJavaTypeAdapter(type = Calendar.class, value = XmlAdapterDATE.class)
-  protected Calendar value;
+  @XmlJavaTypeAdapter(XmlAdapterDATE.class)
+  protected Long value;
 
   public TDate(Calendar value) {
     setValue(value);
@@ -76,35 +67,63 @@ public class TDate extends AMetadata<TDate> implements IMetadataType, Comparable
   /**
    * Gets the value of the value property.
    * <p>
+   * A new Calendar instance set to midnight at the start of the date in the
+   * default time zone is returned on each call. Use {@link #getEpochDay()} to
+   * read the value without creating a Calendar.
+   * <p>
    * @return the value of the value property.
    */
   @Override
   public Calendar getValue() {
-    return (value != null ? (Calendar) value.clone() : null);
+    if (value == null) {
+      return null;
+    }
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTimeInMillis(DateTimeConverter.toEpochMillis(value, calendar.getTimeZone()));
+    return calendar;
+  }
+
+  /**
+   * Gets the value of the value property as an epoch day.
+   * <p>
+   * @return the number of days since 1970-01-01; NULL if the value is not
+   *         set.
+   * @since 3.1.0
+   */
+  public Long getEpochDay() {
+    return value;
+  }
+
+  /**
+   * Sets the value of the value property as an epoch day.
+   * <p>
+   * @param value the number of days since 1970-01-01
+   * @since 3.1.0
+   */
+  public final void setEpochDay(Long value) {
+    this.value = value;
   }
 
   /**
    * Sets the value of the value property.
    * <p>
+   * The calendar date is read in the time zone of the Calendar.
+   * <p>
    * @param value the date to set.
    */
   public final void setValue(Calendar value) {
-    this.value = (value != null ? (Calendar) value.clone() : null);
-    this.value.setTimeZone(TIMEZONE);
+    this.value = (value != null ? DateTimeConverter.toEpochDay(value.getTimeInMillis(), value.getTimeZone()) : null);
   }
 
   /**
    * Sets the value of the value property.
    * <p>
+   * The calendar date is read in the default time zone.
+   * <p>
    * @param value the date to set.
    */
   public final void setValue(Date value) {
-    if (value != null) {
-      this.value = Calendar.getInstance(TIMEZONE);
-      this.value.setTime(value);
-    } else {
-      this.value = null;
-    }
+    this.value = (value != null ? DateTimeConverter.toEpochDay(value.getTime(), TimeZone.getDefault()) : null);
   }
 
   /**
@@ -138,12 +157,7 @@ public class TDate extends AMetadata<TDate> implements IMetadataType, Comparable
    */
   @Override
   public String toString() {
-    if (value != null) {
-      SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
-      sdf.setCalendar(value);
-      return sdf.format(value.getTime());
-    }
-    return null;
+    return (value != null ? DateTimeConverter.printDate(value) : null);
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -173,7 +187,7 @@ public class TDate extends AMetadata<TDate> implements IMetadataType, Comparable
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((IMetadataType) obj).getValue());
+    return Objects.equals(this.value, ((TDate) obj).value);
   }
 
   /**
@@ -190,6 +204,9 @@ public class TDate extends AMetadata<TDate> implements IMetadataType, Comparable
     if (this.value == null) {
       return -1;
     }
-    return -1 * this.value.compareTo(o.getValue());
+    if (o.value == null) {
+      return 1;
+    }
+    return -1 * this.value.compareTo(o.value);
   }//</editor-fold>
 }
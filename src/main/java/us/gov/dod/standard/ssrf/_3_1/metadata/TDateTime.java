@@ -15,7 +15,6 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Objects;
@@ -25,6 +24,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.adapter.DateTimeConverter;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterDATETIME;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 
@@ -43,23 +43,14 @@ public class TDateTime extends AMetadata<TDateTime> implements IMetadataType, Co
    * UTC. The default time zone.
    */
   private static final TimeZone TIMEZONE = TimeZone.getTimeZone("UTC");
-  /**
-   * "yyyy-MM-dd'T'HH:mm:ss.SSSZ". The DateTime pattern.
-   * <p>
-   * DT is a date / time value formatted in 20 to 24 characters as
-   * YYYY-MM-DDThh:mm:ss[.ddd]Z (year-
-   * month-day"T"hours:minutes:seconds.milliseconds"Z"), where the milliseconds
-   * part is optional. This format is compliant with the W3C Recommendation on
-   * XML Schema.
-   */
-  private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
-
   /**
    * The value to which the metadata attributes are associated.
+   * <p>
+   * The value is stored as UTC epoch milliseconds.
    */
   @XmlValue
-  @XmlJavaTypeAdapter(type = Calendar.class, value = XmlAdapterDATETIME.class)
-  protected Calendar value;
+  @XmlJavaTypeAdapter(XmlAdapterDATETIME.class)
+  protected Long value;
 
   public TDateTime(Calendar value) {
     setValue(value);
@@ -78,11 +69,40 @@ public class TDateTime extends AMetadata<TDateTime> implements IMetadataType, Co
   /**
    * Gets the value of the value property.
    * <p>
+   * A new UTC Calendar instance is returned on each call. Use
+   * {@link #getTime()} to read the value without creating a Calendar.
+   * <p>
    * @return the value of the value property.
    */
   @Override
   public Calendar getValue() {
-    return (value != null ? (Calendar) value.clone() : null);
+    if (value == null) {
+      return null;
+    }
+    Calendar calendar = Calendar.getInstance(TIMEZONE);
+    calendar.setTimeInMillis(value);
+    return calendar;
+  }
+
+  /**
+   * Gets the value of the value property as UTC epoch milliseconds.
+   * <p>
+   * @return the number of milliseconds since 1970-01-01T00:00:00Z; NULL if
+   *         the value is not set.
+   * @since 3.1.0
+   */
+  public Long getTime() {
+    return value;
+  }
+
+  /**
+   * Sets the value of the value property as UTC epoch milliseconds.
+   * <p>
+   * @param value the number of milliseconds since 1970-01-01T00:00:00Z
+   * @since 3.1.0
+   */
+  public final void setTime(Long value) {
+    this.value = value;
   }
 
   /**
@@ -91,8 +111,7 @@ public class TDateTime extends AMetadata<TDateTime> implements IMetadataType, Co
    * @param value datetime to set.
    */
   public final void setValue(Calendar value) {
-    this.value = (value != null ? (Calendar) value.clone() : null);
-    this.value.setTimeZone(TIMEZONE);
+    this.value = (value != null ? value.getTimeInMillis() : null);
   }
 
   /**
@@ -101,12 +120,7 @@ public class TDateTime extends AMetadata<TDateTime> implements IMetadataType, Co
    * @param value datetime to set.
    */
   public final void setValue(Date value) {
-    if (value != null) {
-      this.value = Calendar.getInstance(TIMEZONE);
-      this.value.setTime(value);
-    } else {
-      this.value = null;
-    }
+    this.value = (value != null ? value.getTime() : null);
   }
 
   /**
@@ -140,12 +154,7 @@ public class TDateTime extends AMetadata<TDateTime> implements IMetadataType, Co
    */
   @Override
   public String toString() {
-    if (value != null) {
-      SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
-      sdf.setCalendar(value);
-      return sdf.format(value.getTime());
-    }
-    return null;
+    return (value != null ? DateTimeConverter.printDateTime(value) : null);
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -196,7 +205,10 @@ public class TDateTime extends AMetadata<TDateTime> implements IMetadataType, Co
     if (this.value == null) {
       return -1;
     }
-    return -1 * this.value.compareTo(obj.getValue());
+    if (obj.value == null) {
+      return 1;
+    }
+    return -1 * this.value.compareTo(obj.value);
   }
 //</editor-fold>
 }
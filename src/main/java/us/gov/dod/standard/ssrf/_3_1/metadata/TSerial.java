@@ -24,6 +24,7 @@ import java.util.regex.Pattern;
 import javax.xml.bind.annotation.*;
 import us.gov.dod.standard.ssrf.EDatasetType;
 import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.adapter.FormatValidator;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
 
@@ -71,6 +72,10 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * The SERIAL number string pattern.
    */
   private static final String PATTERN = "^([A-Z0-9-]{1,5}):(\\w{0,4}):([A-Z]{2}):(\\S{1,15})$";
+  /**
+   * The compiled SERIAL number pattern. Pattern instances are thread safe.
+   */
+  private static final Pattern COMPILED_PATTERN = Pattern.compile(PATTERN);
 
   /**
    * The value to which the metadata attributes are associated.
@@ -202,7 +207,23 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    */
   private void parse() throws IllegalArgumentException {
     if (value != null && !value.isEmpty()) {
-      Matcher m = Pattern.compile(PATTERN).matcher(value);
+      /**
+       * Split canonical values at the first three separators. The country,
+       * organisation and dataset type parts may not contain a colon. Note that
+       * each setter re-formats the value field.
+       */
+      if (FormatValidator.isSerial(value)) {
+        String v = value;
+        int first = v.indexOf(':');
+        int second = v.indexOf(':', first + 1);
+        int third = second + 3;
+        setCountry(ListCCY.valueOf(v.substring(0, first)));
+        setOrganisation(v.substring(first + 1, second));
+        setDatasetType(EDatasetType.valueOf(v.substring(second + 1, third)));
+        setSerial(v.substring(third + 1));
+        return;
+      }
+      Matcher m = COMPILED_PATTERN.matcher(value);
       if (m.find()) {
         setCountry(ListCCY.valueOf(m.group(1)));
         setOrganisation(m.group(2));
@@ -358,14 +379,13 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
   /**
    * Gets the SSRF SERIAL number value.
    * <p>
-   * Calls {@link #format()} first to ensure the returned value reflects the
-   * most recent changes to the serial components.
+   * The value is formatted when the serial components change and is returned
+   * here without further processing.
    * <p>
    * @return the value of the value property.
    */
   @Override
   public String getValue() {
-    format();
     return value;
   }
 
@@ -522,9 +542,6 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
   /**
    * Gets the SSRF SERIAL number value.
    * <p>
-   * Calls {@link #format()} first to ensure the returned value reflects the
-   * most recent changes to the serial components.
-   * <p>
    * This is a shortcut to {@link #getValue()}.
    * <p>
    * @return the formatted SSRF SERIAL number value.
@@ -536,20 +553,13 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
   /**
-   * Hash code is based upon the user-configured serial number portion of the
-   * value.
+   * Hash code is based upon the SERIAL number value.
    * <p>
-   * @return a hash code of the user-configured serial number portion
+   * @return a hash code of the SERIAL number value
    */
   @Override
   public int hashCode() {
-    if (this.serial == null) {
-      return super.hashCode();
-    }
-    int hash = 5;
-    hash = 47 * hash + Objects.hashCode(this.value);
-    hash = 47 * hash + Objects.hashCode(this.serial);
-    return hash;
+    return value != null ? value.hashCode() : super.hashCode();
   }
 
   /**
@@ -571,7 +581,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
      * If the whole value matches then confirm equality. This is triggered when
      * unmarshaling from XML.
      */
-    if (Objects.equals(this.value, ((TSerial) obj).getValue())) {
+    if (Objects.equals(this.value, ((TSerial) obj).value)) {
       return true;
     }
     /**
@@ -579,7 +589,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
      * triggered when marshaling TO xml AND also accommodates resetting the
      * country code.
      */
-    return Objects.equals(this.serial, ((TSerial) obj).getSerial());
+    return this.serial != null && this.serial.equals(((TSerial) obj).serial);
   }
 
   /**
@@ -596,6 +606,9 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
     if (value == null) {
       return -1;
     }
-    return value.compareTo(o.getValue());
+    if (o.value == null) {
+      return 1;
+    }
+    return value.compareTo(o.value);
   }//</editor-fold>
 }
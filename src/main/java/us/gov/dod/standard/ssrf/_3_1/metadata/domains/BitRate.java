@@ -16,14 +16,15 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterBITRATE;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.ScaledValue;
 
 /**
  * The SSRF BitRate data type.
@@ -32,15 +33,29 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
  * @version 3.1.0, 03/30/2015
  */
 @XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "BitRate", propOrder = {"value"})
+@XmlType(name = "BitRate", propOrder = {"xmlValue"})
 public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
 
+  /**
+   * 3. The number of fraction digits held by the scaled value.
+   */
+  private static final int SCALE = 3;
+
   /**
    * The value property.
+   * <p>
+   * The value is held as a long scaled by 10^3 ({@link ScaledValue#UNSET} if
+   * not set) and is bound to XML by the {@link #getXmlValue()} accessor.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterBITRATE.class)
-  protected BigDecimal value;
+  @XmlTransient
+  private long value = ScaledValue.UNSET;
+
+  /**
+   * The value if it cannot be held by the scaled long (see
+   * {@link ScaledValue#INEXACT}); otherwise null.
+   */
+  @XmlTransient
+  private BigDecimal inexact;
 
   /**
    * Construct a new, empty BitRate instance.
@@ -54,7 +69,7 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    * @param value The initial value.
    */
   public BitRate(BigDecimal value) {
-    this.value = value;
+    setValue(value);
   }
 
   /**
@@ -63,7 +78,7 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    * @param value The initial value.
    */
   public BitRate(Double value) {
-    this.value = BigDecimal.valueOf(value);
+    setValue(BigDecimal.valueOf(value));
   }
 
   /**
@@ -72,7 +87,7 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    * @return the value of the value property
    */
   public BigDecimal getValue() {
-    return value;
+    return ScaledValue.toBigDecimal(value, inexact, SCALE);
   }
 
   /**
@@ -81,7 +96,8 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    * @param value the value
    */
   public void setValue(BigDecimal value) {
-    this.value = value;
+    this.value = ScaledValue.valueOf(value, SCALE);
+    this.inexact = this.value == ScaledValue.INEXACT ? value : null;
   }
 
   /**
@@ -90,7 +106,31 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != ScaledValue.UNSET;
+  }
+
+  /**
+   * Get the value of the value property as a double. This does not allocate.
+   * <p>
+   * @return the value of the value property, NaN if not set
+   */
+  public double doubleValue() {
+    return ScaledValue.toDouble(value, inexact, SCALE);
+  }
+
+  /**
+   * JAXB property accessor for the value property.
+   * <p>
+   * @return the value of the value property
+   */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterBITRATE.class)
+  private BigDecimal getXmlValue() {
+    return getValue();
+  }
+
+  private void setXmlValue(BigDecimal value) {
+    setValue(value);
   }
 
   /**
@@ -113,7 +153,7 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    */
   @Override
   public String toString() {
-    return this.value != null ? this.value.toString() : null;
+    return isSetValue() ? getValue().toString() : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -125,7 +165,7 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + ScaledValue.hashCode(value, inexact);
     return hash;
   }
 
@@ -133,7 +173,7 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
    * Equality is based upon the value.
    * <p>
    * @param obj the other object to compare.
-   * @return TRUE if the values match exactly.
+   * @return TRUE if the values are numerically equal.
    */
   @Override
   public boolean equals(Object obj) {
@@ -143,7 +183,8 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((BitRate) obj).getValue());
+    final BitRate other = (BitRate) obj;
+    return ScaledValue.equals(value, inexact, other.value, other.inexact);
   }
 
   /**
@@ -157,9 +198,12 @@ public class BitRate extends AMetadata<BitRate> implements Comparable<BitRate> {
     if (obj == null) {
       return -1;
     }
-    if (this.value == null) {
+    if (!isSetValue()) {
       return 1;
     }
-    return this.value.compareTo(obj.getValue());
+    if (!obj.isSetValue()) {
+      return -1;
+    }
+    return ScaledValue.compare(value, inexact, obj.value, obj.inexact, SCALE);
   }//</editor-fold>
 }
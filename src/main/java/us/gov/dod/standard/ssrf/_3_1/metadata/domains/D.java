@@ -15,7 +15,6 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Objects;
@@ -25,6 +24,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.adapter.DateTimeConverter;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterDATE;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 
@@ -38,25 +38,17 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 @XmlType(name = "D", propOrder = {"value"})
 public class D extends AMetadata<D> implements Comparable<D> {
 
-  /**
-   * UTC. The default time zone.
-   */
-  private static final TimeZone TIMEZONE = TimeZone.getTimeZone("UTC");
-  /**
-   * "yyyy-MM-dd". The Date pattern.
-   * <p>
-   * D is a date value formatted in 10 characters as YYYY-MM-DD
-   * (year-month-day). This format is compliant with the W3C Recommendation on
-   * XML Schema.
-   */
-  private static final String PATTERN = "yyyy-MM-dd";
 
   /**
    * The value property.
+   * <p>
+   * The value is stored as the epoch day of the calendar date: the number of
+   * days since 1970-01-01. A date is not an instant and reads and prints the
+   * same in every time zone.
    */
   @XmlValue
   @XmlJavaTypeAdapter(XmlAdapterDATE.class)
-  protected Calendar value;
+  protected Long value;
 
   /**
    * Construct a new, empty D instance.
@@ -85,34 +77,62 @@ public class D extends AMetadata<D> implements Comparable<D> {
   /**
    * Gets the value of the value property.
    * <p>
+   * A new Calendar instance set to midnight at the start of the date in the
+   * default time zone is returned on each call. Use {@link #getEpochDay()} to
+   * read the value without creating a Calendar.
+   * <p>
    * @return the value of the value property.
    */
   public Calendar getValue() {
-    return (value != null ? (Calendar) value.clone() : null);
+    if (value == null) {
+      return null;
+    }
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTimeInMillis(DateTimeConverter.toEpochMillis(value, calendar.getTimeZone()));
+    return calendar;
+  }
+
+  /**
+   * Gets the value of the value property as an epoch day.
+   * <p>
+   * @return the number of days since 1970-01-01; NULL if the value is not
+   *         set.
+   * @since 3.1.0
+   */
+  public Long getEpochDay() {
+    return value;
+  }
+
+  /**
+   * Sets the value of the value property as an epoch day.
+   * <p>
+   * @param value the number of days since 1970-01-01
+   * @since 3.1.0
+   */
+  public final void setEpochDay(Long value) {
+    this.value = value;
   }
 
   /**
    * Sets the value of the value property.
    * <p>
+   * The calendar date is read in the time zone of the Calendar.
+   * <p>
    * @param value the value to set
    */
   public final void setValue(Calendar value) {
-    this.value = (value != null ? (Calendar) value.clone() : null);
-    this.value.setTimeZone(TIMEZONE);
+    this.value = (value != null ? DateTimeConverter.toEpochDay(value.getTimeInMillis(), value.getTimeZone()) : null);
   }
 
   /**
    * Sets the value of the value property.
    * <p>
+   * The calendar date is read in the default time zone.
+   * <p>
    * @param value the value to set
    */
   public final void setValue(Date value) {
-    if (value != null) {
-      this.value = Calendar.getInstance(TIMEZONE);
-      this.value.setTime(value);
-    } else {
-      this.value = null;
-    }
+    this.value = (value != null ? DateTimeConverter.toEpochDay(value.getTime(), TimeZone.getDefault()) : null);
   }
 
   /**
@@ -144,12 +164,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
    */
   @Override
   public String toString() {
-    if (value != null) {
-      SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
-      sdf.setCalendar(value);
-      return sdf.format(value.getTime());
-    }
-    return null;
+    return (value != null ? DateTimeConverter.printDate(value) : null);
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -179,7 +194,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((D) obj).getValue());
+    return Objects.equals(this.value, ((D) obj).value);
   }
 
   /**
@@ -196,6 +211,9 @@ public class D extends AMetadata<D> implements Comparable<D> {
     if (this.value == null) {
       return -1;
     }
-    return -1 * this.value.compareTo(obj.getValue());
+    if (obj.value == null) {
+      return 1;
+    }
+    return -1 * this.value.compareTo(obj.value);
   }//</editor-fold>
 }
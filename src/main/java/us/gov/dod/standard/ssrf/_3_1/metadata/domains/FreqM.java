@@ -16,14 +16,15 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterFREQM;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.ScaledValue;
 
 /**
  * The SSRF FreqM data type.
@@ -32,17 +33,31 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
  * @version 3.1.0, 03/30/2015
  */
 @XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "FreqM", propOrder = {"value"})
+@XmlType(name = "FreqM", propOrder = {"xmlValue"})
 public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
 
+  /**
+   * 9. The number of fraction digits held by the scaled value.
+   */
+  private static final int SCALE = 9;
+
   /**
    * The value property; frequency in MHz.
    * <p>
    * Format is UN(16,9) [0..1.0E9](MHz)
+   * <p>
+   * The value is held as a long scaled by 10^9 ({@link ScaledValue#UNSET} if
+   * not set) and is bound to XML by the {@link #getXmlValue()} accessor.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterFREQM.class)
-  protected BigDecimal value;
+  @XmlTransient
+  private long value = ScaledValue.UNSET;
+
+  /**
+   * The value if it cannot be held by the scaled long (see
+   * {@link ScaledValue#INEXACT}); otherwise null.
+   */
+  @XmlTransient
+  private BigDecimal inexact;
 
   /**
    * Construct a new, empty FreqM instance.
@@ -56,7 +71,7 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    * @param value The initial value.
    */
   public FreqM(BigDecimal value) {
-    this.value = value;
+    setValue(value);
   }
 
   /**
@@ -65,7 +80,7 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    * @param value The initial value.
    */
   public FreqM(Double value) {
-    this.value = BigDecimal.valueOf(value);
+    setValue(BigDecimal.valueOf(value));
   }
 
   /**
@@ -74,7 +89,7 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    * @return the value of the value property
    */
   public BigDecimal getValue() {
-    return value;
+    return ScaledValue.toBigDecimal(value, inexact, SCALE);
   }
 
   /**
@@ -83,7 +98,8 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    * @param value the value
    */
   public void setValue(BigDecimal value) {
-    this.value = value;
+    this.value = ScaledValue.valueOf(value, SCALE);
+    this.inexact = this.value == ScaledValue.INEXACT ? value : null;
   }
 
   /**
@@ -92,7 +108,31 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != ScaledValue.UNSET;
+  }
+
+  /**
+   * Get the value of the value property as a double. This does not allocate.
+   * <p>
+   * @return the value of the value property, NaN if not set
+   */
+  public double doubleValue() {
+    return ScaledValue.toDouble(value, inexact, SCALE);
+  }
+
+  /**
+   * JAXB property accessor for the value property.
+   * <p>
+   * @return the value of the value property
+   */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterFREQM.class)
+  private BigDecimal getXmlValue() {
+    return getValue();
+  }
+
+  private void setXmlValue(BigDecimal value) {
+    setValue(value);
   }
 
   /**
@@ -115,7 +155,7 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    */
   @Override
   public String toString() {
-    return this.value != null ? this.value.toString() : null;
+    return isSetValue() ? getValue().toString() : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -127,7 +167,7 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + ScaledValue.hashCode(value, inexact);
     return hash;
   }
 
@@ -135,7 +175,7 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
    * Equality is based upon the value.
    * <p>
    * @param obj the other object to compare.
-   * @return TRUE if the values match exactly.
+   * @return TRUE if the values are numerically equal.
    */
   @Override
   public boolean equals(Object obj) {
@@ -145,7 +185,8 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((FreqM) obj).getValue());
+    final FreqM other = (FreqM) obj;
+    return ScaledValue.equals(value, inexact, other.value, other.inexact);
   }
 
   /**
@@ -159,9 +200,12 @@ public class FreqM extends AMetadata<FreqM> implements Comparable<FreqM> {
     if (obj == null) {
       return -1;
     }
-    if (this.value == null) {
+    if (!isSetValue()) {
       return 1;
     }
-    return this.value.compareTo(obj.getValue());
+    if (!obj.isSetValue()) {
+      return -1;
+    }
+    return ScaledValue.compare(value, inexact, obj.value, obj.inexact, SCALE);
   }//</editor-fold>
 }
@@ -16,14 +16,15 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterLAT;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.ScaledValue;
 
 /**
  * The SSRF Latitude data type.
@@ -45,15 +46,29 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
  * @version 3.1.0, 04/04/2015
  */
 @XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "Lat", propOrder = {"value"})
+@XmlType(name = "Lat", propOrder = {"xmlValue"})
 public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
 
+  /**
+   * 9. The number of fraction digits held by the scaled value.
+   */
+  private static final int SCALE = 9;
+
   /**
    * The value property in decimal degrees.
+   * <p>
+   * The value is held as a long scaled by 10^9 ({@link ScaledValue#UNSET} if
+   * not set) and is bound to XML by the {@link #getXmlValue()} accessor.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterLAT.class)
-  protected BigDecimal value;
+  @XmlTransient
+  private long value = ScaledValue.UNSET;
+
+  /**
+   * The value if it cannot be held by the scaled long (see
+   * {@link ScaledValue#INEXACT}); otherwise null.
+   */
+  @XmlTransient
+  private BigDecimal inexact;
 
   /**
    * Construct a new, empty Lat instance.
@@ -67,7 +82,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @param value The initial value in decimal degrees.
    */
   public Lat(BigDecimal value) {
-    this.value = value;
+    setValue(value);
   }
 
   /**
@@ -76,7 +91,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @param value The initial value in decimal degrees.
    */
   public Lat(Double value) {
-    this.value = BigDecimal.valueOf(value);
+    setValue(BigDecimal.valueOf(value));
   }
 
   /**
@@ -94,7 +109,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @throws Exception if the value fails to parse
    */
   public Lat(String value) throws Exception {
-    this.value = (BigDecimal) new XmlAdapterLAT().unmarshal(value);
+    setValue((BigDecimal) new XmlAdapterLAT().unmarshal(value));
   }
 
   /**
@@ -103,7 +118,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @return the value of the value property in decimal degrees.
    */
   public BigDecimal getValue() {
-    return value;
+    return ScaledValue.toBigDecimal(value, inexact, SCALE);
   }
 
   /**
@@ -112,7 +127,8 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @param value the value in decimal degrees.
    */
   public void setValue(BigDecimal value) {
-    this.value = value;
+    this.value = ScaledValue.valueOf(value, SCALE);
+    this.inexact = this.value == ScaledValue.INEXACT ? value : null;
   }
 
   /**
@@ -121,7 +137,31 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != ScaledValue.UNSET;
+  }
+
+  /**
+   * Get the value of the value property as a double. This does not allocate.
+   * <p>
+   * @return the value of the value property, NaN if not set
+   */
+  public double doubleValue() {
+    return ScaledValue.toDouble(value, inexact, SCALE);
+  }
+
+  /**
+   * JAXB property accessor for the value property.
+   * <p>
+   * @return the value of the value property
+   */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterLAT.class)
+  private BigDecimal getXmlValue() {
+    return getValue();
+  }
+
+  private void setXmlValue(BigDecimal value) {
+    setValue(value);
   }
 
   /**
@@ -144,7 +184,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    */
   @Override
   public String toString() {
-    return this.value != null ? this.value.toString() : null;
+    return isSetValue() ? getValue().toString() : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -156,7 +196,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + ScaledValue.hashCode(value, inexact);
     return hash;
   }
 
@@ -164,7 +204,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * Equality is based upon the value.
    * <p>
    * @param obj the other object to compare.
-   * @return TRUE if the values match exactly.
+   * @return TRUE if the values are numerically equal.
    */
   @Override
   public boolean equals(Object obj) {
@@ -174,7 +214,8 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((Lat) obj).getValue());
+    final Lat other = (Lat) obj;
+    return ScaledValue.equals(value, inexact, other.value, other.inexact);
   }
 
   /**
@@ -188,9 +229,12 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
     if (obj == null) {
       return -1;
     }
-    if (this.value == null) {
+    if (!isSetValue()) {
       return 1;
     }
-    return this.value.compareTo(obj.getValue());
+    if (!obj.isSetValue()) {
+      return -1;
+    }
+    return ScaledValue.compare(value, inexact, obj.value, obj.inexact, SCALE);
   }//</editor-fold>
 }
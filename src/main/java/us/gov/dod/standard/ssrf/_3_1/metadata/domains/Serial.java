@@ -19,11 +19,12 @@ import java.math.BigInteger;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.EDatasetType;
+import us.gov.dod.standard.ssrf.SequenceSerialAllocator;
+import us.gov.dod.standard.ssrf.SerialAllocator;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterSERIAL;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
@@ -58,6 +59,12 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
  * whose meaning is left at the discretion of each domain manager.</li>
  * </ol>
  * <p>
+ * <em>Developer note</em>: Serial is mutable, and {@link #hashCode()} and
+ * {@link #equals(Object)} are based upon the formatted value. A Serial used as
+ * a hash key (e.g. in a serial index or cache) MUST NOT be modified while it
+ * is a key; copy it with {@code new Serial(serial.getValue())} first if the
+ * original may change.
+ * <p>
  * Format is pattern (S29) with validation type SERIAL
  * <p>
  * [XSD ERR REGEX] This data item MUST comply to the regular expression:
@@ -75,6 +82,11 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
    */
   private static final String PATTERN = "^([A-Z0-9-]{1,5}):(\\w{0,4}):([A-Z]{2}):(\\S{1,15})$";
 
+  /**
+   * The serial number allocator used to create new dataset serial numbers.
+   */
+  private static volatile SerialAllocator allocator = new SequenceSerialAllocator();
+
   /**
    * The value property.
    */
@@ -156,9 +168,11 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
   /**
    * Get a Serial instance for the indicated class instance.
    * <p>
-   * The local is set to the current system default. The serial is
-   * programmatically set to a time-sequenced, UUID-based 15-character snippet.
-   * The organisation is left blank and may be set by th user.
+   * The serial number is allocated by the configured {@link SerialAllocator}.
+   * By default this is a {@link SequenceSerialAllocator} where the locale is
+   * set to the current system default, the organisation is left blank and the
+   * serial is a session-tagged sequence number. The organisation may be set by
+   * the user.
    * <p>
    * @param clazz a SSRF class type that extends Common
    * @return a Serial instance
@@ -166,10 +180,60 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
    *                                  Common
    */
   public static Serial getInstance(Class<? extends Common<?>> clazz) {
-    return new Serial()
-            .withLocale(Locale.getDefault())
-            .withDatasetType(clazz)
-            .withSerial(uuidSnippet());
+    return allocator.allocate(EDatasetType.fromInstance(clazz));
+  }
+
+  /**
+   * Get a Serial instance from its component parts.
+   * <p>
+   * This method sets the components directly and formats the serial number
+   * value once. It is intended for use by {@link SerialAllocator}
+   * implementations.
+   * <p>
+   * @param country      the serial number Country part (REQUIRED)
+   * @param organisation the serial number Organisation code (OPTIONAL). Format
+   *                     is S4.
+   * @param datasetType  the dataset type (REQUIRED)
+   * @param serial       the serial number Serial identifier (REQUIRED). Format
+   *                     is S15.
+   * @return a Serial instance
+   * @throws IllegalArgumentException if a component is too long
+   */
+  public static Serial getInstance(ListCCY country, String organisation, EDatasetType datasetType, String serial) {
+    if (organisation != null && organisation.length() > 4) {
+      throw new IllegalArgumentException("String length violation S4 [0, 4]. Length is " + organisation.length() + " for \"" + organisation + "\"");
+    }
+    if (serial.length() > 15) {
+      throw new IllegalArgumentException("String length violation S15 [1, 15]. Length is " + serial.length() + " for \"" + serial + "\"");
+    }
+    Serial instance = new Serial();
+    instance.country = country;
+    instance.organisation = organisation;
+    instance.datasetType = datasetType;
+    instance.serial = serial;
+    instance.format();
+    return instance;
+  }
+
+  /**
+   * Get the serial number allocator used by {@link #getInstance(Class)}.
+   * <p>
+   * @return the current serial number allocator
+   */
+  public static SerialAllocator getAllocator() {
+    return allocator;
+  }
+
+  /**
+   * Set the serial number allocator used by {@link #getInstance(Class)}.
+   * <p>
+   * The allocator applies to all datasets constructed after it is set.
+   * <p>
+   * @param serialAllocator a serial number allocator. If null the default
+   *                        {@link SequenceSerialAllocator} is restored.
+   */
+  public static void setAllocator(SerialAllocator serialAllocator) {
+    allocator = serialAllocator != null ? serialAllocator : new SequenceSerialAllocator();
   }
 
   /**
@@ -188,9 +252,12 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
 
   /**
    * Internal method to build the internal SERIAL number value.
+   * <p>
+   * This is called once for each component change. The formatted value is
+   * retained and returned by {@link #getValue()} without further formatting.
    */
   private void format() {
-    StringBuilder sb = new StringBuilder();
+    StringBuilder sb = new StringBuilder(29);
     sb.append(country != null ? country.name() : "")
             .append(":")
             .append(organisation != null ? organisation : "")
@@ -205,21 +272,78 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
    * Internal method to parse a SERIAL number value and set the internal
    * components.
    * <p>
+   * This is a hand-written equivalent of the {@link #PATTERN} regular
+   * expression. The components are set directly; the value is not re-formatted
+   * as the parsed value is already in canonical form.
+   * <p>
    * @throws IllegalArgumentException if the value does not conform to the
    *                                  SERIAL format
    */
   private void parse() throws IllegalArgumentException {
-    if (value != null && !value.isEmpty()) {
-      Matcher m = Pattern.compile(PATTERN).matcher(value);
-      if (m.find()) {
-        setCountry(ListCCY.valueOf(m.group(1)));
-        setOrganisation(m.group(2));
-        setDatasetType(EDatasetType.valueOf(m.group(3)));
-        setSerial(m.group(4));
+    if (value == null || value.isEmpty()) {
+      return;
+    }
+    int countryEnd = value.indexOf(':');
+    int organisationEnd = countryEnd > 0 ? value.indexOf(':', countryEnd + 1) : -1;
+    int typeEnd = organisationEnd + 3;
+    if (countryEnd < 1 || countryEnd > 5
+        || organisationEnd < 0 || organisationEnd - countryEnd - 1 > 4
+        || typeEnd >= value.length() - 1 || value.charAt(typeEnd) != ':'
+        || value.length() - typeEnd - 1 > 15) {
+      throw new IllegalArgumentException("SERIAL format error " + PATTERN + " for \"" + value + "\"");
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      boolean valid;
+      if (i < countryEnd) {
+        valid = (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-';
+      } else if (i > countryEnd && i < organisationEnd) {
+        valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+      } else if (i > organisationEnd && i < typeEnd) {
+        valid = c >= 'A' && c <= 'Z';
+      } else if (i > typeEnd) {
+        valid = c != ' ' && c != '\t' && c != '\n' && c != '\u000B' && c != '\f' && c != '\r';
       } else {
+        valid = true; // separator
+      }
+      if (!valid) {
         throw new IllegalArgumentException("SERIAL format error " + PATTERN + " for \"" + value + "\"");
       }
     }
+    /**
+     * Resolve the code list values before setting any component so that a
+     * failed parse leaves the components unchanged.
+     */
+    ListCCY parsedCountry = ListCCY.valueOf(value.substring(0, countryEnd));
+    EDatasetType parsedDatasetType = EDatasetType.valueOf(value.substring(organisationEnd + 1, typeEnd));
+    this.country = parsedCountry;
+    this.organisation = value.substring(countryEnd + 1, organisationEnd);
+    this.datasetType = parsedDatasetType;
+    this.serial = value.substring(typeEnd + 1);
+  }
+
+  /**
+   * JAXB callback invoked after this Serial is unmarshalled from XML.
+   * <p>
+   * The imported value is parsed immediately so that the serial number
+   * components are available and consistent before the Serial is used.
+   * <p>
+   * A malformed serial number, or one with an unknown country or dataset type
+   * code, does not abort the unmarshal: the value is retained as imported and
+   * the components are left unparsed.
+   * <p>
+   * @param unmarshaller the unmarshaller
+   * @param parent       the parent object
+   */
+  private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    try {
+      parse();
+    } catch (IllegalArgumentException ex) {
+      /**
+       * Tolerate invalid serial numbers in incoming documents. The raw value
+       * is retained and is reported by validation.
+       */
+    }
   }
 
   /**
@@ -366,13 +490,12 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
   /**
    * Gets the SSRF SERIAL number value.
    * <p>
-   * Calls {@link #format()} first to ensure the returned value reflects the
-   * most recent changes to the serial components.
+   * The value is formatted when the serial components change and is returned
+   * here without further processing.
    * <p>
    * @return the value of the value property.
    */
   public String getValue() {
-    format();
     return value;
   }
 
@@ -529,9 +652,6 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
   /**
    * Gets the SSRF SERIAL number value.
    * <p>
-   * Calls {@link #format()} first to ensure the returned value reflects the
-   * most recent changes to the serial components.
-   * <p>
    * This is a shortcut to {@link #getValue()}.
    * <p>
    * @return the formatted SSRF SERIAL number value.
@@ -543,50 +663,40 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
   /**
-   * Hash code is based upon the user-configured serial number portion of the
-   * value.
+   * Hash code is based upon the SERIAL number value.
+   * <p>
+   * The value is held in canonical form (it is formatted from the serial
+   * number components or parsed into them) and is the key for hashCode,
+   * equals and compareTo alike. The value String caches its own hash code so
+   * this method does not allocate or re-compute the hash for an unchanged
+   * Serial. The hash code changes when any serial number component is set, so
+   * a Serial MUST NOT be modified while it is used as a hash key.
    * <p>
-   * @return a hash code of the user-configured serial number portion
+   * @return a hash code of the SERIAL number value
    */
   @Override
   public int hashCode() {
-    if (this.serial == null) {
-      return super.hashCode();
-    }
-    int hash = 5;
-    hash = 47 * hash + Objects.hashCode(this.value);
-    hash = 47 * hash + Objects.hashCode(this.serial);
-    return hash;
+    return Objects.hashCode(value);
   }
 
   /**
-   * Equality is based upon the user-configured serial number portion of the
-   * value.
+   * Equality is based upon the SERIAL number value.
    * <p>
    * @param obj the other object to compare
-   * @return TRUE if the serial number components are equal
+   * @return TRUE if the SERIAL number values are equal
    */
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
     if (obj == null) {
       return false;
     }
     if (getClass() != obj.getClass()) {
       return false;
     }
-    /**
-     * If the whole value matches then confirm equality. This is triggered when
-     * unmarshaling from XML.
-     */
-    if (Objects.equals(this.value, ((Serial) obj).getValue())) {
-      return true;
-    }
-    /**
-     * If the serial-component matches then also confirm equality. This is
-     * triggered when marshaling TO xml AND also accommodates resetting the
-     * country code.
-     */
-    return Objects.equals(this.serial, ((Serial) obj).getSerial());
+    return Objects.equals(this.value, ((Serial) obj).value);
   }
 
   /**
@@ -603,6 +713,9 @@ public class Serial extends AMetadata<Serial> implements Comparable<Serial> {
     if (value == null) {
       return -1;
     }
-    return value.compareTo(o.getValue());
+    if (o.value == null) {
+      return 1;
+    }
+    return value.compareTo(o.value);
   }//</editor-fold>
 }
@@ -16,10 +16,12 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.util.Objects;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
+import us.gov.dod.standard.ssrf.SSRFInterner;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_1.metadata.IMetadataType;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -153,6 +155,22 @@ public class TString extends AMetadata<TString> implements Comparable<TString> {
     return value;
   }
 
+  /**
+   * JAXB callback invoked after this TString is unmarshalled from XML.
+   * <p>
+   * TString values are not read through a String adapter; share the value
+   * with equal values in the document here if an interner is in use.
+   * <p>
+   * @param unmarshaller the unmarshaller
+   * @param parent       the parent object
+   */
+  private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    SSRFInterner interner = SSRFInterner.getCurrent();
+    if (interner != null) {
+      value = interner.intern(value);
+    }
+  }
+
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
   /**
    * Hash code is based upon the String value.
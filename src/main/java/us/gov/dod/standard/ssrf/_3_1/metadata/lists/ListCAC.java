@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -41,6 +43,16 @@ public enum ListCAC {
   @XmlEnumValue("Delete List")
   DELETE_LIST("Delete List");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAC> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAC(String v) {
     value = v;
@@ -51,12 +63,11 @@ public enum ListCAC {
   }
 
   public static ListCAC fromValue(String v) {
-    for (ListCAC c : ListCAC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +51,16 @@ public enum ListCAD {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAD> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAD(String v) {
     value = v;
@@ -59,12 +71,11 @@ public enum ListCAD {
   }
 
   public static ListCAD fromValue(String v) {
-    for (ListCAD c : ListCAD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -87,6 +89,16 @@ public enum ListCAF {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAF> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAF c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAF(String v) {
     value = v;
@@ -97,12 +109,11 @@ public enum ListCAF {
   }
 
   public static ListCAF fromValue(String v) {
-    for (ListCAF c : ListCAF.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAF c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -77,6 +79,16 @@ public enum ListCAL {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAL> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAL c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAL(String v) {
     value = v;
@@ -87,12 +99,11 @@ public enum ListCAL {
   }
 
   public static ListCAL fromValue(String v) {
-    for (ListCAL c : ListCAL.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAL c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
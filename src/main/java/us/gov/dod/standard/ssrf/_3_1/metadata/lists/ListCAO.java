@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -2216,6 +2218,16 @@ public enum ListCAO {
   OTHER("Other", "If selected, a clarifying remark SHOULD be entered");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
   private final String properName;
 
   private ListCAO(String value, String properName) {
@@ -2236,12 +2248,11 @@ public enum ListCAO {
   }
 
   public static ListCAO fromValue(String v) {
-    for (ListCAO c : ListCAO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,9 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +52,16 @@ public enum ListCAP {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAP> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAP c : values()) {
+      VALUES.put(c.value.toUpperCase(Locale.ENGLISH), c);
+    }
+  }
 
   ListCAP(String v) {
     value = v;
@@ -66,12 +79,11 @@ public enum ListCAP {
    * @return the matching ListCAP value
    */
   public static ListCAP fromValue(String v) {
-    for (ListCAP c : ListCAP.values()) {
-      if (c.value.equalsIgnoreCase(v)) {
-        return c;
-      }
+    ListCAP c = VALUES.get(v == null ? null : v.toUpperCase(Locale.ENGLISH));
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
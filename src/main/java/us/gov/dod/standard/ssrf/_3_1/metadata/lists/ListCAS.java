@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -77,6 +79,16 @@ public enum ListCAS {
   OTHER("Other");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAS(String v) {
     value = v;
@@ -87,12 +99,11 @@ public enum ListCAS {
   }
 
   public static ListCAS fromValue(String v) {
-    for (ListCAS c : ListCAS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -411,6 +413,16 @@ public enum ListCAT {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAT> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAT c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAT(String v) {
     value = v;
@@ -421,12 +433,11 @@ public enum ListCAT {
   }
 
   public static ListCAT fromValue(String v) {
-    for (ListCAT c : ListCAT.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAT c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -46,6 +48,16 @@ public enum ListCAU {
   @XmlEnumValue("Transmit-Receive")
   TRANSMIT_RECEIVE("Transmit-Receive");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCAU> VALUES = new HashMap<>();
+
+  static {
+    for (ListCAU c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCAU(String v) {
     value = v;
@@ -56,12 +68,11 @@ public enum ListCAU {
   }
 
   public static ListCAU fromValue(String v) {
-    for (ListCAU c : ListCAU.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCAU c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -54,6 +56,16 @@ public enum ListCBD {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCBD> VALUES = new HashMap<>();
+
+  static {
+    for (ListCBD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCBD(String v) {
     value = v;
@@ -64,12 +76,11 @@ public enum ListCBD {
   }
 
   public static ListCBD fromValue(String v) {
-    for (ListCBD c : ListCBD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCBD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -63,6 +65,16 @@ public enum ListCBO {
   @XmlEnumValue("No")
   NO("No");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCBO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCBO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCBO(String v) {
     value = v;
@@ -73,12 +85,11 @@ public enum ListCBO {
   }
 
   public static ListCBO fromValue(String v) {
-    for (ListCBO c : ListCBO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCBO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
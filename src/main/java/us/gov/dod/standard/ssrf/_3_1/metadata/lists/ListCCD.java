@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -51,6 +53,16 @@ public enum ListCCD {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCCD> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCCD(String v) {
     value = v;
@@ -61,12 +73,11 @@ public enum ListCCD {
   }
 
   public static ListCCD fromValue(String v) {
-    for (ListCCD c : ListCCD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCCD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
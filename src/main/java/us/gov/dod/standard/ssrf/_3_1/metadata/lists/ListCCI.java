@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -55,6 +57,16 @@ public enum ListCCI {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCCI> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCI c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCCI(String v) {
     value = v;
@@ -65,12 +77,11 @@ public enum ListCCI {
   }
 
   public static ListCCI fromValue(String v) {
-    for (ListCCI c : ListCCI.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCCI c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
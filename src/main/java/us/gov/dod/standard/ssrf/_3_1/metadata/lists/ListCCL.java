@@ -15,7 +15,9 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -83,6 +85,17 @@ public enum ListCCL {
   TOP_SECRET("T");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by XML value and by name.
+   */
+  private static final Map<String, ListCCL> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCL c : values()) {
+      VALUES.put(c.value, c);
+      VALUES.put(c.name(), c);
+    }
+  }
 
   private ListCCL(String value) {
     this.value = value;
@@ -103,6 +116,10 @@ public enum ListCCL {
    * @return an enumerated instance
    */
   public static ListCCL fromValue(String v) {
+    ListCCL c = VALUES.get(v);
+    if (c != null) {
+      return c;
+    }
     for (ListCCL value : values()) {
       if (value.name().startsWith(v.toUpperCase(Locale.getDefault()))) {
         return value;
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -53,6 +55,16 @@ public enum ListCCN {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCCN> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCN c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCCN(String v) {
     value = v;
@@ -63,12 +75,11 @@ public enum ListCCN {
   }
 
   public static ListCCN fromValue(String v) {
-    for (ListCCN c : ListCCN.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCCN c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -56,6 +58,16 @@ public enum ListCCO {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCCO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCCO(String v) {
     value = v;
@@ -66,12 +78,11 @@ public enum ListCCO {
   }
 
   public static ListCCO fromValue(String v) {
-    for (ListCCO c : ListCCO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCCO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
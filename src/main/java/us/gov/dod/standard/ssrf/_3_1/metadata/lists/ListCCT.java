@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -51,6 +53,16 @@ public enum ListCCT {
   @XmlEnumValue("Tx RF Spectrum")
   TX_RF_SPECTRUM("Tx RF Spectrum");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCCT> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCT c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCCT(String v) {
     value = v;
@@ -61,12 +73,11 @@ public enum ListCCT {
   }
 
   public static ListCCT fromValue(String v) {
-    for (ListCCT c : ListCCT.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCCT c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
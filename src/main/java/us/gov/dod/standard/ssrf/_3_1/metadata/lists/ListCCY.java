@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -867,6 +869,16 @@ public enum ListCCY {
   ZWE("ZWE");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCCY> VALUES = new HashMap<>();
+
+  static {
+    for (ListCCY c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCCY(String v) {
     value = v;
@@ -877,12 +889,11 @@ public enum ListCCY {
   }
 
   public static ListCCY fromValue(String v) {
-    for (ListCCY c : ListCCY.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCCY c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -39,6 +41,16 @@ public enum ListCDD {
   @XmlEnumValue("Superseded")
   SUPERSEDED("Superseded");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCDD> VALUES = new HashMap<>();
+
+  static {
+    for (ListCDD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCDD(String v) {
     value = v;
@@ -49,12 +61,11 @@ public enum ListCDD {
   }
 
   public static ListCDD fromValue(String v) {
-    for (ListCDD c : ListCDD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCDD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -57,6 +59,16 @@ public enum ListCDF {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCDF> VALUES = new HashMap<>();
+
+  static {
+    for (ListCDF c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCDF(String v) {
     value = v;
@@ -67,12 +79,11 @@ public enum ListCDF {
   }
 
   public static ListCDF fromValue(String v) {
-    for (ListCDF c : ListCDF.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCDF c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
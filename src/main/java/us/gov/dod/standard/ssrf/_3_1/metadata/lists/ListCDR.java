@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +51,16 @@ public enum ListCDR {
   @XmlEnumValue("Data Retired")
   DATA_RETIRED("Data Retired");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCDR> VALUES = new HashMap<>();
+
+  static {
+    for (ListCDR c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCDR(String v) {
     value = v;
@@ -59,12 +71,11 @@ public enum ListCDR {
   }
 
   public static ListCDR fromValue(String v) {
-    for (ListCDR c : ListCDR.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCDR c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -39,6 +41,16 @@ public enum ListCDS {
   @XmlEnumValue("Minimum")
   MINIMUM("Minimum");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCDS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCDS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCDS(String v) {
     value = v;
@@ -49,12 +61,11 @@ public enum ListCDS {
   }
 
   public static ListCDS fromValue(String v) {
-    for (ListCDS c : ListCDS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCDS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
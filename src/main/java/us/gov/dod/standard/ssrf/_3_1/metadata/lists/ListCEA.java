@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -37,6 +39,16 @@ public enum ListCEA {
   @XmlEnumValue("Typical")
   TYPICAL("Typical");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCEA> VALUES = new HashMap<>();
+
+  static {
+    for (ListCEA c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCEA(String v) {
     value = v;
@@ -47,12 +59,11 @@ public enum ListCEA {
   }
 
   public static ListCEA fromValue(String v) {
-    for (ListCEA c : ListCEA.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCEA c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
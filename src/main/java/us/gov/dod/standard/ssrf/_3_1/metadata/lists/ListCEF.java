@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -357,6 +359,16 @@ public enum ListCEF {
   OTHER("Other");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCEF> VALUES = new HashMap<>();
+
+  static {
+    for (ListCEF c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCEF(String v) {
     value = v;
@@ -367,12 +379,11 @@ public enum ListCEF {
   }
 
   public static ListCEF fromValue(String v) {
-    for (ListCEF c : ListCEF.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCEF c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
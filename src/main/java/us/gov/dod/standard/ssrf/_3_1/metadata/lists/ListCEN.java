@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -46,6 +48,16 @@ public enum ListCEN {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCEN> VALUES = new HashMap<>();
+
+  static {
+    for (ListCEN c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCEN(String v) {
     value = v;
@@ -56,12 +68,11 @@ public enum ListCEN {
   }
 
   public static ListCEN fromValue(String v) {
-    for (ListCEN c : ListCEN.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCEN c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
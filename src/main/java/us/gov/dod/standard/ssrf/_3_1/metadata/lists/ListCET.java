@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -169,6 +171,16 @@ public enum ListCET {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCET> VALUES = new HashMap<>();
+
+  static {
+    for (ListCET c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCET(String v) {
     value = v;
@@ -179,12 +191,11 @@ public enum ListCET {
   }
 
   public static ListCET fromValue(String v) {
-    for (ListCET c : ListCET.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCET c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
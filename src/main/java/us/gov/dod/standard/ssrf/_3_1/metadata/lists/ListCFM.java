@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -37,6 +39,16 @@ public enum ListCFM {
   @XmlEnumValue("Per Channel ")
   PER_CHANNEL("Per Channel ");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCFM> VALUES = new HashMap<>();
+
+  static {
+    for (ListCFM c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCFM(String v) {
     value = v;
@@ -47,12 +59,11 @@ public enum ListCFM {
   }
 
   public static ListCFM fromValue(String v) {
-    for (ListCFM c : ListCFM.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCFM c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
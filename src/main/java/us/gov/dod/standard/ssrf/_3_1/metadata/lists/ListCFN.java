@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -770,6 +772,16 @@ public enum ListCFN {
   @XmlEnumValue("OTHER OPS - TEST AND MEASUREMENT")
   OTHER_OPS_TEST_AND_MEASUREMENT("OTHER OPS - TEST AND MEASUREMENT");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCFN> VALUES = new HashMap<>();
+
+  static {
+    for (ListCFN c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCFN(String v) {
     value = v;
@@ -780,12 +792,11 @@ public enum ListCFN {
   }
 
   public static ListCFN fromValue(String v) {
-    for (ListCFN c : ListCFN.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCFN c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
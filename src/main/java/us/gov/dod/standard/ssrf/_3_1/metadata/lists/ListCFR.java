@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -40,6 +42,16 @@ public enum ListCFR {
   @XmlEnumValue("Sibling")
   SIBLING("Sibling");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCFR> VALUES = new HashMap<>();
+
+  static {
+    for (ListCFR c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCFR(String v) {
     value = v;
@@ -50,12 +62,11 @@ public enum ListCFR {
   }
 
   public static ListCFR fromValue(String v) {
-    for (ListCFR c : ListCFR.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCFR c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -43,6 +45,16 @@ public enum ListCFT {
   @XmlEnumValue("Reporting")
   REPORTING("Reporting");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCFT> VALUES = new HashMap<>();
+
+  static {
+    for (ListCFT c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCFT(String v) {
     value = v;
@@ -53,12 +65,11 @@ public enum ListCFT {
   }
 
   public static ListCFT fromValue(String v) {
-    for (ListCFT c : ListCFT.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCFT c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
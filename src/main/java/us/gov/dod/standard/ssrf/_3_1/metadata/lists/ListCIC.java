@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -77,6 +79,16 @@ public enum ListCIC {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCIC> VALUES = new HashMap<>();
+
+  static {
+    for (ListCIC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCIC(String v) {
     value = v;
@@ -87,12 +99,11 @@ public enum ListCIC {
   }
 
   public static ListCIC fromValue(String v) {
-    for (ListCIC c : ListCIC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCIC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -79,6 +81,16 @@ public enum ListCIN {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCIN> VALUES = new HashMap<>();
+
+  static {
+    for (ListCIN c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCIN(String v) {
     value = v;
@@ -89,12 +101,11 @@ public enum ListCIN {
   }
 
   public static ListCIN fromValue(String v) {
-    for (ListCIN c : ListCIN.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCIN c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
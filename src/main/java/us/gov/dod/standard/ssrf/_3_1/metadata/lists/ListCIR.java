@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -51,6 +53,16 @@ public enum ListCIR {
   @XmlEnumValue("Unfavourable")
   UNFAVOURABLE("Unfavourable");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCIR> VALUES = new HashMap<>();
+
+  static {
+    for (ListCIR c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCIR(String v) {
     value = v;
@@ -61,12 +73,11 @@ public enum ListCIR {
   }
 
   public static ListCIR fromValue(String v) {
-    for (ListCIR c : ListCIR.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCIR c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -43,6 +45,16 @@ public enum ListCJ1 {
   @XmlEnumValue("Meaconing")
   MEACONING("Meaconing");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCJ1> VALUES = new HashMap<>();
+
+  static {
+    for (ListCJ1 c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCJ1(String v) {
     value = v;
@@ -53,12 +65,11 @@ public enum ListCJ1 {
   }
 
   public static ListCJ1 fromValue(String v) {
-    for (ListCJ1 c : ListCJ1.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCJ1 c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
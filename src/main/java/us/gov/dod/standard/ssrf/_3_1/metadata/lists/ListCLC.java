@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -360,6 +362,16 @@ public enum ListCLC {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCLC> VALUES = new HashMap<>();
+
+  static {
+    for (ListCLC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCLC(String v) {
     value = v;
@@ -370,12 +382,11 @@ public enum ListCLC {
   }
 
   public static ListCLC fromValue(String v) {
-    for (ListCLC c : ListCLC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCLC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -39,6 +41,16 @@ public enum ListCLO {
   @XmlEnumValue("LO below RF")
   LO_BELOW_RF("LO below RF");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCLO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCLO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCLO(String v) {
     value = v;
@@ -49,12 +61,11 @@ public enum ListCLO {
   }
 
   public static ListCLO fromValue(String v) {
-    for (ListCLO c : ListCLO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCLO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
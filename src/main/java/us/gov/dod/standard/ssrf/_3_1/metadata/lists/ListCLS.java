@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -61,6 +63,16 @@ public enum ListCLS {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCLS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCLS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCLS(String v) {
     value = v;
@@ -71,12 +83,11 @@ public enum ListCLS {
   }
 
   public static ListCLS fromValue(String v) {
-    for (ListCLS c : ListCLS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCLS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -97,6 +99,16 @@ public enum ListCMC {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCMC> VALUES = new HashMap<>();
+
+  static {
+    for (ListCMC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCMC(String v) {
     value = v;
@@ -107,12 +119,11 @@ public enum ListCMC {
   }
 
   public static ListCMC fromValue(String v) {
-    for (ListCMC c : ListCMC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCMC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -183,6 +185,16 @@ public enum ListCMO {
   OTHER("Other");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCMO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCMO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCMO(String v) {
     value = v;
@@ -193,12 +205,11 @@ public enum ListCMO {
   }
 
   public static ListCMO fromValue(String v) {
-    for (ListCMO c : ListCMO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCMO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -41,6 +43,16 @@ public enum ListCNU {
   @XmlEnumValue("Pennant Number")
   PENNANT_NUMBER("Pennant Number");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCNU> VALUES = new HashMap<>();
+
+  static {
+    for (ListCNU c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCNU(String v) {
     value = v;
@@ -51,12 +63,11 @@ public enum ListCNU {
   }
 
   public static ListCNU fromValue(String v) {
-    for (ListCNU c : ListCNU.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCNU c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
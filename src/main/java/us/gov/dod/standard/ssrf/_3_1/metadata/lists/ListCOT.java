@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -94,6 +96,16 @@ public enum ListCOT {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCOT> VALUES = new HashMap<>();
+
+  static {
+    for (ListCOT c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCOT(String v) {
     value = v;
@@ -104,12 +116,11 @@ public enum ListCOT {
   }
 
   public static ListCOT fromValue(String v) {
-    for (ListCOT c : ListCOT.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCOT c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
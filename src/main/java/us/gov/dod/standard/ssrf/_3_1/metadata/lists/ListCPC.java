@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -50,6 +52,16 @@ public enum ListCPC {
   @XmlEnumValue("Taboo")
   TABOO("Taboo");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCPC> VALUES = new HashMap<>();
+
+  static {
+    for (ListCPC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCPC(String v) {
     value = v;
@@ -60,12 +72,11 @@ public enum ListCPC {
   }
 
   public static ListCPC fromValue(String v) {
-    for (ListCPC c : ListCPC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCPC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -43,6 +45,16 @@ public enum ListCPJ {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCPJ> VALUES = new HashMap<>();
+
+  static {
+    for (ListCPJ c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCPJ(String v) {
     value = v;
@@ -53,12 +65,11 @@ public enum ListCPJ {
   }
 
   public static ListCPJ fromValue(String v) {
-    for (ListCPJ c : ListCPJ.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCPJ c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
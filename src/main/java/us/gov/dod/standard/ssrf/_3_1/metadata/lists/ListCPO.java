@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -77,6 +79,16 @@ public enum ListCPO {
   OTHER("Other");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCPO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCPO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCPO(String v) {
     value = v;
@@ -87,12 +99,11 @@ public enum ListCPO {
   }
 
   public static ListCPO fromValue(String v) {
-    for (ListCPO c : ListCPO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCPO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
@@ -46,6 +48,16 @@ public enum ListCPS {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCPS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCPS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCPS(String v) {
     value = v;
@@ -56,12 +68,11 @@ public enum ListCPS {
   }
 
   public static ListCPS fromValue(String v) {
-    for (ListCPS c : ListCPS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCPS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
   /**
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -44,6 +46,16 @@ public enum ListCRA {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCRA> VALUES = new HashMap<>();
+
+  static {
+    for (ListCRA c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCRA(String v) {
     value = v;
@@ -54,12 +66,11 @@ public enum ListCRA {
   }
 
   public static ListCRA fromValue(String v) {
-    for (ListCRA c : ListCRA.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCRA c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -38,6 +40,16 @@ public enum ListCRD {
   @XmlEnumValue("Counter-Clockwise")
   COUNTER_CLOCKWISE("Counter-Clockwise");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCRD> VALUES = new HashMap<>();
+
+  static {
+    for (ListCRD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCRD(String v) {
     value = v;
@@ -48,12 +60,11 @@ public enum ListCRD {
   }
 
   public static ListCRD fromValue(String v) {
-    for (ListCRD c : ListCRD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCRD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
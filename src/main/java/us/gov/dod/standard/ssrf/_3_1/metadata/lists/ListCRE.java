@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -83,6 +85,16 @@ public enum ListCRE {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCRE> VALUES = new HashMap<>();
+
+  static {
+    for (ListCRE c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCRE(String v) {
     value = v;
@@ -93,12 +105,11 @@ public enum ListCRE {
   }
 
   public static ListCRE fromValue(String v) {
-    for (ListCRE c : ListCRE.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCRE c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -83,6 +85,16 @@ public enum ListCRS {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCRS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCRS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCRS(String v) {
     value = v;
@@ -93,12 +105,11 @@ public enum ListCRS {
   }
 
   public static ListCRS fromValue(String v) {
-    for (ListCRS c : ListCRS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCRS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
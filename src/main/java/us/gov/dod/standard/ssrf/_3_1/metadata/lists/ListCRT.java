@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -61,6 +63,16 @@ public enum ListCRT {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCRT> VALUES = new HashMap<>();
+
+  static {
+    for (ListCRT c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCRT(String v) {
     value = v;
@@ -71,12 +83,11 @@ public enum ListCRT {
   }
 
   public static ListCRT fromValue(String v) {
-    for (ListCRT c : ListCRT.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCRT c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -46,6 +48,16 @@ public enum ListCSE {
   @XmlEnumValue("(S+N)/N")
   _S_N_N("(S+N)/N");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSE> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSE c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSE(String v) {
     value = v;
@@ -56,12 +68,11 @@ public enum ListCSE {
   }
 
   public static ListCSE fromValue(String v) {
-    for (ListCSE c : ListCSE.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSE c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -45,6 +47,16 @@ public enum ListCSG {
   @XmlEnumValue("Operational")
   OPERATIONAL("Operational");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSG> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSG c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSG(String v) {
     value = v;
@@ -55,12 +67,11 @@ public enum ListCSG {
   }
 
   public static ListCSG fromValue(String v) {
-    for (ListCSG c : ListCSG.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSG c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
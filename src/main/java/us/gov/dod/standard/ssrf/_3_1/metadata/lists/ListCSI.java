@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -37,6 +39,16 @@ public enum ListCSI {
   @XmlEnumValue("Upper sideband")
   UPPER_SIDEBAND("Upper sideband");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSI> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSI c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSI(String v) {
     value = v;
@@ -47,12 +59,11 @@ public enum ListCSI {
   }
 
   public static ListCSI fromValue(String v) {
-    for (ListCSI c : ListCSI.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSI c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -147,6 +147,17 @@ public enum ListCSN {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by upper case value and name.
+   */
+  private static final Map<String, ListCSN> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSN c : values()) {
+      VALUES.put(c.value.toUpperCase(Locale.ENGLISH), c);
+      VALUES.put(c.name(), c);
+    }
+  }
 
   ListCSN(String v) {
     value = v;
@@ -173,10 +184,9 @@ public enum ListCSN {
      * First try an exact match with the provided VALUE (also try NAME for
      * maximum flexibility).
      */
-    for (ListCSN listCSN : ListCSN.values()) {
-      if (listCSN.value().equalsIgnoreCase(value) || listCSN.name().equalsIgnoreCase(value)) {
-        return listCSN;
-      }
+    ListCSN listCSN = VALUES.get(value.toUpperCase(Locale.ENGLISH));
+    if (listCSN != null) {
+      return listCSN;
     }
     /**
      * Next try to match a longer name, possibly with a qualifier attached.
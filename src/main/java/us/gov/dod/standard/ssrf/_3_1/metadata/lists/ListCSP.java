@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -77,6 +79,16 @@ public enum ListCSP {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSP> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSP c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSP(String v) {
     value = v;
@@ -87,12 +99,11 @@ public enum ListCSP {
   }
 
   public static ListCSP fromValue(String v) {
-    for (ListCSP c : ListCSP.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSP c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -111,6 +113,16 @@ public enum ListCSR {
   @XmlEnumValue("Unknown")
   UNKNOWN("Unknown");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSR> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSR c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSR(String v) {
     value = v;
@@ -121,12 +133,11 @@ public enum ListCSR {
   }
 
   public static ListCSR fromValue(String v) {
-    for (ListCSR c : ListCSR.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSR c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
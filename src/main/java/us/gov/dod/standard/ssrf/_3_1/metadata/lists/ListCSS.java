@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -55,6 +57,16 @@ public enum ListCSS {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSS(String v) {
     value = v;
@@ -65,12 +77,11 @@ public enum ListCSS {
   }
 
   public static ListCSS fromValue(String v) {
-    for (ListCSS c : ListCSS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
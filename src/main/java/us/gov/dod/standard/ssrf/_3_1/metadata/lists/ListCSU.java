@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -41,6 +43,16 @@ public enum ListCSU {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCSU> VALUES = new HashMap<>();
+
+  static {
+    for (ListCSU c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCSU(String v) {
     value = v;
@@ -51,12 +63,11 @@ public enum ListCSU {
   }
 
   public static ListCSU fromValue(String v) {
-    for (ListCSU c : ListCSU.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCSU c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -45,6 +47,16 @@ public enum ListCTA {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCTA> VALUES = new HashMap<>();
+
+  static {
+    for (ListCTA c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCTA(String v) {
     value = v;
@@ -55,12 +67,11 @@ public enum ListCTA {
   }
 
   public static ListCTA fromValue(String v) {
-    for (ListCTA c : ListCTA.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCTA c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
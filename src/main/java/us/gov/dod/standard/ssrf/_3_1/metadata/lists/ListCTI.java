@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +51,16 @@ public enum ListCTI {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCTI> VALUES = new HashMap<>();
+
+  static {
+    for (ListCTI c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCTI(String v) {
     value = v;
@@ -59,12 +71,11 @@ public enum ListCTI {
   }
 
   public static ListCTI fromValue(String v) {
-    for (ListCTI c : ListCTI.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCTI c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
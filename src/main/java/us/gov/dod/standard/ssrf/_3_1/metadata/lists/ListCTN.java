@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -124,6 +126,16 @@ public enum ListCTN {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCTN> VALUES = new HashMap<>();
+
+  static {
+    for (ListCTN c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCTN(String v) {
     value = v;
@@ -134,12 +146,11 @@ public enum ListCTN {
   }
 
   public static ListCTN fromValue(String v) {
-    for (ListCTN c : ListCTN.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCTN c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -44,6 +46,16 @@ public enum ListCTO {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCTO> VALUES = new HashMap<>();
+
+  static {
+    for (ListCTO c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCTO(String v) {
     value = v;
@@ -54,12 +66,11 @@ public enum ListCTO {
   }
 
   public static ListCTO fromValue(String v) {
-    for (ListCTO c : ListCTO.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCTO c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -39,6 +41,16 @@ public enum ListCTS {
   @XmlEnumValue("Pending")
   PENDING("Pending");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCTS> VALUES = new HashMap<>();
+
+  static {
+    for (ListCTS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCTS(String v) {
     value = v;
@@ -49,12 +61,11 @@ public enum ListCTS {
   }
 
   public static ListCTS fromValue(String v) {
-    for (ListCTS c : ListCTS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCTS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
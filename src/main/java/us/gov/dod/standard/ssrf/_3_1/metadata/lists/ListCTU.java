@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -52,6 +54,16 @@ public enum ListCTU {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListCTU> VALUES = new HashMap<>();
+
+  static {
+    for (ListCTU c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListCTU(String v) {
     value = v;
@@ -62,12 +74,11 @@ public enum ListCTU {
   }
 
   public static ListCTU fromValue(String v) {
-    for (ListCTU c : ListCTU.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListCTU c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
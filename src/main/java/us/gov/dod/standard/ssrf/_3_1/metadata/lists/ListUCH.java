@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -60,6 +62,16 @@ public enum ListUCH {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUCH> VALUES = new HashMap<>();
+
+  static {
+    for (ListUCH c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUCH(String v) {
     value = v;
@@ -70,12 +82,11 @@ public enum ListUCH {
   }
 
   public static ListUCH fromValue(String v) {
-    for (ListUCH c : ListUCH.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUCH c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
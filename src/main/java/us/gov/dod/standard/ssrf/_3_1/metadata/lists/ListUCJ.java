@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -47,6 +49,16 @@ public enum ListUCJ {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUCJ> VALUES = new HashMap<>();
+
+  static {
+    for (ListUCJ c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUCJ(String v) {
     value = v;
@@ -57,12 +69,11 @@ public enum ListUCJ {
   }
 
   public static ListUCJ fromValue(String v) {
-    for (ListUCJ c : ListUCJ.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUCJ c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
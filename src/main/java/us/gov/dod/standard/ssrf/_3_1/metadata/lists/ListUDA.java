@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +51,16 @@ public enum ListUDA {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUDA> VALUES = new HashMap<>();
+
+  static {
+    for (ListUDA c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUDA(String v) {
     value = v;
@@ -59,12 +71,11 @@ public enum ListUDA {
   }
 
   public static ListUDA fromValue(String v) {
-    for (ListUDA c : ListUDA.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUDA c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
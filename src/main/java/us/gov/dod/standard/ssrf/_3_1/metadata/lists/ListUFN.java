@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -658,6 +660,16 @@ public enum ListUFN {
   @XmlEnumValue("WOLVERINE (Assault Bridge)")
   WOLVERINE_ASSAULT_BRIDGE("WOLVERINE (Assault Bridge)");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUFN> VALUES = new HashMap<>();
+
+  static {
+    for (ListUFN c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUFN(String v) {
     value = v;
@@ -668,12 +680,11 @@ public enum ListUFN {
   }
 
   public static ListUFN fromValue(String v) {
-    for (ListUFN c : ListUFN.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUFN c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
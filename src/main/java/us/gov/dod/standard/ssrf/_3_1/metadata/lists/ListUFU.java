@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -58,6 +60,16 @@ public enum ListUFU {
   TRANSMIT_RECEIVE("TRANSMIT/RECEIVE"),
   UPLINK("UPLINK");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUFU> VALUES = new HashMap<>();
+
+  static {
+    for (ListUFU c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUFU(String v) {
     value = v;
@@ -68,12 +80,11 @@ public enum ListUFU {
   }
 
   public static ListUFU fromValue(String v) {
-    for (ListUFU c : ListUFU.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUFU c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
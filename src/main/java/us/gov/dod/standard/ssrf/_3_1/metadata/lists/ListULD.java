@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -37,6 +39,16 @@ public enum ListULD {
   @XmlEnumValue("Positive")
   POSITIVE("Positive");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListULD> VALUES = new HashMap<>();
+
+  static {
+    for (ListULD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListULD(String v) {
     value = v;
@@ -47,12 +59,11 @@ public enum ListULD {
   }
 
   public static ListULD fromValue(String v) {
-    for (ListULD c : ListULD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListULD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
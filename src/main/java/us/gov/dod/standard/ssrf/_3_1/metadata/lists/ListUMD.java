@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -41,6 +43,16 @@ public enum ListUMD {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUMD> VALUES = new HashMap<>();
+
+  static {
+    for (ListUMD c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUMD(String v) {
     value = v;
@@ -51,12 +63,11 @@ public enum ListUMD {
   }
 
   public static ListUMD fromValue(String v) {
-    for (ListUMD c : ListUMD.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUMD c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
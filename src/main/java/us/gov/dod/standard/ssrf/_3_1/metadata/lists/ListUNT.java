@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -50,6 +52,16 @@ public enum ListUNT {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUNT> VALUES = new HashMap<>();
+
+  static {
+    for (ListUNT c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUNT(String v) {
     value = v;
@@ -60,12 +72,11 @@ public enum ListUNT {
   }
 
   public static ListUNT fromValue(String v) {
-    for (ListUNT c : ListUNT.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUNT c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -55,6 +57,16 @@ public enum ListUOW {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUOW> VALUES = new HashMap<>();
+
+  static {
+    for (ListUOW c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUOW(String v) {
     value = v;
@@ -65,12 +77,11 @@ public enum ListUOW {
   }
 
   public static ListUOW fromValue(String v) {
-    for (ListUOW c : ListUOW.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUOW c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -41,6 +43,16 @@ public enum ListUPF {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUPF> VALUES = new HashMap<>();
+
+  static {
+    for (ListUPF c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUPF(String v) {
     value = v;
@@ -51,12 +63,11 @@ public enum ListUPF {
   }
 
   public static ListUPF fromValue(String v) {
-    for (ListUPF c : ListUPF.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUPF c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
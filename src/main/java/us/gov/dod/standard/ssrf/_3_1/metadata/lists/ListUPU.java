@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -42,6 +44,16 @@ public enum ListUPU {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUPU> VALUES = new HashMap<>();
+
+  static {
+    for (ListUPU c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUPU(String v) {
     value = v;
@@ -52,12 +64,11 @@ public enum ListUPU {
   }
 
   public static ListUPU fromValue(String v) {
-    for (ListUPU c : ListUPU.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUPU c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
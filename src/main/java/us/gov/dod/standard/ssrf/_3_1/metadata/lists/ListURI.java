@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -43,6 +45,16 @@ public enum ListURI {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListURI> VALUES = new HashMap<>();
+
+  static {
+    for (ListURI c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListURI(String v) {
     value = v;
@@ -53,12 +65,11 @@ public enum ListURI {
   }
 
   public static ListURI fromValue(String v) {
-    for (ListURI c : ListURI.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListURI c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
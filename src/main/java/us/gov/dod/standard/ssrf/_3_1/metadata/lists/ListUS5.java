@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -43,6 +45,16 @@ public enum ListUS5 {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUS5> VALUES = new HashMap<>();
+
+  static {
+    for (ListUS5 c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUS5(String v) {
     value = v;
@@ -53,12 +65,11 @@ public enum ListUS5 {
   }
 
   public static ListUS5 fromValue(String v) {
-    for (ListUS5 c : ListUS5.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUS5 c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
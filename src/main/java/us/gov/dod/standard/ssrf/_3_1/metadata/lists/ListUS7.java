@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +51,16 @@ public enum ListUS7 {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUS7> VALUES = new HashMap<>();
+
+  static {
+    for (ListUS7 c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUS7(String v) {
     value = v;
@@ -59,12 +71,11 @@ public enum ListUS7 {
   }
 
   public static ListUS7 fromValue(String v) {
-    for (ListUS7 c : ListUS7.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUS7 c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -39,6 +41,16 @@ public enum ListUS8 {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUS8> VALUES = new HashMap<>();
+
+  static {
+    for (ListUS8 c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUS8(String v) {
     value = v;
@@ -49,12 +61,11 @@ public enum ListUS8 {
   }
 
   public static ListUS8 fromValue(String v) {
-    for (ListUS8 c : ListUS8.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUS8 c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -1782,6 +1784,16 @@ public enum ListUSC {
   XT("XT");
 
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUSC> VALUES = new HashMap<>();
+
+  static {
+    for (ListUSC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUSC(String v) {
     value = v;
@@ -1792,12 +1804,11 @@ public enum ListUSC {
   }
 
   public static ListUSC fromValue(String v) {
-    for (ListUSC c : ListUSC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUSC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
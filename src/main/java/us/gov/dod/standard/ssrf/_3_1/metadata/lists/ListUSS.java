@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -45,6 +47,16 @@ public enum ListUSS {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUSS> VALUES = new HashMap<>();
+
+  static {
+    for (ListUSS c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUSS(String v) {
     value = v;
@@ -55,12 +67,11 @@ public enum ListUSS {
   }
 
   public static ListUSS fromValue(String v) {
-    for (ListUSS c : ListUSS.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUSS c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
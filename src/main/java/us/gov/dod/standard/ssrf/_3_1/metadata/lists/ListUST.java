@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -91,6 +93,16 @@ public enum ListUST {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUST> VALUES = new HashMap<>();
+
+  static {
+    for (ListUST c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUST(String v) {
     value = v;
@@ -101,12 +113,11 @@ public enum ListUST {
   }
 
   public static ListUST fromValue(String v) {
-    for (ListUST c : ListUST.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUST c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -41,6 +43,16 @@ public enum ListUSX {
   @XmlEnumValue("Phase Modulation (PM)")
   PHASE_MODULATION_PM("Phase Modulation (PM)");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUSX> VALUES = new HashMap<>();
+
+  static {
+    for (ListUSX c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUSX(String v) {
     value = v;
@@ -51,12 +63,11 @@ public enum ListUSX {
   }
 
   public static ListUSX fromValue(String v) {
-    for (ListUSX c : ListUSX.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUSX c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -57,6 +59,16 @@ public enum ListUTY {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUTY> VALUES = new HashMap<>();
+
+  static {
+    for (ListUTY c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUTY(String v) {
     value = v;
@@ -67,12 +79,11 @@ public enum ListUTY {
   }
 
   public static ListUTY fromValue(String v) {
-    for (ListUTY c : ListUTY.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUTY c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -49,6 +51,16 @@ public enum ListUUC {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUUC> VALUES = new HashMap<>();
+
+  static {
+    for (ListUUC c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUUC(String v) {
     value = v;
@@ -59,12 +71,11 @@ public enum ListUUC {
   }
 
   public static ListUUC fromValue(String v) {
-    for (ListUUC c : ListUUC.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUUC c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -50,6 +52,16 @@ public enum ListUWA {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUWA> VALUES = new HashMap<>();
+
+  static {
+    for (ListUWA c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUWA(String v) {
     value = v;
@@ -60,12 +72,11 @@ public enum ListUWA {
   }
 
   public static ListUWA fromValue(String v) {
-    for (ListUWA c : ListUWA.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUWA c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.lists;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
@@ -42,6 +44,16 @@ public enum ListUWB {
   @XmlEnumValue("Other")
   OTHER("Other");
   private final String value;
+  /**
+   * The enumerated instances indexed by value.
+   */
+  private static final Map<String, ListUWB> VALUES = new HashMap<>();
+
+  static {
+    for (ListUWB c : values()) {
+      VALUES.put(c.value, c);
+    }
+  }
 
   ListUWB(String v) {
     value = v;
@@ -52,12 +64,11 @@ public enum ListUWB {
   }
 
   public static ListUWB fromValue(String v) {
-    for (ListUWB c : ListUWB.values()) {
-      if (c.value.equals(v)) {
-        return c;
-      }
+    ListUWB c = VALUES.get(v);
+    if (c == null) {
+      throw new IllegalArgumentException(v);
     }
-    throw new IllegalArgumentException(v);
+    return c;
   }
 
 }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.antenna.UsingCountries;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -121,7 +121,7 @@ public class Notation {
    * @since 3.1.0
    */
   @XmlElement(name = "NotationTimeline")
-  private Set<NotationTimeline> notationTimeline;
+  private CompactSet<NotationTimeline> notationTimeline;
   /**
    * US:PotentialVictims (Optional)
    * <p>
@@ -131,7 +131,7 @@ public class Notation {
    * @since 3.1.0
    */
   @XmlElement(name = "PotentialVictims")
-  private Set<PotentialVictims> potentialVictims;
+  private CompactSet<PotentialVictims> potentialVictims;
   /**
    * US:UsingCountries (Optional)
    * <p>
@@ -141,7 +141,7 @@ public class Notation {
    * @since 3.1.0
    */
   @XmlElement(name = "UsingCountries")
-  private Set<UsingCountries> usingCountries;
+  private CompactSet<UsingCountries> usingCountries;
 
   /**
    * Get an alphanumeric combination that is used to identify a particular
@@ -247,7 +247,7 @@ public class Notation {
    */
   public Set<NotationTimeline> getNotationTimeline() {
     if (notationTimeline == null) {
-      notationTimeline = new HashSet<>();
+      notationTimeline = new CompactSet<>();
     }
     return this.notationTimeline;
   }
@@ -280,7 +280,7 @@ public class Notation {
    */
   public Set<PotentialVictims> getPotentialVictims() {
     if (potentialVictims == null) {
-      potentialVictims = new HashSet<>();
+      potentialVictims = new CompactSet<>();
     }
     return this.potentialVictims;
   }
@@ -312,7 +312,7 @@ public class Notation {
    */
   public Set<UsingCountries> getUsingCountries() {
     if (usingCountries == null) {
-      usingCountries = new HashSet<>();
+      usingCountries = new CompactSet<>();
     }
     return this.usingCountries;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -302,7 +302,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedERPValues")
-  private Set<ObservedERPValues> observedERPValues;
+  private CompactSet<ObservedERPValues> observedERPValues;
 
   /**
    * Get In Data Item Continuous (US), indicate whether pulse-to-pulse ERP
@@ -869,7 +869,7 @@ public class ObservedERPAnalysis {
    */
   public Set<ObservedERPValues> getObservedERPValues() {
     if (observedERPValues == null) {
-      observedERPValues = new HashSet<>();
+      observedERPValues = new CompactSet<>();
     }
     return this.observedERPValues;
   }
@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
@@ -66,7 +66,7 @@ public class RxRef {
    * @since 3.1.0
    */
   @XmlElement(name = "RxModeRef", nillable = true)
-  private Set<RxModeRef> rxModeRef;
+  private CompactSet<RxModeRef> rxModeRef;
   /**
    * RxAntModeRef (Optional)
    * <p>
@@ -76,7 +76,7 @@ public class RxRef {
    * @since 3.1.0
    */
   @XmlElement(name = "RxAntModeRef")
-  private Set<RxAntModeRef> rxAntModeRef;
+  private CompactSet<RxAntModeRef> rxAntModeRef;
 
   /**
    * Get the identifier of the related Receiver used in this configuration. The
@@ -128,7 +128,7 @@ public class RxRef {
    */
   public Set<RxModeRef> getRxModeRef() {
     if (rxModeRef == null) {
-      rxModeRef = new HashSet<>();
+      rxModeRef = new CompactSet<>();
     }
     return this.rxModeRef;
   }
@@ -160,7 +160,7 @@ public class RxRef {
    */
   public Set<RxAntModeRef> getRxAntModeRef() {
     if (rxAntModeRef == null) {
-      rxAntModeRef = new HashSet<>();
+      rxAntModeRef = new CompactSet<>();
     }
     return this.rxAntModeRef;
   }
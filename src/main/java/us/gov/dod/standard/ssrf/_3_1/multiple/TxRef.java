@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
@@ -68,7 +68,7 @@ public class TxRef {
    * @since 3.1.0
    */
   @XmlElement(name = "TxModeRef")
-  private Set<TxModeRef> txModeRef;
+  private CompactSet<TxModeRef> txModeRef;
   /**
    * TxAntModeRef (Optional)
    * <p>
@@ -80,7 +80,7 @@ public class TxRef {
    * @since 3.1.0
    */
   @XmlElement(name = "TxAntModeRef")
-  private Set<TxAntModeRef> txAntModeRef;
+  private CompactSet<TxAntModeRef> txAntModeRef;
 
   /**
    * Get the serial of a Transmitter in this configuration. The same transmitter
@@ -132,7 +132,7 @@ public class TxRef {
    */
   public Set<TxModeRef> getTxModeRef() {
     if (txModeRef == null) {
-      txModeRef = new HashSet<>();
+      txModeRef = new CompactSet<>();
     }
     return this.txModeRef;
   }
@@ -164,7 +164,7 @@ public class TxRef {
    */
   public Set<TxAntModeRef> getTxAntModeRef() {
     if (txAntModeRef == null) {
-      txAntModeRef = new HashSet<>();
+      txAntModeRef = new CompactSet<>();
     }
     return this.txAntModeRef;
   }
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1.radiationplan;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.RadiationPlan;
@@ -224,7 +225,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   @XmlElement(name = "JammingTarget", required = true)
-  private Set<JammingTarget> jammingTarget;
+  private CompactSet<JammingTarget> jammingTarget;
 
   /**
    * Get In Data Item Name (US), enter a unique name (within the parent
@@ -691,7 +692,7 @@ public class JammingPlan {
    */
   public Set<JammingTarget> getJammingTarget() {
     if (jammingTarget == null) {
-      jammingTarget = new HashSet<>();
+      jammingTarget = new CompactSet<>();
     }
     return this.jammingTarget;
   }
@@ -17,9 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.radiationplan;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Loadset;
 import us.gov.dod.standard.ssrf._3_1.Location;
@@ -204,7 +204,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   @XmlElement(name = "JammingPerformance")
-  private Set<JammingPerformance> jammingPerformance;
+  private CompactSet<JammingPerformance> jammingPerformance;
 
   /**
    * Get the method by which the jamming antenna beam is focused..
@@ -590,7 +590,7 @@ public class JammingTarget {
    */
   public Set<JammingPerformance> getJammingPerformance() {
     if (jammingPerformance == null) {
-      jammingPerformance = new HashSet<>();
+      jammingPerformance = new CompactSet<>();
     }
     return this.jammingPerformance;
   }
@@ -18,9 +18,9 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
@@ -177,7 +177,7 @@ public class Curve {
    * @since 3.1.0
    */
   @XmlElement(name = "CurvePoint", required = true)
-  private Set<CurvePoint> curvePoint;
+  private CompactSet<CurvePoint> curvePoint;
   /**
    * idx - Index (Required)
    * <p>
@@ -424,7 +424,7 @@ public class Curve {
    */
   public Set<CurvePoint> getCurvePoint() {
     if (curvePoint == null) {
-      curvePoint = new HashSet<>();
+      curvePoint = new CompactSet<>();
     }
     return this.curvePoint;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.RFSystem;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
@@ -91,7 +91,7 @@ public class Deployment {
    * @since 3.1.0
    */
   @XmlElement(name = "Installation", nillable = true)
-  private Set<Installation> installation;
+  private CompactSet<Installation> installation;
 
   /**
    * Get the type of deployment..
@@ -167,7 +167,7 @@ public class Deployment {
    */
   public Set<Installation> getInstallation() {
     if (installation == null) {
-      installation = new HashSet<>();
+      installation = new CompactSet<>();
     }
     return this.installation;
   }
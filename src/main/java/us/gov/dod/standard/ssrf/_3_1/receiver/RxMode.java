@@ -18,9 +18,9 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.*;
@@ -416,7 +416,7 @@ public class RxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "EmsClass", nillable = true)
-  private Set<EmsClass> emsClass;
+  private CompactSet<EmsClass> emsClass;
   /**
    * RxSignalTuning (Optional).
    * <p>
@@ -427,7 +427,7 @@ public class RxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "RxSignalTuning")
-  private Set<RxSignalTuning> rxSignalTuning;
+  private CompactSet<RxSignalTuning> rxSignalTuning;
   /**
    * RxModulation (Optional).
    * <p>
@@ -437,7 +437,7 @@ public class RxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "RxModulation")
-  private Set<RxModulation> rxModulation;
+  private CompactSet<RxModulation> rxModulation;
   /**
    * Baseband (Optional).
    * <p>
@@ -446,7 +446,7 @@ public class RxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "Baseband")
-  private Set<Baseband> baseband;
+  private CompactSet<Baseband> baseband;
   /**
    * FreqConversion (Optional).
    * <p>
@@ -456,7 +456,7 @@ public class RxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "FreqConversion")
-  private Set<FreqConversion> freqConversion;
+  private CompactSet<FreqConversion> freqConversion;
   /**
    * Spread Spectrum (Optional).
    * <p>
@@ -477,7 +477,7 @@ public class RxMode {
    * @since 3.1.0
    */
   @XmlAttribute(name = "curves")
-  private Set<BigInteger> curves;
+  private CompactSet<BigInteger> curves;
 
   /**
    * Get a short name for the mode; this name should be a meaningful
@@ -1334,7 +1334,7 @@ public class RxMode {
    */
   public Set<EmsClass> getEmsClass() {
     if (emsClass == null) {
-      emsClass = new HashSet<>();
+      emsClass = new CompactSet<>();
     }
     return this.emsClass;
   }
@@ -1369,7 +1369,7 @@ public class RxMode {
    */
   public Set<RxSignalTuning> getRxSignalTuning() {
     if (rxSignalTuning == null) {
-      rxSignalTuning = new HashSet<>();
+      rxSignalTuning = new CompactSet<>();
     }
     return this.rxSignalTuning;
   }
@@ -1401,7 +1401,7 @@ public class RxMode {
    */
   public Set<RxModulation> getRxModulation() {
     if (rxModulation == null) {
-      rxModulation = new HashSet<>();
+      rxModulation = new CompactSet<>();
     }
     return this.rxModulation;
   }
@@ -1435,7 +1435,7 @@ public class RxMode {
    */
   public Set<Baseband> getBaseband() {
     if (baseband == null) {
-      baseband = new HashSet<>();
+      baseband = new CompactSet<>();
     }
     return this.baseband;
   }
@@ -1470,7 +1470,7 @@ public class RxMode {
    */
   public Set<FreqConversion> getFreqConversion() {
     if (freqConversion == null) {
-      freqConversion = new HashSet<>();
+      freqConversion = new CompactSet<>();
     }
     return this.freqConversion;
   }
@@ -1534,7 +1534,7 @@ public class RxMode {
    */
   public Set<BigInteger> getCurves() {
     if (curves == null) {
-      curves = new HashSet<>();
+      curves = new CompactSet<>();
     }
     return this.curves;
   }
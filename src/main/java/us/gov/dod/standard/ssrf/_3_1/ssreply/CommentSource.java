@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.SSReply;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
@@ -111,7 +112,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   @XmlElement(name = "Comment", nillable = true)
-  private Set<Comment> comment;
+  private CompactSet<Comment> comment;
 
   /**
    * Get the name of the organisation or authority that is the source of the
@@ -244,7 +245,7 @@ public class CommentSource {
    */
   public Set<Comment> getComment() {
     if (comment == null) {
-      comment = new HashSet<>();
+      comment = new CompactSet<>();
     }
     return this.comment;
   }
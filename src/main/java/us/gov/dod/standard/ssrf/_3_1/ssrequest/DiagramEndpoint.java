@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.ssrequest;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -113,7 +113,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   @XmlElement(name = "EndpointLocation")
-  private Set<EndpointLocation> endpointLocation;
+  private CompactSet<EndpointLocation> endpointLocation;
 
   /**
    * Get the type of icon for the diagram endpoint..
@@ -353,7 +353,7 @@ public class DiagramEndpoint {
    */
   public Set<EndpointLocation> getEndpointLocation() {
     if (endpointLocation == null) {
-      endpointLocation = new HashSet<>();
+      endpointLocation = new CompactSet<>();
     }
     return this.endpointLocation;
   }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
@@ -153,7 +154,7 @@ public class Stage {
    * @since 3.1.0
    */
   @XmlElement(name = "StageLocation")
-  private Set<StageLocation> stageLocation;
+  private CompactSet<StageLocation> stageLocation;
 
   /**
    * Get the stage..
@@ -381,7 +382,7 @@ public class Stage {
    */
   public Set<StageLocation> getStageLocation() {
     if (stageLocation == null) {
-      stageLocation = new HashSet<>();
+      stageLocation = new CompactSet<>();
     }
     return this.stageLocation;
   }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -263,7 +264,7 @@ public class Trunking {
    * @since 3.1.0
    */
   @XmlElement(name = "TrunkingAssignment")
-  private Set<TrunkingAssignment> trunkingAssignment;
+  private CompactSet<TrunkingAssignment> trunkingAssignment;
 
   /**
    * Get a rationale for the additional channels (e.g., channel loading, queuing
@@ -715,7 +716,7 @@ public class Trunking {
    */
   public Set<TrunkingAssignment> getTrunkingAssignment() {
     if (trunkingAssignment == null) {
-      trunkingAssignment = new HashSet<>();
+      trunkingAssignment = new CompactSet<>();
     }
     return this.trunkingAssignment;
   }
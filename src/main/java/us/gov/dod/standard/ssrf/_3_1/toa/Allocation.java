@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_1.toa;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.ChannelPlan;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
@@ -120,7 +121,7 @@ public class Allocation {
    * @since 3.1.0
    */
   @XmlElement(name = "Variance")
-  private Set<Variance> variance;
+  private CompactSet<Variance> variance;
   /**
    * StnClass (Optional)
    * <p>
@@ -130,7 +131,7 @@ public class Allocation {
    * @since 3.1.0
    */
   @XmlElement(name = "StnClass", nillable = true)
-  private Set<StnClass> stnClass;
+  private CompactSet<StnClass> stnClass;
   /**
    * ChannelPlanRef (Optional)
    * <p>
@@ -139,7 +140,7 @@ public class Allocation {
    * @since 3.1.0
    */
   @XmlElement(name = "ChannelPlanRef", nillable = true)
-  private Set<Serial> channelPlanRef;
+  private CompactSet<Serial> channelPlanRef;
   /**
    * footnotes - Link to allocation usage notes (Optional)
    * <p>
@@ -152,7 +153,7 @@ public class Allocation {
    * @since 3.1.0
    */
   @XmlAttribute(name = "footnotes")
-  private Set<BigInteger> footnotes;
+  private CompactSet<BigInteger> footnotes;
 
   /**
    * Get a radiocommunication service recognized by an administration that is
@@ -327,7 +328,7 @@ public class Allocation {
    */
   public Set<Variance> getVariance() {
     if (variance == null) {
-      variance = new HashSet<>();
+      variance = new CompactSet<>();
     }
     return this.variance;
   }
@@ -359,7 +360,7 @@ public class Allocation {
    */
   public Set<StnClass> getStnClass() {
     if (stnClass == null) {
-      stnClass = new HashSet<>();
+      stnClass = new CompactSet<>();
     }
     return this.stnClass;
   }
@@ -393,7 +394,7 @@ public class Allocation {
   @Deprecated
   public Set<Serial> getChannelPlanRef() {
     if (channelPlanRef == null) {
-      channelPlanRef = new HashSet<>();
+      channelPlanRef = new CompactSet<>();
     }
     return this.channelPlanRef;
   }
@@ -424,7 +425,7 @@ public class Allocation {
    */
   public Set<BigInteger> getFootnotes() {
     if (footnotes == null) {
-      footnotes = new HashSet<>();
+      footnotes = new CompactSet<>();
     }
     return this.footnotes;
   }
@@ -719,7 +720,7 @@ public class Allocation {
    * @since 3.1.0
    */
   @XmlTransient
-  private Set<ChannelPlan> channelPlan;
+  private CompactSet<ChannelPlan> channelPlan;
 
   /**
    * Get the ChannelPlanRef
@@ -731,7 +732,7 @@ public class Allocation {
    */
   public Set<ChannelPlan> getChannelPlan() {
     if (channelPlan == null) {
-      channelPlan = new HashSet<>();
+      channelPlan = new CompactSet<>();
     }
     return channelPlan;
   }
@@ -783,9 +784,12 @@ public class Allocation {
    * @since 3.1.0
    */
   public void prepare() {
-    this.channelPlanRef = new HashSet<>();
-    for (ChannelPlan instance : getChannelPlan()) {
-      this.channelPlanRef.add(instance.getSerial());
+    this.channelPlanRef = null;
+    if (isSetChannelPlan()) {
+      this.channelPlanRef = new CompactSet<>();
+      for (ChannelPlan instance : getChannelPlan()) {
+        this.channelPlanRef.add(instance.getSerial());
+      }
     }
   }
 
@@ -18,9 +18,9 @@ package us.gov.dod.standard.ssrf._3_1.toa;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.TOA;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S40;
@@ -103,7 +103,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   @XmlElement(name = "Allocation")
-  private Set<Allocation> allocation;
+  private CompactSet<Allocation> allocation;
   /**
    * footnotes - Link to band usage notes (Optional)
    * <p>
@@ -115,7 +115,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   @XmlAttribute(name = "footnotes")
-  private Set<BigInteger> footnotes;
+  private CompactSet<BigInteger> footnotes;
 
   /**
    * Get the nominal frequency or minimum value of the frequency range..
@@ -221,7 +221,7 @@ public class FreqBand {
    */
   public Set<Allocation> getAllocation() {
     if (allocation == null) {
-      allocation = new HashSet<>();
+      allocation = new CompactSet<>();
     }
     return this.allocation;
   }
@@ -252,7 +252,7 @@ public class FreqBand {
    */
   public Set<BigInteger> getFootnotes() {
     if (footnotes == null) {
-      footnotes = new HashSet<>();
+      footnotes = new CompactSet<>();
     }
     return this.footnotes;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.toa;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAV;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCPS;
@@ -101,7 +101,7 @@ public class Variance {
    * @since 3.1.0
    */
   @XmlElement(name = "Administration", nillable = true)
-  private Set<Administration> administration;
+  private CompactSet<Administration> administration;
 
   /**
    * Get the type of variance..
@@ -211,7 +211,7 @@ public class Variance {
    */
   public Set<Administration> getAdministration() {
     if (administration == null) {
-      administration = new HashSet<>();
+      administration = new CompactSet<>();
     }
     return this.administration;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCMO;
@@ -426,7 +426,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedMOPSweep")
-  private Set<ObservedMOPSweep> observedMOPSweep;
+  private CompactSet<ObservedMOPSweep> observedMOPSweep;
 
   /**
    * Get the condition which controls, or can be associated with, the signal MOP
@@ -1455,7 +1455,7 @@ public class ObservedMOPAnalysis {
    */
   public Set<ObservedMOPSweep> getObservedMOPSweep() {
     if (observedMOPSweep == null) {
-      observedMOPSweep = new HashSet<>();
+      observedMOPSweep = new CompactSet<>();
     }
     return this.observedMOPSweep;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -148,7 +148,7 @@ public class ObservedMOPBits {
   private microsecs bitDuration;
 
   @XmlElement(name = "ObservedMOPValues")
-  private Set<ObservedMOPValues> observedMOPValues;
+  private CompactSet<ObservedMOPValues> observedMOPValues;
 
   /**
    * Get In Data Item US:MOPDutyCycle (US), enter as a percentage, the minimum
@@ -453,7 +453,7 @@ public class ObservedMOPBits {
    */
   public Set<ObservedMOPValues> getObservedMOPValues() {
     if (observedMOPValues == null) {
-      observedMOPValues = new HashSet<>();
+      observedMOPValues = new CompactSet<>();
     }
     return this.observedMOPValues;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -137,7 +137,7 @@ public class ObservedMOPSequence {
   private microsecs mopRepetionInterval;
 
   @XmlElement(name = "ObservedMOPBits")
-  private Set<ObservedMOPBits> observedMOPBits;
+  private CompactSet<ObservedMOPBits> observedMOPBits;
 
   /**
    * Get In Data Item US:MOPDutyCycle (US), enter as a percentage, the minimum
@@ -438,7 +438,7 @@ public class ObservedMOPSequence {
    */
   public Set<ObservedMOPBits> getObservedMOPBits() {
     if (observedMOPBits == null) {
-      observedMOPBits = new HashSet<>();
+      observedMOPBits = new CompactSet<>();
     }
     return this.observedMOPBits;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -147,7 +147,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedMOPSequence")
-  private Set<ObservedMOPSequence> observedMOPSequence;
+  private CompactSet<ObservedMOPSequence> observedMOPSequence;
 
   /**
    * Get In Data Item US:MOPDutyCycle (US), enter as a percentage, the minimum
@@ -457,7 +457,7 @@ public class ObservedMOPSweep {
    */
   public Set<ObservedMOPSequence> getObservedMOPSequence() {
     if (observedMOPSequence == null) {
-      observedMOPSequence = new HashSet<>();
+      observedMOPSequence = new CompactSet<>();
     }
     return this.observedMOPSequence;
   }
@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUS7;
@@ -921,7 +921,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedPulseValues")
-  private Set<ObservedPulseValues> observedPulseValues;
+  private CompactSet<ObservedPulseValues> observedPulseValues;
 
   /**
    * Get the time required for a pulse to fall from 90% to 10 percent of the
@@ -2864,7 +2864,7 @@ public class ObservedPulseAnalysis {
    */
   public Set<ObservedPulseValues> getObservedPulseValues() {
     if (observedPulseValues == null) {
-      observedPulseValues = new HashSet<>();
+      observedPulseValues = new CompactSet<>();
     }
     return this.observedPulseValues;
   }
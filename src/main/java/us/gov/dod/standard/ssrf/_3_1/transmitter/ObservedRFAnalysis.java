@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCFO;
@@ -565,7 +565,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedRFValues")
-  private Set<ObservedRFValues> observedRFValues;
+  private CompactSet<ObservedRFValues> observedRFValues;
 
   /**
    * Get the chip rate. Pertains mostly to spread spectrum..
@@ -1735,7 +1735,7 @@ public class ObservedRFAnalysis {
    */
   public Set<ObservedRFValues> getObservedRFValues() {
     if (observedRFValues == null) {
-      observedRFValues = new HashSet<>();
+      observedRFValues = new CompactSet<>();
     }
     return this.observedRFValues;
   }
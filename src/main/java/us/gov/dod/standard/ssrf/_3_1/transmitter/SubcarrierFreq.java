@@ -17,12 +17,12 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 
 /**
@@ -78,7 +78,7 @@ public class SubcarrierFreq {
    * @since 3.1.0
    */
   @XmlElement(name = "SubcarrierTone")
-  private Set<SubcarrierTone> subcarrierTone;
+  private CompactSet<SubcarrierTone> subcarrierTone;
 
   /**
    * Get the subcarrier frequency..
@@ -180,7 +180,7 @@ public class SubcarrierFreq {
    */
   public Set<SubcarrierTone> getSubcarrierTone() {
     if (subcarrierTone == null) {
-      subcarrierTone = new HashSet<>();
+      subcarrierTone = new CompactSet<>();
     }
     return this.subcarrierTone;
   }
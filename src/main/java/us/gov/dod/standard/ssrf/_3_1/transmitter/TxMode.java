@@ -18,9 +18,9 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.CompactSet;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.*;
@@ -509,7 +509,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "EmsClass", nillable = true)
-  private Set<EmsClass> emsClass;
+  private CompactSet<EmsClass> emsClass;
   /**
    * PowerLimit - Power Limit (Optional)
    * <p>
@@ -520,7 +520,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "Power")
-  private Set<Power> power;
+  private CompactSet<Power> power;
   /**
    * TxSignalTuning (Optional)
    * <p>
@@ -531,7 +531,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "TxSignalTuning")
-  private Set<TxSignalTuning> txSignalTuning;
+  private CompactSet<TxSignalTuning> txSignalTuning;
   /**
    * TxModulation (Optional)
    * <p>
@@ -541,7 +541,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "TxModulation")
-  private Set<TxModulation> txModulation;
+  private CompactSet<TxModulation> txModulation;
   /**
    * Baseband (Optional)
    * <p>
@@ -550,7 +550,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "Baseband")
-  private Set<Baseband> baseband;
+  private CompactSet<Baseband> baseband;
   /**
    * BurstNumPulses - Number of Pulses in Burst (Optional)
    * <p>
@@ -563,7 +563,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "Pulse")
-  private Set<Pulse> pulse;
+  private CompactSet<Pulse> pulse;
   /**
    * SubcarrierFreq (Optional)
    * <p>
@@ -572,7 +572,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "SubcarrierFreq")
-  private Set<SubcarrierFreq> subcarrierFreq;
+  private CompactSet<SubcarrierFreq> subcarrierFreq;
   /**
    * Spread Spectrum (Optional)
    * <p>
@@ -592,7 +592,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedMOPAnalysis")
-  private Set<ObservedMOPAnalysis> observedMOPAnalysis;
+  private CompactSet<ObservedMOPAnalysis> observedMOPAnalysis;
   /**
    * US:ObservedRFAnalysis (Optional)
    * <p>
@@ -602,7 +602,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedRFAnalysis")
-  private Set<ObservedRFAnalysis> observedRFAnalysis;
+  private CompactSet<ObservedRFAnalysis> observedRFAnalysis;
   /**
    * US:ObservedPulseAnalysis (Optional)
    * <p>
@@ -613,7 +613,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlElement(name = "ObservedPulseAnalysis")
-  private Set<ObservedPulseAnalysis> observedPulseAnalysis;
+  private CompactSet<ObservedPulseAnalysis> observedPulseAnalysis;
   /**
    * curves - Links to Curves (Optional)
    * <p>
@@ -624,7 +624,7 @@ public class TxMode {
    * @since 3.1.0
    */
   @XmlAttribute(name = "curves")
-  private Set<BigInteger> curves;
+  private CompactSet<BigInteger> curves;
 
   /**
    * Get the unique identifier of a TxMode of the transmitter in this
@@ -1581,7 +1581,7 @@ public class TxMode {
    */
   public Set<EmsClass> getEmsClass() {
     if (emsClass == null) {
-      emsClass = new HashSet<>();
+      emsClass = new CompactSet<>();
     }
     return this.emsClass;
   }
@@ -1610,7 +1610,7 @@ public class TxMode {
    */
   public Set<Power> getPower() {
     if (power == null) {
-      power = new HashSet<>();
+      power = new CompactSet<>();
     }
     return this.power;
   }
@@ -1643,7 +1643,7 @@ public class TxMode {
    */
   public Set<TxSignalTuning> getTxSignalTuning() {
     if (txSignalTuning == null) {
-      txSignalTuning = new HashSet<>();
+      txSignalTuning = new CompactSet<>();
     }
     return this.txSignalTuning;
   }
@@ -1675,7 +1675,7 @@ public class TxMode {
    */
   public Set<TxModulation> getTxModulation() {
     if (txModulation == null) {
-      txModulation = new HashSet<>();
+      txModulation = new CompactSet<>();
     }
     return this.txModulation;
   }
@@ -1707,7 +1707,7 @@ public class TxMode {
    */
   public Set<Baseband> getBaseband() {
     if (baseband == null) {
-      baseband = new HashSet<>();
+      baseband = new CompactSet<>();
     }
     return this.baseband;
   }
@@ -1736,7 +1736,7 @@ public class TxMode {
    */
   public Set<Pulse> getPulse() {
     if (pulse == null) {
-      pulse = new HashSet<>();
+      pulse = new CompactSet<>();
     }
     return this.pulse;
   }
@@ -1771,7 +1771,7 @@ public class TxMode {
    */
   public Set<SubcarrierFreq> getSubcarrierFreq() {
     if (subcarrierFreq == null) {
-      subcarrierFreq = new HashSet<>();
+      subcarrierFreq = new CompactSet<>();
     }
     return this.subcarrierFreq;
   }
@@ -1839,7 +1839,7 @@ public class TxMode {
    */
   public Set<ObservedMOPAnalysis> getObservedMOPAnalysis() {
     if (observedMOPAnalysis == null) {
-      observedMOPAnalysis = new HashSet<>();
+      observedMOPAnalysis = new CompactSet<>();
     }
     return this.observedMOPAnalysis;
   }
@@ -1871,7 +1871,7 @@ public class TxMode {
    */
   public Set<ObservedRFAnalysis> getObservedRFAnalysis() {
     if (observedRFAnalysis == null) {
-      observedRFAnalysis = new HashSet<>();
+      observedRFAnalysis = new CompactSet<>();
     }
     return this.observedRFAnalysis;
   }
@@ -1904,7 +1904,7 @@ public class TxMode {
    */
   public Set<ObservedPulseAnalysis> getObservedPulseAnalysis() {
     if (observedPulseAnalysis == null) {
-      observedPulseAnalysis = new HashSet<>();
+      observedPulseAnalysis = new CompactSet<>();
     }
     return this.observedPulseAnalysis;
   }
@@ -1933,7 +1933,7 @@ public class TxMode {
    */
   public Set<BigInteger> getCurves() {
     if (curves == null) {
-      curves = new HashSet<>();
+      curves = new CompactSet<>();
     }
     return this.curves;
   }
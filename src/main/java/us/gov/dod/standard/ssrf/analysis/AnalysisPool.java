@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The shared fork/join pool of the analysis engines.
+ * <p>
+ * Parallel analysis methods that are not given a pool by the caller run their
+ * tasks in this pool, which has one worker thread per available processor.
+ * Worker threads are daemon threads created on demand and retired when idle,
+ * so the pool is never shut down.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+final class AnalysisPool {
+
+  /**
+   * The shared pool.
+   */
+  private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+  private AnalysisPool() {
+  }
+
+  /**
+   * Get the shared analysis pool.
+   *
+   * @return the shared fork/join pool
+   */
+  static ForkJoinPool getInstance() {
+    return POOL;
+  }
+}
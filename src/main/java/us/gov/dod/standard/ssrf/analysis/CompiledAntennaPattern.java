@@ -0,0 +1,386 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import us.gov.dod.standard.ssrf._3_1.Antenna;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntGain;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntMode;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntPattern;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntPatternPoint;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAP;
+
+/**
+ * Compiled antenna radiation pattern of an {@link AntMode}, for fast gain
+ * lookup in propagation and interference analyses.
+ * <p>
+ * The AntPatternPoint sets of the horizontal (azimuth) and vertical
+ * (elevation) pattern cuts are sorted by direction into primitive arrays,
+ * extended by one point at each end to wrap around 360 degrees, and
+ * normalized to the cut peak. A one-degree bin table gives the first point
+ * of each bin, so a lookup is a table read, a short forward scan and a linear
+ * interpolation, with no allocation.
+ * <p>
+ * The gain in a direction is the main beam gain plus the relative gain of
+ * each cut: G(az, el) = G<sub>max</sub> + H(az) + V(el). A missing cut is
+ * taken to be omni-directional. Directions are in degrees relative to the
+ * antenna pointing angle, as in AntPatternPoint Dir.
+ * <p>
+ * A compiled pattern is immutable and may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class CompiledAntennaPattern {
+
+  /**
+   * The horizontal cut pattern types, in order of preference: the azimuth
+   * cut, then co-polar and cross-polar cuts.
+   */
+  private static final ListCAP[] HORIZONTAL = {ListCAP.AZIMUTH, ListCAP.HH, ListCAP.VV, ListCAP.HV, ListCAP.VH};
+  /**
+   * The vertical cut pattern types, in order of preference.
+   */
+  private static final ListCAP[] VERTICAL = {ListCAP.ELEVATION, ListCAP.ELHH, ListCAP.ELVV, ListCAP.ELHV, ListCAP.ELVH};
+
+  /**
+   * The main beam gain (dBi).
+   */
+  private final double peakGain;
+  /**
+   * The horizontal cut. NULL if omni-directional.
+   */
+  private final Cut horizontal;
+  /**
+   * The vertical cut. NULL if omni-directional.
+   */
+  private final Cut vertical;
+
+  /**
+   * Construct a new compiled antenna pattern.
+   *
+   * @param peakGain   the main beam gain (dBi)
+   * @param horizontal the horizontal pattern cut, null if omni-directional
+   * @param vertical   the vertical pattern cut, null if omni-directional
+   */
+  public CompiledAntennaPattern(double peakGain, AntPattern horizontal, AntPattern vertical) {
+    this.peakGain = peakGain;
+    this.horizontal = Cut.getInstance(horizontal);
+    this.vertical = Cut.getInstance(vertical);
+  }
+
+  /**
+   * Compile the pattern of an antenna mode.
+   * <p>
+   * The horizontal cut is the AntPattern of type Azimuth, else HH, VV, HV, VH
+   * or a pattern with no type; the vertical cut is the AntPattern of type
+   * Elevation, else ELHH, ELVV, ELHV or ELVH. The main beam gain is the
+   * largest AntGain; if the mode has no AntGain it is the largest pattern
+   * point gain, so that patterns given in dBi are reproduced as given.
+   *
+   * @param antMode the antenna mode
+   * @return the compiled antenna pattern
+   */
+  public static CompiledAntennaPattern getInstance(AntMode antMode) {
+    AntPattern horizontal = null;
+    AntPattern vertical = null;
+    if (antMode.isSetAntPattern()) {
+      horizontal = select(antMode.getAntPattern(), HORIZONTAL, true);
+      vertical = select(antMode.getAntPattern(), VERTICAL, false);
+    }
+    double peak = Double.NEGATIVE_INFINITY;
+    if (antMode.isSetAntGain()) {
+      for (AntGain antGain : antMode.getAntGain()) {
+        if (antGain.isSetGain()) {
+          peak = Math.max(peak, antGain.getGain().doubleValue());
+        }
+      }
+    }
+    Cut horizontalCut = Cut.getInstance(horizontal);
+    Cut verticalCut = Cut.getInstance(vertical);
+    if (peak == Double.NEGATIVE_INFINITY) {
+      /**
+       * No main beam gain: use the largest absolute gain of the cuts.
+       */
+      peak = Math.max(horizontalCut != null ? horizontalCut.peak : Double.NEGATIVE_INFINITY,
+                      verticalCut != null ? verticalCut.peak : Double.NEGATIVE_INFINITY);
+    }
+    return new CompiledAntennaPattern(peak == Double.NEGATIVE_INFINITY ? 0 : peak, horizontalCut, verticalCut);
+  }
+
+  /**
+   * Compile the patterns of every mode of an antenna.
+   *
+   * @param antenna the antenna
+   * @return the compiled patterns indexed by AntMode ModeID, in document
+   *         order. Modes without a ModeID are not included.
+   */
+  public static Map<String, CompiledAntennaPattern> getInstances(Antenna antenna) {
+    Map<String, CompiledAntennaPattern> patterns = new LinkedHashMap<>();
+    if (antenna.isSetAntMode()) {
+      for (AntMode antMode : antenna.getAntMode()) {
+        if (antMode.isSetModeID()) {
+          patterns.put(antMode.getModeID().getValue(), getInstance(antMode));
+        }
+      }
+    }
+    return patterns;
+  }
+
+  private CompiledAntennaPattern(double peakGain, Cut horizontal, Cut vertical) {
+    this.peakGain = peakGain;
+    this.horizontal = horizontal;
+    this.vertical = vertical;
+  }
+
+  /**
+   * Select the most preferred pattern cut of a set of types.
+   *
+   * @param antPatterns the antenna patterns
+   * @param types       the acceptable types, in order of preference
+   * @param untyped     TRUE if a pattern with no type is acceptable
+   * @return the selected pattern, NULL if none
+   */
+  private static AntPattern select(Set<AntPattern> antPatterns, ListCAP[] types, boolean untyped) {
+    AntPattern selected = null;
+    int rank = Integer.MAX_VALUE;
+    for (AntPattern antPattern : antPatterns) {
+      if (!antPattern.isSetAntPatternPoint()) {
+        continue;
+      }
+      int index = types.length;
+      if (antPattern.isSetType()) {
+        ListCAP type;
+        try {
+          type = ListCAP.fromValue(antPattern.getType().getValue());
+        } catch (IllegalArgumentException ex) {
+          continue;
+        }
+        index = Arrays.asList(types).indexOf(type);
+        if (index < 0) {
+          continue;
+        }
+      } else if (!untyped) {
+        continue;
+      }
+      if (index < rank) {
+        selected = antPattern;
+        rank = index;
+      }
+    }
+    return selected;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Gain lookup">
+  /**
+   * Get the antenna gain in a direction. This method does not allocate.
+   *
+   * @param az the azimuth relative to the pointing angle (degrees)
+   * @param el the elevation relative to the pointing angle (degrees)
+   * @return the gain (dBi)
+   */
+  public double antennaGain(double az, double el) {
+    double gain = peakGain;
+    if (horizontal != null) {
+      gain += horizontal.gain(az);
+    }
+    if (vertical != null) {
+      gain += vertical.gain(el);
+    }
+    return gain;
+  }
+
+  /**
+   * Get the antenna gain in a set of directions.
+   *
+   * @param az     the azimuths relative to the pointing angle (degrees)
+   * @param el     the elevations relative to the pointing angle (degrees)
+   * @param result the array to receive the gains (dBi), at least as long as
+   *               the azimuth array
+   */
+  public void antennaGain(double[] az, double[] el, double[] result) {
+    for (int i = 0; i < az.length; i++) {
+      result[i] = antennaGain(az[i], el[i]);
+    }
+  }
+
+  /**
+   * Get the horizontal cut gain relative to the main beam.
+   *
+   * @param az the azimuth relative to the pointing angle (degrees)
+   * @return the relative gain (dB), zero if the horizontal pattern is
+   *         omni-directional
+   */
+  public double getHorizontalGain(double az) {
+    return horizontal != null ? horizontal.gain(az) : 0;
+  }
+
+  /**
+   * Get the vertical cut gain relative to the main beam.
+   *
+   * @param el the elevation relative to the pointing angle (degrees)
+   * @return the relative gain (dB), zero if the vertical pattern is
+   *         omni-directional
+   */
+  public double getVerticalGain(double el) {
+    return vertical != null ? vertical.gain(el) : 0;
+  }
+
+  /**
+   * Get the main beam gain.
+   *
+   * @return the main beam gain (dBi)
+   */
+  public double getPeakGain() {
+    return peakGain;
+  }
+
+  public boolean isSetHorizontal() {
+    return horizontal != null;
+  }
+
+  public boolean isSetVertical() {
+    return vertical != null;
+  }//</editor-fold>
+
+  @Override
+  public String toString() {
+    return "CompiledAntennaPattern [" + peakGain + " dBi"
+           + (horizontal != null ? ", horizontal " + (horizontal.dir.length - 2) + " points" : "")
+           + (vertical != null ? ", vertical " + (vertical.dir.length - 2) + " points" : "") + "]";
+  }
+
+  /**
+   * A compiled pattern cut: the pattern points sorted by direction with the
+   * gain relative to the cut peak.
+   */
+  private static final class Cut {
+
+    /**
+     * The number of bins per degree in the bin table.
+     */
+    private static final int BINS_PER_DEGREE = 1;
+
+    /**
+     * The point directions (degrees), ascending. The first and last entries
+     * are the last and first points wrapped by -/+ 360 degrees.
+     */
+    private final double[] dir;
+    /**
+     * The point gains relative to the cut peak (dB).
+     */
+    private final double[] gain;
+    /**
+     * For each bin, the index of the last point at or below the bin start.
+     */
+    private final int[] bins;
+    /**
+     * The largest point gain, as given (dB).
+     */
+    private final double peak;
+
+    private Cut(double[] dir, double[] gain, double peak) {
+      this.dir = dir;
+      this.gain = gain;
+      this.peak = peak;
+      this.bins = new int[360 * BINS_PER_DEGREE];
+      int index = 0;
+      for (int b = 0; b < bins.length; b++) {
+        double start = (double) b / BINS_PER_DEGREE;
+        while (dir[index + 1] <= start) {
+          index++;
+        }
+        bins[b] = index;
+      }
+    }
+
+    /**
+     * Compile a pattern cut. Directions are normalized to [0, 360); where two
+     * points share a direction the larger gain is kept.
+     *
+     * @param antPattern the antenna pattern
+     * @return the compiled cut, NULL if the pattern is null or has no point
+     *         with both a direction and a gain
+     */
+    static Cut getInstance(AntPattern antPattern) {
+      if (antPattern == null || !antPattern.isSetAntPatternPoint()) {
+        return null;
+      }
+      TreeMap<Double, Double> points = new TreeMap<>();
+      double peak = Double.NEGATIVE_INFINITY;
+      for (AntPatternPoint antPatternPoint : antPattern.getAntPatternPoint()) {
+        if (antPatternPoint.isSetDir() && antPatternPoint.isSetGain()) {
+          double d = normalize(antPatternPoint.getDir().doubleValue());
+          double g = antPatternPoint.getGain().doubleValue();
+          Double existing = points.get(d);
+          if (existing == null || existing < g) {
+            points.put(d, g);
+          }
+          peak = Math.max(peak, g);
+        }
+      }
+      if (points.isEmpty()) {
+        return null;
+      }
+      int n = points.size();
+      double[] dir = new double[n + 2];
+      double[] gain = new double[n + 2];
+      int i = 1;
+      for (Map.Entry<Double, Double> entry : points.entrySet()) {
+        dir[i] = entry.getKey();
+        gain[i] = entry.getValue() - peak;
+        i++;
+      }
+      dir[0] = dir[n] - 360;
+      gain[0] = gain[n];
+      dir[n + 1] = dir[1] + 360;
+      gain[n + 1] = gain[1];
+      return new Cut(dir, gain, peak);
+    }
+
+    /**
+     * Get the gain in a direction by linear interpolation between the
+     * neighbouring points, wrapping around 360 degrees.
+     *
+     * @param angle the direction (degrees)
+     * @return the gain relative to the cut peak (dB)
+     */
+    double gain(double angle) {
+      double a = normalize(angle);
+      int i = bins[Math.min(bins.length - 1, (int) (a * BINS_PER_DEGREE))];
+      while (dir[i + 1] <= a) {
+        i++;
+      }
+      double span = dir[i + 1] - dir[i];
+      return span > 0 ? gain[i] + (gain[i + 1] - gain[i]) * (a - dir[i]) / span : gain[i];
+    }
+
+    /**
+     * Normalize an angle to the range [0, 360) degrees.
+     */
+    private static double normalize(double degrees) {
+      if (degrees >= 0 && degrees < 360) {
+        return degrees;
+      }
+      double d = degrees % 360;
+      if (d < 0) {
+        d += 360;
+      }
+      return d >= 360 ? 0 : d;
+    }
+  }
+}
@@ -0,0 +1,538 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import us.gov.dod.standard.ssrf.CompactSet;
+import us.gov.dod.standard.ssrf._3_1.ChannelPlan;
+import us.gov.dod.standard.ssrf._3_1.channelplan.Channel;
+import us.gov.dod.standard.ssrf._3_1.channelplan.ChannelFreq;
+
+/**
+ * Compiled ChannelPlan representation.
+ * <p>
+ * The channel frequencies of a {@link ChannelPlan} are expanded into a sorted
+ * primitive frequency array, each frequency carrying the ordinal of its
+ * {@link Channel}. Nearest channel and channels-in-range queries are binary
+ * searches; reverse lookups (channel name to frequencies) are hash lookups.
+ * <p>
+ * The most recently used compiled plans are cached by ChannelPlan instance
+ * (not by serial, which may change). A cached plan records the version of the
+ * ChannelPlan channel set it was compiled from and is recompiled when
+ * {@link #getInstance(ChannelPlan)} finds that channels have been added,
+ * removed or replaced; this check does not walk the plan. Channels are hashed
+ * on their frequencies and should not be edited while in a plan; if a channel
+ * is edited in place call {@link #invalidate(ChannelPlan)}, or use
+ * {@link #isCurrent(ChannelPlan)} to compare the whole plan. Callers issuing
+ * many queries against an unchanging plan should hold on to the compiled
+ * instance.
+ * <p>
+ * A compiled plan is immutable and may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class CompiledChannelPlan {
+
+  /**
+   * The maximum number of cached compiled plans.
+   */
+  private static final int CACHE_SIZE = 64;
+  /**
+   * The most recently used compiled plans, indexed by ChannelPlan instance.
+   * Access is synchronized on the map.
+   */
+  private static final Map<PlanKey, CompiledChannelPlan> CACHE = new LinkedHashMap<PlanKey, CompiledChannelPlan>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<PlanKey, CompiledChannelPlan> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  /**
+   * The channel plan.
+   */
+  private final ChannelPlan channelPlan;
+  /**
+   * The channels, in channel plan order.
+   */
+  private final Channel[] channels;
+  /**
+   * The sorted channel frequencies (MHz).
+   */
+  private final double[] frequencies;
+  /**
+   * The channel ordinal of each frequency.
+   */
+  private final int[] channelIndex;
+  /**
+   * The sorted frequencies (MHz) of each channel.
+   */
+  private final double[][] channelFrequencies;
+  /**
+   * The channel ordinals, indexed by channel name.
+   */
+  private final Map<String, int[]> names;
+  /**
+   * The model instances this plan was compiled from, in walk order. Used to
+   * detect a modified ChannelPlan.
+   */
+  private final Object[] snapshot;
+  /**
+   * The ChannelPlan channel set this plan was compiled from, NULL if none,
+   * and its modification count at that time.
+   */
+  private final Set<Channel> channelSet;
+  private final int channelSetVersion;
+
+  /**
+   * Compile a channel plan.
+   *
+   * @param channelPlan the channel plan
+   */
+  private CompiledChannelPlan(ChannelPlan channelPlan) {
+    this.channelPlan = channelPlan;
+    this.channelSet = channelPlan.isSetChannel() ? channelPlan.getChannel() : null;
+    this.channelSetVersion = version(channelSet);
+    this.snapshot = snapshot(channelPlan);
+    List<Channel> list = channelPlan.isSetChannel()
+                         ? new ArrayList<>(channelPlan.getChannel())
+                         : Collections.<Channel>emptyList();
+    this.channels = list.toArray(new Channel[list.size()]);
+    this.channelFrequencies = new double[channels.length][];
+    Map<String, int[]> map = new HashMap<>();
+    int count = 0;
+    for (int i = 0; i < channels.length; i++) {
+      Channel channel = channels[i];
+      double[] values = new double[channel.isSetChannelFreq() ? channel.getChannelFreq().size() : 0];
+      int n = 0;
+      if (values.length > 0) {
+        for (ChannelFreq channelFreq : channel.getChannelFreq()) {
+          if (channelFreq.isSetValue()) {
+            values[n++] = channelFreq.getValue().doubleValue();
+          }
+        }
+      }
+      values = Arrays.copyOf(values, n);
+      Arrays.sort(values);
+      channelFrequencies[i] = values;
+      count += n;
+      if (channel.isSetName()) {
+        int[] ordinals = map.get(channel.getName().getValue());
+        if (ordinals == null) {
+          ordinals = new int[]{i};
+        } else {
+          ordinals = Arrays.copyOf(ordinals, ordinals.length + 1);
+          ordinals[ordinals.length - 1] = i;
+        }
+        map.put(channel.getName().getValue(), ordinals);
+      }
+    }
+    this.names = map;
+    /**
+     * Merge the channel frequencies into one array sorted by frequency, then
+     * by channel ordinal.
+     */
+    double[] unsorted = new double[count];
+    int k = 0;
+    for (int i = 0; i < channels.length; i++) {
+      for (double value : channelFrequencies[i]) {
+        unsorted[k++] = value;
+      }
+    }
+    Integer[] order = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = i;
+    }
+    final double[] values = unsorted;
+    Arrays.sort(order, new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer o1, Integer o2) {
+        int compare = Double.compare(values[o1], values[o2]);
+        return compare != 0 ? compare : Integer.compare(o1, o2);
+      }
+    });
+    int[] owner = new int[count];
+    k = 0;
+    for (int i = 0; i < channels.length; i++) {
+      for (int j = 0; j < channelFrequencies[i].length; j++) {
+        owner[k++] = i;
+      }
+    }
+    this.frequencies = new double[count];
+    this.channelIndex = new int[count];
+    for (int i = 0; i < count; i++) {
+      frequencies[i] = unsorted[order[i]];
+      channelIndex[i] = owner[order[i]];
+    }
+  }
+
+  /**
+   * Get the compiled representation of a channel plan. Recently used plans
+   * are cached and recompiled only when channels have been added to, removed
+   * from or replaced in the plan since it was last compiled.
+   *
+   * @param channelPlan the channel plan
+   * @return the compiled channel plan
+   */
+  public static CompiledChannelPlan getInstance(ChannelPlan channelPlan) {
+    PlanKey key = new PlanKey(channelPlan);
+    CompiledChannelPlan compiled;
+    synchronized (CACHE) {
+      compiled = CACHE.get(key);
+    }
+    if (compiled == null || !compiled.isSameVersion(channelPlan)) {
+      compiled = new CompiledChannelPlan(channelPlan);
+      synchronized (CACHE) {
+        CACHE.put(key, compiled);
+      }
+    }
+    return compiled;
+  }
+
+  /**
+   * Remove a compiled channel plan from the cache.
+   *
+   * @param channelPlan the channel plan
+   */
+  public static void invalidate(ChannelPlan channelPlan) {
+    synchronized (CACHE) {
+      CACHE.remove(new PlanKey(channelPlan));
+    }
+  }
+
+  /**
+   * Remove all compiled channel plans from the cache.
+   */
+  public static void clearCache() {
+    synchronized (CACHE) {
+      CACHE.clear();
+    }
+  }
+
+  /**
+   * Determine if the channel set of a channel plan is the one this plan was
+   * compiled from and has not been modified since. This does not walk the
+   * plan.
+   *
+   * @param channelPlan the channel plan
+   * @return TRUE if the channel set version is unchanged
+   */
+  private boolean isSameVersion(ChannelPlan channelPlan) {
+    Set<Channel> channels = channelPlan.isSetChannel() ? channelPlan.getChannel() : null;
+    if (channelPlan != this.channelPlan || channels != channelSet) {
+      return false;
+    }
+    return channels == null || (channels instanceof CompactSet ? channelSetVersion == version(channels) : isCurrent(channelPlan));
+  }
+
+  /**
+   * Get the version of a channel set.
+   *
+   * @param channels the channel set, may be null
+   * @return the set modification count, zero if the set is null or not a
+   *         CompactSet
+   */
+  private static int version(Set<Channel> channels) {
+    return channels instanceof CompactSet ? ((CompactSet<Channel>) channels).getModCount() : 0;
+  }
+
+  /**
+   * Determine if this compiled plan still represents a channel plan. This
+   * compares every channel, channel name and channel frequency instance with
+   * those the plan was compiled from.
+   *
+   * @param channelPlan the channel plan
+   * @return TRUE if the plan is the same instance and has not been modified
+   *         since it was compiled
+   */
+  public boolean isCurrent(ChannelPlan channelPlan) {
+    if (channelPlan != this.channelPlan) {
+      return false;
+    }
+    int index = 0;
+    if (channelPlan.isSetChannel()) {
+      for (Channel channel : channelPlan.getChannel()) {
+        if (index + 2 > snapshot.length
+            || snapshot[index++] != channel
+            || snapshot[index++] != (channel.getName() != null ? channel.getName().getValue() : null)) {
+          return false;
+        }
+        if (channel.isSetChannelFreq()) {
+          for (ChannelFreq channelFreq : channel.getChannelFreq()) {
+            if (index + 2 > snapshot.length
+                || snapshot[index++] != channelFreq
+                || snapshot[index++] != channelFreq.getValue()) {
+              return false;
+            }
+          }
+        }
+      }
+    }
+    return index == snapshot.length;
+  }
+
+  /**
+   * Record the model instances of a channel plan in walk order.
+   *
+   * @param channelPlan the channel plan
+   * @return the channel plan model instances
+   */
+  private static Object[] snapshot(ChannelPlan channelPlan) {
+    List<Object> list = new ArrayList<>();
+    if (channelPlan.isSetChannel()) {
+      for (Channel channel : channelPlan.getChannel()) {
+        list.add(channel);
+        list.add(channel.getName() != null ? channel.getName().getValue() : null);
+        if (channel.isSetChannelFreq()) {
+          for (ChannelFreq channelFreq : channel.getChannelFreq()) {
+            list.add(channelFreq);
+            list.add(channelFreq.getValue());
+          }
+        }
+      }
+    }
+    return list.toArray();
+  }
+
+  /**
+   * Get the channel plan.
+   *
+   * @return the channel plan
+   */
+  public ChannelPlan getChannelPlan() {
+    return channelPlan;
+  }
+
+  /**
+   * Get the number of channel frequencies.
+   *
+   * @return the number of channel frequencies
+   */
+  public int size() {
+    return frequencies.length;
+  }
+
+  /**
+   * Get a channel frequency.
+   *
+   * @param index the frequency index, in ascending frequency order
+   * @return the frequency (MHz)
+   */
+  public double getFrequency(int index) {
+    return frequencies[index];
+  }
+
+  /**
+   * Get the channel of a channel frequency.
+   *
+   * @param index the frequency index, in ascending frequency order
+   * @return the channel
+   */
+  public Channel getChannel(int index) {
+    return channels[channelIndex[index]];
+  }
+
+  /**
+   * Get the index of the channel frequency nearest a frequency. Ties are
+   * resolved to the lower frequency. This method does not allocate.
+   *
+   * @param frequency the frequency (MHz)
+   * @return the frequency index, -1 if the plan has no frequencies
+   */
+  public int indexOfNearest(double frequency) {
+    if (frequencies.length == 0) {
+      return -1;
+    }
+    int index = Arrays.binarySearch(frequencies, frequency);
+    if (index >= 0) {
+      /**
+       * Return the first of any duplicate frequencies.
+       */
+      while (index > 0 && frequencies[index - 1] == frequency) {
+        index--;
+      }
+      return index;
+    }
+    int upper = -index - 1;
+    if (upper == 0) {
+      return 0;
+    }
+    if (upper == frequencies.length) {
+      return upper - 1;
+    }
+    int lower = upper - 1;
+    while (lower > 0 && frequencies[lower - 1] == frequencies[lower]) {
+      lower--;
+    }
+    return frequency - frequencies[lower] <= frequencies[upper] - frequency ? lower : upper;
+  }
+
+  /**
+   * Find the channel nearest a frequency.
+   *
+   * @param frequency the frequency (MHz)
+   * @return the nearest channel, NULL if the plan has no frequencies
+   */
+  public Channel findNearest(double frequency) {
+    int index = indexOfNearest(frequency);
+    return index < 0 ? null : getChannel(index);
+  }
+
+  /**
+   * Find the channel nearest a frequency within a tolerance.
+   *
+   * @param frequency the frequency (MHz)
+   * @param tolerance the maximum frequency difference (MHz)
+   * @return the nearest channel, NULL if no channel frequency is within the
+   *         tolerance
+   */
+  public Channel findNearest(double frequency, double tolerance) {
+    int index = indexOfNearest(frequency);
+    return index < 0 || Math.abs(frequencies[index] - frequency) > tolerance ? null : getChannel(index);
+  }
+
+  /**
+   * Get the index of the first channel frequency greater than or equal to a
+   * frequency.
+   *
+   * @param frequency the frequency (MHz)
+   * @return the frequency index, {@link #size()} if none
+   */
+  public int indexOfCeiling(double frequency) {
+    int low = 0;
+    int high = frequencies.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (frequencies[mid] < frequency) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Find the channels having at least one frequency in a frequency range.
+   *
+   * @param freqMin the minimum frequency (MHz, inclusive)
+   * @param freqMax the maximum frequency (MHz, inclusive)
+   * @return the channels in ascending order of their lowest frequency in the
+   *         range, empty if none
+   */
+  public List<Channel> findInRange(double freqMin, double freqMax) {
+    List<Channel> list = new ArrayList<>();
+    boolean[] found = new boolean[channels.length];
+    for (int i = indexOfCeiling(freqMin); i < frequencies.length && frequencies[i] <= freqMax; i++) {
+      if (!found[channelIndex[i]]) {
+        found[channelIndex[i]] = true;
+        list.add(channels[channelIndex[i]]);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Find the channels having a name.
+   *
+   * @param name the channel name
+   * @return the channels in channel plan order, empty if none
+   */
+  public List<Channel> findByName(String name) {
+    int[] ordinals = names.get(name);
+    if (ordinals == null) {
+      return Collections.emptyList();
+    }
+    List<Channel> list = new ArrayList<>(ordinals.length);
+    for (int ordinal : ordinals) {
+      list.add(channels[ordinal]);
+    }
+    return list;
+  }
+
+  /**
+   * Get the frequencies of the channels having a name.
+   *
+   * @param name the channel name
+   * @return the sorted frequencies (MHz), empty if none
+   */
+  public double[] getFrequencies(String name) {
+    int[] ordinals = names.get(name);
+    if (ordinals == null) {
+      return new double[0];
+    }
+    if (ordinals.length == 1) {
+      return channelFrequencies[ordinals[0]].clone();
+    }
+    double[] values = new double[0];
+    for (int ordinal : ordinals) {
+      double[] more = channelFrequencies[ordinal];
+      values = Arrays.copyOf(values, values.length + more.length);
+      System.arraycopy(more, 0, values, values.length - more.length, more.length);
+    }
+    Arrays.sort(values);
+    return values;
+  }
+
+  /**
+   * Get the frequencies of a channel.
+   *
+   * @param channel the channel
+   * @return the sorted frequencies (MHz), empty if the channel is not in this
+   *         plan
+   */
+  public double[] getFrequencies(Channel channel) {
+    for (int i = 0; i < channels.length; i++) {
+      if (channels[i] == channel) {
+        return channelFrequencies[i].clone();
+      }
+    }
+    return new double[0];
+  }
+
+  @Override
+  public String toString() {
+    return "CompiledChannelPlan [" + channels.length + " channels, " + frequencies.length + " frequencies]";
+  }
+
+  /**
+   * Cache key matching a ChannelPlan instance. ChannelPlan equality is based
+   * upon its serial number, which may change.
+   */
+  private static final class PlanKey {
+
+    private final ChannelPlan channelPlan;
+
+    PlanKey(ChannelPlan channelPlan) {
+      this.channelPlan = channelPlan;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(channelPlan);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof PlanKey && ((PlanKey) obj).channelPlan == channelPlan;
+    }
+  }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import us.gov.dod.standard.ssrf._3_1.Transmitter;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCT;
+import us.gov.dod.standard.ssrf._3_1.receiver.Curve;
+import us.gov.dod.standard.ssrf._3_1.receiver.CurvePoint;
+import us.gov.dod.standard.ssrf._3_1.transmitter.TxMode;
+
+/**
+ * Frequency-dependent rejection (FDR) calculator.
+ * <p>
+ * FDR is the attenuation of an interfering emission by a receiver's
+ * selectivity: the ratio of the total emission power to the power passed by
+ * the receiver, FDR(&Delta;f) = -10 log<sub>10</sub> &Sigma;<sub>j</sub>
+ * w<sub>j</sub> 10<sup>-A(&Delta;f + s<sub>j</sub>)/10</sup>, where the
+ * emission {@link Spectrum} is sampled at offsets s<sub>j</sub> with power
+ * fractions w<sub>j</sub> and A is the {@link ReceiverSelectivity}
+ * attenuation. The on-tune rejection is the FDR at zero offset.
+ * <p>
+ * A calculator holds a set of emission spectra and receiver selectivities and
+ * evaluates batches of (spectrum, selectivity, offset) triples given as
+ * primitive arrays, in parallel on the shared analysis {@link ForkJoinPool}
+ * or on a pool supplied by the caller.
+ * <p>
+ * A calculator is immutable once constructed and may be shared between
+ * threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class FDRCalculator {
+
+  /**
+   * The number of evaluations below which a parallel batch is not split
+   * further.
+   */
+  private static final int THRESHOLD = 1024;
+  /**
+   * The natural logarithm of ten divided by ten, to convert dB to a power
+   * ratio with {@link Math#exp(double)}.
+   */
+  private static final double DB = Math.log(10) / 10;
+
+  /**
+   * The emission spectra.
+   */
+  private final Spectrum[] spectra;
+  /**
+   * The receiver selectivities.
+   */
+  private final ReceiverSelectivity[] selectivities;
+
+  /**
+   * Construct a new FDR calculator.
+   *
+   * @param spectra       the emission spectra, indexed by their position
+   * @param selectivities the receiver selectivities, indexed by their
+   *                      position
+   */
+  public FDRCalculator(List<Spectrum> spectra, List<ReceiverSelectivity> selectivities) {
+    this.spectra = spectra.toArray(new Spectrum[spectra.size()]);
+    this.selectivities = selectivities.toArray(new ReceiverSelectivity[selectivities.size()]);
+  }
+
+  /**
+   * Get the frequency-dependent rejection of an emission by a receiver. This
+   * method does not allocate.
+   *
+   * @param spectrum    the emission spectrum
+   * @param selectivity the receiver selectivity
+   * @param offset      the transmitter frequency minus the receiver tuned
+   *                    frequency (MHz)
+   * @return the rejection (dB)
+   */
+  public static double fdr(Spectrum spectrum, ReceiverSelectivity selectivity, double offset) {
+    double passed = 0;
+    for (int j = 0; j < spectrum.offset.length; j++) {
+      passed += spectrum.weight[j] * Math.exp(-DB * selectivity.attenuation(offset + spectrum.offset[j]));
+    }
+    return -10 * Math.log10(passed);
+  }
+
+  /**
+   * Get the frequency-dependent rejection of an emission by a receiver at a
+   * set of offsets.
+   *
+   * @param spectrum    the emission spectrum
+   * @param selectivity the receiver selectivity
+   * @param offsets     the transmitter frequencies minus the receiver tuned
+   *                    frequency (MHz)
+   * @param result      the array to receive the rejections (dB), at least as
+   *                    long as the offset array
+   */
+  public static void fdr(Spectrum spectrum, ReceiverSelectivity selectivity, double[] offsets, double[] result) {
+    for (int i = 0; i < offsets.length; i++) {
+      result[i] = fdr(spectrum, selectivity, offsets[i]);
+    }
+  }
+
+  /**
+   * Calculate the frequency-dependent rejection of a batch of transmitter /
+   * receiver pairs, in parallel on the shared analysis pool. Entry i of each
+   * array describes one pair.
+   *
+   * @param spectrum    the index of each pair's emission spectrum
+   * @param selectivity the index of each pair's receiver selectivity
+   * @param offset      the transmitter frequency minus the receiver tuned
+   *                    frequency of each pair (MHz)
+   * @param result      the array to receive the rejections (dB)
+   */
+  public void calculate(int[] spectrum, int[] selectivity, double[] offset, double[] result) {
+    calculate(spectrum, selectivity, offset, result, AnalysisPool.getInstance());
+  }
+
+  /**
+   * Calculate the frequency-dependent rejection of a batch of transmitter /
+   * receiver pairs in parallel.
+   *
+   * @param spectrum    the index of each pair's emission spectrum
+   * @param selectivity the index of each pair's receiver selectivity
+   * @param offset      the transmitter frequency minus the receiver tuned
+   *                    frequency of each pair (MHz)
+   * @param result      the array to receive the rejections (dB)
+   * @param pool        the fork/join pool to use; NULL to calculate in the
+   *                    calling thread
+   */
+  public void calculate(int[] spectrum, int[] selectivity, double[] offset, double[] result, ForkJoinPool pool) {
+    if (pool == null || offset.length <= THRESHOLD) {
+      calculate(spectrum, selectivity, offset, result, 0, offset.length);
+    } else {
+      pool.invoke(new CalculateTask(spectrum, selectivity, offset, result, 0, offset.length));
+    }
+  }
+
+  /**
+   * Calculate the rejection of a range of batch entries.
+   */
+  private void calculate(int[] spectrum, int[] selectivity, double[] offset, double[] result, int from, int to) {
+    for (int i = from; i < to; i++) {
+      result[i] = fdr(spectra[spectrum[i]], selectivities[selectivity[i]], offset[i]);
+    }
+  }
+
+  public List<Spectrum> getSpectra() {
+    return Collections.unmodifiableList(Arrays.asList(spectra));
+  }
+
+  public List<ReceiverSelectivity> getSelectivities() {
+    return Collections.unmodifiableList(Arrays.asList(selectivities));
+  }
+
+  /**
+   * Fork/join task calculating a range of batch entries.
+   */
+  private final class CalculateTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] spectrum;
+    private final int[] selectivity;
+    private final double[] offset;
+    private final double[] result;
+    private final int from;
+    private final int to;
+
+    CalculateTask(int[] spectrum, int[] selectivity, double[] offset, double[] result, int from, int to) {
+      this.spectrum = spectrum;
+      this.selectivity = selectivity;
+      this.offset = offset;
+      this.result = result;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= THRESHOLD) {
+        calculate(spectrum, selectivity, offset, result, from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new CalculateTask(spectrum, selectivity, offset, result, from, middle),
+                new CalculateTask(spectrum, selectivity, offset, result, middle, to));
+    }
+  }
+
+  /**
+   * A transmitter emission power spectrum, sampled at offsets from the
+   * carrier frequency with the fraction of the emission power at each
+   * sample.
+   */
+  public static final class Spectrum {
+
+    /**
+     * The number of samples across a spectrum.
+     */
+    public static final int SAMPLES = 32;
+
+    /**
+     * The sample offsets from the carrier frequency (MHz), ascending.
+     */
+    private final double[] offset;
+    /**
+     * The fraction of the emission power at each sample. The fractions sum
+     * to one.
+     */
+    private final double[] weight;
+
+    private Spectrum(double[] offset, double[] weight) {
+      this.offset = offset;
+      this.weight = weight;
+    }
+
+    /**
+     * Get a rectangular emission spectrum: the power spread evenly across a
+     * bandwidth centered on the carrier.
+     *
+     * @param bandwidth the emission bandwidth (MHz), zero for an unmodulated
+     *                  carrier
+     * @return the emission spectrum
+     */
+    public static Spectrum getInstance(double bandwidth) {
+      if (bandwidth <= 0) {
+        return new Spectrum(new double[]{0}, new double[]{1});
+      }
+      double[] offset = new double[SAMPLES];
+      double[] weight = new double[SAMPLES];
+      for (int j = 0; j < SAMPLES; j++) {
+        offset[j] = bandwidth * ((j + 0.5) / SAMPLES - 0.5);
+        weight[j] = 1.0 / SAMPLES;
+      }
+      return new Spectrum(offset, weight);
+    }
+
+    /**
+     * Get the emission spectrum of a transmitter mode.
+     * <p>
+     * If the transmitter has a Tx RF Spectrum Curve referenced by the mode
+     * (or any, if the mode references no curve) the spectrum follows the
+     * curve levels relative to the carrier, sampled across the curve.
+     * Otherwise the spectrum is rectangular across the TxMode OccBw (the
+     * bandwidth containing 99 percent of the power), else the NecessaryBw.
+     *
+     * @param transmitter the transmitter, may be null if the mode has no
+     *                    curves
+     * @param txMode      the transmitter mode
+     * @return the emission spectrum
+     */
+    public static Spectrum getInstance(Transmitter transmitter, TxMode txMode) {
+      if (transmitter != null && transmitter.isSetCurve()) {
+        Set<BigInteger> references = txMode.isSetCurves() ? txMode.getCurves() : null;
+        for (Curve curve : transmitter.getCurve()) {
+          if (curve.isSetCurvePoint() && curve.isSetType()
+              && ListCCT.TX_RF_SPECTRUM.value().equals(curve.getType().getValue())
+              && (references == null || references.contains(curve.getIdx()))) {
+            Spectrum spectrum = getInstance(curve);
+            if (spectrum != null) {
+              return spectrum;
+            }
+          }
+        }
+      }
+      if (txMode.isSetOccBw()) {
+        return getInstance(txMode.getOccBw().doubleValue());
+      }
+      return getInstance(txMode.isSetNecessaryBw() ? txMode.getNecessaryBw().doubleValue() : 0);
+    }
+
+    /**
+     * Get the emission spectrum of a Tx RF Spectrum curve. Levels are read
+     * as dB below the carrier; a curve with only non-negative offsets is
+     * symmetric and is mirrored about the carrier.
+     *
+     * @param curve the curve
+     * @return the emission spectrum, NULL if the curve has no point with both
+     *         an offset and a level
+     */
+    private static Spectrum getInstance(Curve curve) {
+      TreeMap<Double, Double> points = new TreeMap<>();
+      for (CurvePoint curvePoint : curve.getCurvePoint()) {
+        if (curvePoint.isSetOffset() && curvePoint.isSetLevel()) {
+          points.put(curvePoint.getOffset().doubleValue() + 0.0,
+                     -Math.abs(curvePoint.getLevel().doubleValue()));
+        }
+      }
+      if (points.isEmpty()) {
+        return null;
+      }
+      if (points.firstKey() >= 0) {
+        if (!points.containsKey(0d)) {
+          points.put(0d, 0d);
+        }
+        for (Map.Entry<Double, Double> entry : new ArrayList<>(points.entrySet())) {
+          if (!points.containsKey(-entry.getKey() + 0.0)) {
+            points.put(-entry.getKey() + 0.0, entry.getValue());
+          }
+        }
+      }
+      double[] x = new double[points.size()];
+      double[] y = new double[points.size()];
+      int i = 0;
+      for (Map.Entry<Double, Double> entry : points.entrySet()) {
+        x[i] = entry.getKey();
+        y[i] = entry.getValue();
+        i++;
+      }
+      double width = x[x.length - 1] - x[0];
+      if (width <= 0) {
+        return getInstance(0);
+      }
+      double[] offset = new double[SAMPLES];
+      double[] weight = new double[SAMPLES];
+      double total = 0;
+      for (int j = 0; j < SAMPLES; j++) {
+        offset[j] = x[0] + width * (j + 0.5) / SAMPLES;
+        weight[j] = Math.exp(DB * ReceiverSelectivity.interpolate(x, y, offset[j]));
+        total += weight[j];
+      }
+      for (int j = 0; j < SAMPLES; j++) {
+        weight[j] /= total;
+      }
+      return new Spectrum(offset, weight);
+    }
+
+    /**
+     * Get the sample offsets.
+     *
+     * @return a copy of the sample offsets from the carrier (MHz)
+     */
+    public double[] getOffsets() {
+      return offset.clone();
+    }
+
+    /**
+     * Get the sample power fractions.
+     *
+     * @return a copy of the fraction of the emission power at each sample
+     */
+    public double[] getWeights() {
+      return weight.clone();
+    }
+
+    @Override
+    public String toString() {
+      return "Spectrum [" + offset.length + " samples, " + offset[0] + " to " + offset[offset.length - 1] + " MHz]";
+    }
+  }
+}
@@ -0,0 +1,760 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.*;
+import us.gov.dod.standard.ssrf._3_1.allotment.AllotFreq;
+import us.gov.dod.standard.ssrf._3_1.assignment.Assigned;
+import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
+import us.gov.dod.standard.ssrf._3_1.assignment.Freq;
+import us.gov.dod.standard.ssrf._3_1.assignment.Link;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
+import us.gov.dod.standard.ssrf._3_1.multiple.ConfigFreq;
+import us.gov.dod.standard.ssrf._3_1.toa.FreqBand;
+
+/**
+ * Frequency interval index over the frequency data items of an SSRF message.
+ * <p>
+ * The index holds one entry per frequency or frequency range, identified by
+ * its minimum and maximum frequency in MHz, its data item (e.g. a
+ * {@link Freq}, {@link AllotFreq}, {@link JRFLEntry}, {@link ConfigFreq} or
+ * {@link FreqBand}) and the dataset that owns it. The following data items are
+ * indexed:
+ * <ul>
+ * <li>Assignment: Link/Assigned/Freq and Configuration/ConfigFreq</li>
+ * <li>Allotment: AllotFreq</li>
+ * <li>JRFL: JRFLEntry</li>
+ * <li>TOA: FreqBand</li>
+ * <li>RFSystem, SSRequest and SSReply: Configuration/ConfigFreq</li>
+ * </ul>
+ * Previously assigned frequencies (FreqOld) are not indexed. A single
+ * frequency (no maximum) is indexed as a zero-width range.
+ * <p>
+ * Entries are held in an augmented interval tree: a randomized binary search
+ * tree (treap) ordered by minimum frequency in which each node also records
+ * the largest maximum frequency in its subtree. Overlap, containment and
+ * stabbing queries run in O(log n + k) expected time and return entries in
+ * ascending order of minimum frequency. Datasets may be added, removed and
+ * updated individually without rebuilding the index.
+ * <p>
+ * Entries record the frequency values at the time they are indexed. If a
+ * dataset is edited call {@link #update(Common)} to re-index it. The index is
+ * not thread safe.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class FrequencyIndex {
+
+  /**
+   * The tree root, NULL if the index is empty.
+   */
+  private Entry root;
+  /**
+   * The number of entries.
+   */
+  private int size;
+  /**
+   * The entry sequence number, used to order entries having the same minimum
+   * frequency and to derive the entry priority.
+   */
+  private long sequence;
+  /**
+   * The indexed entries of each dataset.
+   */
+  private final Map<Common<?>, List<Entry>> owners = new IdentityHashMap<>();
+
+  /**
+   * Construct a new, empty frequency index.
+   */
+  public FrequencyIndex() {
+  }
+
+  /**
+   * Build a frequency index over all the datasets in an SSRF message.
+   *
+   * @param ssrf the SSRF message
+   * @return a new frequency index
+   */
+  public static FrequencyIndex getInstance(SSRF ssrf) {
+    FrequencyIndex index = new FrequencyIndex();
+    index.addAll(ssrf);
+    return index;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Index maintenance">
+  /**
+   * Add all the datasets in an SSRF message to the index.
+   *
+   * @param ssrf the SSRF message
+   * @return the number of entries added
+   */
+  public int addAll(SSRF ssrf) {
+    int count = 0;
+    for (Assignment assignment : ssrf.getAssignment()) {
+      count += add(assignment);
+    }
+    for (Allotment allotment : ssrf.getAllotment()) {
+      count += add(allotment);
+    }
+    for (JRFL jrfl : ssrf.getJRFL()) {
+      count += add(jrfl);
+    }
+    for (TOA toa : ssrf.getTOA()) {
+      count += add(toa);
+    }
+    for (RFSystem rfSystem : ssrf.getRFSystem()) {
+      count += add(rfSystem);
+    }
+    for (SSRequest ssRequest : ssrf.getSSRequest()) {
+      count += add(ssRequest);
+    }
+    for (SSReply ssReply : ssrf.getSSReply()) {
+      count += add(ssReply);
+    }
+    return count;
+  }
+
+  /**
+   * Add the frequency data items of a dataset to the index. Datasets that
+   * carry no frequency information are ignored. If the dataset is already
+   * indexed it is re-indexed.
+   *
+   * @param dataset the dataset
+   * @return the number of entries added
+   */
+  public int add(Common<?> dataset) {
+    remove(dataset);
+    List<Entry> entries = extract(dataset);
+    for (Entry entry : entries) {
+      insert(entry);
+    }
+    return entries.size();
+  }
+
+  /**
+   * Add a frequency range to the index.
+   * <p>
+   * Use this method to index frequency data items not covered by
+   * {@link #add(Common)}. If the maximum is less than the minimum the values
+   * are exchanged.
+   *
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @param owner   the dataset owning the data item
+   * @param element the frequency data item
+   * @return the new index entry
+   * @throws IllegalArgumentException if a frequency is NaN
+   */
+  public Entry add(double freqMin, double freqMax, Common<?> owner, Object element) {
+    if (Double.isNaN(freqMin) || Double.isNaN(freqMax)) {
+      throw new IllegalArgumentException("Invalid frequency range [" + freqMin + ", " + freqMax + "]");
+    }
+    Entry entry = new Entry(Math.min(freqMin, freqMax), Math.max(freqMin, freqMax), owner, element);
+    insert(entry);
+    return entry;
+  }
+
+  /**
+   * Extract the frequency data items of a dataset without indexing them.
+   * <p>
+   * The returned entries are not part of any index; they are useful to
+   * compare the frequencies of a single dataset against an index. This method
+   * does not modify the dataset and may be called concurrently for different
+   * datasets.
+   *
+   * @param dataset the dataset
+   * @return the dataset frequency entries, empty if none
+   */
+  public static List<Entry> extract(Common<?> dataset) {
+    List<Entry> entries = new ArrayList<>(2);
+    if (dataset instanceof Assignment) {
+      Assignment assignment = (Assignment) dataset;
+      if (assignment.isSetLink()) {
+        for (Link link : assignment.getLink()) {
+          if (link.isSetAssigned()) {
+            for (Assigned assigned : link.getAssigned()) {
+              if (assigned.isSetFreq()) {
+                for (Freq freq : assigned.getFreq()) {
+                  extract(freq.getFreqMin(), freq.getFreqMax(), dataset, freq, entries);
+                }
+              }
+            }
+          }
+        }
+      }
+      if (assignment.isSetConfiguration()) {
+        extract(assignment.getConfiguration(), dataset, entries);
+      }
+    } else if (dataset instanceof Allotment) {
+      Allotment allotment = (Allotment) dataset;
+      if (allotment.isSetAllotFreq()) {
+        for (AllotFreq allotFreq : allotment.getAllotFreq()) {
+          extract(allotFreq.getFreqMin(), allotFreq.getFreqMax(), dataset, allotFreq, entries);
+        }
+      }
+    } else if (dataset instanceof JRFL) {
+      JRFL jrfl = (JRFL) dataset;
+      if (jrfl.isSetJRFLEntry()) {
+        for (JRFLEntry jrflEntry : jrfl.getJRFLEntry()) {
+          extract(jrflEntry.getFreqMin(), jrflEntry.getFreqMax(), dataset, jrflEntry, entries);
+        }
+      }
+    } else if (dataset instanceof TOA) {
+      TOA toa = (TOA) dataset;
+      if (toa.isSetFreqBand()) {
+        for (FreqBand freqBand : toa.getFreqBand()) {
+          extract(freqBand.getFreqMin(), freqBand.getFreqMax(), dataset, freqBand, entries);
+        }
+      }
+    } else if (dataset instanceof RFSystem) {
+      if (((RFSystem) dataset).isSetConfiguration()) {
+        extract(((RFSystem) dataset).getConfiguration(), dataset, entries);
+      }
+    } else if (dataset instanceof SSRequest) {
+      if (((SSRequest) dataset).isSetConfiguration()) {
+        extract(((SSRequest) dataset).getConfiguration(), dataset, entries);
+      }
+    } else if (dataset instanceof SSReply) {
+      if (((SSReply) dataset).isSetConfiguration()) {
+        extract(((SSReply) dataset).getConfiguration(), dataset, entries);
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Get the indexed entries of a dataset.
+   *
+   * @param dataset the dataset
+   * @return the dataset entries, empty if the dataset is not indexed
+   */
+  public List<Entry> getEntries(Common<?> dataset) {
+    List<Entry> entries = owners.get(dataset);
+    return entries != null ? Collections.unmodifiableList(entries) : Collections.<Entry>emptyList();
+  }
+
+  /**
+   * Remove all the entries of a dataset from the index.
+   *
+   * @param dataset the dataset
+   * @return the number of entries removed
+   */
+  public int remove(Common<?> dataset) {
+    List<Entry> entries = owners.remove(dataset);
+    if (entries == null) {
+      return 0;
+    }
+    for (Entry entry : entries) {
+      root = delete(root, entry);
+      size--;
+    }
+    return entries.size();
+  }
+
+  /**
+   * Remove a single entry from the index.
+   *
+   * @param entry the index entry
+   * @return TRUE if the entry was in the index
+   */
+  public boolean remove(Entry entry) {
+    List<Entry> entries = owners.get(entry.owner);
+    if (entries == null || !entries.remove(entry)) {
+      return false;
+    }
+    if (entries.isEmpty()) {
+      owners.remove(entry.owner);
+    }
+    root = delete(root, entry);
+    size--;
+    return true;
+  }
+
+  /**
+   * Re-index a dataset after its frequency data items have been changed.
+   *
+   * @param dataset the dataset
+   * @return the number of entries now indexed for the dataset
+   */
+  public int update(Common<?> dataset) {
+    return add(dataset);
+  }
+
+  /**
+   * Remove all entries from the index.
+   */
+  public void clear() {
+    root = null;
+    size = 0;
+    owners.clear();
+  }
+
+  /**
+   * Get the number of entries in the index.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Determine if the index is empty.
+   *
+   * @return TRUE if the index has no entries
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Determine if a dataset is indexed.
+   *
+   * @param dataset the dataset
+   * @return TRUE if the index holds at least one entry for the dataset
+   */
+  public boolean contains(Common<?> dataset) {
+    return owners.containsKey(dataset);
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Queries">
+  /**
+   * Find all entries that overlap a frequency range; that is, entries having
+   * at least one frequency in common with the range (boundaries included).
+   *
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @return the overlapping entries in ascending order of minimum frequency
+   */
+  public List<Entry> findOverlapping(double freqMin, double freqMax) {
+    List<Entry> entries = new ArrayList<>();
+    search(root, freqMin, freqMax, Query.OVERLAPPING, entries);
+    return entries;
+  }
+
+  /**
+   * Find all entries that contain an entire frequency range.
+   *
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @return the containing entries in ascending order of minimum frequency
+   */
+  public List<Entry> findContaining(double freqMin, double freqMax) {
+    List<Entry> entries = new ArrayList<>();
+    search(root, freqMin, freqMax, Query.CONTAINING, entries);
+    return entries;
+  }
+
+  /**
+   * Find all entries that lie entirely within a frequency range.
+   *
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @return the contained entries in ascending order of minimum frequency
+   */
+  public List<Entry> findWithin(double freqMin, double freqMax) {
+    List<Entry> entries = new ArrayList<>();
+    search(root, freqMin, freqMax, Query.WITHIN, entries);
+    return entries;
+  }
+
+  /**
+   * Find all entries that include a single frequency (a stabbing query).
+   *
+   * @param frequency the frequency (MHz)
+   * @return the entries including the frequency in ascending order of minimum
+   *         frequency
+   */
+  public List<Entry> findAt(double frequency) {
+    return findOverlapping(frequency, frequency);
+  }
+
+  /**
+   * Find the datasets owning at least one entry that overlaps a frequency
+   * range.
+   *
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @return the owning datasets, in order of their lowest overlapping entry
+   */
+  public Set<Common<?>> findOwners(double freqMin, double freqMax) {
+    Set<Common<?>> datasets = new LinkedHashSet<>();
+    for (Entry entry : findOverlapping(freqMin, freqMax)) {
+      datasets.add(entry.owner);
+    }
+    return datasets;
+  }
+
+  /**
+   * Find the datasets of a given type owning at least one entry that overlaps
+   * a frequency range.
+   *
+   * @param <T>     the dataset type
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @param clazz   the dataset class (e.g. Assignment.class)
+   * @return the owning datasets, in order of their lowest overlapping entry
+   */
+  public <T extends Common<?>> Set<T> findOwners(double freqMin, double freqMax, Class<T> clazz) {
+    Set<T> datasets = new LinkedHashSet<>();
+    for (Entry entry : findOverlapping(freqMin, freqMax)) {
+      if (clazz.isInstance(entry.owner)) {
+        datasets.add(clazz.cast(entry.owner));
+      }
+    }
+    return datasets;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Interval tree">
+  /**
+   * Extract the configuration frequencies of a dataset.
+   *
+   * @param configurations the dataset configurations
+   * @param dataset        the dataset
+   * @param entries        the extracted entries
+   */
+  private static void extract(Set<Configuration> configurations, Common<?> dataset, List<Entry> entries) {
+    for (Configuration configuration : configurations) {
+      if (configuration.isSetConfigFreq()) {
+        for (ConfigFreq configFreq : configuration.getConfigFreq()) {
+          extract(configFreq.getFreqMin(), configFreq.getFreqMax(), dataset, configFreq, entries);
+        }
+      }
+    }
+  }
+
+  /**
+   * Extract a frequency data item if its minimum frequency is set.
+   *
+   * @param freqMin the minimum frequency
+   * @param freqMax the maximum frequency, NULL for a single frequency
+   * @param owner   the owning dataset
+   * @param element the frequency data item
+   * @param entries the extracted entries
+   */
+  private static void extract(FreqM freqMin, FreqM freqMax, Common<?> owner, Object element, List<Entry> entries) {
+    if (freqMin != null && freqMin.isSetValue()) {
+      double min = freqMin.doubleValue();
+      double max = freqMax != null && freqMax.isSetValue() ? freqMax.doubleValue() : min;
+      entries.add(new Entry(Math.min(min, max), Math.max(min, max), owner, element));
+    }
+  }
+
+  /**
+   * Insert a new entry into the index.
+   *
+   * @param entry the entry
+   */
+  private void insert(Entry entry) {
+    entry.sequence = sequence++;
+    entry.priority = (int) ((entry.sequence * 0x9E3779B97F4A7C15L) >>> 32);
+    root = insert(root, entry);
+    size++;
+    List<Entry> entries = owners.get(entry.owner);
+    if (entries == null) {
+      entries = new ArrayList<>(2);
+      owners.put(entry.owner, entries);
+    }
+    entries.add(entry);
+  }
+
+  /**
+   * Insert an entry into a subtree.
+   *
+   * @param node  the subtree root
+   * @param entry the new entry
+   * @return the new subtree root
+   */
+  private static Entry insert(Entry node, Entry entry) {
+    if (node == null) {
+      return entry;
+    }
+    if (entry.compareTo(node) < 0) {
+      node.left = insert(node.left, entry);
+      if (node.left.priority > node.priority) {
+        node = rotateRight(node);
+      }
+    } else {
+      node.right = insert(node.right, entry);
+      if (node.right.priority > node.priority) {
+        node = rotateLeft(node);
+      }
+    }
+    node.update();
+    return node;
+  }
+
+  /**
+   * Delete an entry from a subtree.
+   *
+   * @param node  the subtree root
+   * @param entry the entry to delete
+   * @return the new subtree root
+   */
+  private static Entry delete(Entry node, Entry entry) {
+    if (node == null) {
+      return null;
+    }
+    if (node == entry) {
+      node = merge(node.left, node.right);
+      entry.left = null;
+      entry.right = null;
+      return node;
+    }
+    if (entry.compareTo(node) < 0) {
+      node.left = delete(node.left, entry);
+    } else {
+      node.right = delete(node.right, entry);
+    }
+    node.update();
+    return node;
+  }
+
+  /**
+   * Merge two subtrees where all entries of the left subtree order before
+   * those of the right subtree.
+   *
+   * @param left  the left subtree
+   * @param right the right subtree
+   * @return the merged subtree root
+   */
+  private static Entry merge(Entry left, Entry right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      left.update();
+      return left;
+    }
+    right.left = merge(left, right.left);
+    right.update();
+    return right;
+  }
+
+  private static Entry rotateRight(Entry node) {
+    Entry left = node.left;
+    node.left = left.right;
+    left.right = node;
+    node.update();
+    return left;
+  }
+
+  private static Entry rotateLeft(Entry node) {
+    Entry right = node.right;
+    node.right = right.left;
+    right.left = node;
+    node.update();
+    return right;
+  }
+
+  /**
+   * In-order search of a subtree. Subtrees whose largest maximum frequency is
+   * below the range, and right subtrees of entries starting above the range,
+   * are skipped.
+   *
+   * @param node    the subtree root
+   * @param freqMin the minimum frequency
+   * @param freqMax the maximum frequency
+   * @param query   the query type
+   * @param entries the matching entries
+   */
+  private static void search(Entry node, double freqMin, double freqMax, Query query, List<Entry> entries) {
+    while (node != null && node.maxEnd >= freqMin) {
+      search(node.left, freqMin, freqMax, query, entries);
+      if (node.freqMin > freqMax) {
+        return;
+      }
+      if (node.freqMax >= freqMin && query.matches(node, freqMin, freqMax)) {
+        entries.add(node);
+      }
+      node = node.right;
+    }
+  }//</editor-fold>
+
+  /**
+   * Enumerated interval query types. All types select entries overlapping the
+   * query range.
+   */
+  private enum Query {
+
+    /**
+     * Entries overlapping the range.
+     */
+    OVERLAPPING {
+      @Override
+      boolean matches(Entry entry, double freqMin, double freqMax) {
+        return true;
+      }
+    },
+    /**
+     * Entries containing the entire range.
+     */
+    CONTAINING {
+      @Override
+      boolean matches(Entry entry, double freqMin, double freqMax) {
+        return entry.freqMin <= freqMin && entry.freqMax >= freqMax;
+      }
+    },
+    /**
+     * Entries entirely within the range.
+     */
+    WITHIN {
+      @Override
+      boolean matches(Entry entry, double freqMin, double freqMax) {
+        return entry.freqMin >= freqMin && entry.freqMax <= freqMax;
+      }
+    };
+
+    /**
+     * Determine if an overlapping entry matches the query.
+     *
+     * @param entry   the overlapping entry
+     * @param freqMin the query minimum frequency
+     * @param freqMax the query maximum frequency
+     * @return TRUE if the entry matches
+     */
+    abstract boolean matches(Entry entry, double freqMin, double freqMax);
+  }
+
+  /**
+   * A frequency index entry: one frequency or frequency range, its data item
+   * and the dataset that owns it.
+   * <p>
+   * Entries are also the nodes of the index interval tree.
+   */
+  public static final class Entry implements Comparable<Entry> {
+
+    /**
+     * The minimum frequency (MHz).
+     */
+    private final double freqMin;
+    /**
+     * The maximum frequency (MHz).
+     */
+    private final double freqMax;
+    /**
+     * The dataset that owns the data item.
+     */
+    private final Common<?> owner;
+    /**
+     * The frequency data item.
+     */
+    private final Object element;
+    /**
+     * The sequence number, used to order entries having the same minimum
+     * frequency. This is assigned when the entry is indexed.
+     */
+    private long sequence;
+    /**
+     * The random tree priority, derived from the sequence number.
+     */
+    private int priority;
+    /**
+     * The largest maximum frequency in this subtree.
+     */
+    private double maxEnd;
+    private Entry left;
+    private Entry right;
+
+    private Entry(double freqMin, double freqMax, Common<?> owner, Object element) {
+      this.freqMin = freqMin;
+      this.freqMax = freqMax;
+      this.owner = owner;
+      this.element = element;
+      this.maxEnd = freqMax;
+    }
+
+    /**
+     * Get the minimum frequency (MHz).
+     *
+     * @return the minimum frequency
+     */
+    public double getFreqMin() {
+      return freqMin;
+    }
+
+    /**
+     * Get the maximum frequency (MHz). This equals the minimum frequency for
+     * a single frequency.
+     *
+     * @return the maximum frequency
+     */
+    public double getFreqMax() {
+      return freqMax;
+    }
+
+    /**
+     * Get the dataset that owns the frequency data item.
+     *
+     * @return the owning dataset
+     */
+    public Common<?> getOwner() {
+      return owner;
+    }
+
+    /**
+     * Get the frequency data item (e.g. a Freq, AllotFreq, JRFLEntry,
+     * ConfigFreq or FreqBand instance).
+     *
+     * @return the frequency data item
+     */
+    public Object getElement() {
+      return element;
+    }
+
+    /**
+     * Recompute the subtree maximum frequency.
+     */
+    private void update() {
+      double max = freqMax;
+      if (left != null && left.maxEnd > max) {
+        max = left.maxEnd;
+      }
+      if (right != null && right.maxEnd > max) {
+        max = right.maxEnd;
+      }
+      maxEnd = max;
+    }
+
+    /**
+     * Entries are ordered by minimum frequency then by sequence number.
+     *
+     * @param o the other entry
+     * @return the entry order
+     */
+    @Override
+    public int compareTo(Entry o) {
+      int compare = Double.compare(freqMin, o.freqMin);
+      return compare != 0 ? compare : Long.compare(sequence, o.sequence);
+    }
+
+    @Override
+    public String toString() {
+      return "Entry [" + freqMin + (freqMax != freqMin ? " - " + freqMax : "") + "] "
+             + (owner != null ? owner.getClass().getSimpleName() + " " + owner.getSerial() : "")
+             + (element != null ? " " + element.getClass().getSimpleName() : "");
+    }
+  }
+}
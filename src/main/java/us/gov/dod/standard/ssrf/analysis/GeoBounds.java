@@ -0,0 +1,383 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.location.Polygon;
+import us.gov.dod.standard.ssrf._3_1.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
+
+/**
+ * Immutable latitude / longitude bounding box in decimal degrees.
+ * <p>
+ * Bounding boxes are used to pre-filter location comparisons: two areas whose
+ * boxes do not intersect cannot intersect.
+ * <p>
+ * Longitudes are compared modulo 360 degrees. The minimum longitude is in the
+ * range -180 (inclusive) to +180 (exclusive) and the maximum longitude is up
+ * to 360 degrees east of it, so a box that crosses the anti-meridian has a
+ * maximum longitude greater than +180 (e.g. 179 to 181 for a box from 179E to
+ * 179W). A box of 360 degrees or more covers every longitude and is held as
+ * -180 to +180. A shape is bounded by the longitude range of its vertices.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class GeoBounds {
+
+  /**
+   * The mean length of one degree of latitude (km), based upon the IUGG mean
+   * earth radius of 6371.0088 km.
+   */
+  public static final double KM_PER_DEGREE = 6371.0088 * Math.PI / 180;
+
+  /**
+   * The minimum latitude (decimal degrees).
+   */
+  private final double minLat;
+  /**
+   * The maximum latitude (decimal degrees).
+   */
+  private final double maxLat;
+  /**
+   * The minimum longitude (decimal degrees).
+   */
+  private final double minLon;
+  /**
+   * The maximum longitude (decimal degrees).
+   */
+  private final double maxLon;
+
+  /**
+   * Construct a new bounding box. The longitude range runs east from the
+   * smaller to the larger longitude and is shifted by a multiple of 360
+   * degrees so that the minimum longitude is in the range -180 to +180.
+   *
+   * @param minLat the minimum latitude (decimal degrees)
+   * @param maxLat the maximum latitude (decimal degrees)
+   * @param minLon the minimum longitude (decimal degrees)
+   * @param maxLon the maximum longitude (decimal degrees)
+   */
+  public GeoBounds(double minLat, double maxLat, double minLon, double maxLon) {
+    this.minLat = Math.min(minLat, maxLat);
+    this.maxLat = Math.max(minLat, maxLat);
+    double west = Math.min(minLon, maxLon);
+    double east = Math.max(minLon, maxLon);
+    if (east - west >= 360) {
+      this.minLon = -180;
+      this.maxLon = 180;
+    } else {
+      double shift = 360 * Math.floor((west + 180) / 360);
+      this.minLon = west - shift;
+      this.maxLon = east - shift;
+    }
+  }
+
+  /**
+   * Get the bounding box of a single coordinate.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @return a zero-area bounding box
+   */
+  public static GeoBounds getInstance(double lat, double lon) {
+    return new GeoBounds(lat, lat, lon, lon);
+  }
+
+  /**
+   * Get the bounding box of the included Point, Polygon and Ellipse shapes of
+   * a Location, including any referenced Locations. Shapes marked as excluded
+   * are ignored; ellipses are bounded by their semi-major axis.
+   *
+   * @param location the location
+   * @return the location bounding box, NULL if the location has no included
+   *         shape with coordinates
+   */
+  public static GeoBounds getInstance(Location location) {
+    return getInstance(location, new IdentityHashMap<Location, Boolean>());
+  }
+
+  /**
+   * Recursive method to get the bounding box of a location.
+   *
+   * @param location the location
+   * @param visited  the locations already visited (to stop reference cycles)
+   * @return the location bounding box, NULL if none
+   */
+  private static GeoBounds getInstance(Location location, Map<Location, Boolean> visited) {
+    if (location == null || visited.put(location, Boolean.TRUE) != null) {
+      return null;
+    }
+    GeoBounds bounds = null;
+    if (location.isSetPoint()) {
+      for (Point point : location.getPoint()) {
+        if (!isExcluded(point.getExcluded()) && point.isSetLat() && point.isSetLon()) {
+          bounds = union(bounds, getInstance(point.getLat().doubleValue(), point.getLon().doubleValue()));
+        }
+      }
+    }
+    if (location.isSetPolygon()) {
+      for (Polygon polygon : location.getPolygon()) {
+        if (!isExcluded(polygon.getExcluded()) && polygon.isSetPolygonPoint()) {
+          for (PolygonPoint polygonPoint : polygon.getPolygonPoint()) {
+            if (polygonPoint.isSetLat() && polygonPoint.isSetLon()) {
+              bounds = union(bounds, getInstance(polygonPoint.getLat().doubleValue(), polygonPoint.getLon().doubleValue()));
+            }
+          }
+        }
+      }
+    }
+    if (location.isSetEllipse()) {
+      for (Ellipse ellipse : location.getEllipse()) {
+        if (!isExcluded(ellipse.getExcluded()) && ellipse.isSetLat() && ellipse.isSetLon()) {
+          GeoBounds center = getInstance(ellipse.getLat().doubleValue(), ellipse.getLon().doubleValue());
+          bounds = union(bounds, ellipse.isSetSemiMajorAxis()
+                                 ? center.expand(ellipse.getSemiMajorAxis().doubleValue())
+                                 : center);
+        }
+      }
+    }
+    if (location.isSetLocation()) {
+      for (Location reference : location.getLocation()) {
+        bounds = union(bounds, getInstance(reference, visited));
+      }
+    }
+    return bounds;
+  }
+
+  /**
+   * Get a bounding box containing two boxes. Longitude ranges are joined as
+   * given, without wrapping, so the union of boxes on either side of the
+   * anti-meridian may cover more longitudes than necessary.
+   *
+   * @param a the first box, may be null
+   * @param b the second box, may be null
+   * @return the union of the two boxes, NULL if both are null
+   */
+  public static GeoBounds union(GeoBounds a, GeoBounds b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    return new GeoBounds(Math.min(a.minLat, b.minLat), Math.max(a.maxLat, b.maxLat),
+                         Math.min(a.minLon, b.minLon), Math.max(a.maxLon, b.maxLon));
+  }
+
+  /**
+   * Get a bounding box enlarged in every direction by a distance. The
+   * longitude margin is computed at the box latitude farthest from the
+   * equator, so the result always contains every point within the distance of
+   * this box. Latitudes are limited to +/-90 degrees; a box that reaches a
+   * pole, or whose longitude margin reaches 180 degrees, covers every
+   * longitude. The longitude range may cross the anti-meridian.
+   *
+   * @param km the distance (km)
+   * @return the enlarged bounding box
+   */
+  public GeoBounds expand(double km) {
+    if (km <= 0) {
+      return this;
+    }
+    double dLat = km / KM_PER_DEGREE;
+    double north = Math.min(90, maxLat + dLat);
+    double south = Math.max(-90, minLat - dLat);
+    double cos = Math.cos(Math.toRadians(Math.max(Math.abs(north), Math.abs(south))));
+    double dLon = cos > 1e-9 ? Math.min(180, dLat / cos) : 180;
+    return new GeoBounds(south, north, minLon - dLon, maxLon + dLon);
+  }
+
+  /**
+   * Determine if this bounding box intersects another.
+   *
+   * @param other the other bounding box
+   * @return TRUE if the boxes have at least one point in common
+   */
+  public boolean intersects(GeoBounds other) {
+    return minLat <= other.maxLat && maxLat >= other.minLat
+           && overlaps(minLon, maxLon, other.minLon, other.maxLon);
+  }
+
+  /**
+   * Determine if two longitude ranges overlap modulo 360 degrees.
+   * <p>
+   * The second range starts some number of degrees (0 to 360) east of the
+   * first. The ranges overlap if the second starts within the first, or is
+   * wide enough to wrap around to the start of the first.
+   *
+   * @param minA the first range minimum longitude (decimal degrees)
+   * @param maxA the first range maximum longitude (decimal degrees)
+   * @param minB the second range minimum longitude (decimal degrees)
+   * @param maxB the second range maximum longitude (decimal degrees)
+   * @return TRUE if the ranges have at least one meridian in common
+   */
+  static boolean overlaps(double minA, double maxA, double minB, double maxB) {
+    double east = modulo(minB - minA);
+    return east <= maxA - minA || east + maxB - minB >= 360;
+  }
+
+  /**
+   * Determine if a longitude range contains a longitude modulo 360 degrees.
+   *
+   * @param lon    the longitude (decimal degrees)
+   * @param minLon the range minimum longitude (decimal degrees)
+   * @param maxLon the range maximum longitude (decimal degrees)
+   * @return TRUE if the longitude is inside or on the range
+   */
+  static boolean contains(double lon, double minLon, double maxLon) {
+    return modulo(lon - minLon) <= maxLon - minLon;
+  }
+
+  /**
+   * Determine if this bounding box contains a coordinate.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @return TRUE if the coordinate is inside or on the box
+   */
+  public boolean contains(double lat, double lon) {
+    return lat >= minLat && lat <= maxLat && contains(lon, minLon, maxLon);
+  }
+
+  /**
+   * Get the great circle distance from a coordinate to the nearest point of
+   * this bounding box.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @return the distance (km), zero if the coordinate is inside or on the box
+   */
+  public double distance(double lat, double lon) {
+    return distance(lat, lon, minLat, maxLat, minLon, maxLon);
+  }
+
+  /**
+   * Get the great circle distance from a coordinate to the nearest point of a
+   * bounding box.
+   * <p>
+   * If the coordinate is within the box longitude range the nearest point is
+   * on the same meridian. Otherwise the nearest point lies on the nearer
+   * meridian edge of the box, at the latitude where that meridian comes
+   * closest to the coordinate limited to the box latitude range, or at a box
+   * corner if that meridian is more than 90 degrees away.
+   *
+   * @param lat    the latitude (decimal degrees)
+   * @param lon    the longitude (decimal degrees)
+   * @param minLat the box minimum latitude (decimal degrees)
+   * @param maxLat the box maximum latitude (decimal degrees)
+   * @param minLon the box minimum longitude (decimal degrees)
+   * @param maxLon the box maximum longitude (decimal degrees)
+   * @return the distance (km), zero if the coordinate is inside or on the box
+   */
+  static double distance(double lat, double lon, double minLat, double maxLat, double minLon, double maxLon) {
+    if (contains(lon, minLon, maxLon)) {
+      return lat < minLat
+             ? (minLat - lat) * KM_PER_DEGREE
+             : lat > maxLat ? (lat - maxLat) * KM_PER_DEGREE : 0;
+    }
+    double dMin = Math.abs(normalize(lon - minLon));
+    double dMax = Math.abs(normalize(lon - maxLon));
+    double edge = dMin <= dMax ? minLon : maxLon;
+    double cos = Math.cos(Math.toRadians(Math.min(dMin, dMax)));
+    if (cos <= 0) {
+      /**
+       * The meridian edge is more than 90 degrees away: distance along it has
+       * no interior minimum, so the nearest point is a corner.
+       */
+      return Math.min(distance(lat, lon, minLat, edge), distance(lat, lon, maxLat, edge));
+    }
+    double nearest = Math.toDegrees(Math.atan(Math.tan(Math.toRadians(lat)) / cos));
+    return distance(lat, lon, Math.max(minLat, Math.min(maxLat, nearest)), edge);
+  }
+
+  /**
+   * Get the great circle (haversine) distance between two coordinates on a
+   * sphere of the IUGG mean earth radius.
+   *
+   * @param lat1 the first latitude (decimal degrees)
+   * @param lon1 the first longitude (decimal degrees)
+   * @param lat2 the second latitude (decimal degrees)
+   * @param lon2 the second longitude (decimal degrees)
+   * @return the distance (km)
+   */
+  public static double distance(double lat1, double lon1, double lat2, double lon2) {
+    double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+    double sinLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+    double a = sinLat * sinLat
+               + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+    return 2 * KM_PER_DEGREE * Math.toDegrees(Math.asin(Math.min(1, Math.sqrt(a))));
+  }
+
+  /**
+   * Normalize a longitude difference to the range -180 to +180 degrees.
+   *
+   * @param degrees the longitude difference (decimal degrees)
+   * @return the normalized difference
+   */
+  private static double normalize(double degrees) {
+    double d = degrees % 360;
+    return d > 180 ? d - 360 : d < -180 ? d + 360 : d;
+  }
+
+  /**
+   * Reduce a longitude difference to the range 0 (inclusive) to 360
+   * (exclusive) degrees.
+   *
+   * @param degrees the longitude difference (decimal degrees)
+   * @return the difference modulo 360 degrees
+   */
+  private static double modulo(double degrees) {
+    double d = degrees % 360;
+    return d < 0 ? d + 360 : d;
+  }
+
+  /**
+   * Determine if a shape "Excluded" value is "Yes".
+   *
+   * @param excluded the excluded value
+   * @return TRUE if the shape is excluded
+   */
+  static boolean isExcluded(TString excluded) {
+    return excluded != null && "Yes".equalsIgnoreCase(excluded.getValue());
+  }
+
+  public double getMinLat() {
+    return minLat;
+  }
+
+  public double getMaxLat() {
+    return maxLat;
+  }
+
+  public double getMinLon() {
+    return minLon;
+  }
+
+  public double getMaxLon() {
+    return maxLon;
+  }
+
+  @Override
+  public String toString() {
+    return "GeoBounds [" + minLat + ", " + minLon + " : " + maxLat + ", " + maxLon + "]";
+  }
+}
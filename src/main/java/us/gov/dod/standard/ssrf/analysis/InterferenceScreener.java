@@ -0,0 +1,714 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
+import us.gov.dod.standard.ssrf._3_1.assignment.Station;
+import us.gov.dod.standard.ssrf._3_1.assignment.StationLoc;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+import us.gov.dod.standard.ssrf._3_1.multiple.ConfigEmission;
+import us.gov.dod.standard.ssrf._3_1.multiple.ConfigFreq;
+
+/**
+ * Co-channel and adjacent-channel interference screening of Assignments
+ * against an existing assignment base.
+ * <p>
+ * Each assignment Configuration/ConfigFreq is compiled into an emitter: its
+ * occupied frequency range (the configuration frequency or range widened by
+ * half the largest ConfigEmission necessary bandwidth on each side), the
+ * configuration EIRPMax and the assignment station sites. Base emitters are
+ * held in a {@link FrequencyIndex} and their sites in a {@link LocationIndex}.
+ * Screening an assignment queries the location index for the base sites
+ * within the largest protection distance of its sites, then the frequency
+ * index for base emitters within the adjacent-channel separation of each of
+ * its emitters. Candidates at other sites are rejected; the distance rules
+ * are applied to the remaining pairs:
+ * <ul>
+ * <li>Co-channel: the occupied ranges overlap and the sites are within the
+ * co-channel protection distance.</li>
+ * <li>Adjacent-channel: the occupied ranges are separated by no more than the
+ * adjacent-channel separation and the sites are within the adjacent-channel
+ * protection distance.</li>
+ * </ul>
+ * Protection distances are given at a reference EIRP and scaled by free space
+ * propagation, 10<sup>(EIRP - reference) / 20</sup>, using the larger EIRPMax
+ * of the two emitters. An emitter with no EIRPMax is taken at the reference
+ * EIRP.
+ * <p>
+ * Sites are station locations measured as circles: a point extended by its
+ * LocationRadius, or an area by the circle around its bounding box. Excluded
+ * station locations are ignored. The screening is conservative: an
+ * assignment with a station location that cannot be resolved is taken to be
+ * everywhere.
+ * <p>
+ * Conflicts are ranked by the ratio of site distance to protection distance,
+ * most severe first. A screener is immutable once constructed and may be
+ * shared between threads; candidate pairs are evaluated in parallel on the
+ * shared analysis {@link ForkJoinPool} or on a pool supplied by the caller.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class InterferenceScreener {
+
+  /**
+   * The number of candidate pairs below which a parallel screening is not
+   * split further.
+   */
+  private static final int THRESHOLD = 1024;
+  /**
+   * The number of assignments below which a parallel bulk screening is not
+   * split further.
+   */
+  private static final int ASSIGNMENT_THRESHOLD = 16;
+
+  /**
+   * The base emitter frequency index. Entry elements are {@link Emitter}
+   * instances.
+   */
+  private final FrequencyIndex index;
+  /**
+   * The base emitter site index: one circle entry per site circle. Entry
+   * elements are {@link Site} instances.
+   */
+  private final LocationIndex locations;
+  /**
+   * The co-channel protection distance at the reference EIRP (km).
+   */
+  private final double coChannelDistance;
+  /**
+   * The maximum adjacent-channel frequency separation (MHz).
+   */
+  private final double adjacentSeparation;
+  /**
+   * The adjacent-channel protection distance at the reference EIRP (km).
+   */
+  private final double adjacentDistance;
+  /**
+   * The reference EIRP of the protection distances (dBW).
+   */
+  private final double referenceEirp;
+  /**
+   * The largest protection distance scale of the base emitters.
+   */
+  private final double maxScale;
+
+  /**
+   * Construct a new interference screener.
+   *
+   * @param assignments        the assignment base
+   * @param coChannelDistance  the co-channel protection distance at the
+   *                           reference EIRP (km)
+   * @param adjacentSeparation the maximum adjacent-channel frequency
+   *                           separation (MHz)
+   * @param adjacentDistance   the adjacent-channel protection distance at the
+   *                           reference EIRP (km)
+   * @param referenceEirp      the reference EIRP (dBW)
+   */
+  public InterferenceScreener(Collection<Assignment> assignments,
+                              double coChannelDistance,
+                              double adjacentSeparation,
+                              double adjacentDistance,
+                              double referenceEirp) {
+    this.index = new FrequencyIndex();
+    this.coChannelDistance = coChannelDistance;
+    this.adjacentSeparation = adjacentSeparation;
+    this.adjacentDistance = adjacentDistance;
+    this.referenceEirp = referenceEirp;
+    List<LocationIndex.Entry> circles = new ArrayList<>();
+    double max = 1;
+    for (Assignment assignment : assignments) {
+      List<Emitter> emitters = extract(assignment);
+      for (Emitter emitter : emitters) {
+        index.add(emitter.freqMin, emitter.freqMax, assignment, emitter);
+        max = Math.max(max, scale(emitter.eirp));
+      }
+      /**
+       * The emitters of an assignment share one site.
+       */
+      Site site = emitters.isEmpty() ? null : emitters.get(0).site;
+      if (site != null) {
+        for (int i = 0; i < site.lat.length; i++) {
+          circles.add(LocationIndex.circle(site.lat[i], site.lon[i], site.radius[i], assignment, site));
+        }
+      }
+    }
+    this.locations = new LocationIndex(circles);
+    this.maxScale = max;
+  }
+
+  /**
+   * Build an interference screener over the assignments of an SSRF message.
+   *
+   * @param ssrf               the SSRF message
+   * @param coChannelDistance  the co-channel protection distance at the
+   *                           reference EIRP (km)
+   * @param adjacentSeparation the maximum adjacent-channel frequency
+   *                           separation (MHz)
+   * @param adjacentDistance   the adjacent-channel protection distance at the
+   *                           reference EIRP (km)
+   * @param referenceEirp      the reference EIRP (dBW)
+   * @return a new interference screener
+   */
+  public static InterferenceScreener getInstance(SSRF ssrf,
+                                                 double coChannelDistance,
+                                                 double adjacentSeparation,
+                                                 double adjacentDistance,
+                                                 double referenceEirp) {
+    return new InterferenceScreener(ssrf.getAssignment(), coChannelDistance, adjacentSeparation, adjacentDistance, referenceEirp);
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Screening">
+  /**
+   * Screen an assignment against the assignment base, in parallel on the
+   * shared analysis pool.
+   *
+   * @param assignment the assignment
+   * @return the conflicts, most severe first; empty if none
+   */
+  public List<Conflict> screen(Assignment assignment) {
+    return screen(assignment, AnalysisPool.getInstance());
+  }
+
+  /**
+   * Screen an assignment against the assignment base. The assignment itself
+   * (by instance or serial) is not a conflict.
+   *
+   * @param assignment the assignment
+   * @param pool       the fork/join pool to use; NULL to screen in the
+   *                   calling thread
+   * @return the conflicts, most severe first; empty if none
+   */
+  public List<Conflict> screen(Assignment assignment, ForkJoinPool pool) {
+    List<Emitter> screened = extract(assignment);
+    Map<Site, Boolean> sites = findSites(screened);
+    List<Emitter> candidates = new ArrayList<>();
+    List<Emitter> emitters = new ArrayList<>();
+    for (Emitter emitter : screened) {
+      for (FrequencyIndex.Entry entry : index.findOverlapping(emitter.freqMin - adjacentSeparation, emitter.freqMax + adjacentSeparation)) {
+        Emitter candidate = (Emitter) entry.getElement();
+        if ((sites == null || candidate.site == null || sites.containsKey(candidate.site))
+            && !isSame(candidate.assignment, assignment)) {
+          emitters.add(emitter);
+          candidates.add(candidate);
+        }
+      }
+    }
+    Emitter[] a = emitters.toArray(new Emitter[emitters.size()]);
+    Emitter[] b = candidates.toArray(new Emitter[candidates.size()]);
+    List<Conflict> conflicts = pool == null || a.length <= THRESHOLD
+                               ? new PairTask(a, b, 0, a.length).compute()
+                               : pool.invoke(new PairTask(a, b, 0, a.length));
+    Collections.sort(conflicts);
+    return conflicts;
+  }
+
+  /**
+   * Screen a collection of assignments against the assignment base, in
+   * parallel on the shared analysis pool.
+   *
+   * @param assignments the assignments
+   * @return the conflicts of all assignments, most severe first
+   */
+  public List<Conflict> screen(Collection<Assignment> assignments) {
+    return screen(assignments, AnalysisPool.getInstance());
+  }
+
+  /**
+   * Screen a collection of assignments against the assignment base in
+   * parallel. Each assignment is screened by a single thread.
+   *
+   * @param assignments the assignments
+   * @param pool        the fork/join pool to use; NULL to screen in the
+   *                    calling thread
+   * @return the conflicts of all assignments, most severe first
+   */
+  public List<Conflict> screen(Collection<Assignment> assignments, ForkJoinPool pool) {
+    Assignment[] array = assignments.toArray(new Assignment[assignments.size()]);
+    List<Conflict> conflicts = pool == null || array.length <= 1
+                               ? new ScreenTask(array, 0, array.length).compute()
+                               : pool.invoke(new ScreenTask(array, 0, array.length));
+    Collections.sort(conflicts);
+    return conflicts;
+  }
+
+  /**
+   * Find the base sites that may be within a protection distance of the
+   * site of a screened assignment. The search distance is the larger
+   * protection distance scaled by the largest EIRP of the screened and base
+   * emitters, so that no base site within the protection distance of the
+   * pair is missed.
+   *
+   * @param emitters the screened assignment emitters, which share one site
+   * @return the base sites found, by identity; NULL if the screened site is
+   *         everywhere (or there are no emitters) and no site may be rejected
+   */
+  private Map<Site, Boolean> findSites(List<Emitter> emitters) {
+    Site site = emitters.isEmpty() ? null : emitters.get(0).site;
+    if (site == null) {
+      return null;
+    }
+    double scale = maxScale;
+    for (Emitter emitter : emitters) {
+      scale = Math.max(scale, scale(emitter.eirp));
+    }
+    double limit = Math.max(coChannelDistance, adjacentDistance) * scale;
+    Map<Site, Boolean> sites = new IdentityHashMap<>();
+    for (int i = 0; i < site.lat.length; i++) {
+      for (LocationIndex.Entry entry : locations.findWithin(site.lat[i], site.lon[i], limit + site.radius[i])) {
+        sites.put((Site) entry.getElement(), Boolean.TRUE);
+      }
+    }
+    return sites;
+  }
+
+  /**
+   * Apply the distance and frequency separation rules to a pair of emitters.
+   *
+   * @param a the screened emitter
+   * @param b the base emitter
+   * @return the conflict, NULL if none
+   */
+  private Conflict evaluate(Emitter a, Emitter b) {
+    double separation = Math.max(a.freqMin, b.freqMin) - Math.min(a.freqMax, b.freqMax);
+    Type type;
+    double distance;
+    if (separation <= 0) {
+      type = Type.CO_CHANNEL;
+      distance = coChannelDistance;
+    } else if (separation <= adjacentSeparation) {
+      type = Type.ADJACENT_CHANNEL;
+      distance = adjacentDistance;
+    } else {
+      return null;
+    }
+    double protection = distance * Math.max(scale(a.eirp), scale(b.eirp));
+    double range = Site.distance(a.site, b.site);
+    return range <= protection
+           ? new Conflict(type, a, b, range, protection, Math.max(0, separation))
+           : null;
+  }
+
+  /**
+   * Get the protection distance scale of an EIRP.
+   *
+   * @param eirp the EIRP (dBW), NaN if not known
+   * @return the free space distance scale relative to the reference EIRP
+   */
+  private double scale(double eirp) {
+    return Double.isNaN(eirp) ? 1 : Math.pow(10, (eirp - referenceEirp) / 20);
+  }
+
+  /**
+   * Determine if two assignments are the same, by instance or serial.
+   */
+  private static boolean isSame(Assignment a, Assignment b) {
+    if (a == b) {
+      return true;
+    }
+    Serial serial = a.getSerial();
+    return serial != null && serial.isSetValue() && serial.equals(b.getSerial());
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Emitter extraction">
+  /**
+   * Extract the emitters of an assignment: one per Configuration/ConfigFreq
+   * having a minimum frequency.
+   *
+   * @param assignment the assignment
+   * @return the emitters, empty if none
+   */
+  private static List<Emitter> extract(Assignment assignment) {
+    List<Emitter> emitters = new ArrayList<>();
+    if (!assignment.isSetConfiguration()) {
+      return emitters;
+    }
+    Site site = Site.getInstance(assignment);
+    for (Configuration configuration : assignment.getConfiguration()) {
+      if (!configuration.isSetConfigFreq()) {
+        continue;
+      }
+      double bandwidth = 0;
+      if (configuration.isSetConfigEmission()) {
+        for (ConfigEmission configEmission : configuration.getConfigEmission()) {
+          if (configEmission.isSetNecessaryBwMax()) {
+            bandwidth = Math.max(bandwidth, configEmission.getNecessaryBwMax().doubleValue());
+          }
+          if (configEmission.isSetNecessaryBwMin()) {
+            bandwidth = Math.max(bandwidth, configEmission.getNecessaryBwMin().doubleValue());
+          }
+        }
+      }
+      double eirp = configuration.isSetEIRPMax() ? configuration.getEIRPMax().doubleValue() : Double.NaN;
+      for (ConfigFreq configFreq : configuration.getConfigFreq()) {
+        if (!configFreq.isSetFreqMin()) {
+          continue;
+        }
+        double freqMin = configFreq.getFreqMin().doubleValue();
+        double freqMax = configFreq.isSetFreqMax() ? configFreq.getFreqMax().doubleValue() : freqMin;
+        emitters.add(new Emitter(assignment, configuration, configFreq,
+                                 Math.min(freqMin, freqMax) - bandwidth / 2,
+                                 Math.max(freqMin, freqMax) + bandwidth / 2,
+                                 eirp, site));
+      }
+    }
+    return emitters;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Parallel tasks">
+  /**
+   * Fork/join task evaluating a range of candidate emitter pairs.
+   */
+  private final class PairTask extends RecursiveTask<List<Conflict>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Emitter[] a;
+    private final Emitter[] b;
+    private final int from;
+    private final int to;
+
+    PairTask(Emitter[] a, Emitter[] b, int from, int to) {
+      this.a = a;
+      this.b = b;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<Conflict> compute() {
+      if (to - from <= THRESHOLD) {
+        List<Conflict> conflicts = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+          Conflict conflict = evaluate(a[i], b[i]);
+          if (conflict != null) {
+            conflicts.add(conflict);
+          }
+        }
+        return conflicts;
+      }
+      int middle = (from + to) >>> 1;
+      PairTask left = new PairTask(a, b, from, middle);
+      left.fork();
+      List<Conflict> right = new PairTask(a, b, middle, to).compute();
+      List<Conflict> conflicts = left.join();
+      conflicts.addAll(right);
+      return conflicts;
+    }
+  }
+
+  /**
+   * Fork/join task screening a range of assignments.
+   */
+  private final class ScreenTask extends RecursiveTask<List<Conflict>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Assignment[] assignments;
+    private final int from;
+    private final int to;
+
+    ScreenTask(Assignment[] assignments, int from, int to) {
+      this.assignments = assignments;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<Conflict> compute() {
+      if (to - from <= ASSIGNMENT_THRESHOLD) {
+        List<Conflict> conflicts = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+          conflicts.addAll(screen(assignments[i], null));
+        }
+        return conflicts;
+      }
+      int middle = (from + to) >>> 1;
+      ScreenTask left = new ScreenTask(assignments, from, middle);
+      left.fork();
+      List<Conflict> right = new ScreenTask(assignments, middle, to).compute();
+      List<Conflict> conflicts = left.join();
+      conflicts.addAll(right);
+      return conflicts;
+    }
+  }//</editor-fold>
+
+  /**
+   * The station sites of an assignment, as circles.
+   */
+  private static final class Site {
+
+    private final double[] lat;
+    private final double[] lon;
+    private final double[] radius;
+
+    private Site(double[] lat, double[] lon, double[] radius) {
+      this.lat = lat;
+      this.lon = lon;
+      this.radius = radius;
+    }
+
+    /**
+     * Get the station sites of an assignment.
+     *
+     * @param assignment the assignment
+     * @return the sites, NULL if the assignment has no station location or a
+     *         station location cannot be resolved
+     */
+    private static Site getInstance(Assignment assignment) {
+      if (!assignment.isSetStation()) {
+        return null;
+      }
+      List<double[]> circles = new ArrayList<>();
+      for (Station station : assignment.getStation()) {
+        if (!station.isSetStationLoc()) {
+          continue;
+        }
+        for (StationLoc stationLoc : station.getStationLoc()) {
+          if (GeoBounds.isExcluded(stationLoc.getLocationExcluded())) {
+            continue;
+          }
+          Common<?> locSat = stationLoc.getLocSat();
+          GeoBounds bounds = locSat instanceof Location ? GeoBounds.getInstance((Location) locSat) : null;
+          if (bounds == null) {
+            return null;
+          }
+          double lat = (bounds.getMinLat() + bounds.getMaxLat()) / 2;
+          double lon = (bounds.getMinLon() + bounds.getMaxLon()) / 2;
+          double radius = Math.max(GeoBounds.distance(lat, lon, bounds.getMinLat(), bounds.getMinLon()),
+                                   GeoBounds.distance(lat, lon, bounds.getMaxLat(), bounds.getMinLon()));
+          if (stationLoc.isSetLocationRadius()) {
+            radius += stationLoc.getLocationRadius().doubleValue();
+          }
+          circles.add(new double[]{lat, lon, radius});
+        }
+      }
+      if (circles.isEmpty()) {
+        return null;
+      }
+      double[] lat = new double[circles.size()];
+      double[] lon = new double[circles.size()];
+      double[] radius = new double[circles.size()];
+      for (int i = 0; i < circles.size(); i++) {
+        lat[i] = circles.get(i)[0];
+        lon[i] = circles.get(i)[1];
+        radius[i] = circles.get(i)[2];
+      }
+      return new Site(lat, lon, radius);
+    }
+
+    /**
+     * Get the distance between two sites: the smallest distance between any
+     * of their circles.
+     *
+     * @param a the first site, NULL if everywhere
+     * @param b the second site, NULL if everywhere
+     * @return the distance (km), zero if the circles overlap
+     */
+    private static double distance(Site a, Site b) {
+      if (a == null || b == null) {
+        return 0;
+      }
+      double distance = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < a.lat.length; i++) {
+        for (int j = 0; j < b.lat.length; j++) {
+          distance = Math.min(distance, GeoBounds.distance(a.lat[i], a.lon[i], b.lat[j], b.lon[j]) - a.radius[i] - b.radius[j]);
+        }
+      }
+      return Math.max(0, distance);
+    }
+  }
+
+  /**
+   * A compiled assignment configuration frequency.
+   */
+  private static final class Emitter {
+
+    private final Assignment assignment;
+    private final Configuration configuration;
+    private final ConfigFreq configFreq;
+    /**
+     * The minimum occupied frequency (MHz).
+     */
+    private final double freqMin;
+    /**
+     * The maximum occupied frequency (MHz).
+     */
+    private final double freqMax;
+    /**
+     * The configuration EIRPMax (dBW), NaN if not set.
+     */
+    private final double eirp;
+    /**
+     * The assignment sites, NULL if everywhere.
+     */
+    private final Site site;
+
+    private Emitter(Assignment assignment, Configuration configuration, ConfigFreq configFreq, double freqMin, double freqMax, double eirp, Site site) {
+      this.assignment = assignment;
+      this.configuration = configuration;
+      this.configFreq = configFreq;
+      this.freqMin = freqMin;
+      this.freqMax = freqMax;
+      this.eirp = eirp;
+      this.site = site;
+    }
+  }
+
+  /**
+   * The interference conflict type.
+   */
+  public enum Type {
+
+    /**
+     * The occupied frequency ranges overlap.
+     */
+    CO_CHANNEL,
+    /**
+     * The occupied frequency ranges are separated by no more than the
+     * adjacent-channel separation.
+     */
+    ADJACENT_CHANNEL
+  }
+
+  /**
+   * A candidate interference conflict between a screened assignment and a
+   * base assignment.
+   */
+  public static final class Conflict implements Comparable<Conflict> {
+
+    private final Type type;
+    private final Emitter screened;
+    private final Emitter base;
+    /**
+     * The distance between the sites (km).
+     */
+    private final double distance;
+    /**
+     * The protection distance (km).
+     */
+    private final double protectionDistance;
+    /**
+     * The separation between the occupied frequency ranges (MHz).
+     */
+    private final double separation;
+
+    private Conflict(Type type, Emitter screened, Emitter base, double distance, double protectionDistance, double separation) {
+      this.type = type;
+      this.screened = screened;
+      this.base = base;
+      this.distance = distance;
+      this.protectionDistance = protectionDistance;
+      this.separation = separation;
+    }
+
+    public Type getType() {
+      return type;
+    }
+
+    public Assignment getAssignment() {
+      return screened.assignment;
+    }
+
+    public Configuration getConfiguration() {
+      return screened.configuration;
+    }
+
+    public ConfigFreq getConfigFreq() {
+      return screened.configFreq;
+    }
+
+    public Assignment getBaseAssignment() {
+      return base.assignment;
+    }
+
+    public Configuration getBaseConfiguration() {
+      return base.configuration;
+    }
+
+    public ConfigFreq getBaseConfigFreq() {
+      return base.configFreq;
+    }
+
+    /**
+     * Get the distance between the assignment sites (km).
+     *
+     * @return the site distance, zero if the sites overlap or a site is not
+     *         known
+     */
+    public double getDistance() {
+      return distance;
+    }
+
+    /**
+     * Get the protection distance applied to the pair (km).
+     *
+     * @return the EIRP scaled protection distance
+     */
+    public double getProtectionDistance() {
+      return protectionDistance;
+    }
+
+    /**
+     * Get the separation between the occupied frequency ranges (MHz).
+     *
+     * @return the frequency separation, zero for a co-channel conflict
+     */
+    public double getSeparation() {
+      return separation;
+    }
+
+    /**
+     * Get the ratio of the site distance to the protection distance. Zero is
+     * the most severe.
+     *
+     * @return the distance ratio, from 0 to 1
+     */
+    public double getDistanceRatio() {
+      return protectionDistance > 0 ? distance / protectionDistance : 0;
+    }
+
+    /**
+     * Conflicts are ranked by distance ratio, then co-channel before
+     * adjacent-channel, then by frequency separation.
+     *
+     * @param o the other conflict
+     * @return the conflict order
+     */
+    @Override
+    public int compareTo(Conflict o) {
+      int compare = Double.compare(getDistanceRatio(), o.getDistanceRatio());
+      if (compare == 0) {
+        compare = type.compareTo(o.type);
+      }
+      return compare != 0 ? compare : Double.compare(separation, o.separation);
+    }
+
+    @Override
+    public String toString() {
+      return "Conflict [" + type + " " + screened.assignment.getSerial() + " / " + base.assignment.getSerial()
+             + " distance " + distance + " km of " + protectionDistance + " km, separation " + separation + " MHz]";
+    }
+  }
+}
@@ -0,0 +1,727 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Receiver;
+import us.gov.dod.standard.ssrf._3_1.Transmitter;
+import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+import us.gov.dod.standard.ssrf._3_1.multiple.*;
+import us.gov.dod.standard.ssrf._3_1.receiver.RxMode;
+import us.gov.dod.standard.ssrf._3_1.transmitter.TxMode;
+
+/**
+ * Intermodulation (IM) product calculator for co-sited transmitters and
+ * receivers.
+ * <p>
+ * An IM product of order N is a frequency |k<sub>1</sub>f<sub>1</sub> + ... +
+ * k<sub>m</sub>f<sub>m</sub>| of m distinct transmitter frequencies, with
+ * non-zero integer coefficients whose absolute values sum to N (e.g. f1 + f2
+ * and |f1 - f2| for the 2nd order; 2f1 - f2 and f1 + f2 - f3 for the 3rd
+ * order). Harmonics of a single transmitter (m = 1) are not products. A
+ * product spans the transmitter emission bandwidths weighted by their
+ * coefficients and hits a receiver when it overlaps the receiver passband.
+ * <p>
+ * Transmitter frequencies are held in a sorted primitive array. Products are
+ * enumerated over ascending combinations of the first m - 1 transmitters; the
+ * frequency range of the last transmitter that can place the product in each
+ * receiver passband is then found by binary search, so only transmitters that
+ * produce a hit are visited. Combinations are enumerated in parallel, split
+ * by first transmitter, on the shared analysis {@link ForkJoinPool} or on a
+ * pool supplied by the caller.
+ * <p>
+ * A calculator is immutable once constructed and may be shared between
+ * threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class IntermodCalculator {
+
+  /**
+   * The default maximum number of distinct transmitters in a product. Two and
+   * three signal products carry nearly all intermodulation energy.
+   */
+  public static final int DEFAULT_MAX_SIGNALS = 3;
+  /**
+   * The number of first transmitters below which a parallel enumeration is
+   * not split further.
+   */
+  private static final int THRESHOLD = 4;
+
+  /**
+   * The transmitter signals, in ascending frequency order.
+   */
+  private final Signal[] transmitters;
+  /**
+   * The transmitter frequencies (MHz), ascending.
+   */
+  private final double[] txFreq;
+  /**
+   * The transmitter emission half bandwidths (MHz).
+   */
+  private final double[] txWidth;
+  /**
+   * The largest transmitter emission half bandwidth (MHz).
+   */
+  private final double maxTxWidth;
+  /**
+   * The receiver signals.
+   */
+  private final Signal[] receivers;
+
+  /**
+   * Construct a new intermodulation calculator.
+   *
+   * @param transmitters the co-sited transmitter signals
+   * @param receivers    the co-sited receiver signals
+   */
+  public IntermodCalculator(Collection<Signal> transmitters, Collection<Signal> receivers) {
+    this.transmitters = transmitters.toArray(new Signal[transmitters.size()]);
+    Arrays.sort(this.transmitters);
+    this.receivers = receivers.toArray(new Signal[receivers.size()]);
+    this.txFreq = new double[this.transmitters.length];
+    this.txWidth = new double[this.transmitters.length];
+    double max = 0;
+    for (int i = 0; i < this.transmitters.length; i++) {
+      txFreq[i] = this.transmitters[i].frequency;
+      txWidth[i] = this.transmitters[i].halfBandwidth;
+      max = Math.max(max, txWidth[i]);
+    }
+    this.maxTxWidth = max;
+  }
+
+  /**
+   * Build an intermodulation calculator over the configurations of a group
+   * of co-sited assignments. See {@link #extract(Assignment, List, List)}.
+   *
+   * @param assignments the co-sited assignments
+   * @return a new intermodulation calculator
+   */
+  public static IntermodCalculator getInstance(Collection<Assignment> assignments) {
+    List<Signal> tx = new ArrayList<>();
+    List<Signal> rx = new ArrayList<>();
+    for (Assignment assignment : assignments) {
+      extract(assignment, tx, rx);
+    }
+    return new IntermodCalculator(tx, rx);
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Signal extraction">
+  /**
+   * Extract the transmitter and receiver signals of an assignment: one per
+   * Configuration/ConfigFreq. A configuration with a TxRef is a transmitter
+   * and a configuration with an RxRef is a receiver; a configuration with
+   * neither is taken to be both. A frequency range is represented by its
+   * center frequency, widened by half the range.
+   * <p>
+   * Transmitter emission bandwidths are the referenced TxMode NecessaryBw
+   * (the TxModeRef modes, or all modes if none is referenced); receiver
+   * passbands are the referenced RxMode NecessaryBw. If no mode bandwidth is
+   * known the largest ConfigEmission necessary bandwidth is used.
+   *
+   * @param assignment   the assignment
+   * @param transmitters the transmitter signals
+   * @param receivers    the receiver signals
+   */
+  public static void extract(Assignment assignment, List<Signal> transmitters, List<Signal> receivers) {
+    if (!assignment.isSetConfiguration()) {
+      return;
+    }
+    for (Configuration configuration : assignment.getConfiguration()) {
+      if (!configuration.isSetConfigFreq()) {
+        continue;
+      }
+      double emission = 0;
+      if (configuration.isSetConfigEmission()) {
+        for (ConfigEmission configEmission : configuration.getConfigEmission()) {
+          if (configEmission.isSetNecessaryBwMax()) {
+            emission = Math.max(emission, configEmission.getNecessaryBwMax().doubleValue());
+          }
+          if (configEmission.isSetNecessaryBwMin()) {
+            emission = Math.max(emission, configEmission.getNecessaryBwMin().doubleValue());
+          }
+        }
+      }
+      boolean isTx = configuration.isSetTxRef();
+      boolean isRx = configuration.isSetRxRef();
+      double txBw = isTx ? getTxBandwidth(configuration) : 0;
+      double rxBw = isRx ? getRxBandwidth(configuration) : 0;
+      for (ConfigFreq configFreq : configuration.getConfigFreq()) {
+        if (!configFreq.isSetFreqMin()) {
+          continue;
+        }
+        double freqMin = configFreq.getFreqMin().doubleValue();
+        double freqMax = configFreq.isSetFreqMax() ? configFreq.getFreqMax().doubleValue() : freqMin;
+        double center = (freqMin + freqMax) / 2;
+        double range = Math.abs(freqMax - freqMin) / 2;
+        if (isTx || !isRx) {
+          transmitters.add(new Signal(center, range + (txBw > 0 ? txBw : emission) / 2, assignment, configuration, configFreq));
+        }
+        if (isRx || !isTx) {
+          receivers.add(new Signal(center, range + (rxBw > 0 ? rxBw : emission) / 2, assignment, configuration, configFreq));
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the largest necessary bandwidth of the transmitter modes referenced
+   * by a configuration.
+   *
+   * @param configuration the configuration
+   * @return the bandwidth (MHz), zero if not known
+   */
+  private static double getTxBandwidth(Configuration configuration) {
+    double bandwidth = 0;
+    for (TxRef txRef : configuration.getTxRef()) {
+      Transmitter transmitter = txRef.getTransmitter();
+      if (transmitter == null || !transmitter.isSetTxMode()) {
+        continue;
+      }
+      Set<String> modes = new HashSet<>();
+      if (txRef.isSetTxModeRef()) {
+        for (TxModeRef txModeRef : txRef.getTxModeRef()) {
+          if (txModeRef.isSetModeID()) {
+            modes.add(txModeRef.getModeID().getValue());
+          }
+        }
+      }
+      for (TxMode txMode : transmitter.getTxMode()) {
+        if (txMode.isSetNecessaryBw()
+            && (modes.isEmpty() || (txMode.isSetModeID() && modes.contains(txMode.getModeID().getValue())))) {
+          bandwidth = Math.max(bandwidth, txMode.getNecessaryBw().doubleValue());
+        }
+      }
+    }
+    return bandwidth;
+  }
+
+  /**
+   * Get the largest necessary bandwidth of the receiver modes referenced by a
+   * configuration.
+   *
+   * @param configuration the configuration
+   * @return the bandwidth (MHz), zero if not known
+   */
+  private static double getRxBandwidth(Configuration configuration) {
+    double bandwidth = 0;
+    for (RxRef rxRef : configuration.getRxRef()) {
+      Receiver receiver = rxRef.getReceiver();
+      if (receiver == null || !receiver.isSetRxMode()) {
+        continue;
+      }
+      Set<String> modes = new HashSet<>();
+      if (rxRef.isSetRxModeRef()) {
+        for (RxModeRef rxModeRef : rxRef.getRxModeRef()) {
+          if (rxModeRef.getValue() != null) {
+            modes.add(rxModeRef.getValue());
+          }
+        }
+      }
+      for (RxMode rxMode : receiver.getRxMode()) {
+        if (rxMode.isSetNecessaryBw()
+            && (modes.isEmpty() || (rxMode.isSetModeID() && modes.contains(rxMode.getModeID().getValue())))) {
+          bandwidth = Math.max(bandwidth, rxMode.getNecessaryBw().doubleValue());
+        }
+      }
+    }
+    return bandwidth;
+  }
+
+  /**
+   * Group assignments into co-sited sets: assignments having station
+   * locations within a distance of each other, directly or through other
+   * assignments in the set. Station point and circle locations are measured
+   * to their edge; polygon locations are measured from their bounding box
+   * center. Assignments sharing a station location are always co-sited.
+   * <p>
+   * Note that Station CositeSep is a frequency separation, not a distance,
+   * so the co-site distance must be given by the caller.
+   *
+   * @param assignments the assignments
+   * @param km          the co-site distance (km)
+   * @return the co-sited groups having two or more assignments
+   */
+  public static List<List<Assignment>> groupCosited(Collection<Assignment> assignments, double km) {
+    List<Assignment> list = new ArrayList<>(assignments);
+    Map<Common<?>, Integer> ordinals = new IdentityHashMap<>();
+    List<LocationIndex.Entry> entries = new ArrayList<>();
+    for (int i = 0; i < list.size(); i++) {
+      ordinals.put(list.get(i), i);
+      entries.addAll(LocationIndex.extract(list.get(i), Collections.<Serial, Location>emptyMap()));
+    }
+    int[] parent = new int[list.size()];
+    for (int i = 0; i < parent.length; i++) {
+      parent[i] = i;
+    }
+    LocationIndex index = new LocationIndex(entries);
+    for (LocationIndex.Entry entry : entries) {
+      GeoBounds bounds = entry.getBounds();
+      double lat = (bounds.getMinLat() + bounds.getMaxLat()) / 2;
+      double lon = (bounds.getMinLon() + bounds.getMaxLon()) / 2;
+      int a = ordinals.get(entry.getOwner());
+      for (LocationIndex.Entry other : index.findWithin(lat, lon, km + entry.getRadius())) {
+        parent[find(parent, a)] = find(parent, ordinals.get(other.getOwner()));
+      }
+    }
+    Map<Integer, List<Assignment>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < list.size(); i++) {
+      int root = find(parent, i);
+      List<Assignment> group = groups.get(root);
+      if (group == null) {
+        group = new ArrayList<>();
+        groups.put(root, group);
+      }
+      group.add(list.get(i));
+    }
+    List<List<Assignment>> cosited = new ArrayList<>();
+    for (List<Assignment> group : groups.values()) {
+      if (group.size() > 1) {
+        cosited.add(group);
+      }
+    }
+    return cosited;
+  }
+
+  /**
+   * Union-find root lookup with path halving.
+   */
+  private static int find(int[] parent, int i) {
+    while (parent[i] != i) {
+      parent[i] = parent[parent[i]];
+      i = parent[i];
+    }
+    return i;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Calculation">
+  /**
+   * Calculate the 2nd, 3rd and 5th order products of up to
+   * {@link #DEFAULT_MAX_SIGNALS} transmitters that hit a receiver, in
+   * parallel on the shared analysis pool.
+   *
+   * @return the hits, in ascending order of product order then frequency
+   */
+  public List<Hit> calculate() {
+    List<Hit> hits = new ArrayList<>();
+    for (int order : new int[]{2, 3, 5}) {
+      hits.addAll(calculate(order, DEFAULT_MAX_SIGNALS, AnalysisPool.getInstance()));
+    }
+    return hits;
+  }
+
+  /**
+   * Calculate the products of an order that hit a receiver.
+   *
+   * @param order       the product order (2 or more)
+   * @param maxSignals  the maximum number of distinct transmitters in a
+   *                    product (2 or more)
+   * @param pool        the fork/join pool to use; NULL to calculate in the
+   *                    calling thread
+   * @return the hits, in ascending order of frequency
+   */
+  public List<Hit> calculate(int order, int maxSignals, ForkJoinPool pool) {
+    List<int[]> patterns = new ArrayList<>();
+    for (int m = 2; m <= Math.min(order, maxSignals); m++) {
+      patterns(order, new int[m], 0, 0, patterns);
+    }
+    List<Hit> hits;
+    if (patterns.isEmpty() || receivers.length == 0 || txFreq.length < 2) {
+      hits = new ArrayList<>();
+    } else if (pool == null || txFreq.length <= THRESHOLD) {
+      hits = new EnumerateTask(patterns, 0, txFreq.length).compute();
+    } else {
+      hits = pool.invoke(new EnumerateTask(patterns, 0, txFreq.length));
+    }
+    Collections.sort(hits);
+    return hits;
+  }
+
+  /**
+   * Recursive method to build the coefficient patterns of m signals whose
+   * absolute values sum to an order. The first coefficient is positive; the
+   * negated pattern gives the same product magnitude.
+   *
+   * @param order    the product order
+   * @param pattern  the pattern being built
+   * @param index    the next coefficient index
+   * @param sum      the absolute sum of the coefficients so far
+   * @param patterns the completed patterns
+   */
+  private static void patterns(int order, int[] pattern, int index, int sum, List<int[]> patterns) {
+    int remaining = pattern.length - index - 1;
+    if (index == pattern.length - 1) {
+      int last = order - sum;
+      pattern[index] = last;
+      patterns.add(pattern.clone());
+      pattern[index] = -last;
+      patterns.add(pattern.clone());
+      return;
+    }
+    for (int k = 1; sum + k + remaining <= order; k++) {
+      pattern[index] = k;
+      patterns(order, pattern, index + 1, sum + k, patterns);
+      if (index > 0) {
+        pattern[index] = -k;
+        patterns(order, pattern, index + 1, sum + k, patterns);
+      }
+    }
+  }
+
+  /**
+   * Recursive method to enumerate ascending transmitter combinations.
+   *
+   * @param pattern the coefficient pattern
+   * @param indices the transmitter indices chosen so far
+   * @param depth   the number of transmitters chosen
+   * @param sum     the partial product frequency (MHz)
+   * @param width   the partial product half bandwidth (MHz)
+   * @param hits    the hits found
+   */
+  private void enumerate(int[] pattern, int[] indices, int depth, double sum, double width, List<Hit> hits) {
+    int m = pattern.length;
+    if (depth == m - 1) {
+      searchLast(pattern, indices, sum, width, hits);
+      return;
+    }
+    for (int i = indices[depth - 1] + 1; i <= txFreq.length - (m - depth); i++) {
+      indices[depth] = i;
+      enumerate(pattern, indices, depth + 1, sum + pattern[depth] * txFreq[i], width + Math.abs(pattern[depth]) * txWidth[i], hits);
+    }
+  }
+
+  /**
+   * Find the last transmitters of a combination that place the product in a
+   * receiver passband. For each receiver the window of product frequencies
+   * (positive and negative, since the product is a magnitude) is converted to
+   * a window of last transmitter frequencies and located by binary search.
+   *
+   * @param pattern the coefficient pattern
+   * @param indices the first m - 1 transmitter indices
+   * @param sum     the partial product frequency (MHz)
+   * @param width   the partial product half bandwidth (MHz)
+   * @param hits    the hits found
+   */
+  private void searchLast(int[] pattern, int[] indices, double sum, double width, List<Hit> hits) {
+    int m = pattern.length;
+    int k = pattern[m - 1];
+    int start = indices[m - 2] + 1;
+    double margin = width + Math.abs(k) * maxTxWidth;
+    for (int r = 0; r < receivers.length; r++) {
+      Signal receiver = receivers[r];
+      double lo = Math.max(0, receiver.frequency - receiver.halfBandwidth - margin);
+      double hi = receiver.frequency + receiver.halfBandwidth + margin;
+      scan(pattern, indices, sum, width, r, (lo - sum) / k, (hi - sum) / k, start, hits);
+      scan(pattern, indices, sum, width, r, (-hi - sum) / k, (-lo - sum) / k, start, hits);
+    }
+  }
+
+  /**
+   * Visit the last transmitters within a frequency window and record the
+   * exact hits.
+   */
+  private void scan(int[] pattern, int[] indices, double sum, double width, int r, double f1, double f2, int start, List<Hit> hits) {
+    int m = pattern.length;
+    int k = pattern[m - 1];
+    double min = Math.min(f1, f2);
+    double max = Math.max(f1, f2);
+    Signal receiver = receivers[r];
+    for (int i = ceiling(min, start); i < txFreq.length && txFreq[i] <= max; i++) {
+      double product = Math.abs(sum + k * txFreq[i]);
+      double productWidth = width + Math.abs(k) * txWidth[i];
+      if (product > 0 && Math.abs(product - receiver.frequency) <= receiver.halfBandwidth + productWidth) {
+        int[] tx = Arrays.copyOf(indices, m);
+        tx[m - 1] = i;
+        Signal[] signals = new Signal[m];
+        for (int j = 0; j < m; j++) {
+          signals[j] = transmitters[tx[j]];
+        }
+        hits.add(new Hit(pattern, signals, product, productWidth, receiver));
+      }
+    }
+  }
+
+  /**
+   * Get the index of the first transmitter frequency greater than or equal to
+   * a frequency.
+   *
+   * @param frequency the frequency (MHz)
+   * @param start     the first index to consider
+   * @return the index, the number of transmitters if none
+   */
+  private int ceiling(double frequency, int start) {
+    int low = start;
+    int high = txFreq.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (txFreq[mid] < frequency) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }//</editor-fold>
+
+  /**
+   * Fork/join task enumerating the combinations of a range of first
+   * transmitters.
+   */
+  private final class EnumerateTask extends RecursiveTask<List<Hit>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<int[]> patterns;
+    private final int from;
+    private final int to;
+
+    EnumerateTask(List<int[]> patterns, int from, int to) {
+      this.patterns = patterns;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<Hit> compute() {
+      if (to - from <= THRESHOLD) {
+        List<Hit> hits = new ArrayList<>();
+        for (int[] pattern : patterns) {
+          int[] indices = new int[pattern.length];
+          for (int i = from; i < to && i <= txFreq.length - pattern.length; i++) {
+            indices[0] = i;
+            enumerate(pattern, indices, 1, pattern[0] * txFreq[i], pattern[0] * txWidth[i], hits);
+          }
+        }
+        return hits;
+      }
+      int middle = (from + to) >>> 1;
+      EnumerateTask left = new EnumerateTask(patterns, from, middle);
+      left.fork();
+      List<Hit> right = new EnumerateTask(patterns, middle, to).compute();
+      List<Hit> hits = left.join();
+      hits.addAll(right);
+      return hits;
+    }
+  }
+
+  /**
+   * A transmitter or receiver signal: a center frequency, a half bandwidth
+   * and, where extracted from an assignment, its source.
+   */
+  public static final class Signal implements Comparable<Signal> {
+
+    private final double frequency;
+    private final double halfBandwidth;
+    private final Assignment assignment;
+    private final Configuration configuration;
+    private final ConfigFreq configFreq;
+
+    /**
+     * Construct a new signal.
+     *
+     * @param frequency the center frequency (MHz)
+     * @param bandwidth the emission bandwidth or receiver passband (MHz)
+     */
+    public Signal(double frequency, double bandwidth) {
+      this(frequency, bandwidth / 2, null, null, null);
+    }
+
+    private Signal(double frequency, double halfBandwidth, Assignment assignment, Configuration configuration, ConfigFreq configFreq) {
+      this.frequency = frequency;
+      this.halfBandwidth = halfBandwidth;
+      this.assignment = assignment;
+      this.configuration = configuration;
+      this.configFreq = configFreq;
+    }
+
+    public double getFrequency() {
+      return frequency;
+    }
+
+    /**
+     * Get the emission bandwidth or receiver passband (MHz).
+     *
+     * @return the bandwidth
+     */
+    public double getBandwidth() {
+      return 2 * halfBandwidth;
+    }
+
+    /**
+     * Get the source assignment.
+     *
+     * @return the assignment, NULL if not extracted from an assignment
+     */
+    public Assignment getAssignment() {
+      return assignment;
+    }
+
+    public Configuration getConfiguration() {
+      return configuration;
+    }
+
+    public ConfigFreq getConfigFreq() {
+      return configFreq;
+    }
+
+    @Override
+    public int compareTo(Signal o) {
+      return Double.compare(frequency, o.frequency);
+    }
+
+    @Override
+    public String toString() {
+      return frequency + " MHz" + (assignment != null ? " " + assignment.getSerial() : "");
+    }
+  }
+
+  /**
+   * An intermodulation product that falls within a receiver passband.
+   */
+  public static final class Hit implements Comparable<Hit> {
+
+    /**
+     * The product order.
+     */
+    private final int order;
+    /**
+     * The coefficient of each contributing transmitter.
+     */
+    private final int[] coefficients;
+    /**
+     * The contributing transmitters, in ascending frequency order.
+     */
+    private final Signal[] transmitters;
+    /**
+     * The product center frequency (MHz).
+     */
+    private final double frequency;
+    /**
+     * The product half bandwidth (MHz).
+     */
+    private final double halfBandwidth;
+    /**
+     * The receiver hit.
+     */
+    private final Signal receiver;
+
+    private Hit(int[] coefficients, Signal[] transmitters, double frequency, double halfBandwidth, Signal receiver) {
+      int sum = 0;
+      for (int coefficient : coefficients) {
+        sum += Math.abs(coefficient);
+      }
+      this.order = sum;
+      this.coefficients = coefficients;
+      this.transmitters = transmitters;
+      this.frequency = frequency;
+      this.halfBandwidth = halfBandwidth;
+      this.receiver = receiver;
+    }
+
+    /**
+     * Get the product order: the sum of the absolute coefficients.
+     *
+     * @return the product order
+     */
+    public int getOrder() {
+      return order;
+    }
+
+    /**
+     * Get the coefficient of each contributing transmitter.
+     *
+     * @return a copy of the coefficients, in transmitter order
+     */
+    public int[] getCoefficients() {
+      return coefficients.clone();
+    }
+
+    /**
+     * Get the contributing transmitters.
+     *
+     * @return the transmitters, in ascending frequency order
+     */
+    public List<Signal> getTransmitters() {
+      return Collections.unmodifiableList(Arrays.asList(transmitters));
+    }
+
+    /**
+     * Get the product center frequency (MHz).
+     *
+     * @return the product frequency
+     */
+    public double getFrequency() {
+      return frequency;
+    }
+
+    /**
+     * Get the product bandwidth (MHz): the transmitter bandwidths weighted by
+     * their absolute coefficients.
+     *
+     * @return the product bandwidth
+     */
+    public double getBandwidth() {
+      return 2 * halfBandwidth;
+    }
+
+    public Signal getReceiver() {
+      return receiver;
+    }
+
+    /**
+     * Get the product formula, e.g. "|2f1 - f2|" where f1, f2 are the
+     * transmitter frequencies in ascending order.
+     *
+     * @return the product formula
+     */
+    public String getFormula() {
+      StringBuilder sb = new StringBuilder("|");
+      for (int i = 0; i < coefficients.length; i++) {
+        int k = coefficients[i];
+        if (i > 0) {
+          sb.append(k < 0 ? " - " : " + ");
+        } else if (k < 0) {
+          sb.append('-');
+        }
+        if (Math.abs(k) != 1) {
+          sb.append(Math.abs(k));
+        }
+        sb.append('f').append(i + 1);
+      }
+      return sb.append('|').toString();
+    }
+
+    @Override
+    public int compareTo(Hit o) {
+      int compare = Integer.compare(order, o.order);
+      return compare != 0 ? compare : Double.compare(frequency, o.frequency);
+    }
+
+    @Override
+    public String toString() {
+      return "Hit [" + order + " order " + getFormula() + " = " + frequency + " MHz"
+             + " from " + Arrays.toString(transmitters) + " into " + receiver + "]";
+    }
+  }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.JRFL;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.assignment.Station;
+import us.gov.dod.standard.ssrf._3_1.assignment.StationLoc;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntryLocation;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.DT;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+/**
+ * Bulk compliance checker of Assignments against the Joint Restricted
+ * Frequency List (JRFL).
+ * <p>
+ * The checker indexes the JRFL entries once, by frequency in a
+ * {@link FrequencyIndex} and by location in a {@link GeoBounds} bounding box
+ * per entry. Each assignment frequency is then matched against the overlapping
+ * entries only, so that the cost of a check is proportional to the number of
+ * assignment frequencies plus the number of candidate entries. An assignment
+ * conflicts with a JRFL entry when:
+ * <ul>
+ * <li>an assigned frequency (Freq) or configuration frequency (ConfigFreq)
+ * overlaps the entry frequency range;</li>
+ * <li>the assignment and JRFL validity periods (EffectiveDateTime to
+ * ExpirationDateTime) overlap, where an unset date is unbounded;</li>
+ * <li>the entry and assignment recurring schedules (Seconds, Minutes, Hours,
+ * DaysOfMonth, Months, DaysOfWeek, Years and Duration) are both active at
+ * some time within the common validity period, where an entry without a
+ * schedule follows the JRFL schedule and an unset schedule is always active
+ * (see {@link Schedule});</li>
+ * <li>the entry has no location, or the assignment station locations
+ * (including any location radius) may intersect the entry locations;
+ * and</li>
+ * <li>the entry does not reference the assignment itself (AsgnAllotRef, as
+ * resolved by {@link JRFLEntry#postLoad(SSRF)}).</li>
+ * </ul>
+ * The checks are conservative: a location that cannot be resolved never
+ * excludes a conflict. Location comparison is by bounding box.
+ * <p>
+ * A checker instance is immutable once constructed and may be shared between
+ * threads. {@link #check(Collection)} evaluates assignments in parallel in the
+ * shared analysis pool, or in a caller supplied pool; each assignment is read
+ * by a single thread.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class JRFLComplianceChecker {
+
+  /**
+   * The number of assignments below which a parallel check is not split
+   * further.
+   */
+  private static final int THRESHOLD = 256;
+
+  /**
+   * The JRFL entry frequency index.
+   */
+  private final FrequencyIndex index;
+  /**
+   * The location bounding box of each JRFL entry having a resolvable
+   * location. Entries without a location apply everywhere.
+   */
+  private final Map<JRFLEntry, GeoBounds> entryBounds;
+  /**
+   * The schedule of each JRFL entry having a schedule, either its own or that
+   * of its JRFL. Entries without a schedule are always active.
+   */
+  private final Map<JRFLEntry, Schedule> entrySchedules;
+  /**
+   * The validity period [effective, expiration] of each JRFL, in epoch
+   * milliseconds. Unset dates are MIN_VALUE and MAX_VALUE respectively.
+   */
+  private final Map<JRFL, long[]> validity;
+
+  /**
+   * Construct a new JRFL compliance checker.
+   *
+   * @param jrfls the JRFL datasets to check against
+   */
+  public JRFLComplianceChecker(Collection<JRFL> jrfls) {
+    this.index = new FrequencyIndex();
+    this.entryBounds = new IdentityHashMap<>();
+    this.entrySchedules = new IdentityHashMap<>();
+    this.validity = new IdentityHashMap<>();
+    for (JRFL jrfl : jrfls) {
+      index.add(jrfl);
+      validity.put(jrfl, new long[]{start(jrfl.getEffectiveDateTime()), end(jrfl.getExpirationDateTime())});
+      Schedule jrflSchedule = Schedule.getInstance(jrfl);
+      if (jrfl.isSetJRFLEntry()) {
+        for (JRFLEntry jrflEntry : jrfl.getJRFLEntry()) {
+          GeoBounds bounds = getBounds(jrflEntry);
+          if (bounds != null) {
+            entryBounds.put(jrflEntry, bounds);
+          }
+          Schedule schedule = Schedule.getInstance(jrflEntry);
+          if (schedule != null || jrflSchedule != null) {
+            entrySchedules.put(jrflEntry, schedule != null ? schedule : jrflSchedule);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Build a JRFL compliance checker for the JRFL datasets of an SSRF message.
+   *
+   * @param ssrf the SSRF message
+   * @return a new JRFL compliance checker
+   */
+  public static JRFLComplianceChecker getInstance(SSRF ssrf) {
+    return new JRFLComplianceChecker(ssrf.getJRFL());
+  }
+
+  /**
+   * Check a single assignment against the JRFL.
+   *
+   * @param assignment the assignment
+   * @return the JRFL conflicts, empty if the assignment is compliant
+   */
+  public List<Conflict> check(Assignment assignment) {
+    List<Conflict> conflicts = new ArrayList<>();
+    List<FrequencyIndex.Entry> frequencies = FrequencyIndex.extract(assignment);
+    if (frequencies.isEmpty() || index.isEmpty()) {
+      return conflicts;
+    }
+    long effective = start(assignment.getEffectiveDateTime());
+    long expiration = end(assignment.getExpirationDateTime());
+    Schedule assignmentSchedule = Schedule.getInstance(assignment);
+    /**
+     * The assignment location is resolved on demand and only once.
+     */
+    GeoBounds assignmentBounds = null;
+    boolean boundsResolved = false;
+    for (FrequencyIndex.Entry frequency : frequencies) {
+      for (FrequencyIndex.Entry candidate : index.findOverlapping(frequency.getFreqMin(), frequency.getFreqMax())) {
+        JRFL jrfl = (JRFL) candidate.getOwner();
+        JRFLEntry jrflEntry = (JRFLEntry) candidate.getElement();
+        long[] period = validity.get(jrfl);
+        if (expiration < period[0] || effective > period[1] || isProtected(jrflEntry, assignment)) {
+          continue;
+        }
+        Schedule schedule = entrySchedules.get(jrflEntry);
+        if ((schedule != null || assignmentSchedule != null)
+            && !Schedule.overlaps(schedule, assignmentSchedule, Math.max(effective, period[0]), Math.min(expiration, period[1]))) {
+          continue;
+        }
+        GeoBounds bounds = entryBounds.get(jrflEntry);
+        if (bounds != null) {
+          if (!boundsResolved) {
+            assignmentBounds = getBounds(assignment);
+            boundsResolved = true;
+          }
+          if (assignmentBounds != null && !assignmentBounds.intersects(bounds)) {
+            continue;
+          }
+        }
+        conflicts.add(new Conflict(assignment, frequency.getElement(), jrfl, jrflEntry,
+                                   Math.max(frequency.getFreqMin(), candidate.getFreqMin()),
+                                   Math.min(frequency.getFreqMax(), candidate.getFreqMax())));
+      }
+    }
+    return conflicts;
+  }
+
+  /**
+   * Check a collection of assignments against the JRFL in parallel, using
+   * the shared analysis pool.
+   *
+   * @param assignments the assignments
+   * @return the JRFL conflicts, in assignment order
+   */
+  public List<Conflict> check(Collection<Assignment> assignments) {
+    return check(assignments, AnalysisPool.getInstance());
+  }
+
+  /**
+   * Check a collection of assignments against the JRFL in parallel.
+   *
+   * @param assignments the assignments
+   * @param pool        the fork/join pool to use; NULL to check in the
+   *                    calling thread
+   * @return the JRFL conflicts, in assignment order
+   */
+  public List<Conflict> check(Collection<Assignment> assignments, ForkJoinPool pool) {
+    Assignment[] array = assignments.toArray(new Assignment[assignments.size()]);
+    if (pool == null || array.length <= THRESHOLD) {
+      return new CheckTask(array, 0, array.length).compute();
+    }
+    return pool.invoke(new CheckTask(array, 0, array.length));
+  }
+
+  /**
+   * Determine if a JRFL entry protects the assignment itself. The entry
+   * reference matches the assignment instance or, for a copy of the
+   * assignment, its serial number.
+   *
+   * @param jrflEntry  the JRFL entry
+   * @param assignment the assignment
+   * @return TRUE if the entry references the assignment
+   */
+  private static boolean isProtected(JRFLEntry jrflEntry, Assignment assignment) {
+    Common<?> reference = jrflEntry.getAssignmentAllotment();
+    if (reference == null) {
+      return false;
+    }
+    Serial serial = assignment.getSerial();
+    return reference == assignment || (serial != null && reference instanceof Assignment && serial.equals(reference.getSerial()));
+  }
+
+  /**
+   * Get the bounding box of the locations of a JRFL entry.
+   *
+   * @param jrflEntry the JRFL entry
+   * @return the location bounding box, NULL if the entry has no location or
+   *         a location cannot be resolved
+   */
+  private static GeoBounds getBounds(JRFLEntry jrflEntry) {
+    if (!jrflEntry.isSetJRFLEntryLocation()) {
+      return null;
+    }
+    GeoBounds bounds = null;
+    for (JRFLEntryLocation jrflEntryLocation : jrflEntry.getJRFLEntryLocation()) {
+      GeoBounds locationBounds = GeoBounds.getInstance(jrflEntryLocation.getLocation());
+      if (locationBounds == null) {
+        return null;
+      }
+      bounds = GeoBounds.union(bounds, locationBounds);
+    }
+    return bounds;
+  }
+
+  /**
+   * Get the bounding box of the station locations of an assignment, enlarged
+   * by the location radius where set. Excluded station locations are ignored.
+   *
+   * @param assignment the assignment
+   * @return the location bounding box, NULL if the assignment has no station
+   *         location or a station location cannot be resolved
+   */
+  private static GeoBounds getBounds(Assignment assignment) {
+    if (!assignment.isSetStation()) {
+      return null;
+    }
+    GeoBounds bounds = null;
+    for (Station station : assignment.getStation()) {
+      if (station.isSetStationLoc()) {
+        for (StationLoc stationLoc : station.getStationLoc()) {
+          if (GeoBounds.isExcluded(stationLoc.getLocationExcluded())) {
+            continue;
+          }
+          Common<?> locSat = stationLoc.getLocSat();
+          GeoBounds locationBounds = locSat instanceof Location ? GeoBounds.getInstance((Location) locSat) : null;
+          if (locationBounds == null) {
+            return null;
+          }
+          if (stationLoc.isSetLocationRadius()) {
+            locationBounds = locationBounds.expand(stationLoc.getLocationRadius().doubleValue());
+          }
+          bounds = GeoBounds.union(bounds, locationBounds);
+        }
+      }
+    }
+    return bounds;
+  }
+
+  /**
+   * Get the start of a validity period.
+   *
+   * @param dt the effective date time, may be null
+   * @return the epoch milliseconds, MIN_VALUE if not set
+   */
+  private static long start(DT dt) {
+    return dt != null && dt.isSetValue() ? dt.getTime() : Long.MIN_VALUE;
+  }
+
+  /**
+   * Get the end of a validity period.
+   *
+   * @param dt the expiration date time, may be null
+   * @return the epoch milliseconds, MAX_VALUE if not set
+   */
+  private static long end(DT dt) {
+    return dt != null && dt.isSetValue() ? dt.getTime() : Long.MAX_VALUE;
+  }
+
+  /**
+   * Fork/join task checking a range of assignments.
+   */
+  private final class CheckTask extends RecursiveTask<List<Conflict>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Assignment[] assignments;
+    private final int from;
+    private final int to;
+
+    CheckTask(Assignment[] assignments, int from, int to) {
+      this.assignments = assignments;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<Conflict> compute() {
+      if (to - from <= THRESHOLD) {
+        List<Conflict> conflicts = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+          conflicts.addAll(check(assignments[i]));
+        }
+        return conflicts;
+      }
+      int middle = (from + to) >>> 1;
+      CheckTask left = new CheckTask(assignments, from, middle);
+      left.fork();
+      List<Conflict> right = new CheckTask(assignments, middle, to).compute();
+      List<Conflict> conflicts = left.join();
+      conflicts.addAll(right);
+      return conflicts;
+    }
+  }
+
+  /**
+   * A conflict between an assignment frequency and a JRFL entry.
+   */
+  public static final class Conflict {
+
+    /**
+     * The conflicting assignment.
+     */
+    private final Assignment assignment;
+    /**
+     * The assignment frequency data item (Freq or ConfigFreq).
+     */
+    private final Object frequency;
+    /**
+     * The JRFL containing the entry.
+     */
+    private final JRFL jrfl;
+    /**
+     * The conflicting JRFL entry.
+     */
+    private final JRFLEntry jrflEntry;
+    /**
+     * The minimum frequency of the overlap (MHz).
+     */
+    private final double overlapMin;
+    /**
+     * The maximum frequency of the overlap (MHz).
+     */
+    private final double overlapMax;
+
+    private Conflict(Assignment assignment, Object frequency, JRFL jrfl, JRFLEntry jrflEntry, double overlapMin, double overlapMax) {
+      this.assignment = assignment;
+      this.frequency = frequency;
+      this.jrfl = jrfl;
+      this.jrflEntry = jrflEntry;
+      this.overlapMin = overlapMin;
+      this.overlapMax = overlapMax;
+    }
+
+    public Assignment getAssignment() {
+      return assignment;
+    }
+
+    /**
+     * Get the assignment serial number.
+     *
+     * @return the assignment serial number
+     */
+    public Serial getAssignmentSerial() {
+      return assignment.getSerial();
+    }
+
+    /**
+     * Get the assignment frequency data item (a Freq or ConfigFreq instance).
+     *
+     * @return the assignment frequency data item
+     */
+    public Object getFrequency() {
+      return frequency;
+    }
+
+    public JRFL getJRFL() {
+      return jrfl;
+    }
+
+    public JRFLEntry getJRFLEntry() {
+      return jrflEntry;
+    }
+
+    /**
+     * Get the minimum frequency of the overlap between the assignment
+     * frequency and the JRFL entry (MHz).
+     *
+     * @return the overlap minimum frequency
+     */
+    public double getOverlapMin() {
+      return overlapMin;
+    }
+
+    /**
+     * Get the maximum frequency of the overlap between the assignment
+     * frequency and the JRFL entry (MHz).
+     *
+     * @return the overlap maximum frequency
+     */
+    public double getOverlapMax() {
+      return overlapMax;
+    }
+
+    /**
+     * Get the JRFL entry protection code (e.g. "Taboo", "Protected",
+     * "Guarded").
+     *
+     * @return the protection code, NULL if not set
+     */
+    public String getProtectionCode() {
+      return jrflEntry.getProtectionCode() != null ? jrflEntry.getProtectionCode().getValue() : null;
+    }
+
+    @Override
+    public String toString() {
+      return "JRFL Conflict"
+             + " assignment [" + assignment.getSerial() + "]"
+             + " jrfl [" + jrfl.getSerial() + "]"
+             + " protectionCode [" + getProtectionCode() + "]"
+             + " overlap [" + overlapMin + (overlapMax != overlapMin ? " - " + overlapMax : "") + "]";
+    }
+  }
+}
@@ -0,0 +1,664 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.assignment.StationLoc;
+import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.location.Polygon;
+import us.gov.dod.standard.ssrf._3_1.location.PolygonPoint;
+
+/**
+ * Exact containment and distance tests over the shapes of a Location.
+ * <p>
+ * A Location area is the union of its included shapes less the union of its
+ * excluded shapes, including the shapes of any referenced Locations. Shapes
+ * are compiled once into primitive arrays:
+ * <ul>
+ * <li>Point: a circle of a given radius (e.g. the StationLoc LocationRadius)
+ * measured by great circle distance. A point with no radius contains only
+ * itself.</li>
+ * <li>Ellipse: measured in the azimuthal equidistant projection about its
+ * center, with the semi-major axis oriented by its azimuth (degrees clockwise
+ * from true north). An ellipse with no semi-minor axis is a circle.</li>
+ * <li>Polygon: vertices projected once onto an equirectangular plane about
+ * the polygon center (km), then tested by ray crossing. The projection is
+ * accurate for regional polygons; it handles polygons that cross the
+ * anti-meridian.</li>
+ * </ul>
+ * All tests use primitive double math and do not allocate. Batch methods
+ * evaluate arrays of coordinates into caller supplied result arrays.
+ * <p>
+ * A geometry reflects the Location content at the time it is built and is
+ * immutable; it may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class LocationGeometry {
+
+  /**
+   * The maximum number of bisection iterations when computing the distance
+   * to an ellipse. Each iteration halves the root bracket; 128 is beyond
+   * double precision.
+   */
+  private static final int MAX_ITERATIONS = 128;
+
+  /**
+   * The circle center latitudes (decimal degrees).
+   */
+  private final double[] circleLat;
+  /**
+   * The circle center longitudes (decimal degrees).
+   */
+  private final double[] circleLon;
+  /**
+   * The circle radii (km).
+   */
+  private final double[] circleRadius;
+  /**
+   * Whether each circle is excluded.
+   */
+  private final boolean[] circleExcluded;
+  /**
+   * The ellipse center latitudes (decimal degrees).
+   */
+  private final double[] ellipseLat;
+  /**
+   * The ellipse center longitudes (decimal degrees).
+   */
+  private final double[] ellipseLon;
+  /**
+   * The ellipse semi-major axes (km).
+   */
+  private final double[] ellipseMajor;
+  /**
+   * The ellipse semi-minor axes (km).
+   */
+  private final double[] ellipseMinor;
+  /**
+   * The ellipse major axis azimuths (radians clockwise from true north).
+   */
+  private final double[] ellipseAzimuth;
+  /**
+   * Whether each ellipse is excluded.
+   */
+  private final boolean[] ellipseExcluded;
+  /**
+   * The projected polygons.
+   */
+  private final Ring[] rings;
+  /**
+   * Whether the geometry has any excluded shape.
+   */
+  private final boolean hasExclusions;
+
+  /**
+   * Compile the shapes of a location.
+   *
+   * @param location    the location
+   * @param pointRadius the radius (km) applied to points
+   */
+  private LocationGeometry(Location location, double pointRadius) {
+    List<Point> points = new ArrayList<>();
+    List<Ellipse> ellipses = new ArrayList<>();
+    List<Polygon> polygons = new ArrayList<>();
+    collect(location, points, ellipses, polygons, new IdentityHashMap<Location, Boolean>());
+    boolean exclusions = false;
+    this.circleLat = new double[points.size()];
+    this.circleLon = new double[points.size()];
+    this.circleRadius = new double[points.size()];
+    this.circleExcluded = new boolean[points.size()];
+    for (int i = 0; i < points.size(); i++) {
+      Point point = points.get(i);
+      circleLat[i] = point.getLat().doubleValue();
+      circleLon[i] = point.getLon().doubleValue();
+      circleRadius[i] = pointRadius;
+      circleExcluded[i] = GeoBounds.isExcluded(point.getExcluded());
+      exclusions |= circleExcluded[i];
+    }
+    this.ellipseLat = new double[ellipses.size()];
+    this.ellipseLon = new double[ellipses.size()];
+    this.ellipseMajor = new double[ellipses.size()];
+    this.ellipseMinor = new double[ellipses.size()];
+    this.ellipseAzimuth = new double[ellipses.size()];
+    this.ellipseExcluded = new boolean[ellipses.size()];
+    for (int i = 0; i < ellipses.size(); i++) {
+      Ellipse ellipse = ellipses.get(i);
+      double major = ellipse.isSetSemiMajorAxis() ? ellipse.getSemiMajorAxis().doubleValue() : 0;
+      double minor = ellipse.isSetSemiMinorAxis() ? ellipse.getSemiMinorAxis().doubleValue() : major;
+      double azimuth = ellipse.isSetAzimuth() ? ellipse.getAzimuth().doubleValue() : 0;
+      if (minor > major) {
+        /**
+         * Keep the major axis the longer one.
+         */
+        double swap = major;
+        major = minor;
+        minor = swap;
+        azimuth += 90;
+      }
+      ellipseLat[i] = ellipse.getLat().doubleValue();
+      ellipseLon[i] = ellipse.getLon().doubleValue();
+      ellipseMajor[i] = major;
+      ellipseMinor[i] = minor;
+      ellipseAzimuth[i] = Math.toRadians(azimuth);
+      ellipseExcluded[i] = GeoBounds.isExcluded(ellipse.getExcluded());
+      exclusions |= ellipseExcluded[i];
+    }
+    List<Ring> list = new ArrayList<>(polygons.size());
+    for (Polygon polygon : polygons) {
+      Ring ring = Ring.getInstance(polygon);
+      if (ring != null) {
+        list.add(ring);
+        exclusions |= ring.excluded;
+      }
+    }
+    this.rings = list.toArray(new Ring[list.size()]);
+    this.hasExclusions = exclusions;
+  }
+
+  /**
+   * Build the geometry of a location. Points contain only themselves.
+   *
+   * @param location the location
+   * @return the location geometry
+   */
+  public static LocationGeometry getInstance(Location location) {
+    return new LocationGeometry(location, 0);
+  }
+
+  /**
+   * Build the geometry of a location, extending each point to a circle.
+   *
+   * @param location    the location
+   * @param pointRadius the radius (km) applied to points
+   * @return the location geometry
+   */
+  public static LocationGeometry getInstance(Location location, double pointRadius) {
+    return new LocationGeometry(location, pointRadius);
+  }
+
+  /**
+   * Build the geometry of a station location: the referenced Location with
+   * its points extended by the LocationRadius.
+   *
+   * @param stationLoc the station location
+   * @return the station location geometry, NULL if the station location does
+   *         not reference a Location (e.g. a Satellite)
+   */
+  public static LocationGeometry getInstance(StationLoc stationLoc) {
+    if (!(stationLoc.getLocSat() instanceof Location)) {
+      return null;
+    }
+    return new LocationGeometry((Location) stationLoc.getLocSat(),
+                                stationLoc.isSetLocationRadius() ? stationLoc.getLocationRadius().doubleValue() : 0);
+  }
+
+  /**
+   * Recursive method to collect the shapes of a location and its referenced
+   * locations.
+   *
+   * @param location the location
+   * @param points   the points with coordinates
+   * @param ellipses the ellipses with coordinates
+   * @param polygons the polygons with points
+   * @param visited  the locations already visited (to stop reference cycles)
+   */
+  private static void collect(Location location, List<Point> points, List<Ellipse> ellipses, List<Polygon> polygons, Map<Location, Boolean> visited) {
+    if (location == null || visited.put(location, Boolean.TRUE) != null) {
+      return;
+    }
+    if (location.isSetPoint()) {
+      for (Point point : location.getPoint()) {
+        if (point.isSetLat() && point.isSetLon()) {
+          points.add(point);
+        }
+      }
+    }
+    if (location.isSetEllipse()) {
+      for (Ellipse ellipse : location.getEllipse()) {
+        if (ellipse.isSetLat() && ellipse.isSetLon()) {
+          ellipses.add(ellipse);
+        }
+      }
+    }
+    if (location.isSetPolygon()) {
+      for (Polygon polygon : location.getPolygon()) {
+        if (polygon.isSetPolygonPoint()) {
+          polygons.add(polygon);
+        }
+      }
+    }
+    if (location.isSetLocation()) {
+      for (Location reference : location.getLocation()) {
+        collect(reference, points, ellipses, polygons, visited);
+      }
+    }
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Containment">
+  /**
+   * Determine if a coordinate is inside the location area: inside an
+   * included shape and not inside an excluded shape.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @return TRUE if the coordinate is inside the location
+   */
+  public boolean contains(double lat, double lon) {
+    if (!test(lat, lon, false)) {
+      return false;
+    }
+    return !hasExclusions || !test(lat, lon, true);
+  }
+
+  /**
+   * Determine if each of a set of coordinates is inside the location area.
+   *
+   * @param lat    the latitudes (decimal degrees)
+   * @param lon    the longitudes (decimal degrees)
+   * @param result the results, one per coordinate; must be at least as long
+   *               as the coordinate arrays
+   * @return the number of coordinates inside the location
+   */
+  public int contains(double[] lat, double[] lon, boolean[] result) {
+    int count = 0;
+    for (int i = 0; i < lat.length; i++) {
+      result[i] = contains(lat[i], lon[i]);
+      if (result[i]) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Test a coordinate against the included or the excluded shapes.
+   *
+   * @param lat      the latitude (decimal degrees)
+   * @param lon      the longitude (decimal degrees)
+   * @param excluded TRUE to test the excluded shapes, FALSE for the included
+   *                 shapes
+   * @return TRUE if the coordinate is inside one of the tested shapes
+   */
+  private boolean test(double lat, double lon, boolean excluded) {
+    for (int i = 0; i < circleLat.length; i++) {
+      if (circleExcluded[i] == excluded
+          && GeoBounds.distance(circleLat[i], circleLon[i], lat, lon) <= circleRadius[i]) {
+        return true;
+      }
+    }
+    for (int i = 0; i < ellipseLat.length; i++) {
+      if (ellipseExcluded[i] == excluded && ellipseDistance(i, lat, lon) == 0) {
+        return true;
+      }
+    }
+    for (Ring ring : rings) {
+      if (ring.excluded == excluded && ring.contains(lat, lon)) {
+        return true;
+      }
+    }
+    return false;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Distance">
+  /**
+   * Get the distance from a coordinate to the nearest included shape.
+   * Excluded shapes are not considered.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @return the distance (km), zero if the coordinate is inside or on an
+   *         included shape, POSITIVE_INFINITY if the location has no included
+   *         shape
+   */
+  public double distance(double lat, double lon) {
+    double distance = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < circleLat.length && distance > 0; i++) {
+      if (!circleExcluded[i]) {
+        distance = Math.min(distance, Math.max(0, GeoBounds.distance(circleLat[i], circleLon[i], lat, lon) - circleRadius[i]));
+      }
+    }
+    for (int i = 0; i < ellipseLat.length && distance > 0; i++) {
+      if (!ellipseExcluded[i]) {
+        distance = Math.min(distance, ellipseDistance(i, lat, lon));
+      }
+    }
+    for (int i = 0; i < rings.length && distance > 0; i++) {
+      if (!rings[i].excluded) {
+        distance = Math.min(distance, rings[i].distance(lat, lon));
+      }
+    }
+    return distance;
+  }
+
+  /**
+   * Get the distance from each of a set of coordinates to the nearest
+   * included shape.
+   *
+   * @param lat    the latitudes (decimal degrees)
+   * @param lon    the longitudes (decimal degrees)
+   * @param result the distances (km), one per coordinate; must be at least as
+   *               long as the coordinate arrays
+   */
+  public void distance(double[] lat, double[] lon, double[] result) {
+    for (int i = 0; i < lat.length; i++) {
+      result[i] = distance(lat[i], lon[i]);
+    }
+  }
+
+  /**
+   * Get the great circle distance from one coordinate to each of a set of
+   * coordinates. The origin trigonometry is computed once.
+   *
+   * @param lat    the origin latitude (decimal degrees)
+   * @param lon    the origin longitude (decimal degrees)
+   * @param lats   the latitudes (decimal degrees)
+   * @param lons   the longitudes (decimal degrees)
+   * @param result the distances (km), one per coordinate; must be at least as
+   *               long as the coordinate arrays
+   */
+  public static void distance(double lat, double lon, double[] lats, double[] lons, double[] result) {
+    double cosLat = Math.cos(Math.toRadians(lat));
+    for (int i = 0; i < lats.length; i++) {
+      double sinLat = Math.sin(Math.toRadians(lats[i] - lat) / 2);
+      double sinLon = Math.sin(Math.toRadians(lons[i] - lon) / 2);
+      double a = sinLat * sinLat + cosLat * Math.cos(Math.toRadians(lats[i])) * sinLon * sinLon;
+      result[i] = 2 * GeoBounds.KM_PER_DEGREE * Math.toDegrees(Math.asin(Math.min(1, Math.sqrt(a))));
+    }
+  }
+
+  /**
+   * Get the distance from a coordinate to an ellipse. The coordinate is
+   * projected onto the azimuthal equidistant plane about the ellipse center
+   * and rotated into the ellipse axes.
+   *
+   * @param i   the ellipse index
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @return the distance (km), zero if inside or on the ellipse
+   */
+  private double ellipseDistance(int i, double lat, double lon) {
+    double phi1 = Math.toRadians(ellipseLat[i]);
+    double phi2 = Math.toRadians(lat);
+    double dLon = Math.toRadians(lon - ellipseLon[i]);
+    double range = GeoBounds.distance(ellipseLat[i], ellipseLon[i], lat, lon);
+    if (range == 0) {
+      return 0;
+    }
+    double bearing = Math.atan2(Math.sin(dLon) * Math.cos(phi2),
+                                Math.cos(phi1) * Math.sin(phi2) - Math.sin(phi1) * Math.cos(phi2) * Math.cos(dLon));
+    double angle = bearing - ellipseAzimuth[i];
+    double u = Math.abs(range * Math.cos(angle));
+    double v = Math.abs(range * Math.sin(angle));
+    double a = ellipseMajor[i];
+    double b = ellipseMinor[i];
+    if (b <= 0) {
+      /**
+       * Degenerate ellipse: a line segment (or a point) along the major axis.
+       */
+      double du = Math.max(0, u - a);
+      return Math.sqrt(du * du + v * v);
+    }
+    if ((u / a) * (u / a) + (v / b) * (v / b) <= 1) {
+      return 0;
+    }
+    return ellipseDistance(a, b, u, v);
+  }
+
+  /**
+   * Get the distance from a point outside an axis-aligned ellipse to the
+   * ellipse, in the first quadrant. This is the robust bisection method of D.
+   * Eberly, "Distance from a Point to an Ellipse, an Ellipsoid, or a
+   * Hyperellipsoid".
+   *
+   * @param a the semi-major axis (a &ge; b &gt; 0)
+   * @param b the semi-minor axis
+   * @param u the point coordinate along the major axis (&ge; 0)
+   * @param v the point coordinate along the minor axis (&ge; 0)
+   * @return the distance
+   */
+  private static double ellipseDistance(double a, double b, double u, double v) {
+    if (v == 0) {
+      double numerator = a * u;
+      double denominator = a * a - b * b;
+      if (numerator < denominator) {
+        double x = numerator / denominator;
+        double x0 = a * x;
+        double x1 = b * Math.sqrt(1 - x * x);
+        return Math.sqrt((x0 - u) * (x0 - u) + x1 * x1);
+      }
+      return Math.abs(u - a);
+    }
+    if (u == 0) {
+      return Math.abs(v - b);
+    }
+    double z0 = u / a;
+    double z1 = v / b;
+    double r0 = (a / b) * (a / b);
+    double n0 = r0 * z0;
+    double s0 = z1 - 1;
+    double s1 = Math.sqrt(n0 * n0 + z1 * z1) - 1;
+    double s = 0;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      s = (s0 + s1) / 2;
+      if (s == s0 || s == s1) {
+        break;
+      }
+      double ratio0 = n0 / (s + r0);
+      double ratio1 = z1 / (s + 1);
+      double g = ratio0 * ratio0 + ratio1 * ratio1 - 1;
+      if (g > 0) {
+        s0 = s;
+      } else if (g < 0) {
+        s1 = s;
+      } else {
+        break;
+      }
+    }
+    double x0 = r0 * u / (s + r0);
+    double x1 = v / (s + 1);
+    return Math.sqrt((x0 - u) * (x0 - u) + (x1 - v) * (x1 - v));
+  }//</editor-fold>
+
+  /**
+   * A polygon projected onto an equirectangular plane (km) about its center.
+   */
+  private static final class Ring {
+
+    /**
+     * The projection origin latitude (decimal degrees).
+     */
+    private final double lat0;
+    /**
+     * The projection origin longitude (decimal degrees).
+     */
+    private final double lon0;
+    /**
+     * The projection east-west scale (km per degree of longitude).
+     */
+    private final double kx;
+    /**
+     * The projected vertex coordinates (km east of the origin).
+     */
+    private final double[] x;
+    /**
+     * The projected vertex coordinates (km north of the origin).
+     */
+    private final double[] y;
+    private final double minX;
+    private final double maxX;
+    private final double minY;
+    private final double maxY;
+    /**
+     * Whether the polygon is excluded.
+     */
+    private final boolean excluded;
+
+    private Ring(double lat0, double lon0, double[] lat, double[] lon, int count, boolean excluded) {
+      this.lat0 = lat0;
+      this.lon0 = lon0;
+      this.kx = GeoBounds.KM_PER_DEGREE * Math.cos(Math.toRadians(lat0));
+      this.excluded = excluded;
+      this.x = new double[count];
+      this.y = new double[count];
+      double x0 = Double.POSITIVE_INFINITY;
+      double x1 = Double.NEGATIVE_INFINITY;
+      double y0 = Double.POSITIVE_INFINITY;
+      double y1 = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < count; i++) {
+        x[i] = projectX(lon[i]);
+        y[i] = projectY(lat[i]);
+        x0 = Math.min(x0, x[i]);
+        x1 = Math.max(x1, x[i]);
+        y0 = Math.min(y0, y[i]);
+        y1 = Math.max(y1, y[i]);
+      }
+      this.minX = x0;
+      this.maxX = x1;
+      this.minY = y0;
+      this.maxY = y1;
+    }
+
+    /**
+     * Project a polygon.
+     *
+     * @param polygon the polygon
+     * @return the projected polygon, NULL if it has fewer than three points
+     */
+    private static Ring getInstance(Polygon polygon) {
+      int size = polygon.getPolygonPoint().size();
+      double[] lat = new double[size];
+      double[] lon = new double[size];
+      int count = 0;
+      for (PolygonPoint polygonPoint : polygon.getPolygonPoint()) {
+        if (polygonPoint.isSetLat() && polygonPoint.isSetLon()) {
+          lat[count] = polygonPoint.getLat().doubleValue();
+          /**
+           * Unwrap longitudes so consecutive vertices are never more than 180
+           * degrees apart.
+           */
+          lon[count] = count == 0
+                       ? polygonPoint.getLon().doubleValue()
+                       : lon[count - 1] + normalize(polygonPoint.getLon().doubleValue() - lon[count - 1]);
+          count++;
+        }
+      }
+      if (count > 1 && lat[count - 1] == lat[0] && normalize(lon[count - 1] - lon[0]) == 0) {
+        /**
+         * Drop the closing point of an explicitly closed ring.
+         */
+        count--;
+      }
+      if (count < 3) {
+        return null;
+      }
+      double minLat = Double.POSITIVE_INFINITY;
+      double maxLat = Double.NEGATIVE_INFINITY;
+      double minLon = Double.POSITIVE_INFINITY;
+      double maxLon = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < count; i++) {
+        minLat = Math.min(minLat, lat[i]);
+        maxLat = Math.max(maxLat, lat[i]);
+        minLon = Math.min(minLon, lon[i]);
+        maxLon = Math.max(maxLon, lon[i]);
+      }
+      return new Ring((minLat + maxLat) / 2, (minLon + maxLon) / 2, lat, lon, count, GeoBounds.isExcluded(polygon.getExcluded()));
+    }
+
+    private double projectX(double lon) {
+      return normalize(lon - lon0) * kx;
+    }
+
+    private double projectY(double lat) {
+      return (lat - lat0) * GeoBounds.KM_PER_DEGREE;
+    }
+
+    /**
+     * Ray crossing point-in-polygon test.
+     *
+     * @param lat the latitude (decimal degrees)
+     * @param lon the longitude (decimal degrees)
+     * @return TRUE if the coordinate is inside the polygon
+     */
+    private boolean contains(double lat, double lon) {
+      double px = projectX(lon);
+      double py = projectY(lat);
+      if (px < minX || px > maxX || py < minY || py > maxY) {
+        return false;
+      }
+      boolean inside = false;
+      for (int i = 0, j = x.length - 1; i < x.length; j = i++) {
+        if ((y[i] > py) != (y[j] > py)
+            && px < (x[j] - x[i]) * (py - y[i]) / (y[j] - y[i]) + x[i]) {
+          inside = !inside;
+        }
+      }
+      return inside;
+    }
+
+    /**
+     * Get the distance from a coordinate to the polygon.
+     *
+     * @param lat the latitude (decimal degrees)
+     * @param lon the longitude (decimal degrees)
+     * @return the distance (km), zero if inside or on the polygon
+     */
+    private double distance(double lat, double lon) {
+      if (contains(lat, lon)) {
+        return 0;
+      }
+      double px = projectX(lon);
+      double py = projectY(lat);
+      double distance = Double.POSITIVE_INFINITY;
+      for (int i = 0, j = x.length - 1; i < x.length; j = i++) {
+        distance = Math.min(distance, segmentDistance(px, py, x[j], y[j], x[i], y[i]));
+      }
+      return distance;
+    }
+
+    /**
+     * Get the planar distance from a point to a line segment.
+     */
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+      double dx = bx - ax;
+      double dy = by - ay;
+      double length = dx * dx + dy * dy;
+      double t = length > 0 ? ((px - ax) * dx + (py - ay) * dy) / length : 0;
+      t = Math.max(0, Math.min(1, t));
+      double ex = px - (ax + t * dx);
+      double ey = py - (ay + t * dy);
+      return Math.sqrt(ex * ex + ey * ey);
+    }
+  }
+
+  /**
+   * Normalize a longitude difference to the range -180 to +180 degrees.
+   *
+   * @param degrees the longitude difference (decimal degrees)
+   * @return the normalized difference
+   */
+  private static double normalize(double degrees) {
+    double d = degrees % 360;
+    return d > 180 ? d - 360 : d < -180 ? d + 360 : d;
+  }
+}
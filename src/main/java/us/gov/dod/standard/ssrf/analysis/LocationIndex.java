@@ -0,0 +1,712 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.*;
+import us.gov.dod.standard.ssrf._3_1.assignment.Station;
+import us.gov.dod.standard.ssrf._3_1.assignment.StationLoc;
+import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.location.Polygon;
+import us.gov.dod.standard.ssrf._3_1.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+/**
+ * Spatial index over the Location geometries of an SSRF message and the
+ * datasets that reference them.
+ * <p>
+ * The index holds one entry per included {@link Point}, {@link Polygon} and
+ * {@link Ellipse} shape, identified by the shape, the Location containing it,
+ * the dataset that owns or references the Location and, for station
+ * locations, the referencing {@link StationLoc}. The following are indexed:
+ * <ul>
+ * <li>Location: Point, Polygon and Ellipse</li>
+ * <li>Assignment: Station/StationLoc location (points extended by the
+ * LocationRadius) and service volume (points extended by the
+ * ServiceVolumeRadius)</li>
+ * <li>Allotment, FEDeployment and RadiationPlan: referenced Locations</li>
+ * </ul>
+ * Referenced Locations within a Location are included. Shapes marked as
+ * excluded are not indexed.
+ * <p>
+ * Points and ellipses are indexed as circles (a point extended by a radius, an
+ * ellipse by its semi-major axis) and measured by great circle distance to the
+ * circle; polygons are measured to their bounding box. Entries are held in a
+ * packed R-tree built with the sort-tile-recursive (STR) algorithm over
+ * primitive bounding box arrays. Radius and bounding box queries run in
+ * O(log n + k) time; k-nearest queries search the tree best-first.
+ * <p>
+ * The index records the coordinates at the time it is built and is immutable;
+ * it may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class LocationIndex {
+
+  /**
+   * The maximum number of children of each tree node.
+   */
+  private static final int NODE_SIZE = 16;
+
+  /**
+   * The indexed entries, in tree leaf order.
+   */
+  private final Entry[] entries;
+  /**
+   * The tree node bounding boxes: four values (minLat, maxLat, minLon,
+   * maxLon) per node, leaves first and the root last.
+   */
+  private final double[] boxes;
+  /**
+   * The first node of each tree level, leaves (level 0) first, followed by the
+   * total number of nodes.
+   */
+  private final int[] levels;
+
+  /**
+   * Construct a new location index.
+   *
+   * @param entries the entries to index
+   */
+  public LocationIndex(Collection<Entry> entries) {
+    this.entries = entries.toArray(new Entry[entries.size()]);
+    sortTileRecursive(this.entries);
+    /**
+     * Count the nodes of each level.
+     */
+    List<Integer> starts = new ArrayList<>();
+    int total = 0;
+    int count = this.entries.length;
+    while (count > 0) {
+      starts.add(total);
+      total += count;
+      count = count > 1 ? (count + NODE_SIZE - 1) / NODE_SIZE : 0;
+    }
+    this.levels = new int[starts.size() + 1];
+    for (int i = 0; i < starts.size(); i++) {
+      levels[i] = starts.get(i);
+    }
+    levels[starts.size()] = total;
+    /**
+     * Fill the leaf boxes, then each parent box from its children.
+     */
+    this.boxes = new double[total * 4];
+    for (int i = 0; i < this.entries.length; i++) {
+      GeoBounds bounds = this.entries[i].bounds;
+      boxes[4 * i] = bounds.getMinLat();
+      boxes[4 * i + 1] = bounds.getMaxLat();
+      boxes[4 * i + 2] = bounds.getMinLon();
+      boxes[4 * i + 3] = bounds.getMaxLon();
+    }
+    for (int level = 1; level < levels.length - 1; level++) {
+      for (int node = levels[level]; node < levels[level + 1]; node++) {
+        int first = firstChild(level, node);
+        int last = lastChild(level, node);
+        boxes[4 * node] = Double.POSITIVE_INFINITY;
+        boxes[4 * node + 1] = Double.NEGATIVE_INFINITY;
+        boxes[4 * node + 2] = Double.POSITIVE_INFINITY;
+        boxes[4 * node + 3] = Double.NEGATIVE_INFINITY;
+        for (int child = first; child < last; child++) {
+          boxes[4 * node] = Math.min(boxes[4 * node], boxes[4 * child]);
+          boxes[4 * node + 1] = Math.max(boxes[4 * node + 1], boxes[4 * child + 1]);
+          boxes[4 * node + 2] = Math.min(boxes[4 * node + 2], boxes[4 * child + 2]);
+          boxes[4 * node + 3] = Math.max(boxes[4 * node + 3], boxes[4 * child + 3]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Build a location index over all the datasets in an SSRF message.
+   *
+   * @param ssrf the SSRF message
+   * @return a new location index
+   */
+  public static LocationIndex getInstance(SSRF ssrf) {
+    Map<Serial, Location> locations = new HashMap<>();
+    for (Location location : ssrf.getLocation()) {
+      locations.put(location.getSerial(), location);
+    }
+    List<Entry> list = new ArrayList<>();
+    for (Location location : ssrf.getLocation()) {
+      list.addAll(extract(location));
+    }
+    for (Assignment assignment : ssrf.getAssignment()) {
+      list.addAll(extract(assignment, locations));
+    }
+    for (Allotment allotment : ssrf.getAllotment()) {
+      if (allotment.isSetLocation()) {
+        for (Location location : allotment.getLocation()) {
+          extract(location, allotment, null, 0, new IdentityHashMap<Location, Boolean>(), list);
+        }
+      }
+    }
+    for (FEDeployment feDeployment : ssrf.getFEDeployment()) {
+      if (feDeployment.isSetLocation()) {
+        extract(feDeployment.getLocation(), feDeployment, null, 0, new IdentityHashMap<Location, Boolean>(), list);
+      }
+    }
+    for (RadiationPlan radiationPlan : ssrf.getRadiationPlan()) {
+      if (radiationPlan.isSetLocation()) {
+        extract(radiationPlan.getLocation(), radiationPlan, null, 0, new IdentityHashMap<Location, Boolean>(), list);
+      }
+    }
+    return new LocationIndex(list);
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Entry extraction">
+  /**
+   * Extract the included shapes of a Location dataset.
+   *
+   * @param location the location
+   * @return the location entries, owned by the location
+   */
+  public static List<Entry> extract(Location location) {
+    List<Entry> list = new ArrayList<>();
+    extract(location, location, null, 0, new IdentityHashMap<Location, Boolean>(), list);
+    return list;
+  }
+
+  /**
+   * Extract the station locations and service volumes of an Assignment.
+   * Excluded station locations and locations that cannot be resolved are
+   * ignored.
+   *
+   * @param assignment the assignment
+   * @param locations  the locations used to resolve service volume references,
+   *                   indexed by serial
+   * @return the assignment entries, owned by the assignment
+   */
+  public static List<Entry> extract(Assignment assignment, Map<Serial, Location> locations) {
+    List<Entry> list = new ArrayList<>();
+    if (!assignment.isSetStation()) {
+      return list;
+    }
+    for (Station station : assignment.getStation()) {
+      if (!station.isSetStationLoc()) {
+        continue;
+      }
+      for (StationLoc stationLoc : station.getStationLoc()) {
+        if (!GeoBounds.isExcluded(stationLoc.getLocationExcluded()) && stationLoc.getLocSat() instanceof Location) {
+          double radius = stationLoc.isSetLocationRadius() ? stationLoc.getLocationRadius().doubleValue() : 0;
+          extract((Location) stationLoc.getLocSat(), assignment, stationLoc, radius, new IdentityHashMap<Location, Boolean>(), list);
+        }
+        if (stationLoc.isSetServiceVolumeLocRef()) {
+          double radius = stationLoc.isSetServiceVolumeRadius() ? stationLoc.getServiceVolumeRadius().doubleValue() : 0;
+          extract(locations.get(stationLoc.getServiceVolumeLocRef()), assignment, stationLoc, radius, new IdentityHashMap<Location, Boolean>(), list);
+        }
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Recursive method to extract the included shapes of a location and its
+   * referenced locations.
+   *
+   * @param location the location, may be null
+   * @param owner    the dataset that owns or references the location
+   * @param element  the referencing data item, may be null
+   * @param radius   the radius (km) applied to points
+   * @param visited  the locations already visited (to stop reference cycles)
+   * @param entries  the extracted entries
+   */
+  private static void extract(Location location, Common<?> owner, Object element, double radius, Map<Location, Boolean> visited, List<Entry> entries) {
+    if (location == null || visited.put(location, Boolean.TRUE) != null) {
+      return;
+    }
+    if (location.isSetPoint()) {
+      for (Point point : location.getPoint()) {
+        if (!GeoBounds.isExcluded(point.getExcluded()) && point.isSetLat() && point.isSetLon()) {
+          entries.add(new Entry(point.getLat().doubleValue(), point.getLon().doubleValue(), radius,
+                                location, point, owner, element));
+        }
+      }
+    }
+    if (location.isSetPolygon()) {
+      for (Polygon polygon : location.getPolygon()) {
+        if (GeoBounds.isExcluded(polygon.getExcluded()) || !polygon.isSetPolygonPoint()) {
+          continue;
+        }
+        GeoBounds bounds = null;
+        for (PolygonPoint polygonPoint : polygon.getPolygonPoint()) {
+          if (polygonPoint.isSetLat() && polygonPoint.isSetLon()) {
+            bounds = GeoBounds.union(bounds, GeoBounds.getInstance(polygonPoint.getLat().doubleValue(),
+                                                                   polygonPoint.getLon().doubleValue()));
+          }
+        }
+        if (bounds != null) {
+          entries.add(new Entry(bounds, location, polygon, owner, element));
+        }
+      }
+    }
+    if (location.isSetEllipse()) {
+      for (Ellipse ellipse : location.getEllipse()) {
+        if (!GeoBounds.isExcluded(ellipse.getExcluded()) && ellipse.isSetLat() && ellipse.isSetLon()) {
+          entries.add(new Entry(ellipse.getLat().doubleValue(), ellipse.getLon().doubleValue(),
+                                ellipse.isSetSemiMajorAxis() ? ellipse.getSemiMajorAxis().doubleValue() : 0,
+                                location, ellipse, owner, element));
+        }
+      }
+    }
+    if (location.isSetLocation()) {
+      for (Location reference : location.getLocation()) {
+        extract(reference, owner, element, radius, visited, entries);
+      }
+    }
+  }
+
+  /**
+   * Build a circle entry that is not extracted from a Location; for example
+   * the coverage circle of a station computed by an analysis engine.
+   *
+   * @param lat     the center latitude (decimal degrees)
+   * @param lon     the center longitude (decimal degrees)
+   * @param radius  the radius (km)
+   * @param owner   the dataset that owns the circle
+   * @param element the data item described by the circle, may be null
+   * @return a new entry having no Location or shape
+   */
+  static Entry circle(double lat, double lon, double radius, Common<?> owner, Object element) {
+    return new Entry(lat, lon, radius, null, null, owner, element);
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Index queries">
+  /**
+   * Get the number of indexed entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return entries.length;
+  }
+
+  /**
+   * Determine if the index is empty.
+   *
+   * @return TRUE if the index has no entries
+   */
+  public boolean isEmpty() {
+    return entries.length == 0;
+  }
+
+  /**
+   * Find the entries within a distance of a coordinate.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @param km  the distance (km)
+   * @return the entries within the distance, in no particular order
+   */
+  public List<Entry> findWithin(double lat, double lon, double km) {
+    List<Entry> found = new ArrayList<>();
+    if (entries.length > 0) {
+      findWithin(levels.length - 2, levels[levels.length - 2], lat, lon, km, found);
+    }
+    return found;
+  }
+
+  /**
+   * Find the entries whose bounding box intersects a bounding box.
+   *
+   * @param bounds the bounding box
+   * @return the intersecting entries, in no particular order
+   */
+  public List<Entry> findIntersecting(GeoBounds bounds) {
+    List<Entry> found = new ArrayList<>();
+    if (entries.length > 0) {
+      findIntersecting(levels.length - 2, levels[levels.length - 2], bounds, found);
+    }
+    return found;
+  }
+
+  /**
+   * Find the entries nearest a coordinate.
+   *
+   * @param lat   the latitude (decimal degrees)
+   * @param lon   the longitude (decimal degrees)
+   * @param count the maximum number of entries to return
+   * @return the nearest entries in ascending order of distance
+   */
+  public List<Entry> findNearest(double lat, double lon, int count) {
+    List<Entry> found = new ArrayList<>(Math.min(count, entries.length));
+    if (entries.length == 0 || count <= 0) {
+      return found;
+    }
+    PriorityQueue<Candidate> queue = new PriorityQueue<>();
+    int root = levels.length - 2;
+    queue.add(new Candidate(nodeDistance(levels[root], lat, lon), root, levels[root]));
+    while (!queue.isEmpty() && found.size() < count) {
+      Candidate candidate = queue.poll();
+      if (candidate.level < 0) {
+        found.add(entries[candidate.node]);
+        continue;
+      }
+      if (candidate.level == 0) {
+        queue.add(new Candidate(entries[candidate.node].distance(lat, lon), -1, candidate.node));
+        continue;
+      }
+      for (int child = firstChild(candidate.level, candidate.node); child < lastChild(candidate.level, candidate.node); child++) {
+        queue.add(new Candidate(nodeDistance(child, lat, lon), candidate.level - 1, child));
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Find the Locations having a shape within a distance of a coordinate.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @param km  the distance (km)
+   * @return the matching locations
+   */
+  public Set<Location> findLocations(double lat, double lon, double km) {
+    Set<Location> locations = new LinkedHashSet<>();
+    for (Entry entry : findWithin(lat, lon, km)) {
+      locations.add(entry.location);
+    }
+    return locations;
+  }
+
+  /**
+   * Find the datasets owning or referencing a location within a distance of a
+   * coordinate.
+   *
+   * @param lat the latitude (decimal degrees)
+   * @param lon the longitude (decimal degrees)
+   * @param km  the distance (km)
+   * @return the matching datasets
+   */
+  public Set<Common<?>> findOwners(double lat, double lon, double km) {
+    Set<Common<?>> datasets = new LinkedHashSet<>();
+    for (Entry entry : findWithin(lat, lon, km)) {
+      datasets.add(entry.owner);
+    }
+    return datasets;
+  }
+
+  /**
+   * Find the datasets of a given type owning or referencing a location within
+   * a distance of a coordinate.
+   *
+   * @param <T>   the dataset type
+   * @param lat   the latitude (decimal degrees)
+   * @param lon   the longitude (decimal degrees)
+   * @param km    the distance (km)
+   * @param clazz the dataset class
+   * @return the matching datasets
+   */
+  public <T extends Common<?>> Set<T> findOwners(double lat, double lon, double km, Class<T> clazz) {
+    Set<T> datasets = new LinkedHashSet<>();
+    for (Entry entry : findWithin(lat, lon, km)) {
+      if (clazz.isInstance(entry.owner)) {
+        datasets.add(clazz.cast(entry.owner));
+      }
+    }
+    return datasets;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="R-tree">
+  /**
+   * Recursive radius search.
+   *
+   * @param level the node level
+   * @param node  the node
+   * @param lat   the latitude (decimal degrees)
+   * @param lon   the longitude (decimal degrees)
+   * @param km    the distance (km)
+   * @param found the entries found
+   */
+  private void findWithin(int level, int node, double lat, double lon, double km, List<Entry> found) {
+    if (nodeDistance(node, lat, lon) > km) {
+      return;
+    }
+    if (level == 0) {
+      if (entries[node].distance(lat, lon) <= km) {
+        found.add(entries[node]);
+      }
+      return;
+    }
+    for (int child = firstChild(level, node); child < lastChild(level, node); child++) {
+      findWithin(level - 1, child, lat, lon, km, found);
+    }
+  }
+
+  /**
+   * Recursive bounding box search.
+   *
+   * @param level  the node level
+   * @param node   the node
+   * @param bounds the bounding box
+   * @param found  the entries found
+   */
+  private void findIntersecting(int level, int node, GeoBounds bounds, List<Entry> found) {
+    if (boxes[4 * node] > bounds.getMaxLat() || boxes[4 * node + 1] < bounds.getMinLat()
+        || !GeoBounds.overlaps(boxes[4 * node + 2], boxes[4 * node + 3], bounds.getMinLon(), bounds.getMaxLon())) {
+      return;
+    }
+    if (level == 0) {
+      found.add(entries[node]);
+      return;
+    }
+    for (int child = firstChild(level, node); child < lastChild(level, node); child++) {
+      findIntersecting(level - 1, child, bounds, found);
+    }
+  }
+
+  /**
+   * Get the distance from a coordinate to a node bounding box.
+   *
+   * @param node the node
+   * @param lat  the latitude (decimal degrees)
+   * @param lon  the longitude (decimal degrees)
+   * @return the distance (km)
+   */
+  private double nodeDistance(int node, double lat, double lon) {
+    return GeoBounds.distance(lat, lon, boxes[4 * node], boxes[4 * node + 1], boxes[4 * node + 2], boxes[4 * node + 3]);
+  }
+
+  /**
+   * Get the first child of a node.
+   *
+   * @param level the node level (1 or more)
+   * @param node  the node
+   * @return the first child node
+   */
+  private int firstChild(int level, int node) {
+    return levels[level - 1] + (node - levels[level]) * NODE_SIZE;
+  }
+
+  /**
+   * Get the end (exclusive) of the children of a node.
+   *
+   * @param level the node level (1 or more)
+   * @param node  the node
+   * @return the last child node plus one
+   */
+  private int lastChild(int level, int node) {
+    return Math.min(firstChild(level, node) + NODE_SIZE, levels[level]);
+  }
+
+  /**
+   * Sort entries into sort-tile-recursive order: vertical slices by
+   * longitude, each sorted by latitude, so that each run of NODE_SIZE entries
+   * forms a compact leaf node.
+   *
+   * @param entries the entries to sort
+   */
+  private static void sortTileRecursive(Entry[] entries) {
+    Arrays.sort(entries, new Comparator<Entry>() {
+
+      @Override
+      public int compare(Entry o1, Entry o2) {
+        return Double.compare(o1.centerLon(), o2.centerLon());
+      }
+    });
+    int leaves = (entries.length + NODE_SIZE - 1) / NODE_SIZE;
+    int sliceSize = NODE_SIZE * (int) Math.ceil(Math.sqrt(leaves));
+    for (int from = 0; from < entries.length; from += sliceSize) {
+      Arrays.sort(entries, from, Math.min(from + sliceSize, entries.length), new Comparator<Entry>() {
+
+        @Override
+        public int compare(Entry o1, Entry o2) {
+          return Double.compare(o1.centerLat(), o2.centerLat());
+        }
+      });
+    }
+  }
+
+  /**
+   * A k-nearest search queue item: a tree node (level 0 or more) or an entry
+   * (level -1) and its distance.
+   */
+  private static final class Candidate implements Comparable<Candidate> {
+
+    private final double distance;
+    private final int level;
+    private final int node;
+
+    private Candidate(double distance, int level, int node) {
+      this.distance = distance;
+      this.level = level;
+      this.node = node;
+    }
+
+    @Override
+    public int compareTo(Candidate o) {
+      int compare = Double.compare(distance, o.distance);
+      return compare != 0 ? compare : Integer.compare(level, o.level);
+    }
+  }//</editor-fold>
+
+  /**
+   * A location index entry: one Location shape, the dataset that owns or
+   * references it and, where applicable, the referencing data item.
+   */
+  public static final class Entry {
+
+    /**
+     * The entry bounding box.
+     */
+    private final GeoBounds bounds;
+    /**
+     * The circle center latitude (decimal degrees), NaN for a polygon.
+     */
+    private final double lat;
+    /**
+     * The circle center longitude (decimal degrees), NaN for a polygon.
+     */
+    private final double lon;
+    /**
+     * The circle radius (km).
+     */
+    private final double radius;
+    /**
+     * The Location containing the shape.
+     */
+    private final Location location;
+    /**
+     * The Point, Polygon or Ellipse shape.
+     */
+    private final Object shape;
+    /**
+     * The dataset that owns or references the location.
+     */
+    private final Common<?> owner;
+    /**
+     * The referencing data item (e.g. a StationLoc), NULL if none.
+     */
+    private final Object element;
+
+    /**
+     * Construct a circle entry.
+     */
+    private Entry(double lat, double lon, double radius, Location location, Object shape, Common<?> owner, Object element) {
+      this.bounds = GeoBounds.getInstance(lat, lon).expand(radius);
+      this.lat = lat;
+      this.lon = lon;
+      this.radius = radius;
+      this.location = location;
+      this.shape = shape;
+      this.owner = owner;
+      this.element = element;
+    }
+
+    /**
+     * Construct a bounding box entry.
+     */
+    private Entry(GeoBounds bounds, Location location, Object shape, Common<?> owner, Object element) {
+      this.bounds = bounds;
+      this.lat = Double.NaN;
+      this.lon = Double.NaN;
+      this.radius = 0;
+      this.location = location;
+      this.shape = shape;
+      this.owner = owner;
+      this.element = element;
+    }
+
+    /**
+     * Get the entry bounding box.
+     *
+     * @return the bounding box
+     */
+    public GeoBounds getBounds() {
+      return bounds;
+    }
+
+    /**
+     * Get the Location containing the shape.
+     *
+     * @return the location, NULL for a computed circle
+     */
+    public Location getLocation() {
+      return location;
+    }
+
+    /**
+     * Get the Point, Polygon or Ellipse shape.
+     *
+     * @return the shape, NULL for a computed circle
+     */
+    public Object getShape() {
+      return shape;
+    }
+
+    /**
+     * Get the dataset that owns or references the location.
+     *
+     * @return the dataset
+     */
+    public Common<?> getOwner() {
+      return owner;
+    }
+
+    /**
+     * Get the data item referencing the location (e.g. a StationLoc).
+     *
+     * @return the referencing data item, NULL if none
+     */
+    public Object getElement() {
+      return element;
+    }
+
+    /**
+     * Get the radius applied to a point, or the semi-major axis of an
+     * ellipse.
+     *
+     * @return the radius (km), zero for a polygon
+     */
+    public double getRadius() {
+      return radius;
+    }
+
+    /**
+     * Get the great circle distance from a coordinate to this entry: to the
+     * circle edge for points and ellipses, to the bounding box for polygons.
+     *
+     * @param lat the latitude (decimal degrees)
+     * @param lon the longitude (decimal degrees)
+     * @return the distance (km), zero if the coordinate is inside
+     */
+    public double distance(double lat, double lon) {
+      if (Double.isNaN(this.lat)) {
+        return bounds.distance(lat, lon);
+      }
+      return Math.max(0, GeoBounds.distance(this.lat, this.lon, lat, lon) - radius);
+    }
+
+    private double centerLat() {
+      return (bounds.getMinLat() + bounds.getMaxLat()) / 2;
+    }
+
+    private double centerLon() {
+      return (bounds.getMinLon() + bounds.getMaxLon()) / 2;
+    }
+
+    @Override
+    public String toString() {
+      return "Entry " + bounds + " "
+             + (shape != null ? shape.getClass().getSimpleName() : "")
+             + (owner != null ? " " + owner.getClass().getSimpleName() + " " + owner.getSerial() : "");
+    }
+  }
+}
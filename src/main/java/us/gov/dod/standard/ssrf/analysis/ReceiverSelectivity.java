@@ -0,0 +1,388 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.math.BigInteger;
+import java.util.*;
+import us.gov.dod.standard.ssrf._3_1.Receiver;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCT;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCLO;
+import us.gov.dod.standard.ssrf._3_1.receiver.Curve;
+import us.gov.dod.standard.ssrf._3_1.receiver.CurvePoint;
+import us.gov.dod.standard.ssrf._3_1.receiver.FreqConversion;
+import us.gov.dod.standard.ssrf._3_1.receiver.RxMode;
+
+/**
+ * Compiled selectivity of a receiver mode: the attenuation of a signal as a
+ * function of its offset from the tuned frequency.
+ * <p>
+ * The selectivity curve is held as sorted primitive offset and attenuation
+ * arrays and is interpolated linearly in dB, holding the end values beyond
+ * the curve. Curve levels are read as rejection magnitudes, so curves entered
+ * as positive (dB above sensitivity) or negative (dB relative to the passband)
+ * values compile identically. A curve with only non-negative offsets is
+ * symmetric and is mirrored about the tuned frequency.
+ * <p>
+ * On top of the curve the first conversion stage image response is modeled
+ * at twice the IF from the tuned frequency, attenuated by the RxMode
+ * ImageRejection, and the total attenuation is limited to the RxMode
+ * SpuriousRejection where given.
+ * <p>
+ * A compiled selectivity is immutable and may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class ReceiverSelectivity {
+
+  /**
+   * The selectivity curve types read as cascaded filter stages when a
+   * receiver has no overall selectivity curve.
+   */
+  private static final EnumSet<ListCCT> STAGES = EnumSet.of(ListCCT.SELECTIVITY_RF,
+                                                            ListCCT.SELECTIVITY_IF_1,
+                                                            ListCCT.SELECTIVITY_IF_2,
+                                                            ListCCT.SELECTIVITY_IF_3,
+                                                            ListCCT.SELECTIVITY_IF_4,
+                                                            ListCCT.SELECTIVITY_IF_5,
+                                                            ListCCT.FILTER);
+
+  /**
+   * The curve offsets from the tuned frequency (MHz), ascending.
+   */
+  private final double[] offset;
+  /**
+   * The curve attenuation at each offset (dB).
+   */
+  private final double[] attenuation;
+  /**
+   * The image frequency offsets from the tuned frequency (MHz). Empty if the
+   * image response is not modeled.
+   */
+  private final double[] imageOffset;
+  /**
+   * The image rejection (dB).
+   */
+  private final double imageRejection;
+  /**
+   * The largest attenuation of any signal (dB), the spurious response
+   * rejection. Positive infinity if not limited.
+   */
+  private final double spuriousRejection;
+
+  /**
+   * Construct a new receiver selectivity from a curve.
+   *
+   * @param offset            the curve offsets from the tuned frequency (MHz),
+   *                          ascending
+   * @param attenuation       the attenuation at each offset (dB)
+   * @param imageOffset       the image frequency offsets from the tuned
+   *                          frequency (MHz), may be empty
+   * @param imageRejection    the image rejection (dB)
+   * @param spuriousRejection the spurious response rejection (dB), positive
+   *                          infinity if not limited
+   */
+  public ReceiverSelectivity(double[] offset, double[] attenuation, double[] imageOffset, double imageRejection, double spuriousRejection) {
+    if (offset.length == 0 || offset.length != attenuation.length) {
+      throw new IllegalArgumentException("A selectivity curve requires one attenuation per offset.");
+    }
+    for (int i = 1; i < offset.length; i++) {
+      if (offset[i] < offset[i - 1]) {
+        throw new IllegalArgumentException("Selectivity curve offsets must be ascending.");
+      }
+    }
+    this.offset = offset.clone();
+    this.attenuation = attenuation.clone();
+    this.imageOffset = imageOffset.clone();
+    this.imageRejection = imageRejection;
+    this.spuriousRejection = spuriousRejection;
+  }
+
+  /**
+   * Compile the selectivity of a receiver mode.
+   * <p>
+   * The curves considered are the receiver Curves referenced by the RxMode
+   * curves attribute, or all receiver Curves if the mode references none. A
+   * Selectivity-Overall curve is used alone; otherwise the RF, IF and Filter
+   * selectivity curves are cascaded by adding their attenuation. If the
+   * receiver has no selectivity curve one is built from the RxMode: flat
+   * across the NecessaryBw and attenuated by the AdjacentChannelSelectivity
+   * one bandwidth from the tuned frequency. A mode with neither a curve nor
+   * a bandwidth has no selectivity, which is the conservative assumption for
+   * interference analysis.
+   *
+   * @param receiver the receiver, may be null if the mode has no curves
+   * @param rxMode   the receiver mode
+   * @return the compiled receiver selectivity
+   */
+  public static ReceiverSelectivity getInstance(Receiver receiver, RxMode rxMode) {
+    List<Curve> overall = new ArrayList<>();
+    List<Curve> stages = new ArrayList<>();
+    if (receiver != null && receiver.isSetCurve()) {
+      Set<BigInteger> references = rxMode.isSetCurves() ? rxMode.getCurves() : null;
+      for (Curve curve : receiver.getCurve()) {
+        if (!curve.isSetCurvePoint() || !curve.isSetType()
+            || (references != null && !references.contains(curve.getIdx()))) {
+          continue;
+        }
+        ListCCT type;
+        try {
+          type = ListCCT.fromValue(curve.getType().getValue());
+        } catch (IllegalArgumentException ex) {
+          continue;
+        }
+        if (ListCCT.SELECTIVITY_OVERALL.equals(type)) {
+          overall.add(curve);
+        } else if (STAGES.contains(type)) {
+          stages.add(curve);
+        }
+      }
+    }
+    /**
+     * Compile the curve, in order of preference: the overall selectivity,
+     * the cascaded stage selectivity, or the RxMode bandwidth and ACS.
+     */
+    double[][] curve = null;
+    if (!overall.isEmpty()) {
+      curve = compile(overall.get(0));
+    } else {
+      for (Curve stage : stages) {
+        double[][] compiled = compile(stage);
+        if (compiled != null) {
+          curve = curve == null ? compiled : cascade(curve, compiled);
+        }
+      }
+    }
+    if (curve == null) {
+      double halfBw = rxMode.isSetNecessaryBw() ? rxMode.getNecessaryBw().doubleValue() / 2 : 0;
+      if (halfBw > 0 && rxMode.isSetAdjacentChannelSelectivity()) {
+        double acs = Math.abs(rxMode.getAdjacentChannelSelectivity().doubleValue());
+        curve = new double[][]{{-2 * halfBw, -halfBw, halfBw, 2 * halfBw}, {acs, 0, 0, acs}};
+      } else {
+        curve = new double[][]{{0}, {0}};
+      }
+    }
+    /**
+     * The image response of the first (lowest numbered) conversion stage.
+     */
+    double[] imageOffset = new double[0];
+    double imageRejection = Double.POSITIVE_INFINITY;
+    if (rxMode.isSetImageRejection() && rxMode.isSetFreqConversion()) {
+      FreqConversion first = null;
+      for (FreqConversion freqConversion : rxMode.getFreqConversion()) {
+        if (freqConversion.isSetIFMin()
+            && (first == null || stage(freqConversion) < stage(first))) {
+          first = freqConversion;
+        }
+      }
+      if (first != null) {
+        double image = 2 * first.getIFMin().doubleValue();
+        String tuning = first.isSetOscillatorTuning() ? first.getOscillatorTuning().getValue() : null;
+        if (ListCLO.LO_ABOVE_RF.value().equals(tuning)) {
+          imageOffset = new double[]{image};
+        } else if (ListCLO.LO_BELOW_RF.value().equals(tuning)) {
+          imageOffset = new double[]{-image};
+        } else {
+          imageOffset = new double[]{-image, image};
+        }
+        imageRejection = rxMode.getImageRejection().doubleValue();
+      }
+    }
+    return new ReceiverSelectivity(curve[0], curve[1], imageOffset, imageRejection,
+                                   rxMode.isSetSpuriousRejection()
+                                   ? rxMode.getSpuriousRejection().doubleValue()
+                                   : Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Get the conversion stage number of a frequency conversion.
+   */
+  private static int stage(FreqConversion freqConversion) {
+    return freqConversion.isSetStageNum() ? freqConversion.getStageNum().getValue() : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Compile a Curve into sorted offset and attenuation arrays. Where two
+   * points share an offset the larger attenuation is kept. A curve with no
+   * negative offset is mirrored and given zero attenuation at the tuned
+   * frequency if it has no point there.
+   *
+   * @param curve the curve
+   * @return the offsets and attenuations, NULL if the curve has no point
+   *         with both an offset and a level
+   */
+  private static double[][] compile(Curve curve) {
+    TreeMap<Double, Double> points = new TreeMap<>();
+    for (CurvePoint curvePoint : curve.getCurvePoint()) {
+      if (curvePoint.isSetOffset() && curvePoint.isSetLevel()) {
+        put(points, curvePoint.getOffset().doubleValue(), Math.abs(curvePoint.getLevel().doubleValue()));
+      }
+    }
+    if (points.isEmpty()) {
+      return null;
+    }
+    if (points.firstKey() >= 0) {
+      if (!points.containsKey(0d)) {
+        points.put(0d, 0d);
+      }
+      for (Map.Entry<Double, Double> entry : new ArrayList<>(points.entrySet())) {
+        put(points, -entry.getKey(), entry.getValue());
+      }
+    }
+    double[][] compiled = new double[2][points.size()];
+    int i = 0;
+    for (Map.Entry<Double, Double> entry : points.entrySet()) {
+      compiled[0][i] = entry.getKey();
+      compiled[1][i] = entry.getValue();
+      i++;
+    }
+    return compiled;
+  }
+
+  /**
+   * Put a curve point, keeping the larger attenuation of a shared offset.
+   * Negative zero is stored as zero.
+   */
+  private static void put(TreeMap<Double, Double> points, double offset, double attenuation) {
+    Double key = offset + 0.0;
+    Double existing = points.get(key);
+    if (existing == null || existing < attenuation) {
+      points.put(key, attenuation);
+    }
+  }
+
+  /**
+   * Cascade two compiled curves: the attenuation at every offset of either
+   * curve is the sum of the two curve attenuations.
+   *
+   * @param a the first curve
+   * @param b the second curve
+   * @return the cascaded curve
+   */
+  private static double[][] cascade(double[][] a, double[][] b) {
+    TreeSet<Double> offsets = new TreeSet<>();
+    for (double o : a[0]) {
+      offsets.add(o);
+    }
+    for (double o : b[0]) {
+      offsets.add(o);
+    }
+    double[][] cascaded = new double[2][offsets.size()];
+    int i = 0;
+    for (Double o : offsets) {
+      cascaded[0][i] = o;
+      cascaded[1][i] = interpolate(a[0], a[1], o) + interpolate(b[0], b[1], o);
+      i++;
+    }
+    return cascaded;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Attenuation">
+  /**
+   * Get the attenuation of a signal at an offset from the tuned frequency:
+   * the smaller of the main and image responses, limited to the spurious
+   * rejection. This method does not allocate.
+   *
+   * @param offset the signal frequency minus the tuned frequency (MHz)
+   * @return the attenuation (dB)
+   */
+  public double attenuation(double offset) {
+    double a = interpolate(this.offset, this.attenuation, offset);
+    for (double image : imageOffset) {
+      a = Math.min(a, imageRejection + interpolate(this.offset, this.attenuation, offset - image));
+    }
+    return Math.min(a, spuriousRejection);
+  }
+
+  /**
+   * Get the attenuation of a set of signal offsets.
+   *
+   * @param offsets the signal frequencies minus the tuned frequency (MHz)
+   * @param result  the array to receive the attenuations (dB), at least as
+   *                long as the offset array
+   */
+  public void attenuation(double[] offsets, double[] result) {
+    for (int i = 0; i < offsets.length; i++) {
+      result[i] = attenuation(offsets[i]);
+    }
+  }
+
+  /**
+   * Linear interpolation of a sorted curve, holding the end values.
+   *
+   * @param x the ascending abscissae
+   * @param y the ordinates
+   * @param v the abscissa to interpolate
+   * @return the interpolated ordinate
+   */
+  static double interpolate(double[] x, double[] y, double v) {
+    int n = x.length;
+    if (v <= x[0]) {
+      return y[0];
+    }
+    if (v >= x[n - 1]) {
+      return y[n - 1];
+    }
+    int low = 0;
+    int high = n - 1;
+    while (high - low > 1) {
+      int mid = (low + high) >>> 1;
+      if (x[mid] <= v) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+    double span = x[high] - x[low];
+    return span > 0 ? y[low] + (y[high] - y[low]) * (v - x[low]) / span : y[low];
+  }
+
+  /**
+   * Get the selectivity curve offsets.
+   *
+   * @return a copy of the offsets from the tuned frequency (MHz), ascending
+   */
+  public double[] getOffsets() {
+    return offset.clone();
+  }
+
+  /**
+   * Get the selectivity curve attenuations.
+   *
+   * @return a copy of the attenuation at each offset (dB)
+   */
+  public double[] getAttenuations() {
+    return attenuation.clone();
+  }
+
+  /**
+   * Get the spurious response rejection.
+   *
+   * @return the largest attenuation of any signal (dB), positive infinity if
+   *         not limited
+   */
+  public double getSpuriousRejection() {
+    return spuriousRejection;
+  }//</editor-fold>
+
+  @Override
+  public String toString() {
+    return "ReceiverSelectivity [" + offset.length + " points"
+           + (imageOffset.length > 0 ? ", image " + Arrays.toString(imageOffset) + " MHz at " + imageRejection + " dB" : "")
+           + (spuriousRejection < Double.POSITIVE_INFINITY ? ", spurious " + spuriousRejection + " dB" : "") + "]";
+  }
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.JRFL;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
+
+/**
+ * Compiled recurring schedule of an SSRF dataset or data item.
+ * <p>
+ * The SSRF schedule data items (Seconds, Minutes, Hours, DaysOfMonth, Months,
+ * DaysOfWeek, Years and Duration) describe a recurring event in the manner of
+ * a UNIX cron table. Each field is a comma separated list of values (e.g.
+ * "5,6,9"), ranges (e.g. "5-8"), stepped ranges (e.g. "3-12/3") and steps
+ * (e.g. "star/2", written with an asterisk). All times are UTC. The fields are
+ * compiled into bit masks when the schedule is built and are interpreted as
+ * follows:
+ * <ul>
+ * <li>Without a Duration the schedule is active at every second matching all
+ * the set fields; an unset field matches any value. For example Hours "9-17"
+ * is active from 09:00:00Z to 17:59:59Z every day.</li>
+ * <li>With a Duration an event starts at every second matching all the set
+ * fields and lasts Duration minutes. Unset time of day fields finer than the
+ * finest set time of day field are zero (e.g. Minutes "star/10" starts events
+ * at second 0); if no time of day field is set events start at
+ * midnight.</li>
+ * <li>As in cron, when both DaysOfMonth and DaysOfWeek are set a day matches
+ * if either matches. Day of week 0 and 7 are Sunday.</li>
+ * </ul>
+ * Values outside a field range are ignored, and a field having no valid value
+ * is treated as unset, so that malformed data never hides an activity. Times
+ * before 1900 are treated as 1900-01-01T00:00:00Z.
+ * <p>
+ * A schedule is immutable and may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public final class Schedule {
+
+  /**
+   * Long.MAX_VALUE. The time returned when a schedule is never active.
+   */
+  public static final long NEVER = Long.MAX_VALUE;
+
+  private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+  /**
+   * The first and last year of the Years data item [1900..2100].
+   */
+  private static final int MIN_YEAR = 1900;
+  private static final int MAX_YEAR = 2100;
+  /**
+   * 1900-01-01T00:00:00Z in epoch milliseconds.
+   */
+  private static final long MIN_TIME = -2208988800000L;
+  /**
+   * The longest search for an event start: one Gregorian cycle (400 years,
+   * which is also a whole number of weeks) plus one day.
+   */
+  private static final long SEARCH_PERIOD = 146098L * 86400000L;
+  /**
+   * The number of days in each month, February included as a leap year.
+   */
+  private static final int[] MONTH_DAYS = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+  /**
+   * The maximum number of alternations when intersecting two schedules.
+   */
+  private static final int MAX_ALTERNATIONS = 1024;
+
+  /**
+   * The bit masks of the matching seconds [0-59], minutes [0-59], hours
+   * [0-23], days of month [1-31], months [1-12] and days of week [0-6, Sunday
+   * is 0].
+   */
+  private final long seconds;
+  private final long minutes;
+  private final long hours;
+  private final long daysOfMonth;
+  private final long months;
+  private final long daysOfWeek;
+  /**
+   * The matching years [1900-2100], indexed by year. NULL if every year
+   * matches.
+   */
+  private final BitSet years;
+  /**
+   * TRUE if the days of month and days of week are set.
+   */
+  private final boolean daysOfMonthSet;
+  private final boolean daysOfWeekSet;
+  /**
+   * Another schedule whose days must also match. NULL if none.
+   */
+  private final Schedule dayFilter;
+  /**
+   * The event duration (milliseconds). One second if no Duration is set.
+   */
+  private final long duration;
+  /**
+   * FALSE if no month has a matching day (e.g. DaysOfMonth "30" in February).
+   */
+  private final boolean satisfiable;
+
+  /**
+   * Construct a new schedule. At least one field must be set.
+   */
+  private Schedule(MinSec seconds, MinSec minutes, Hours hours, DaysOfMonth daysOfMonth,
+                   Months months, DaysOfWeek daysOfWeek, Years years, Duration_UN4 duration) {
+    long secondMask = mask(parse(seconds != null ? seconds.getValue() : null, 0, 59));
+    long minuteMask = mask(parse(minutes != null ? minutes.getValue() : null, 0, 59));
+    long hourMask = mask(parse(hours != null ? hours.getValue() : null, 0, 23));
+    long durationMinutes = duration != null && duration.isSetValue() ? duration.getValue().longValue() : 0;
+    if (durationMinutes > 0) {
+      /**
+       * Events start on the first second of the finest set time of day field.
+       */
+      if (hourMask != 0 || minuteMask != 0) {
+        secondMask = secondMask != 0 ? secondMask : 1L;
+      }
+      if (hourMask != 0) {
+        minuteMask = minuteMask != 0 ? minuteMask : 1L;
+      }
+      if (hourMask == 0 && minuteMask == 0 && secondMask == 0) {
+        hourMask = minuteMask = secondMask = 1L;
+      }
+      this.duration = durationMinutes * 60000L;
+    } else {
+      this.duration = 1000L;
+    }
+    this.seconds = secondMask != 0 ? secondMask : range(0, 59);
+    this.minutes = minuteMask != 0 ? minuteMask : range(0, 59);
+    this.hours = hourMask != 0 ? hourMask : range(0, 23);
+    long dayMask = mask(parse(daysOfMonth != null ? daysOfMonth.getValue() : null, 1, 31));
+    this.daysOfMonthSet = dayMask != 0;
+    this.daysOfMonth = daysOfMonthSet ? dayMask : range(1, 31);
+    long monthMask = mask(parse(months != null ? months.getValue() : null, 1, 12));
+    this.months = monthMask != 0 ? monthMask : range(1, 12);
+    long weekMask = mask(parse(daysOfWeek != null ? daysOfWeek.getValue() : null, 0, 7));
+    if ((weekMask & (1L << 7)) != 0) {
+      weekMask = (weekMask | 1L) & ~(1L << 7);
+    }
+    this.daysOfWeekSet = weekMask != 0;
+    this.daysOfWeek = daysOfWeekSet ? weekMask : range(0, 6);
+    BitSet yearBits = parse(years != null ? years.getValue() : null, MIN_YEAR, MAX_YEAR);
+    this.years = yearBits.isEmpty() ? null : yearBits;
+    this.dayFilter = null;
+    /**
+     * A day of month restriction alone may exclude every matching month.
+     */
+    boolean any = daysOfWeekSet || !daysOfMonthSet;
+    for (int month = 1; month <= 12 && !any; month++) {
+      any = (this.months & (1L << month)) != 0 && (this.daysOfMonth & range(1, MONTH_DAYS[month - 1])) != 0;
+    }
+    this.satisfiable = any;
+  }
+
+  /**
+   * Construct the intersection of two schedules having no Duration: the
+   * seconds when both are active.
+   *
+   * @param a a schedule without Duration
+   * @param b another schedule without Duration
+   */
+  private Schedule(Schedule a, Schedule b) {
+    this.seconds = a.seconds & b.seconds;
+    this.minutes = a.minutes & b.minutes;
+    this.hours = a.hours & b.hours;
+    this.daysOfMonth = a.daysOfMonth;
+    this.months = a.months & b.months;
+    this.daysOfWeek = a.daysOfWeek;
+    this.daysOfMonthSet = a.daysOfMonthSet;
+    this.daysOfWeekSet = a.daysOfWeekSet;
+    this.dayFilter = b;
+    if (a.years != null && b.years != null) {
+      this.years = (BitSet) a.years.clone();
+      this.years.and(b.years);
+    } else {
+      this.years = a.years != null ? a.years : b.years;
+    }
+    this.duration = 1000L;
+    this.satisfiable = a.satisfiable && b.satisfiable
+                       && seconds != 0 && minutes != 0 && hours != 0 && months != 0
+                       && (years == null || !years.isEmpty());
+  }
+
+  /**
+   * Build a schedule from the individual schedule data items.
+   *
+   * @param seconds     the seconds, may be null
+   * @param minutes     the minutes, may be null
+   * @param hours       the hours, may be null
+   * @param daysOfMonth the days of month, may be null
+   * @param months      the months, may be null
+   * @param daysOfWeek  the days of week, may be null
+   * @param years       the years, may be null
+   * @param duration    the event duration (minutes), may be null
+   * @return a new schedule, NULL if no schedule field is set (i.e. the
+   *         activity is continuous)
+   */
+  public static Schedule getInstance(MinSec seconds, MinSec minutes, Hours hours, DaysOfMonth daysOfMonth,
+                                     Months months, DaysOfWeek daysOfWeek, Years years, Duration_UN4 duration) {
+    if (!isSet(seconds) && !isSet(minutes) && !isSet(hours) && !isSet(daysOfMonth)
+        && !isSet(months) && !isSet(daysOfWeek) && !isSet(years)) {
+      return null;
+    }
+    return new Schedule(seconds, minutes, hours, daysOfMonth, months, daysOfWeek, years, duration);
+  }
+
+  /**
+   * Build the schedule of a JRFL entry.
+   *
+   * @param jrflEntry the JRFL entry
+   * @return a new schedule, NULL if the entry has no schedule
+   */
+  public static Schedule getInstance(JRFLEntry jrflEntry) {
+    return getInstance(jrflEntry.getSeconds(), jrflEntry.getMinutes(), jrflEntry.getHours(), jrflEntry.getDaysOfMonth(),
+                       jrflEntry.getMonths(), jrflEntry.getDaysOfWeek(), jrflEntry.getYears(), jrflEntry.getDuration());
+  }
+
+  /**
+   * Build the schedule of a JRFL.
+   *
+   * @param jrfl the JRFL
+   * @return a new schedule, NULL if the JRFL has no schedule
+   */
+  public static Schedule getInstance(JRFL jrfl) {
+    return getInstance(jrfl.getSeconds(), jrfl.getMinutes(), jrfl.getHours(), jrfl.getDaysOfMonth(),
+                       jrfl.getMonths(), jrfl.getDaysOfWeek(), jrfl.getYears(), jrfl.getDuration());
+  }
+
+  /**
+   * Build the schedule of an assignment.
+   *
+   * @param assignment the assignment
+   * @return a new schedule, NULL if the assignment has no schedule
+   */
+  public static Schedule getInstance(Assignment assignment) {
+    return getInstance(assignment.getSeconds(), assignment.getMinutes(), assignment.getHours(), assignment.getDaysOfMonth(),
+                       assignment.getMonths(), assignment.getDaysOfWeek(), assignment.getYears(), assignment.getDuration());
+  }
+
+  /**
+   * Determine if the schedule is active at any time within a period.
+   *
+   * @param from the period start (epoch milliseconds, inclusive)
+   * @param to   the period end (epoch milliseconds, inclusive)
+   * @return TRUE if the schedule is active within the period
+   */
+  public boolean isActive(long from, long to) {
+    return nextActive(from, to) != NEVER;
+  }
+
+  /**
+   * Find the first time at or after a given time when the schedule is active.
+   *
+   * @param time  the time (epoch milliseconds)
+   * @param limit the latest time of interest (epoch milliseconds)
+   * @return the first active time, {@link #NEVER} if the schedule is not
+   *         active between the time and the limit
+   */
+  public long nextActive(long time, long limit) {
+    time = Math.max(time, MIN_TIME);
+    if (time > limit) {
+      return NEVER;
+    }
+    /**
+     * Find the first event still running at the time.
+     */
+    long start = nextStart(time - duration + 1, limit);
+    return start == NEVER ? NEVER : Math.max(start, time);
+  }
+
+  /**
+   * Determine if two schedules are both active at some time within a period.
+   * A NULL schedule is always active.
+   * <p>
+   * Schedules without Duration are intersected exactly. Otherwise the first
+   * common active time is found by alternately advancing each schedule to the
+   * next time the other is active; schedules that interleave without
+   * overlapping for more than a thousand alternations are reported as
+   * overlapping.
+   *
+   * @param a    a schedule, may be null
+   * @param b    another schedule, may be null
+   * @param from the period start (epoch milliseconds, inclusive)
+   * @param to   the period end (epoch milliseconds, inclusive)
+   * @return TRUE if both schedules may be active at the same time within the
+   *         period
+   */
+  public static boolean overlaps(Schedule a, Schedule b, long from, long to) {
+    if (from > to) {
+      return false;
+    }
+    if (a == null || b == null) {
+      return a == null ? b == null || b.isActive(from, to) : a.isActive(from, to);
+    }
+    if (a.duration == 1000L && b.duration == 1000L) {
+      return new Schedule(a, b).isActive(from, to);
+    }
+    long time = from;
+    for (int i = 0; i < MAX_ALTERNATIONS; i++) {
+      long timeA = a.nextActive(time, to);
+      if (timeA == NEVER) {
+        return false;
+      }
+      long timeB = b.nextActive(timeA, to);
+      if (timeB == NEVER) {
+        return false;
+      }
+      if (timeB == timeA) {
+        return true;
+      }
+      time = timeB;
+    }
+    return true;
+  }
+
+  /**
+   * Find the first event start at or after a time.
+   *
+   * @param time  the time (epoch milliseconds)
+   * @param limit the latest start of interest (epoch milliseconds)
+   * @return the event start, {@link #NEVER} if none
+   */
+  private long nextStart(long time, long limit) {
+    if (!satisfiable) {
+      return NEVER;
+    }
+    /**
+     * Round up to a whole second.
+     */
+    long remainder = time % 1000;
+    if (remainder != 0) {
+      time += remainder > 0 ? 1000 - remainder : -remainder;
+    }
+    long bound = time > NEVER - SEARCH_PERIOD ? limit : Math.min(limit, time + SEARCH_PERIOD);
+    Calendar calendar = new GregorianCalendar(UTC);
+    calendar.setTimeInMillis(time);
+    while (true) {
+      long millis = calendar.getTimeInMillis();
+      if (millis > bound) {
+        return NEVER;
+      }
+      int year = calendar.get(Calendar.YEAR);
+      int month = calendar.get(Calendar.MONTH);
+      int day = calendar.get(Calendar.DAY_OF_MONTH);
+      int hour = calendar.get(Calendar.HOUR_OF_DAY);
+      int minute = calendar.get(Calendar.MINUTE);
+      if (years != null && (year > MAX_YEAR || !years.get(year))) {
+        if (year >= years.length() - 1) {
+          return NEVER;
+        }
+        calendar.set(year + 1, Calendar.JANUARY, 1, 0, 0, 0);
+      } else if ((months & (1L << (month + 1))) == 0) {
+        calendar.set(year, month + 1, 1, 0, 0, 0);
+      } else if (!matchesDay(day, calendar.get(Calendar.DAY_OF_WEEK) - 1)) {
+        calendar.set(year, month, day + 1, 0, 0, 0);
+      } else if ((hours & (1L << hour)) == 0) {
+        calendar.set(year, month, day, hour + 1, 0, 0);
+      } else if ((minutes & (1L << minute)) == 0) {
+        calendar.set(year, month, day, hour, minute + 1, 0);
+      } else if ((seconds & (1L << calendar.get(Calendar.SECOND))) == 0) {
+        calendar.set(year, month, day, hour, minute, calendar.get(Calendar.SECOND) + 1);
+      } else {
+        return millis;
+      }
+    }
+  }
+
+  /**
+   * Determine if a day matches the days of month and days of week.
+   *
+   * @param dayOfMonth the day of month [1-31]
+   * @param dayOfWeek  the day of week [0-6]
+   * @return TRUE if the day matches
+   */
+  private boolean matchesDay(int dayOfMonth, int dayOfWeek) {
+    boolean monthDay = (daysOfMonth & (1L << dayOfMonth)) != 0;
+    boolean weekDay = (daysOfWeek & (1L << dayOfWeek)) != 0;
+    boolean matches = daysOfMonthSet && daysOfWeekSet ? monthDay || weekDay : monthDay && weekDay;
+    return matches && (dayFilter == null || dayFilter.matchesDay(dayOfMonth, dayOfWeek));
+  }
+
+  /**
+   * Parse a schedule field value.
+   *
+   * @param value the field value, may be null
+   * @param min   the minimum field value
+   * @param max   the maximum field value
+   * @return the matching values, empty if none
+   */
+  private static BitSet parse(String value, int min, int max) {
+    BitSet bits = new BitSet(max + 1);
+    if (value == null) {
+      return bits;
+    }
+    for (String item : value.split(",")) {
+      try {
+        int step = 1;
+        int slash = item.indexOf('/');
+        if (slash >= 0) {
+          step = Integer.parseInt(item.substring(slash + 1).trim());
+          item = item.substring(0, slash);
+        }
+        item = item.trim();
+        int first;
+        int last;
+        int dash = item.indexOf('-');
+        if ("*".equals(item)) {
+          first = min;
+          last = max;
+        } else if (dash > 0) {
+          first = Integer.parseInt(item.substring(0, dash).trim());
+          last = Integer.parseInt(item.substring(dash + 1).trim());
+        } else {
+          first = last = Integer.parseInt(item);
+        }
+        for (int i = first; step > 0 && i <= last && i <= max; i += step) {
+          if (i >= min) {
+            bits.set(i);
+          }
+        }
+      } catch (NumberFormatException ex) {
+        /**
+         * Malformed items are ignored.
+         */
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * Convert a field bit set to a bit mask.
+   *
+   * @param bits the field values, all less than 64
+   * @return the bit mask, zero if empty
+   */
+  private static long mask(BitSet bits) {
+    return bits.isEmpty() ? 0 : bits.toLongArray()[0];
+  }
+
+  /**
+   * Get the bit mask of a range of values.
+   *
+   * @param first the first value
+   * @param last  the last value (less than 64)
+   * @return the bit mask
+   */
+  private static long range(int first, int last) {
+    return (-1L >>> (63 - last)) & (-1L << first);
+  }
+
+  private static boolean isSet(MinSec value) {
+    return value != null && value.isSetValue();
+  }
+
+  private static boolean isSet(Hours value) {
+    return value != null && value.isSetValue();
+  }
+
+  private static boolean isSet(DaysOfMonth value) {
+    return value != null && value.isSetValue();
+  }
+
+  private static boolean isSet(Months value) {
+    return value != null && value.isSetValue();
+  }
+
+  private static boolean isSet(DaysOfWeek value) {
+    return value != null && value.isSetValue();
+  }
+
+  private static boolean isSet(Years value) {
+    return value != null && value.isSetValue();
+  }
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.math.BigInteger;
+import java.util.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.ChannelPlan;
+import us.gov.dod.standard.ssrf._3_1.TOA;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_1.toa.Allocation;
+import us.gov.dod.standard.ssrf._3_1.toa.Country;
+import us.gov.dod.standard.ssrf._3_1.toa.Footnote;
+import us.gov.dod.standard.ssrf._3_1.toa.FreqBand;
+
+/**
+ * Pre-compiled Table of Allocations (TOA) lookup.
+ * <p>
+ * The frequency bands of a TOA are compiled into a sorted array of band edges
+ * (breakpoints). Each breakpoint, and each open interval between two
+ * consecutive breakpoints, holds the list of bands covering it, so a point
+ * query is a single binary search and returns a pre-built list without
+ * allocation. Band and allocation footnote indexes are resolved to the TOA
+ * {@link Footnote} instances when the lookup is built. Allocation channel
+ * plans are the {@link ChannelPlan} references resolved when the SSRF message
+ * was loaded (see {@link Allocation#postLoad(SSRF)}).
+ * <p>
+ * Band frequency ranges are closed: a frequency equal to a band edge is in
+ * that band. A lookup reflects the TOA content at the time it is built and is
+ * immutable; it may be shared between threads.
+ *
+ * @author Jesse Caulfield
+ * @version 3.1.0
+ * @since 3.1.0
+ */
+public class TOALookup {
+
+  /**
+   * The TOA.
+   */
+  private final TOA toa;
+  /**
+   * The sorted, distinct band edges (MHz).
+   */
+  private final double[] breakpoints;
+  /**
+   * The bands covering each breakpoint.
+   */
+  private final List<List<Band>> pointBands;
+  /**
+   * The bands covering the open interval following each breakpoint.
+   */
+  private final List<List<Band>> intervalBands;
+  /**
+   * All bands, in ascending order of minimum frequency.
+   */
+  private final List<Band> bands;
+
+  /**
+   * Construct a new TOA lookup.
+   *
+   * @param toa the TOA
+   */
+  public TOALookup(TOA toa) {
+    this.toa = toa;
+    /**
+     * Index the footnotes.
+     */
+    Map<BigInteger, Footnote> footnotes = new HashMap<>();
+    if (toa.isSetFootnote()) {
+      for (Footnote footnote : toa.getFootnote()) {
+        if (footnote.isSetIdx()) {
+          footnotes.put(footnote.getIdx(), footnote);
+        }
+      }
+    }
+    /**
+     * Build the resolved bands. The band index records the TOA order.
+     */
+    List<Band> list = new ArrayList<>();
+    if (toa.isSetFreqBand()) {
+      for (FreqBand freqBand : toa.getFreqBand()) {
+        if (freqBand.isSetFreqMin()) {
+          list.add(new Band(freqBand, list.size(), footnotes));
+        }
+      }
+    }
+    Collections.sort(list);
+    this.bands = Collections.unmodifiableList(list);
+    /**
+     * Compile the breakpoints.
+     */
+    double[] edges = new double[list.size() * 2];
+    for (int i = 0; i < list.size(); i++) {
+      edges[2 * i] = list.get(i).freqMin;
+      edges[2 * i + 1] = list.get(i).freqMax;
+    }
+    Arrays.sort(edges);
+    int count = 0;
+    for (int i = 0; i < edges.length; i++) {
+      if (count == 0 || edges[i] != edges[count - 1]) {
+        edges[count++] = edges[i];
+      }
+    }
+    this.breakpoints = Arrays.copyOf(edges, count);
+    /**
+     * Sweep the breakpoints in order, adding each band at its minimum
+     * frequency and removing it after its maximum frequency, so that each
+     * band is visited twice.
+     */
+    Band[] byMax = list.toArray(new Band[list.size()]);
+    Arrays.sort(byMax, new Comparator<Band>() {
+      @Override
+      public int compare(Band o1, Band o2) {
+        int compare = Double.compare(o1.freqMax, o2.freqMax);
+        return compare != 0 ? compare : o1.compareTo(o2);
+      }
+    });
+    this.pointBands = new ArrayList<>(count);
+    this.intervalBands = new ArrayList<>(count);
+    Set<Band> active = new TreeSet<>();
+    int added = 0;
+    int removed = 0;
+    for (int i = 0; i < count; i++) {
+      while (added < list.size() && list.get(added).freqMin == breakpoints[i]) {
+        active.add(list.get(added++));
+      }
+      List<Band> point = Collections.unmodifiableList(new ArrayList<>(active));
+      int ended = removed;
+      while (removed < byMax.length && byMax[removed].freqMax == breakpoints[i]) {
+        active.remove(byMax[removed++]);
+      }
+      pointBands.add(point);
+      if (i + 1 == count) {
+        intervalBands.add(Collections.<Band>emptyList());
+      } else {
+        intervalBands.add(removed == ended ? point : Collections.unmodifiableList(new ArrayList<>(active)));
+      }
+    }
+  }
+
+  /**
+   * Build a TOA lookup.
+   *
+   * @param toa the TOA
+   * @return a new TOA lookup
+   */
+  public static TOALookup getInstance(TOA toa) {
+    return new TOALookup(toa);
+  }
+
+  /**
+   * Build a TOA lookup for each TOA in an SSRF message and index the lookups
+   * by country. A TOA with no Country is indexed under NULL.
+   *
+   * @param ssrf the SSRF message
+   * @return the TOA lookups of each country, in message order
+   */
+  public static Map<ListCAO, List<TOALookup>> getInstances(SSRF ssrf) {
+    Map<ListCAO, List<TOALookup>> lookups = new HashMap<>();
+    for (TOA toa : ssrf.getTOA()) {
+      TOALookup lookup = new TOALookup(toa);
+      Set<ListCAO> countries = new HashSet<>();
+      if (toa.isSetCountry()) {
+        for (Country country : toa.getCountry()) {
+          countries.add(country.getValue());
+        }
+      } else {
+        countries.add(null);
+      }
+      for (ListCAO country : countries) {
+        List<TOALookup> list = lookups.get(country);
+        if (list == null) {
+          list = new ArrayList<>(1);
+          lookups.put(country, list);
+        }
+        list.add(lookup);
+      }
+    }
+    return lookups;
+  }
+
+  /**
+   * Get the TOA.
+   *
+   * @return the TOA
+   */
+  public TOA getTOA() {
+    return toa;
+  }
+
+  /**
+   * Get all the TOA bands.
+   *
+   * @return the bands in ascending order of minimum frequency
+   */
+  public List<Band> getBands() {
+    return bands;
+  }
+
+  /**
+   * Find the bands covering a frequency. This method does not allocate.
+   *
+   * @param frequency the frequency (MHz)
+   * @return the covering bands in ascending order of minimum frequency, empty
+   *         if none
+   */
+  public List<Band> find(double frequency) {
+    int index = Arrays.binarySearch(breakpoints, frequency);
+    if (index >= 0) {
+      return pointBands.get(index);
+    }
+    index = -index - 2;
+    return index >= 0 && index < breakpoints.length ? intervalBands.get(index) : Collections.<Band>emptyList();
+  }
+
+  /**
+   * Find the bands overlapping a frequency range.
+   *
+   * @param freqMin the minimum frequency (MHz)
+   * @param freqMax the maximum frequency (MHz)
+   * @return the overlapping bands in ascending order of minimum frequency,
+   *         empty if none
+   */
+  public List<Band> find(double freqMin, double freqMax) {
+    if (freqMin == freqMax) {
+      return find(freqMin);
+    }
+    int from = Arrays.binarySearch(breakpoints, freqMin);
+    from = from >= 0 ? from : Math.max(0, -from - 2);
+    int to = Arrays.binarySearch(breakpoints, freqMax);
+    to = to >= 0 ? to : -to - 2;
+    Set<Band> found = new TreeSet<>();
+    for (int i = from; i <= to && i < breakpoints.length; i++) {
+      if (breakpoints[i] >= freqMin) {
+        found.addAll(pointBands.get(i));
+      }
+      if (i < to || breakpoints[i] < freqMax) {
+        found.addAll(intervalBands.get(i));
+      }
+    }
+    return new ArrayList<>(found);
+  }
+
+  /**
+   * Find the allocations covering a frequency.
+   *
+   * @param frequency the frequency (MHz)
+   * @return the allocations of all covering bands, empty if none
+   */
+  public List<AllocationEntry> findAllocations(double frequency) {
+    List<Band> found = find(frequency);
+    if (found.size() == 1) {
+      return found.get(0).allocations;
+    }
+    List<AllocationEntry> allocations = new ArrayList<>();
+    for (Band band : found) {
+      allocations.addAll(band.allocations);
+    }
+    return allocations;
+  }
+
+  /**
+   * Find the allocations of a service covering a frequency.
+   *
+   * @param frequency        the frequency (MHz)
+   * @param allocatedService the allocated service name (not case sensitive)
+   * @return the matching allocations, empty if none
+   */
+  public List<AllocationEntry> findAllocations(double frequency, String allocatedService) {
+    List<AllocationEntry> allocations = new ArrayList<>();
+    for (AllocationEntry allocation : findAllocations(frequency)) {
+      if (allocatedService.equalsIgnoreCase(allocation.getAllocatedService())) {
+        allocations.add(allocation);
+      }
+    }
+    return allocations;
+  }
+
+  /**
+   * Resolve footnote indexes to TOA footnotes.
+   *
+   * @param indexes   the footnote indexes
+   * @param footnotes the TOA footnotes, indexed by idx
+   * @return the resolved footnotes; unknown indexes are ignored
+   */
+  private static List<Footnote> resolve(Set<BigInteger> indexes, Map<BigInteger, Footnote> footnotes) {
+    List<Footnote> list = new ArrayList<>(indexes.size());
+    for (BigInteger index : indexes) {
+      Footnote footnote = footnotes.get(index);
+      if (footnote != null) {
+        list.add(footnote);
+      }
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * A compiled TOA frequency band with its resolved allocations and
+   * footnotes.
+   */
+  public static final class Band implements Comparable<Band> {
+
+    private final FreqBand freqBand;
+    /**
+     * The position of the band in the TOA, used to order bands having the
+     * same frequency range.
+     */
+    private final int index;
+    private final double freqMin;
+    private final double freqMax;
+    private final List<Footnote> footnotes;
+    private final List<AllocationEntry> allocations;
+
+    private Band(FreqBand freqBand, int index, Map<BigInteger, Footnote> footnotes) {
+      this.freqBand = freqBand;
+      this.index = index;
+      double min = freqBand.getFreqMin().doubleValue();
+      double max = freqBand.isSetFreqMax() ? freqBand.getFreqMax().doubleValue() : min;
+      this.freqMin = Math.min(min, max);
+      this.freqMax = Math.max(min, max);
+      this.footnotes = freqBand.isSetFootnotes()
+                       ? resolve(freqBand.getFootnotes(), footnotes)
+                       : Collections.<Footnote>emptyList();
+      List<AllocationEntry> list = new ArrayList<>();
+      if (freqBand.isSetAllocation()) {
+        for (Allocation allocation : freqBand.getAllocation()) {
+          list.add(new AllocationEntry(allocation, footnotes));
+        }
+      }
+      this.allocations = Collections.unmodifiableList(list);
+    }
+
+    public FreqBand getFreqBand() {
+      return freqBand;
+    }
+
+    public double getFreqMin() {
+      return freqMin;
+    }
+
+    public double getFreqMax() {
+      return freqMax;
+    }
+
+    /**
+     * Get the band level footnotes.
+     *
+     * @return the resolved footnotes, empty if none
+     */
+    public List<Footnote> getFootnotes() {
+      return footnotes;
+    }
+
+    /**
+     * Get the band allocations.
+     *
+     * @return the resolved allocations, empty if none
+     */
+    public List<AllocationEntry> getAllocations() {
+      return allocations;
+    }
+
+    /**
+     * Bands are ordered by minimum frequency, then maximum frequency, then
+     * position in the TOA.
+     *
+     * @param o the other band
+     * @return the band order
+     */
+    @Override
+    public int compareTo(Band o) {
+      int compare = Double.compare(freqMin, o.freqMin);
+      if (compare == 0) {
+        compare = Double.compare(freqMax, o.freqMax);
+      }
+      return compare != 0 ? compare : Integer.compare(index, o.index);
+    }
+
+    @Override
+    public String toString() {
+      return "Band [" + freqMin + " - " + freqMax + "] allocations " + allocations;
+    }
+  }
+
+  /**
+   * A TOA allocation with its resolved footnotes and channel plans.
+   */
+  public static final class AllocationEntry {
+
+    private final Allocation allocation;
+    private final String allocatedService;
+    private final List<Footnote> footnotes;
+    private final List<ChannelPlan> channelPlans;
+
+    private AllocationEntry(Allocation allocation, Map<BigInteger, Footnote> footnotes) {
+      this.allocation = allocation;
+      this.allocatedService = allocation.isSetAllocatedService() ? allocation.getAllocatedService().getValue() : null;
+      this.footnotes = allocation.isSetFootnotes()
+                       ? resolve(allocation.getFootnotes(), footnotes)
+                       : Collections.<Footnote>emptyList();
+      this.channelPlans = allocation.isSetChannelPlan()
+                          ? Collections.unmodifiableList(new ArrayList<>(allocation.getChannelPlan()))
+                          : Collections.<ChannelPlan>emptyList();
+    }
+
+    public Allocation getAllocation() {
+      return allocation;
+    }
+
+    /**
+     * Get the allocated service name (e.g. "FIXED", "MOBILE").
+     *
+     * @return the allocated service, NULL if not set
+     */
+    public String getAllocatedService() {
+      return allocatedService;
+    }
+
+    /**
+     * Get the allocation priority (e.g. "Primary", "Secondary").
+     *
+     * @return the priority, NULL if not set
+     */
+    public String getPriority() {
+      return allocation.isSetPriority() ? allocation.getPriority().getValue() : null;
+    }
+
+    /**
+     * Get the allocation footnotes.
+     *
+     * @return the resolved footnotes, empty if none
+     */
+    public List<Footnote> getFootnotes() {
+      return footnotes;
+    }
+
+    /**
+     * Get the allocation channel plans.
+     *
+     * @return the resolved channel plans, empty if none
+     */
+    public List<ChannelPlan> getChannelPlans() {
+      return channelPlans;
+    }
+
+    @Override
+    public String toString() {
+      return allocatedService + (allocation.isSetPriority() ? " (" + getPriority() + ")" : "");
+    }
+  }
+}
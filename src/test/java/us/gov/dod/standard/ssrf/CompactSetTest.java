@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * CompactSet tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class CompactSetTest {
+
+  /**
+   * The set behaves as a LinkedHashSet across promotion.
+   */
+  @Test
+  public void testEquivalence() {
+    Random random = new Random(37);
+    for (int run = 0; run < 200; run++) {
+      Set<Integer> expected = new LinkedHashSet<>();
+      CompactSet<Integer> set = new CompactSet<>();
+      for (int i = 0; i < 50; i++) {
+        Integer value = random.nextInt(20);
+        if (random.nextInt(3) == 0) {
+          assertEquals(expected.remove(value), set.remove(value));
+        } else {
+          assertEquals(expected.add(value), set.add(value));
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+      }
+    }
+  }
+
+  /**
+   * Adding the element that promotes the set to a hash set must fail an open
+   * iterator.
+   */
+  @Test(expected = ConcurrentModificationException.class)
+  public void testPromotionFailsOpenIterator() {
+    CompactSet<Integer> set = new CompactSet<>();
+    for (int i = 0; i < CompactSet.THRESHOLD; i++) {
+      set.add(i);
+    }
+    for (Integer value : set) {
+      set.add(CompactSet.THRESHOLD + value);
+    }
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testAddFailsOpenIterator() {
+    CompactSet<Integer> set = new CompactSet<>();
+    set.add(1);
+    set.add(2);
+    Iterator<Integer> iterator = set.iterator();
+    iterator.next();
+    set.add(3);
+    iterator.next();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testClearFailsOpenIterator() {
+    CompactSet<Integer> set = new CompactSet<>();
+    for (int i = 0; i < 2 * CompactSet.THRESHOLD; i++) {
+      set.add(i);
+    }
+    Iterator<Integer> iterator = set.iterator();
+    iterator.next();
+    set.clear();
+    iterator.next();
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    CompactSet<Integer> set = new CompactSet<>();
+    for (int i = 0; i < 5; i++) {
+      set.add(i);
+    }
+    for (Iterator<Integer> iterator = set.iterator(); iterator.hasNext();) {
+      if (iterator.next() % 2 == 0) {
+        iterator.remove();
+      }
+    }
+    assertEquals(Arrays.asList(1, 3), new ArrayList<>(set));
+  }
+
+  /**
+   * The modification count changes on every structural change, including
+   * those made after promotion to a hash set.
+   */
+  @Test
+  public void testModCount() {
+    CompactSet<Integer> set = new CompactSet<>();
+    for (int i = 0; i < 20; i++) {
+      int modCount = set.getModCount();
+      assertTrue(set.add(i));
+      assertNotEquals(modCount, set.getModCount());
+      modCount = set.getModCount();
+      assertFalse(set.add(i));
+      assertEquals(modCount, set.getModCount());
+    }
+    int modCount = set.getModCount();
+    assertTrue(set.remove(5));
+    assertNotEquals(modCount, set.getModCount());
+    modCount = set.getModCount();
+    Iterator<Integer> iterator = set.iterator();
+    iterator.next();
+    iterator.remove();
+    assertNotEquals(modCount, set.getModCount());
+    assertEquals(18, set.size());
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * IndexSet tests against a TreeSet of the same values.
+ *
+ * @author Jesse Caulfield
+ */
+public class IndexSetTest {
+
+  @Test
+  public void testAddRemoveContains() {
+    IndexSet set = new IndexSet();
+    assertTrue(set.isEmpty());
+    assertEquals(-1, set.max());
+    assertTrue(set.add(12));
+    assertTrue(set.add(1));
+    assertTrue(set.add(BigInteger.valueOf(2)));
+    assertFalse(set.add(12));
+    assertFalse(set.add(BigInteger.ONE));
+    assertEquals(3, set.size());
+    assertEquals(12, set.max());
+    assertTrue(set.contains(2));
+    assertTrue(set.contains(BigInteger.valueOf(12)));
+    assertFalse(set.contains(3));
+    assertFalse(set.contains(Integer.valueOf(2)));
+    assertFalse(set.contains(BigInteger.ONE.shiftLeft(40)));
+    assertEquals("1 2 12", set.toList());
+    assertTrue(set.remove(2));
+    assertFalse(set.remove(2));
+    assertTrue(set.remove(BigInteger.valueOf(12)));
+    assertFalse(set.remove("1"));
+    assertArrayEquals(new int[]{1}, set.toIntArray());
+    set.clear();
+    assertTrue(set.isEmpty());
+    assertTrue(set.add(7));
+    assertEquals("7", set.toList());
+  }
+
+  @Test
+  public void testIteration() {
+    IndexSet set = IndexSet.valueOf(" 12 1\t2\n12 ");
+    List<BigInteger> values = new ArrayList<>();
+    for (BigInteger value : set) {
+      values.add(value);
+    }
+    assertEquals(3, values.size());
+    assertEquals(BigInteger.ONE, values.get(0));
+    assertEquals(BigInteger.valueOf(2), values.get(1));
+    assertEquals(BigInteger.valueOf(12), values.get(2));
+    /**
+     * Removal through the iterator.
+     */
+    Iterator<BigInteger> iterator = set.iterator();
+    iterator.next();
+    iterator.next();
+    iterator.remove();
+    assertEquals(BigInteger.valueOf(12), iterator.next());
+    assertFalse(iterator.hasNext());
+    assertEquals("1 12", set.toList());
+    /**
+     * Modification outside the iterator is detected.
+     */
+    iterator = set.iterator();
+    iterator.next();
+    set.add(5);
+    try {
+      iterator.next();
+      fail("concurrent modification");
+    } catch (ConcurrentModificationException ex) {
+    }
+    assertTrue(IndexSet.valueOf("").isEmpty());
+    assertTrue(IndexSet.valueOf("   ").isEmpty());
+  }
+
+  /**
+   * The set grows from empty as values are added in any order, and always
+   * matches a TreeSet of the same values.
+   */
+  @Test
+  public void testGrow() {
+    Random random = new Random(38);
+    IndexSet set = new IndexSet();
+    TreeSet<BigInteger> expected = new TreeSet<>();
+    for (int i = 0; i < 5000; i++) {
+      int value = random.nextInt(2000);
+      if (random.nextInt(4) == 0) {
+        assertEquals(expected.remove(BigInteger.valueOf(value)), set.remove(value));
+      } else {
+        assertEquals(expected.add(BigInteger.valueOf(value)), set.add(value));
+      }
+      assertEquals(expected.size(), set.size());
+    }
+    assertTrue(set.size() > 1000);
+    assertEquals(expected, set);
+    assertEquals(set, expected);
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+    assertEquals(expected.last().intValue(), set.max());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegative() {
+    new IndexSet().add(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidList() {
+    IndexSet.valueOf("1 2a 3");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooLarge() {
+    IndexSet.valueOf("1 99999999999");
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAO;
+
+import static org.junit.Assert.*;
+
+/**
+ * SSRFInterner tests: values are shared on import with an interner and not
+ * shared without one.
+ *
+ * @author Jesse Caulfield
+ */
+public class SSRFInternerTest {
+
+  /**
+   * Marshal a document with several locations sharing the same name (read
+   * through a String adapter) and country (a TString).
+   */
+  private static String document() throws Exception {
+    SSRF ssrf = new SSRF();
+    for (int i = 0; i < 3; i++) {
+      ssrf.withLocation(new Location().withName("Fort Meade").withCountry(ListCAO.USA));
+    }
+    return SSRFUtility.marshal(ssrf);
+  }
+
+  private static List<Location> locations(SSRF ssrf) {
+    return new ArrayList<>(ssrf.getLocation());
+  }
+
+  @Test
+  public void testImport() throws Exception {
+    SSRFInterner interner = SSRFInterner.newInstance();
+    List<Location> locations = locations(SSRFUtility.unmarshal(document(), SSRF.class, interner));
+    assertEquals(3, locations.size());
+    String name = locations.get(0).getName().getValue();
+    String country = locations.get(0).getCountry().getValue();
+    assertEquals("Fort Meade", name);
+    assertEquals("USA", country);
+    for (Location location : locations) {
+      assertSame(name, location.getName().getValue());
+      assertSame(country, location.getCountry().getValue());
+    }
+    assertSame(name, interner.intern(new String("Fort Meade")));
+    assertSame(country, interner.intern(new String("USA")));
+    /**
+     * A second document imported with the same interner shares its values.
+     */
+    Location other = locations(SSRFUtility.unmarshal(document(), SSRF.class, interner)).get(0);
+    assertSame(name, other.getName().getValue());
+    assertNull(SSRFInterner.getCurrent());
+  }
+
+  /**
+   * Without an interner every value read is a separate String.
+   */
+  @Test
+  public void testDisabled() throws Exception {
+    List<Location> locations = locations(SSRFUtility.unmarshal(document(), SSRF.class));
+    assertEquals(3, locations.size());
+    assertEquals(locations.get(0).getName().getValue(), locations.get(1).getName().getValue());
+    assertNotSame(locations.get(0).getName().getValue(), locations.get(1).getName().getValue());
+    assertEquals(locations.get(0).getCountry().getValue(), locations.get(1).getCountry().getValue());
+    assertNotSame(locations.get(0).getCountry().getValue(), locations.get(1).getCountry().getValue());
+    assertNull(SSRFInterner.getCurrent());
+  }
+
+  @Test
+  public void testIntern() {
+    SSRFInterner interner = SSRFInterner.newInstance(2);
+    String a = interner.intern(new String("A"));
+    assertSame(a, interner.intern(new String("A")));
+    interner.intern("B");
+    /**
+     * A full interner passes new values through and still shares existing
+     * ones.
+     */
+    String c = new String("C");
+    assertSame(c, interner.intern(c));
+    assertNotSame(c, interner.intern(new String("C")));
+    assertSame(a, interner.intern(new String("A")));
+    assertEquals(2, interner.size());
+    /**
+     * Long values and null are not interned.
+     */
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i <= SSRFInterner.MAX_LENGTH; i++) {
+      sb.append('x');
+    }
+    SSRFInterner unbounded = SSRFInterner.newInstance();
+    String longValue = sb.toString();
+    assertSame(longValue, unbounded.intern(longValue));
+    assertNotSame(longValue, unbounded.intern(new String(longValue)));
+    assertNull(unbounded.intern(null));
+    assertEquals(0, unbounded.size());
+    interner.clear();
+    assertEquals(0, interner.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCapacity() {
+    SSRFInterner.newInstance(0);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * SSRF profile registry tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class SSRFProfileTest {
+
+  @Test
+  public void testDefault() {
+    assertFalse(SSRFProperties.getDefault().isEmpty());
+    assertFalse(SSRFProperties.getDefault().isReadOnly());
+    assertTrue(SSRFProfile.getInstance(SSRFProfile.DEFAULT).getProperties().isReadOnly());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownProfile() {
+    SSRFProfile.getInstance("no-such-profile");
+  }
+
+  @Test
+  public void testReadOnly() {
+    SSRFProperties properties = SSRFProfile.getInstance(SSRFProfile.DEFAULT).getProperties();
+    int size = properties.size();
+    try {
+      properties.put("TSerial.organisation", "ABCD");
+      fail("put");
+    } catch (UnsupportedOperationException ex) {
+    }
+    try {
+      properties.remove("TSerial.organisation");
+      fail("remove");
+    } catch (UnsupportedOperationException ex) {
+    }
+    try {
+      properties.clear();
+      fail("clear");
+    } catch (UnsupportedOperationException ex) {
+    }
+    assertEquals(size, properties.size());
+  }
+
+  /**
+   * A watched profile is re-loaded after its file is rewritten.
+   */
+  @Test
+  public void testWatch() throws Exception {
+    File directory = Files.createTempDirectory("ssrf-profile").toFile();
+    File file = new File(directory, "watched.properties");
+    write(file, "TSerial.organisation=ABCD\n");
+    try (Closeable watch = SSRFProfile.watch(directory)) {
+      SSRFProfile profile = SSRFProfile.getInstance("watched");
+      assertEquals("ABCD", profile.getProperties().getProperty("TSerial", "organisation"));
+      write(file, "TSerial.organisation=EFGH\n");
+      long deadline = System.currentTimeMillis() + 30000;
+      while (!"EFGH".equals(profile.getProperties().getProperty("TSerial", "organisation"))
+             && System.currentTimeMillis() < deadline) {
+        Thread.sleep(100);
+      }
+      assertEquals("EFGH", profile.getProperties().getProperty("TSerial", "organisation"));
+    } finally {
+      file.delete();
+      directory.delete();
+    }
+  }
+
+  private static void write(File file, String content) throws IOException {
+    try (OutputStream out = new FileOutputStream(file)) {
+      out.write(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+  }
+}
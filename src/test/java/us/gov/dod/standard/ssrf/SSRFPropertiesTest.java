@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Properties;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Verify that every SSRFProperties modification advances the modification
+ * stamp so that the compiled rule index is rebuilt.
+ *
+ * @author Jesse Caulfield
+ */
+public class SSRFPropertiesTest {
+
+  private static final String PATH = "TSerial";
+
+  private SSRFProperties properties;
+
+  @Before
+  public void setUp() {
+    properties = new SSRFProperties();
+    properties.setProperty("TSerial.organisation", "ABCD");
+    assertEquals("ABCD", organisation());
+  }
+
+  private String organisation() {
+    return properties.getProperty(PATH, "organisation");
+  }
+
+  @Test
+  public void testPutAndRemove() {
+    properties.put("TSerial.organisation", "EFGH");
+    assertEquals("EFGH", organisation());
+    properties.remove("TSerial.organisation");
+    assertNull(organisation());
+  }
+
+  @Test
+  public void testPutAll() {
+    properties.putAll(Collections.singletonMap("TSerial.organisation", "EFGH"));
+    assertEquals("EFGH", organisation());
+  }
+
+  @Test
+  public void testClear() {
+    properties.clear();
+    assertNull(organisation());
+  }
+
+  @Test
+  public void testLoad() throws IOException {
+    Properties stored = new Properties();
+    stored.setProperty("TSerial.organisation", "EFGH");
+    File file = File.createTempFile("ssrf", ".properties");
+    try {
+      try (FileOutputStream outputStream = new FileOutputStream(file)) {
+        stored.store(outputStream, null);
+      }
+      properties.load(file);
+      assertEquals("EFGH", organisation());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testReadOnlyPut() {
+    properties.readOnlyCopy().put("TSerial.organisation", "EFGH");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testReadOnlyClear() {
+    properties.readOnlyCopy().clear();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1;
+
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+import static org.junit.Assert.*;
+
+/**
+ * Common default Serial and EntryDateTime tests on import.
+ *
+ * @author Jesse Caulfield
+ */
+public class CommonTest {
+
+  private static String marshal(Location location) throws Exception {
+    return SSRFUtility.marshal(new SSRF().withLocation(location));
+  }
+
+  private static Location unmarshal(String xml) throws Exception {
+    return SSRFUtility.unmarshal(xml, SSRF.class).getLocation().iterator().next();
+  }
+
+  /**
+   * A dataset imported without Serial and EntryDateTime is given the same
+   * defaults as a new instance.
+   */
+  @Test
+  public void testDefaults() throws Exception {
+    String xml = marshal(new Location().withPoint(new Point().withLat(38.0).withLon(-77.0)))
+      .replaceAll("\\s*<s:Serial>[^<]*</s:Serial>", "")
+      .replaceAll("\\s*<s:EntryDateTime>[^<]*</s:EntryDateTime>", "");
+    assertFalse(xml, xml.contains("Serial") || xml.contains("EntryDateTime"));
+    long start = System.currentTimeMillis();
+    Location location = unmarshal(xml);
+    assertNotNull(location.getSerial());
+    assertTrue(location.getSerial().isSetValue());
+    assertNotNull(location.getEntryDateTime());
+    assertTrue(location.getEntryDateTime().getTime() >= start);
+    assertTrue(location.getEntryDateTime().getTime() <= System.currentTimeMillis());
+    assertEquals(1, location.getPoint().size());
+  }
+
+  /**
+   * Imported values are kept, and the import does not leave the current
+   * thread flagged as un-marshaling.
+   */
+  @Test
+  public void testImported() throws Exception {
+    Location original = new Location().withPoint(new Point().withLat(38.0).withLon(-77.0));
+    Location location = unmarshal(marshal(original));
+    assertEquals(original.getSerial(), location.getSerial());
+    assertEquals(original.getEntryDateTime().getTime(), location.getEntryDateTime().getTime());
+    Location created = new Location();
+    assertNotNull(created.getSerial());
+    assertNotNull(created.getEntryDateTime());
+  }
+}
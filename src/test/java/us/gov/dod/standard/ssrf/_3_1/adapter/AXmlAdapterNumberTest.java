@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Number adapter conversion and printing tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class AXmlAdapterNumberTest {
+
+  /**
+   * Decimal values are rounded through their double value, as they always
+   * have been. "-4.555" is held by a double as -4.55499999... and so rounds to
+   * -4.55.
+   */
+  @Test
+  public void testUnmarshalRounding() throws Exception {
+    AXmlAdapterNumber adapter = new AXmlAdapterNumber(5, 2);
+    assertEquals(new BigDecimal("-4.55"), adapter.unmarshal("-4.555"));
+    assertEquals(new BigDecimal("1.13"), adapter.unmarshal("1.125"));
+    assertEquals(new BigDecimal("12.50"), adapter.unmarshal("12.5"));
+  }
+
+  /**
+   * The unmarshal result always equals rounding the double value HALF_UP to
+   * the declared fraction digits.
+   */
+  @Test
+  public void testUnmarshalMatchesDoubleRounding() throws Exception {
+    AXmlAdapterNumber adapter = new AXmlAdapterNumber(16, 9);
+    Random random = new Random(34);
+    for (int i = 0; i < 100000; i++) {
+      BigDecimal value = BigDecimal.valueOf((long) (random.nextDouble() * 1E15), 8 + random.nextInt(4));
+      BigDecimal expected = new BigDecimal(value.doubleValue()).setScale(9, RoundingMode.HALF_UP);
+      assertEquals(value.toPlainString(), expected, adapter.unmarshal(value.toPlainString()));
+    }
+  }
+
+  @Test
+  public void testMarshal() throws Exception {
+    AXmlAdapterNumber adapter = new AXmlAdapterNumber(5, 2);
+    assertEquals("-4.56", adapter.marshal(new BigDecimal("-4.555")));
+    assertEquals("12.5", adapter.marshal(new BigDecimal("12.50")));
+    assertEquals("3.0", adapter.marshal(new BigDecimal("3")));
+    assertEquals("123", new AXmlAdapterNumber(3, null).marshal(new java.math.BigInteger("123")));
+  }
+
+  @Test(expected = Exception.class)
+  public void testMaximum() throws Exception {
+    new AXmlAdapterNumber(5, 2, 0, 100).unmarshal("100.01");
+  }
+
+  /**
+   * The fast path prints the same as the decimal format in every locale,
+   * including locales with a comma decimal separator or non-ASCII digits.
+   */
+  @Test
+  public void testMarshalLocale() throws Exception {
+    Locale locale = Locale.getDefault();
+    Random random = new Random(34);
+    try {
+      for (Locale other : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("ar", "EG"), new Locale("th", "TH", "TH")}) {
+        Locale.setDefault(other);
+        AXmlAdapterNumber adapter = new AXmlAdapterNumber(16, 9);
+        DecimalFormat decimalFormat = new DecimalFormat();
+        decimalFormat.setMaximumFractionDigits(9);
+        decimalFormat.setMinimumFractionDigits(1);
+        decimalFormat.setMaximumIntegerDigits(6);
+        decimalFormat.setMinimumIntegerDigits(1);
+        decimalFormat.setRoundingMode(RoundingMode.HALF_UP);
+        decimalFormat.setGroupingUsed(false);
+        for (int i = 0; i < 10000; i++) {
+          BigDecimal value = BigDecimal.valueOf(random.nextLong() % 1000000000000000L, 8 + random.nextInt(4));
+          assertEquals(other + " " + value, decimalFormat.format(value), adapter.marshal(value));
+        }
+        assertEquals(decimalFormat.format(new BigDecimal("-3")), adapter.marshal(new BigDecimal("-3")));
+      }
+    } finally {
+      Locale.setDefault(locale);
+    }
+    assertEquals("12.5", new AXmlAdapterNumber(5, 2).marshal(new BigDecimal("12.50")));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+import javax.xml.bind.DatatypeConverter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.metadata.TDate;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
+
+import static org.junit.Assert.*;
+
+/**
+ * Date and dateTime conversion tests with a non-UTC default time zone.
+ *
+ * @author Jesse Caulfield
+ */
+public class DateTimeConverterTest {
+
+  /**
+   * Time zones on both sides of UTC, with and without daylight saving time.
+   */
+  private static final String[] ZONES = {"America/Los_Angeles", "Pacific/Auckland", "Asia/Kolkata", "UTC"};
+
+  private TimeZone defaultZone;
+
+  @Before
+  public void setUp() {
+    defaultZone = TimeZone.getDefault();
+  }
+
+  @After
+  public void tearDown() {
+    TimeZone.setDefault(defaultZone);
+  }
+
+  /**
+   * A date reads and prints the same in every time zone. A Calendar at local
+   * midnight exports its own calendar date.
+   */
+  @Test
+  public void testDateRoundTrip() throws Exception {
+    XmlAdapterDATE adapter = new XmlAdapterDATE();
+    for (String zone : ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(zone));
+      for (String value : new String[]{"2015-03-30", "2015-01-01", "2016-02-29", "1969-12-31", "2015-10-04"}) {
+        assertEquals(zone, value, adapter.marshal(adapter.unmarshal(value)));
+        D d = new D();
+        d.setEpochDay(adapter.unmarshal(value));
+        assertEquals(zone, value, d.toString());
+        /**
+         * The Calendar value is local midnight of the same date.
+         */
+        Calendar calendar = d.getValue();
+        Calendar local = DatatypeConverter.parseDate(value);
+        assertEquals(zone, local.getTimeInMillis(), calendar.getTimeInMillis());
+        assertEquals(zone, value, new D(calendar).toString());
+        assertEquals(zone, value, new D(calendar.getTime()).toString());
+        assertEquals(zone, value, new TDate(calendar).toString());
+        assertEquals(zone, d, new D(calendar));
+      }
+      /**
+       * A Calendar in another zone is read in its own zone.
+       */
+      Calendar tokyo = Calendar.getInstance(TimeZone.getTimeZone("Asia/Tokyo"));
+      tokyo.clear();
+      tokyo.set(2015, Calendar.MARCH, 30, 1, 0);
+      assertEquals(zone, "2015-03-30", new D(tokyo).toString());
+      /**
+       * A time zone designator does not change the calendar date.
+       */
+      assertEquals(zone, "2015-03-30", adapter.marshal(adapter.unmarshal("2015-03-30-11:00")));
+      assertEquals(zone, "2015-03-30", adapter.marshal(adapter.unmarshal("2015-03-30Z")));
+    }
+  }
+
+  /**
+   * A dateTime without a time zone designator is local time; with one it is
+   * an instant. Both parse the same as DatatypeConverter.
+   */
+  @Test
+  public void testDateTimeParse() {
+    Random random = new Random(33);
+    for (String zone : ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(zone));
+      for (int i = 0; i < 10000; i++) {
+        String value = String.format("%04d-%02d-%02dT%02d:%02d:%02d.%03d",
+                                     1950 + random.nextInt(100), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                                     random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+        long expected = DatatypeConverter.parseDateTime(value).getTimeInMillis();
+        long parsed = DateTimeConverter.parse(value);
+        /**
+         * Wall clock times skipped or repeated by a daylight saving time
+         * change may resolve to either side of the change.
+         */
+        TimeZone local = TimeZone.getDefault();
+        if (local.getOffset(parsed) == local.getOffset(expected)) {
+          assertEquals(zone + " " + value, expected, parsed);
+        }
+        assertEquals(DatatypeConverter.parseDateTime(value + "Z").getTimeInMillis(), DateTimeConverter.parse(value + "Z"));
+        assertEquals(DatatypeConverter.parseDateTime(value + "+05:30").getTimeInMillis(), DateTimeConverter.parse(value + "+05:30"));
+      }
+      XmlAdapterDATETIME adapter = new XmlAdapterDATETIME();
+      assertEquals("2015-03-30T12:00:00.000Z", adapter.marshal(adapter.unmarshal("2015-03-30T12:00:00Z")));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDateWithTime() {
+    DateTimeConverter.parseDate("2015-03-30T12:00:00Z");
+  }
+}
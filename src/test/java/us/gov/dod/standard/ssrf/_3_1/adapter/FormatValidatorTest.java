@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterEMSDES;
+
+import static org.junit.Assert.*;
+
+/**
+ * Randomized equivalence tests of the hand-written format validators against
+ * the REGEX patterns they replace.
+ * <p>
+ * Random values are drawn from an alphabet biased towards each format so that
+ * both matching and near-miss values are well represented.
+ *
+ * @author Jesse Caulfield
+ */
+public class FormatValidatorTest {
+
+  private static final int ITERATIONS = 200000;
+
+  private static final Pattern SERIAL = Pattern.compile("[A-Z0-9-]{1,5}:\\w{0,4}:[A-Z]{2}:\\S{1,15}");
+  private static final Pattern EMSDES = Pattern.compile("(A|B|C|D|F|G|H|J|K|L|M|N|P|Q|R|V|W|X|-)(0|1|2|3|7|8|9|X|-)(A|B|C|D|E|F|N|W|X|-)(A|B|C|D|E|F|G|H|J|K|L|M|N|W|X)?(C|F|N|T|W|X)?");
+  private static final Pattern LAT = Pattern.compile("([0-8][0-9])([0-5][0-9])([0-5][0-9](\\.[0-9]{1,2})?)(N|S)");
+  private static final Pattern LON = Pattern.compile("([01][0-9][0-9])([0-5][0-9])([0-5][0-9](\\.[0-9]{1,2})?)(E|W)");
+
+  private final Random random = new Random(40);
+
+  private String randomString(String alphabet, int maxLength) {
+    int length = random.nextInt(maxLength + 1);
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Build a value by joining random parts with a separator, with the
+   * occasional random corruption.
+   */
+  private String randomValue(String separator, String... alphabets) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < alphabets.length; i++) {
+      if (i > 0) {
+        sb.append(separator);
+      }
+      sb.append(randomString(alphabets[i], i == alphabets.length - 1 ? 17 : 6));
+    }
+    if (random.nextInt(10) == 0 && sb.length() > 0) {
+      sb.setCharAt(random.nextInt(sb.length()), " :a\t.Z9-".charAt(random.nextInt(8)));
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testSerial() {
+    XmlAdapterSERIAL adapter = new XmlAdapterSERIAL();
+    int matches = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      String value = randomValue(":", "ABZ09-", "Aa_0", "ABZ", "A1a-:~ \t");
+      boolean expected = SERIAL.matcher(value).matches();
+      assertEquals(value, expected, FormatValidator.isSerial(value));
+      assertEquals(value, SERIAL.matcher(value).find(), adapter.matches(value));
+      matches += expected ? 1 : 0;
+    }
+    assertTrue(matches > ITERATIONS / 100);
+  }
+
+  @Test
+  public void testEmissionDesignator() {
+    AXmlAdapterString adapter = new XmlAdapterEMSDES();
+    int matches = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      String value = randomString("ABCDEFGHJKLMNPQRTVWX-0123789Z", 6);
+      boolean expected = EMSDES.matcher(value).matches();
+      assertEquals(value, expected, FormatValidator.isEmissionDesignator(value));
+      assertEquals(value, EMSDES.matcher(value).find(), adapter.matches(value));
+      matches += expected ? 1 : 0;
+    }
+    assertTrue(matches > ITERATIONS / 100);
+  }
+
+  @Test
+  public void testParseLatitude() {
+    testParseDMS(LAT, 2, 89, 'N', 'S', "0123456789.NSE");
+  }
+
+  @Test
+  public void testParseLongitude() {
+    testParseDMS(LON, 3, 199, 'E', 'W', "0123456789.EWN");
+  }
+
+  /**
+   * parseDMS must return a number exactly when the canonical pattern matches,
+   * and the number must equal the value computed from the pattern groups.
+   */
+  private void testParseDMS(Pattern pattern, int degreeDigits, int maxDegrees, char positive, char negative, String alphabet) {
+    int matches = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      String value;
+      if (random.nextBoolean()) {
+        value = randomString(alphabet, degreeDigits + 8);
+      } else {
+        value = String.format("%0" + degreeDigits + "d%02d%02d", random.nextInt(maxDegrees + 20), random.nextInt(70), random.nextInt(70))
+                + new String[]{"", ".", "." + random.nextInt(10), "." + random.nextInt(100), "." + random.nextInt(1000)}[random.nextInt(5)]
+                + alphabet.charAt(alphabet.length() - 1 - random.nextInt(3));
+      }
+      double parsed = FormatValidator.parseDMS(value, degreeDigits, maxDegrees, positive, negative);
+      Matcher m = pattern.matcher(value);
+      if (m.matches()) {
+        matches++;
+        double degrees = Integer.valueOf(m.group(1));
+        double decimalDegree = degrees + (Integer.valueOf(m.group(2)) + (Double.valueOf(m.group(3)) / 60)) / 60;
+        double expected = m.group(5).charAt(0) == negative ? -1 * decimalDegree : decimalDegree;
+        assertEquals(value, expected, parsed, 0);
+      } else {
+        assertTrue(value, Double.isNaN(parsed));
+      }
+    }
+    assertTrue(matches > ITERATIONS / 100);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.math.BigInteger;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.IndexSet;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_1.Location;
+
+import static org.junit.Assert.*;
+
+/**
+ * Index list adapter round trip tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class XmlAdapterINDEXLISTTest {
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    XmlAdapterINDEXLIST adapter = new XmlAdapterINDEXLIST();
+    IndexSet set = adapter.unmarshal("12 1  2 999999");
+    assertEquals("1 2 12 999999", adapter.marshal(set));
+    assertEquals(set, adapter.unmarshal(adapter.marshal(set)));
+    assertNull(adapter.marshal(new IndexSet()));
+    assertNull(adapter.marshal(null));
+    assertNull(adapter.unmarshal(null));
+  }
+
+  @Test(expected = Exception.class)
+  public void testMaximum() throws Exception {
+    new XmlAdapterINDEXLIST().unmarshal("1 1000000");
+  }
+
+  /**
+   * The remarks and extReferences attributes are read and written through the
+   * adapter.
+   */
+  @Test
+  public void testDocument() throws Exception {
+    Location location = new Location().withName("Fort Meade");
+    location.getName().getRemarkRef().add(BigInteger.valueOf(12));
+    location.getName().getRemarkRef().add(BigInteger.ONE);
+    location.getName().getExtReferences().add(BigInteger.valueOf(3));
+    String xml = SSRFUtility.marshal(new SSRF().withLocation(location));
+    assertTrue(xml, xml.contains("remarks=\"1 12\""));
+    assertTrue(xml, xml.contains("extReferences=\"3\""));
+    Location imported = SSRFUtility.unmarshal(xml, SSRF.class).getLocation().iterator().next();
+    assertEquals(location.getName().getRemarkRef(), imported.getName().getRemarkRef());
+    assertEquals(location.getName().getExtReferences(), imported.getName().getExtReferences());
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_1.Transmitter;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Lat;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Bits;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
+import us.gov.dod.standard.ssrf._3_1.transmitter.TxMode;
+
+import static org.junit.Assert.*;
+
+/**
+ * Scaled (fixed-point) numeric data type storage tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class ScaledValueTest {
+
+  @Test
+  public void testConversion() {
+    assertEquals(123450000000L, ScaledValue.valueOf(new BigDecimal("123.45"), 9));
+    assertEquals(-456L, ScaledValue.valueOf(new BigDecimal("-4.5600"), 2));
+    assertEquals(ScaledValue.INEXACT, ScaledValue.valueOf(new BigDecimal("-4.555"), 2));
+    assertEquals(ScaledValue.UNSET, ScaledValue.valueOf(null, 2));
+    assertEquals(new BigDecimal("123.450000000"), ScaledValue.toBigDecimal(123450000000L, null, 9));
+    assertNull(ScaledValue.toBigDecimal(ScaledValue.UNSET, null, 9));
+    assertEquals(123.45, ScaledValue.toDouble(123450000000L, null, 9), 0);
+    assertTrue(Double.isNaN(ScaledValue.toDouble(ScaledValue.UNSET, null, 9)));
+  }
+
+  @Test
+  public void testOverflow() {
+    assertEquals(ScaledValue.INEXACT, ScaledValue.valueOf(new BigDecimal("1E12"), 9));
+    assertEquals(ScaledValue.INEXACT, ScaledValue.valueOf(BigDecimal.valueOf(Long.MIN_VALUE + 1), 0));
+  }
+
+  /**
+   * A value that cannot be held by the scaled long is kept as given, neither
+   * rounded nor rejected.
+   */
+  @Test
+  public void testInexact() {
+    FreqM freq = new FreqM(new BigDecimal("123.4567890125"));
+    assertEquals(new BigDecimal("123.4567890125"), freq.getValue());
+    assertEquals(123.4567890125, freq.doubleValue(), 0);
+    assertEquals(new FreqM(new BigDecimal("123.45678901250")), freq);
+    assertEquals(new FreqM(new BigDecimal("123.45678901250")).hashCode(), freq.hashCode());
+    assertNotEquals(new FreqM(new BigDecimal("123.456789013")), freq);
+    assertTrue(freq.compareTo(new FreqM(new BigDecimal("123.456789013"))) < 0);
+    assertTrue(new FreqM(new BigDecimal("123.456789012")).compareTo(freq) < 0);
+    freq.setValue(new BigDecimal("1E30"));
+    assertEquals(new BigDecimal("1E30"), freq.getValue());
+    assertTrue(freq.compareTo(new FreqM(2E9)) > 0);
+    freq.setValue(new BigDecimal("123.45"));
+    assertEquals(new FreqM(123.45), freq);
+  }
+
+  @Test
+  public void testDataType() {
+    FreqM freq = new FreqM(123.45);
+    assertTrue(freq.isSetValue());
+    assertEquals(0, new BigDecimal("123.45").compareTo(freq.getValue()));
+    assertEquals(123.45, freq.doubleValue(), 0);
+    assertEquals(new FreqM(new BigDecimal("123.4500")), freq);
+    assertEquals(new FreqM(new BigDecimal("123.4500")).hashCode(), freq.hashCode());
+    assertTrue(freq.compareTo(new FreqM(200.0)) < 0);
+    assertTrue(freq.compareTo(new FreqM()) < 0);
+    assertTrue(new FreqM().compareTo(freq) > 0);
+    freq.setValue(null);
+    assertFalse(freq.isSetValue());
+    assertNull(freq.getValue());
+    assertNull(freq.toString());
+    assertEquals(new BigDecimal("7"), new US_Bits(new BigDecimal("7")).getValue());
+  }
+
+  @Test
+  public void testLatitude() throws Exception {
+    Lat lat = new Lat("383000N");
+    assertEquals(38.5, lat.doubleValue(), 1E-9);
+  }
+
+  /**
+   * Values held in a primitive are still validated against their XML adapter.
+   */
+  @Test
+  public void testValidation() {
+    TxMode txMode = new TxMode();
+    txMode.setOccBw(new FreqM(2E9));
+    txMode.getOccBw().setCls(ListCCL.UNCLASSIFIED);
+    Set<String> messages = SSRFUtility.evaluate(new SSRF().withTransmitter(new Transmitter().withTxMode(txMode)));
+    boolean found = false;
+    for (String message : messages) {
+      found |= message.contains("occBw.value") && message.contains("Maximum value violation");
+    }
+    assertTrue(messages.toString(), found);
+    /**
+     * An out of range value is reported by validation, not on assignment.
+     */
+    txMode.getOccBw().setValue(new BigDecimal("1E30"));
+    messages = SSRFUtility.evaluate(new SSRF().withTransmitter(new Transmitter().withTxMode(txMode)));
+    found = false;
+    for (String message : messages) {
+      found |= message.contains("occBw.value") && message.contains("Maximum value violation");
+    }
+    assertTrue(messages.toString(), found);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata.domains;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.EDatasetType;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
+
+import static org.junit.Assert.*;
+
+/**
+ * Serial number parsing and unmarshal tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class SerialTest {
+
+  private static final String MESSAGE = "<SSRF xmlns=\"urn:us:gov:dod:standard:ssrf:3.1.0\"><Message cls=\"U\"><Serial cls=\"U\">%s</Serial></Message></SSRF>";
+
+  @Test
+  public void testParse() {
+    Serial serial = new Serial("CAN:IC:MS:1");
+    assertEquals("1", serial.getSerial());
+    assertEquals("CAN:IC:MS:1", serial.getValue());
+    assertEquals(Serial.getInstance(ListCCY.CAN, "IC", EDatasetType.MS, "1"), serial);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseMalformed() {
+    new Serial("CAN-IC-MS-1");
+  }
+
+  @Test
+  public void testParseUnknownCodeLeavesComponents() {
+    Serial serial = new Serial("CAN:IC:MS:1");
+    try {
+      serial.setValue("ZZZZ:IC:MS:2");
+      fail("An unknown country code must be rejected.");
+    } catch (IllegalArgumentException ex) {
+      assertEquals("1", serial.getSerial());
+    }
+  }
+
+  /**
+   * A serial number with an unknown country or dataset type code must not abort
+   * the unmarshal. The imported value is retained.
+   */
+  @Test
+  public void testUnmarshalUnknownCode() throws Exception {
+    for (String value : new String[]{"ZZZZ:IC:MS:1", "CAN:IC:ZZ:1"}) {
+      SSRF ssrf = SSRF.fromXml(String.format(MESSAGE, value));
+      assertEquals(1, ssrf.getMessage().size());
+      Serial serial = ssrf.getMessage().iterator().next().getSerial();
+      assertEquals(value, serial.getValue());
+      assertNull(serial.getSerial());
+    }
+  }
+
+  /**
+   * A malformed serial number is dropped by the SERIAL adapter and must not
+   * abort the unmarshal.
+   */
+  @Test
+  public void testUnmarshalMalformedSerial() throws Exception {
+    SSRF ssrf = SSRF.fromXml(String.format(MESSAGE, "CAN-IC-MS-1"));
+    assertEquals(1, ssrf.getMessage().size());
+  }
+
+  @Test
+  public void testUnmarshalValidSerial() throws Exception {
+    SSRF ssrf = SSRF.fromXml(String.format(MESSAGE, "CAN:IC:MS:1"));
+    Serial serial = ssrf.getMessage().iterator().next().getSerial();
+    assertEquals("1", serial.getSerial());
+  }
+
+  /**
+   * Equality and hash code are both based upon the SERIAL number value.
+   */
+  @Test
+  public void testEqualsHashCode() {
+    Serial parsed = new Serial("CAN:IC:MS:1");
+    Serial built = Serial.getInstance(ListCCY.CAN, "IC", EDatasetType.MS, "1");
+    assertEquals(parsed, built);
+    assertEquals(parsed.hashCode(), built.hashCode());
+    assertEquals(0, parsed.compareTo(built));
+    /**
+     * The same serial number component with a different country, organisation
+     * or dataset type is a different serial.
+     */
+    assertNotEquals(parsed, new Serial("USA:IC:MS:1"));
+    assertNotEquals(parsed, new Serial("CAN:XX:MS:1"));
+    assertNotEquals(parsed, new Serial("CAN:IC:AS:1"));
+    Set<Serial> serials = new HashSet<>();
+    serials.add(parsed);
+    assertTrue(serials.contains(built));
+    assertFalse(serials.contains(new Serial("USA:IC:MS:1")));
+    /**
+     * Changing a component changes the value, equality and hash code alike.
+     */
+    built.setCountry(ListCCY.USA);
+    assertEquals(new Serial("USA:IC:MS:1"), built);
+    assertEquals(new Serial("USA:IC:MS:1").hashCode(), built.hashCode());
+    assertNotEquals(parsed, built);
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata.lists;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Code list fromValue lookup tests. Every indexed lookup returns the same
+ * constant, or throws the same exception, as the linear scan of the enum
+ * values that it replaces.
+ *
+ * @author Jesse Caulfield
+ */
+public class ListFromValueTest {
+
+  /**
+   * Find every code list enum in this package.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<Class<? extends Enum<?>>> findLists() throws Exception {
+    File directory = new File(ListCAP.class.getResource("ListCAP.class").toURI()).getParentFile();
+    List<Class<? extends Enum<?>>> lists = new ArrayList<>();
+    for (String name : directory.list()) {
+      if (name.startsWith("List") && name.endsWith(".class") && !name.contains("$")) {
+        Class<?> clazz = Class.forName(ListCAP.class.getPackage().getName() + "." + name.replace(".class", ""));
+        if (clazz.isEnum()) {
+          lists.add((Class<? extends Enum<?>>) clazz);
+        }
+      }
+    }
+    return lists;
+  }
+
+  private static String value(Enum<?> c) throws Exception {
+    return (String) c.getClass().getMethod("value").invoke(c);
+  }
+
+  /**
+   * The lookup previously used by every code list: the first constant with an
+   * equal value.
+   */
+  private static Object scan(Class<? extends Enum<?>> list, String v) throws Exception {
+    for (Enum<?> c : list.getEnumConstants()) {
+      if (value(c).equals(v)) {
+        return c;
+      }
+    }
+    return IllegalArgumentException.class;
+  }
+
+  /**
+   * The lookup previously used by ListCAP: the first constant with a value
+   * equal ignoring case.
+   */
+  private static Object scanIgnoreCase(String v) {
+    for (ListCAP c : ListCAP.values()) {
+      if (c.value().equalsIgnoreCase(v)) {
+        return c;
+      }
+    }
+    return IllegalArgumentException.class;
+  }
+
+  /**
+   * The lookup previously used by ListCCL: the first constant whose name
+   * starts with the upper case value, else the constant of that name.
+   */
+  private static Object scanCCL(String v) {
+    if (v == null) {
+      return NullPointerException.class;
+    }
+    for (ListCCL c : ListCCL.values()) {
+      if (c.name().startsWith(v.toUpperCase(Locale.getDefault()))) {
+        return c;
+      }
+    }
+    try {
+      return ListCCL.valueOf(v);
+    } catch (IllegalArgumentException ex) {
+      return IllegalArgumentException.class;
+    }
+  }
+
+  /**
+   * The exact match previously used by ListCSN: the first constant with a
+   * value or name equal ignoring case. NULL if there is none; other values
+   * are parsed by the unchanged lenient fallback.
+   */
+  private static Object scanCSN(String v) {
+    for (ListCSN c : ListCSN.values()) {
+      if (c.value().equalsIgnoreCase(v) || c.name().equalsIgnoreCase(v)) {
+        return c;
+      }
+    }
+    return null;
+  }
+
+  private static Object fromValue(Class<? extends Enum<?>> list, String v) throws Exception {
+    Method method = list.getMethod("fromValue", String.class);
+    try {
+      return method.invoke(null, v);
+    } catch (InvocationTargetException ex) {
+      return ex.getCause().getClass();
+    }
+  }
+
+  /**
+   * Lookup values for a code list: every value and name, in several cases and
+   * with surrounding whitespace, and values that are not in any list.
+   */
+  private static List<String> candidates(Class<? extends Enum<?>> list) throws Exception {
+    List<String> candidates = new ArrayList<>();
+    for (Enum<?> c : list.getEnumConstants()) {
+      String value = value(c);
+      candidates.add(value);
+      candidates.add(c.name());
+      candidates.add(value.toLowerCase(Locale.ENGLISH));
+      candidates.add(value.toUpperCase(Locale.ENGLISH));
+      candidates.add(" " + value);
+      candidates.add(value + "x");
+    }
+    candidates.add("");
+    candidates.add("no such value");
+    candidates.add("ß");
+    candidates.add(null);
+    return candidates;
+  }
+
+  @Test
+  public void testFromValue() throws Exception {
+    List<Class<? extends Enum<?>>> lists = findLists();
+    assertTrue(lists.size() > 100);
+    int checked = 0;
+    for (Class<? extends Enum<?>> list : lists) {
+      if (list == ListCTP.class || list == ListUAG.class) {
+        /**
+         * Looked up by constant name with valueOf.
+         */
+        continue;
+      }
+      for (String v : candidates(list)) {
+        Object expected;
+        if (list == ListCAP.class) {
+          expected = scanIgnoreCase(v);
+        } else if (list == ListCCL.class) {
+          expected = scanCCL(v);
+        } else if (list == ListCSN.class) {
+          expected = v == null ? NullPointerException.class : scanCSN(v);
+          if (expected == null) {
+            continue;
+          }
+        } else {
+          expected = scan(list, v);
+        }
+        assertEquals(list.getSimpleName() + " \"" + v + "\"", expected, fromValue(list, v));
+        checked++;
+      }
+    }
+    assertTrue(checked > 1000);
+  }
+
+  @Test
+  public void testUnknown() {
+    try {
+      ListCAO.fromValue("XYZ");
+      fail("ListCAO");
+    } catch (IllegalArgumentException ex) {
+      assertEquals("XYZ", ex.getMessage());
+    }
+    try {
+      ListCAP.fromValue(null);
+      fail("ListCAP");
+    } catch (IllegalArgumentException ex) {
+    }
+    assertSame(ListCAP.AZIMUTH, ListCAP.fromValue(ListCAP.AZIMUTH.value().toLowerCase(Locale.ENGLISH)));
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntGain;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntMode;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntPattern;
+import us.gov.dod.standard.ssrf._3_1.antenna.AntPatternPoint;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAP;
+
+import static org.junit.Assert.*;
+
+/**
+ * CompiledAntennaPattern interpolation, wrap-around and out of range lookup
+ * tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class CompiledAntennaPatternTest {
+
+  /**
+   * Build a pattern cut from (direction, gain) pairs.
+   */
+  private static AntPattern pattern(ListCAP type, double... points) {
+    AntPattern antPattern = new AntPattern().withType(type);
+    for (int i = 0; i < points.length; i += 2) {
+      antPattern.withAntPatternPoint(new AntPatternPoint().withDir(points[i]).withGain(points[i + 1]));
+    }
+    return antPattern;
+  }
+
+  /**
+   * Reference gain lookup: linear interpolation between the nearest points on
+   * either side, found by a scan of every point.
+   */
+  private static double reference(double[] dir, double[] gain, double angle) {
+    double a = ((angle % 360) + 360) % 360;
+    int below = -1;
+    int above = -1;
+    for (int i = 0; i < dir.length; i++) {
+      if (dir[i] <= a && (below < 0 || dir[i] > dir[below])) {
+        below = i;
+      }
+      if (dir[i] > a && (above < 0 || dir[i] < dir[above])) {
+        above = i;
+      }
+    }
+    double belowDir = below >= 0 ? dir[below] : -1;
+    double aboveDir = above >= 0 ? dir[above] : -1;
+    if (below < 0) {
+      below = maxIndex(dir);
+      belowDir = dir[below] - 360;
+    }
+    if (above < 0) {
+      above = minIndex(dir);
+      aboveDir = dir[above] + 360;
+    }
+    double span = aboveDir - belowDir;
+    return span > 0 ? gain[below] + (gain[above] - gain[below]) * (a - belowDir) / span : gain[below];
+  }
+
+  private static int maxIndex(double[] values) {
+    int index = 0;
+    for (int i = 1; i < values.length; i++) {
+      index = values[i] > values[index] ? i : index;
+    }
+    return index;
+  }
+
+  private static int minIndex(double[] values) {
+    int index = 0;
+    for (int i = 1; i < values.length; i++) {
+      index = values[i] < values[index] ? i : index;
+    }
+    return index;
+  }
+
+  @Test
+  public void testInterpolation() {
+    CompiledAntennaPattern pattern = new CompiledAntennaPattern(15, pattern(ListCAP.AZIMUTH, 0, 0, 90, -10, 180, -20, 270, -10), null);
+    assertEquals(15, pattern.antennaGain(0, 0), 1e-9);
+    assertEquals(5, pattern.antennaGain(90, 0), 1e-9);
+    assertEquals(10, pattern.antennaGain(45, 0), 1e-9);
+    assertEquals(-15, pattern.getHorizontalGain(135), 1e-9);
+    assertEquals(-17.5, pattern.getHorizontalGain(202.5), 1e-9);
+    assertEquals(0, pattern.getVerticalGain(30), 0);
+    assertFalse(pattern.isSetVertical());
+    /**
+     * Gains are relative to the cut peak and the cuts add.
+     */
+    pattern = new CompiledAntennaPattern(20, pattern(ListCAP.AZIMUTH, 0, 3, 180, -7),
+                                         pattern(ListCAP.ELEVATION, 0, 0, 10, -6, 350, -6));
+    assertEquals(20, pattern.antennaGain(0, 0), 1e-9);
+    assertEquals(20 - 5 - 3, pattern.antennaGain(90, 5), 1e-9);
+    double[] result = new double[2];
+    pattern.antennaGain(new double[]{0, 90}, new double[]{0, 5}, result);
+    assertArrayEquals(new double[]{20, 12}, result, 1e-9);
+  }
+
+  /**
+   * Directions between the last and first points interpolate across 360
+   * degrees.
+   */
+  @Test
+  public void testWrapAround() {
+    CompiledAntennaPattern pattern = new CompiledAntennaPattern(0, pattern(ListCAP.AZIMUTH, 10, 0, 350, -20), null);
+    assertEquals(-10, pattern.getHorizontalGain(0), 1e-9);
+    assertEquals(-15, pattern.getHorizontalGain(355), 1e-9);
+    assertEquals(-5, pattern.getHorizontalGain(5), 1e-9);
+    assertEquals(-10, pattern.getHorizontalGain(180), 1e-9);
+    /**
+     * Points given outside [0, 360) are normalized, so -10 is 350.
+     */
+    CompiledAntennaPattern normalized = new CompiledAntennaPattern(0, pattern(ListCAP.AZIMUTH, 10, 0, -10, -20), null);
+    for (double az = 0; az < 360; az += 0.5) {
+      assertEquals(pattern.getHorizontalGain(az), normalized.getHorizontalGain(az), 1e-9);
+    }
+    /**
+     * A single point is omni-directional.
+     */
+    CompiledAntennaPattern single = new CompiledAntennaPattern(0, pattern(ListCAP.AZIMUTH, 45, -3), null);
+    assertEquals(0, single.getHorizontalGain(45), 0);
+    assertEquals(0, single.getHorizontalGain(200), 0);
+  }
+
+  /**
+   * Directions outside [0, 360) look up the same gain as the equivalent
+   * direction within it.
+   */
+  @Test
+  public void testOutOfRange() {
+    CompiledAntennaPattern pattern = new CompiledAntennaPattern(0, pattern(ListCAP.AZIMUTH, 0, 0, 90, -10, 180, -20, 270, -10), null);
+    assertEquals(pattern.getHorizontalGain(270), pattern.getHorizontalGain(-90), 1e-9);
+    assertEquals(pattern.getHorizontalGain(45), pattern.getHorizontalGain(405), 1e-9);
+    assertEquals(pattern.getHorizontalGain(0), pattern.getHorizontalGain(360), 1e-9);
+    assertEquals(pattern.getHorizontalGain(0), pattern.getHorizontalGain(-720), 1e-9);
+    assertEquals(pattern.getHorizontalGain(135), pattern.getHorizontalGain(3600 + 135), 1e-9);
+    assertEquals(pattern.getHorizontalGain(359.999), pattern.getHorizontalGain(-1e-3), 1e-9);
+    assertTrue(Double.isNaN(pattern.getHorizontalGain(Double.NaN)));
+  }
+
+  /**
+   * Random patterns match a scan of every point, for directions in and out of
+   * range.
+   */
+  @Test
+  public void testRandom() {
+    Random random = new Random(49);
+    for (int run = 0; run < 200; run++) {
+      int n = 2 + random.nextInt(40);
+      double[] dir = new double[n];
+      double[] gain = new double[n];
+      double[] points = new double[2 * n];
+      for (int i = 0; i < n; i++) {
+        dir[i] = Math.round(random.nextDouble() * 3600) / 10.0 % 360;
+        gain[i] = -random.nextDouble() * 30;
+        points[2 * i] = dir[i];
+        points[2 * i + 1] = gain[i];
+      }
+      double[] sorted = dir.clone();
+      Arrays.sort(sorted);
+      boolean distinct = true;
+      for (int i = 1; i < n; i++) {
+        distinct &= sorted[i] > sorted[i - 1];
+      }
+      if (!distinct) {
+        continue;
+      }
+      double peak = gain[maxIndex(gain)];
+      CompiledAntennaPattern pattern = new CompiledAntennaPattern(0, pattern(ListCAP.AZIMUTH, points), null);
+      for (int i = 0; i < 100; i++) {
+        double az = random.nextDouble() * 1080 - 360;
+        assertEquals(az + " " + Arrays.toString(points), reference(dir, gain, az) - peak, pattern.getHorizontalGain(az), 1e-9);
+      }
+    }
+  }
+
+  /**
+   * The main beam gain is the largest AntGain, else the largest pattern
+   * point gain, and the azimuth cut is preferred to the co-polar cuts.
+   */
+  @Test
+  public void testGetInstance() {
+    AntMode antMode = new AntMode()
+      .withAntPattern(pattern(ListCAP.HH, 0, 0, 180, -40),
+                      pattern(ListCAP.AZIMUTH, 0, 5, 180, -5),
+                      pattern(ListCAP.ELEVATION, 0, 0, 90, -20));
+    CompiledAntennaPattern pattern = CompiledAntennaPattern.getInstance(antMode);
+    assertEquals(5, pattern.getPeakGain(), 0);
+    assertEquals(-10, pattern.getHorizontalGain(180), 1e-9);
+    assertEquals(-10, pattern.getVerticalGain(45), 1e-9);
+    pattern = CompiledAntennaPattern.getInstance(antMode.withAntGain(new AntGain().withGain(12.0), new AntGain().withGain(9.0)));
+    assertEquals(12, pattern.getPeakGain(), 0);
+    assertEquals(2, pattern.antennaGain(180, 0), 1e-9);
+    pattern = CompiledAntennaPattern.getInstance(new AntMode());
+    assertEquals(0, pattern.antennaGain(123, 45), 0);
+    assertFalse(pattern.isSetHorizontal());
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.ChannelPlan;
+import us.gov.dod.standard.ssrf._3_1.channelplan.Channel;
+import us.gov.dod.standard.ssrf._3_1.channelplan.ChannelFreq;
+
+import static org.junit.Assert.*;
+
+/**
+ * CompiledChannelPlan tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class CompiledChannelPlanTest {
+
+  private static Channel channel(String name, double... frequencies) {
+    Channel channel = new Channel().withName(name);
+    for (double frequency : frequencies) {
+      channel.withChannelFreq(new ChannelFreq(frequency));
+    }
+    return channel;
+  }
+
+  @Test
+  public void testLookup() {
+    Channel a = channel("A", 100.0, 300.0);
+    Channel b = channel("B", 200.0);
+    Channel c = channel("A", 250.0);
+    CompiledChannelPlan compiled = CompiledChannelPlan.getInstance(new ChannelPlan().withChannel(a, b, c));
+    assertEquals(4, compiled.size());
+    assertSame(a, compiled.findNearest(90));
+    assertSame(a, compiled.findNearest(150));
+    assertSame(b, compiled.findNearest(151));
+    assertSame(a, compiled.findNearest(1000));
+    assertNull(compiled.findNearest(190, 5));
+    assertSame(b, compiled.findNearest(196, 5));
+    assertEquals(Arrays.asList(b, c, a), compiled.findInRange(150, 300));
+    assertEquals(Arrays.asList(a, c), compiled.findByName("A"));
+    assertArrayEquals(new double[]{100, 250, 300}, compiled.getFrequencies("A"), 0);
+    assertArrayEquals(new double[]{200}, compiled.getFrequencies(b), 0);
+    assertTrue(compiled.findByName("C").isEmpty());
+  }
+
+  /**
+   * The cached plan is reused until channels are added, removed or replaced.
+   */
+  @Test
+  public void testCache() {
+    ChannelPlan channelPlan = new ChannelPlan();
+    CompiledChannelPlan empty = CompiledChannelPlan.getInstance(channelPlan);
+    assertEquals(0, empty.size());
+    channelPlan.withChannel(channel("A", 100.0));
+    CompiledChannelPlan compiled = CompiledChannelPlan.getInstance(channelPlan);
+    assertNotSame(empty, compiled);
+    assertEquals(1, compiled.size());
+    assertSame(compiled, CompiledChannelPlan.getInstance(channelPlan));
+    /**
+     * Grow the channel set beyond the compact array.
+     */
+    List<Channel> channels = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      channels.add(channel("C" + i, 200.0 + i));
+    }
+    channelPlan.withChannel(channels);
+    compiled = CompiledChannelPlan.getInstance(channelPlan);
+    assertEquals(21, compiled.size());
+    assertSame(compiled, CompiledChannelPlan.getInstance(channelPlan));
+    Iterator<Channel> iterator = channelPlan.getChannel().iterator();
+    iterator.next();
+    iterator.remove();
+    compiled = CompiledChannelPlan.getInstance(channelPlan);
+    assertEquals(20, compiled.size());
+    assertTrue(compiled.isCurrent(channelPlan));
+    /**
+     * In place edits require invalidation.
+     */
+    channels.get(0).getChannelFreq().iterator().next().setValue(null);
+    assertFalse(compiled.isCurrent(channelPlan));
+    assertSame(compiled, CompiledChannelPlan.getInstance(channelPlan));
+    CompiledChannelPlan.invalidate(channelPlan);
+    assertEquals(19, CompiledChannelPlan.getInstance(channelPlan).size());
+    channelPlan.unsetChannel();
+    assertEquals(0, CompiledChannelPlan.getInstance(channelPlan).size());
+  }
+}
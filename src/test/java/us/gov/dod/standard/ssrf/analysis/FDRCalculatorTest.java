@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.analysis.FDRCalculator.Spectrum;
+
+import static org.junit.Assert.*;
+
+/**
+ * FDRCalculator tests against analytic rejections.
+ *
+ * @author Jesse Caulfield
+ */
+public class FDRCalculatorTest {
+
+  /**
+   * A selectivity flat across +/-1 MHz falling to 60 dB at +/-2 MHz.
+   */
+  private static final ReceiverSelectivity FILTER = new ReceiverSelectivity(new double[]{-2, -1, 1, 2},
+                                                                            new double[]{60, 0, 0, 60},
+                                                                            new double[0], 0, Double.POSITIVE_INFINITY);
+
+  @Test
+  public void testCarrier() {
+    /**
+     * An unmodulated carrier is rejected by the selectivity at its offset.
+     */
+    Spectrum carrier = Spectrum.getInstance(0);
+    assertEquals(0, FDRCalculator.fdr(carrier, FILTER, 0), 1e-9);
+    assertEquals(30, FDRCalculator.fdr(carrier, FILTER, 1.5), 1e-9);
+    assertEquals(60, FDRCalculator.fdr(carrier, FILTER, -5), 1e-9);
+    /**
+     * The spurious rejection limits the attenuation.
+     */
+    ReceiverSelectivity limited = new ReceiverSelectivity(new double[]{-2, -1, 1, 2}, new double[]{60, 0, 0, 60},
+                                                          new double[0], 0, 50);
+    assertEquals(50, FDRCalculator.fdr(carrier, limited, 5), 1e-9);
+  }
+
+  @Test
+  public void testRectangular() {
+    Spectrum spectrum = Spectrum.getInstance(2);
+    double[] offsets = spectrum.getOffsets();
+    double[] weights = spectrum.getWeights();
+    assertEquals(Spectrum.SAMPLES, offsets.length);
+    double total = 0;
+    for (int j = 0; j < offsets.length; j++) {
+      assertEquals(-offsets[j], offsets[offsets.length - 1 - j], 1e-12);
+      assertTrue(Math.abs(offsets[j]) < 1);
+      total += weights[j];
+    }
+    assertEquals(1, total, 1e-12);
+    /**
+     * An emission inside the passband is not rejected. An emission with half
+     * its power beyond a brick wall is rejected by 10 log 2.
+     */
+    assertEquals(0, FDRCalculator.fdr(spectrum, FILTER, 0), 1e-9);
+    ReceiverSelectivity wall = new ReceiverSelectivity(new double[]{0, 1e-9}, new double[]{0, 200},
+                                                       new double[0], 0, Double.POSITIVE_INFINITY);
+    assertEquals(10 * Math.log10(2), FDRCalculator.fdr(spectrum, wall, 0), 1e-9);
+  }
+
+  @Test
+  public void testImage() {
+    /**
+     * A carrier at the image frequency is rejected by the image rejection.
+     */
+    ReceiverSelectivity image = new ReceiverSelectivity(new double[]{-2, -1, 1, 2}, new double[]{60, 0, 0, 60},
+                                                        new double[]{21.4}, 40, Double.POSITIVE_INFINITY);
+    Spectrum carrier = Spectrum.getInstance(0);
+    assertEquals(40, FDRCalculator.fdr(carrier, image, 21.4), 1e-9);
+    assertEquals(60, FDRCalculator.fdr(carrier, image, 10), 1e-9);
+  }
+
+  @Test
+  public void testBatch() {
+    Random random = new Random(41);
+    FDRCalculator calculator = new FDRCalculator(Arrays.asList(Spectrum.getInstance(0), Spectrum.getInstance(0.5), Spectrum.getInstance(3)),
+                                                 Arrays.asList(FILTER, new ReceiverSelectivity(new double[]{-1, 0, 1}, new double[]{20, 0, 20},
+                                                                                               new double[0], 0, 70)));
+    int n = 10000;
+    int[] spectrum = new int[n];
+    int[] selectivity = new int[n];
+    double[] offset = new double[n];
+    for (int i = 0; i < n; i++) {
+      spectrum[i] = random.nextInt(3);
+      selectivity[i] = random.nextInt(2);
+      offset[i] = random.nextDouble() * 10 - 5;
+    }
+    double[] sequential = new double[n];
+    double[] shared = new double[n];
+    double[] parallel = new double[n];
+    calculator.calculate(spectrum, selectivity, offset, sequential, null);
+    calculator.calculate(spectrum, selectivity, offset, shared);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      calculator.calculate(spectrum, selectivity, offset, parallel, pool);
+    } finally {
+      pool.shutdown();
+    }
+    for (int i = 0; i < n; i++) {
+      double expected = FDRCalculator.fdr(calculator.getSpectra().get(spectrum[i]),
+                                          calculator.getSelectivities().get(selectivity[i]), offset[i]);
+      assertEquals(expected, sequential[i], 0);
+      assertEquals(expected, shared[i], 0);
+      assertEquals(expected, parallel[i], 0);
+    }
+  }
+}
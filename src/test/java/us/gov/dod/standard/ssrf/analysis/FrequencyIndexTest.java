@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.assignment.Assigned;
+import us.gov.dod.standard.ssrf._3_1.assignment.Freq;
+import us.gov.dod.standard.ssrf._3_1.assignment.Link;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+import static org.junit.Assert.*;
+
+/**
+ * FrequencyIndex tests against a brute force list of the indexed ranges.
+ *
+ * @author Jesse Caulfield
+ */
+public class FrequencyIndexTest {
+
+  private static final int OVERLAPPING = 0;
+  private static final int CONTAINING = 1;
+  private static final int WITHIN = 2;
+
+  /**
+   * Entries in ascending order of minimum frequency, ties in insertion order.
+   * The brute force lists are kept in insertion order and sorted stably.
+   */
+  private static final Comparator<FrequencyIndex.Entry> ORDER = new Comparator<FrequencyIndex.Entry>() {
+
+    @Override
+    public int compare(FrequencyIndex.Entry o1, FrequencyIndex.Entry o2) {
+      return Double.compare(o1.getFreqMin(), o2.getFreqMin());
+    }
+  };
+
+  /**
+   * Find the matching entries of a brute force list.
+   */
+  private static List<FrequencyIndex.Entry> scan(List<FrequencyIndex.Entry> entries, double freqMin, double freqMax, int query) {
+    List<FrequencyIndex.Entry> found = new ArrayList<>();
+    for (FrequencyIndex.Entry entry : entries) {
+      boolean match;
+      switch (query) {
+        case CONTAINING:
+          match = entry.getFreqMin() <= freqMin && entry.getFreqMax() >= freqMax;
+          break;
+        case WITHIN:
+          match = entry.getFreqMin() >= freqMin && entry.getFreqMax() <= freqMax;
+          break;
+        default:
+          match = entry.getFreqMin() <= freqMax && entry.getFreqMax() >= freqMin;
+      }
+      if (match) {
+        found.add(entry);
+      }
+    }
+    Collections.sort(found, ORDER);
+    return found;
+  }
+
+  private static Assignment assignment(int i) {
+    return new Assignment().withSerial(new Serial("USA:IC:AS:" + i));
+  }
+
+  @Test
+  public void testRandom() {
+    Random random = new Random(41);
+    List<Assignment> owners = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      owners.add(assignment(i));
+    }
+    FrequencyIndex index = new FrequencyIndex();
+    List<FrequencyIndex.Entry> entries = new ArrayList<>();
+    for (int step = 0; step < 5000; step++) {
+      int operation = random.nextInt(10);
+      if (operation < 6 || entries.isEmpty()) {
+        /**
+         * Insert. Coarse boundaries give shared edges and identical ranges.
+         */
+        double a = random.nextInt(500);
+        double b = random.nextInt(4) == 0 ? a : random.nextInt(500);
+        entries.add(index.add(a, b, owners.get(random.nextInt(owners.size())), null));
+      } else if (operation < 9) {
+        FrequencyIndex.Entry entry = entries.remove(random.nextInt(entries.size()));
+        assertTrue(index.remove(entry));
+        assertFalse(index.remove(entry));
+      } else {
+        Assignment owner = owners.get(random.nextInt(owners.size()));
+        int removed = 0;
+        for (Iterator<FrequencyIndex.Entry> iterator = entries.iterator(); iterator.hasNext();) {
+          if (iterator.next().getOwner() == owner) {
+            iterator.remove();
+            removed++;
+          }
+        }
+        assertEquals(removed, index.remove(owner));
+        assertFalse(index.contains(owner));
+      }
+      assertEquals(entries.size(), index.size());
+      if (step % 10 == 0) {
+        double a = random.nextInt(520) - 10;
+        double b = a + random.nextInt(100);
+        assertEquals(scan(entries, a, b, OVERLAPPING), index.findOverlapping(a, b));
+        assertEquals(scan(entries, a, b, CONTAINING), index.findContaining(a, b));
+        assertEquals(scan(entries, a, b, WITHIN), index.findWithin(a, b));
+        assertEquals(scan(entries, a, a, OVERLAPPING), index.findAt(a));
+      }
+    }
+    index.clear();
+    assertTrue(index.isEmpty());
+    assertTrue(index.findOverlapping(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY).isEmpty());
+  }
+
+  @Test
+  public void testReversedRange() {
+    FrequencyIndex index = new FrequencyIndex();
+    FrequencyIndex.Entry entry = index.add(200, 100, null, null);
+    assertEquals(100, entry.getFreqMin(), 0);
+    assertEquals(200, entry.getFreqMax(), 0);
+    assertEquals(Collections.singletonList(entry), index.findAt(150));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNaN() {
+    new FrequencyIndex().add(Double.NaN, 100, null, null);
+  }
+
+  @Test
+  public void testAssignment() {
+    Freq freq = new Freq();
+    freq.setFreqMin(new FreqM(225.0));
+    freq.setFreqMax(new FreqM(400.0));
+    Assignment assignment = assignment(1).withLink(new Link().withAssigned(new Assigned().withFreq(freq)));
+    FrequencyIndex index = new FrequencyIndex();
+    assertEquals(1, index.add(assignment));
+    assertTrue(index.contains(assignment));
+    assertEquals(Collections.singleton(assignment), index.findOwners(300, 300, Assignment.class));
+    assertTrue(index.findOwners(401, 500).isEmpty());
+    /**
+     * Re-indexing replaces the previous entries.
+     */
+    freq.setFreqMax(new FreqM(250.0));
+    assertEquals(1, index.update(assignment));
+    assertEquals(1, index.size());
+    assertTrue(index.findAt(300).isEmpty());
+    assertEquals(1, index.remove(assignment));
+    assertTrue(index.isEmpty());
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * GeoBounds tests, including boxes that cross the anti-meridian.
+ *
+ * @author Jesse Caulfield
+ */
+public class GeoBoundsTest {
+
+  @Test
+  public void testLongitudeRange() {
+    GeoBounds bounds = new GeoBounds(0, 1, 200, 190);
+    assertEquals(-170, bounds.getMinLon(), 1e-9);
+    assertEquals(-160, bounds.getMaxLon(), 1e-9);
+    bounds = new GeoBounds(0, 1, -181, -179);
+    assertEquals(179, bounds.getMinLon(), 1e-9);
+    assertEquals(181, bounds.getMaxLon(), 1e-9);
+    bounds = new GeoBounds(0, 1, -200, 200);
+    assertEquals(-180, bounds.getMinLon(), 0);
+    assertEquals(180, bounds.getMaxLon(), 0);
+  }
+
+  @Test
+  public void testDateline() {
+    GeoBounds east = GeoBounds.getInstance(0, 179.9).expand(50);
+    GeoBounds west = GeoBounds.getInstance(0, -179.9).expand(50);
+    assertTrue(east.getMaxLon() > 180);
+    assertTrue(east.contains(0, -179.8));
+    assertTrue(east.contains(0, 180.2));
+    assertFalse(east.contains(0, -179));
+    assertTrue(east.intersects(west));
+    assertTrue(west.intersects(east));
+    assertTrue(east.intersects(GeoBounds.getInstance(0, -179.9)));
+    assertTrue(GeoBounds.getInstance(0, -179.9).intersects(east));
+    assertFalse(east.intersects(GeoBounds.getInstance(0, -179)));
+    assertFalse(east.intersects(GeoBounds.getInstance(0, 0)));
+    assertEquals(0, east.distance(0, -179.8), 0);
+    /**
+     * The distance to a box west of the anti-meridian is measured across it.
+     */
+    GeoBounds box = new GeoBounds(-1, 1, 179, 179.5);
+    assertEquals(GeoBounds.distance(0, -179.9, 0, 179.5), box.distance(0, -179.9), 1e-6);
+  }
+
+  /**
+   * An expanded box contains every point within the distance of the original
+   * box, on either side of the anti-meridian.
+   */
+  @Test
+  public void testExpand() {
+    Random random = new Random(42);
+    for (int run = 0; run < 2000; run++) {
+      double lat = random.nextDouble() * 170 - 85;
+      double lon = random.nextBoolean() ? 175 + random.nextDouble() * 5 : -180 + random.nextDouble() * 5;
+      double km = random.nextDouble() * 1000;
+      GeoBounds bounds = GeoBounds.getInstance(lat, lon).expand(km);
+      for (int i = 0; i < 20; i++) {
+        double otherLat = Math.max(-90, Math.min(90, lat + (random.nextDouble() * 2 - 1) * 20));
+        double otherLon = lon + (random.nextDouble() * 2 - 1) * 40;
+        otherLon = otherLon > 180 ? otherLon - 360 : otherLon < -180 ? otherLon + 360 : otherLon;
+        double distance = GeoBounds.distance(lat, lon, otherLat, otherLon);
+        if (distance <= km) {
+          assertTrue(bounds + " " + otherLat + ", " + otherLon, bounds.contains(otherLat, otherLon));
+          assertTrue(bounds.intersects(GeoBounds.getInstance(otherLat, otherLon)));
+          assertEquals(0, bounds.distance(otherLat, otherLon), 0);
+        }
+        assertEquals(bounds.contains(otherLat, otherLon), bounds.intersects(GeoBounds.getInstance(otherLat, otherLon)));
+      }
+    }
+  }
+
+  @Test
+  public void testPole() {
+    GeoBounds bounds = GeoBounds.getInstance(89.9, 10).expand(50);
+    assertEquals(90, bounds.getMaxLat(), 0);
+    assertTrue(bounds.contains(89.9, -170));
+  }
+}
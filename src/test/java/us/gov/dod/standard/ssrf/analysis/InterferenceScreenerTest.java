@@ -0,0 +1,215 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
+import us.gov.dod.standard.ssrf._3_1.assignment.Station;
+import us.gov.dod.standard.ssrf._3_1.assignment.StationLoc;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+import us.gov.dod.standard.ssrf._3_1.multiple.ConfigEmission;
+import us.gov.dod.standard.ssrf._3_1.multiple.ConfigFreq;
+
+import static org.junit.Assert.*;
+
+/**
+ * InterferenceScreener tests against a brute force comparison of every pair
+ * of assignments.
+ *
+ * @author Jesse Caulfield
+ */
+public class InterferenceScreenerTest {
+
+  private static final double CO_CHANNEL_DISTANCE = 50;
+  private static final double ADJACENT_SEPARATION = 0.05;
+  private static final double ADJACENT_DISTANCE = 20;
+  private static final double REFERENCE_EIRP = 30;
+
+  /**
+   * A test assignment: one configuration frequency at one point site, or
+   * everywhere if the latitude is NaN.
+   */
+  private static final class Sample {
+
+    private final Assignment assignment;
+    private final double freqMin;
+    private final double freqMax;
+    private final double eirp;
+    private final double lat;
+    private final double lon;
+    private final double radius;
+
+    private Sample(int i, double freqMin, double freqMax, double bandwidth, double eirp, double lat, double lon, double radius) {
+      this.freqMin = freqMin - bandwidth / 2;
+      this.freqMax = freqMax + bandwidth / 2;
+      this.eirp = eirp;
+      Configuration configuration = new Configuration()
+        .withConfigFreq(new ConfigFreq().withFreqMin(freqMin).withFreqMax(freqMax))
+        .withConfigEmission(new ConfigEmission().withNecessaryBwMax(bandwidth));
+      if (!Double.isNaN(eirp)) {
+        configuration.withEIRPMax(eirp);
+      }
+      this.assignment = new Assignment().withSerial(new Serial("USA:IC:AS:" + i)).withConfiguration(configuration);
+      if (Double.isNaN(lat)) {
+        this.lat = Double.NaN;
+        this.lon = Double.NaN;
+        this.radius = 0;
+      } else {
+        /**
+         * Read back the coordinates and radius as held by the data types.
+         */
+        Point point = new Point().withLat(lat).withLon(lon);
+        this.lat = point.getLat().doubleValue();
+        this.lon = point.getLon().doubleValue();
+        StationLoc stationLoc = new StationLoc().withLocSat(new Location().withPoint(point));
+        if (radius > 0) {
+          stationLoc.withLocationRadius(radius);
+        }
+        this.radius = stationLoc.isSetLocationRadius() ? stationLoc.getLocationRadius().doubleValue() : 0;
+        assignment.withStation(new Station().withStationLoc(stationLoc));
+      }
+    }
+  }
+
+  private static Sample randomSample(Random random, int i) {
+    double freq = 100 + random.nextInt(200) * 0.025;
+    double bandwidth = random.nextInt(3) * 0.0125;
+    double eirp = random.nextInt(4) == 0 ? Double.NaN : 20 + random.nextInt(30);
+    if (random.nextInt(20) == 0) {
+      return new Sample(i, freq, freq, bandwidth, eirp, Double.NaN, Double.NaN, 0);
+    }
+    return new Sample(i, freq, freq, bandwidth, eirp,
+                      30 + random.nextDouble() * 15, -100 + random.nextDouble() * 25,
+                      random.nextInt(2) == 0 ? 0 : random.nextDouble() * 10);
+  }
+
+  private static double scale(double eirp) {
+    return Double.isNaN(eirp) ? 1 : Math.pow(10, (eirp - REFERENCE_EIRP) / 20);
+  }
+
+  /**
+   * Apply the screening rules to every pair of samples.
+   */
+  private static List<String> bruteForce(List<Sample> screened, List<Sample> base) {
+    List<String> conflicts = new ArrayList<>();
+    for (Sample a : screened) {
+      for (Sample b : base) {
+        if (a.assignment.getSerial().equals(b.assignment.getSerial())) {
+          continue;
+        }
+        double separation = Math.max(a.freqMin, b.freqMin) - Math.min(a.freqMax, b.freqMax);
+        InterferenceScreener.Type type;
+        double distance;
+        if (separation <= 0) {
+          type = InterferenceScreener.Type.CO_CHANNEL;
+          distance = CO_CHANNEL_DISTANCE;
+        } else if (separation <= ADJACENT_SEPARATION) {
+          type = InterferenceScreener.Type.ADJACENT_CHANNEL;
+          distance = ADJACENT_DISTANCE;
+        } else {
+          continue;
+        }
+        double protection = distance * Math.max(scale(a.eirp), scale(b.eirp));
+        double range = Double.isNaN(a.lat) || Double.isNaN(b.lat)
+                       ? 0
+                       : Math.max(0, GeoBounds.distance(a.lat, a.lon, b.lat, b.lon) - a.radius - b.radius);
+        if (range <= protection) {
+          conflicts.add(key(a.assignment, b.assignment, type, range));
+        }
+      }
+    }
+    Collections.sort(conflicts);
+    return conflicts;
+  }
+
+  private static List<String> keys(List<InterferenceScreener.Conflict> conflicts) {
+    List<String> keys = new ArrayList<>();
+    for (InterferenceScreener.Conflict conflict : conflicts) {
+      keys.add(key(conflict.getAssignment(), conflict.getBaseAssignment(), conflict.getType(), conflict.getDistance()));
+    }
+    Collections.sort(keys);
+    return keys;
+  }
+
+  private static String key(Assignment a, Assignment b, InterferenceScreener.Type type, double distance) {
+    return a.getSerial() + " " + b.getSerial() + " " + type + " " + String.format("%.6f", distance);
+  }
+
+  private static List<Assignment> assignments(List<Sample> samples) {
+    List<Assignment> assignments = new ArrayList<>();
+    for (Sample sample : samples) {
+      assignments.add(sample.assignment);
+    }
+    return assignments;
+  }
+
+  @Test
+  public void testBruteForce() {
+    Random random = new Random(47);
+    List<Sample> base = new ArrayList<>();
+    for (int i = 0; i < 1500; i++) {
+      base.add(randomSample(random, i));
+    }
+    List<Sample> screened = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      screened.add(random.nextInt(2) == 0 ? base.get(random.nextInt(base.size())) : randomSample(random, 2000 + i));
+    }
+    InterferenceScreener screener = new InterferenceScreener(assignments(base),
+                                                             CO_CHANNEL_DISTANCE, ADJACENT_SEPARATION,
+                                                             ADJACENT_DISTANCE, REFERENCE_EIRP);
+    List<String> expected = bruteForce(screened, base);
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, keys(screener.screen(assignments(screened))));
+    assertEquals(expected, keys(screener.screen(assignments(screened), null)));
+    List<InterferenceScreener.Conflict> conflicts = new ArrayList<>();
+    for (Sample sample : screened) {
+      List<InterferenceScreener.Conflict> found = screener.screen(sample.assignment);
+      for (int i = 1; i < found.size(); i++) {
+        assertTrue(found.get(i - 1).compareTo(found.get(i)) <= 0);
+      }
+      conflicts.addAll(found);
+    }
+    assertEquals(expected, keys(conflicts));
+  }
+
+  @Test
+  public void testParallel() {
+    /**
+     * A wideband assignment with no site meets every base assignment, enough
+     * candidate pairs to be split across the pool.
+     */
+    Random random = new Random(47);
+    List<Sample> base = new ArrayList<>();
+    for (int i = 0; i < 1500; i++) {
+      base.add(randomSample(random, i));
+    }
+    Sample wideband = new Sample(9999, 100, 105, 0, 60, Double.NaN, Double.NaN, 0);
+    InterferenceScreener screener = new InterferenceScreener(assignments(base),
+                                                             CO_CHANNEL_DISTANCE, ADJACENT_SEPARATION,
+                                                             ADJACENT_DISTANCE, REFERENCE_EIRP);
+    List<String> expected = bruteForce(Collections.singletonList(wideband), base);
+    assertEquals(base.size(), expected.size());
+    assertEquals(expected, keys(screener.screen(wideband.assignment)));
+    assertEquals(expected, keys(screener.screen(wideband.assignment, null)));
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.analysis.IntermodCalculator.Hit;
+import us.gov.dod.standard.ssrf.analysis.IntermodCalculator.Signal;
+
+import static org.junit.Assert.*;
+
+/**
+ * IntermodCalculator tests against known products and a brute force
+ * enumeration of every transmitter combination.
+ *
+ * @author Jesse Caulfield
+ */
+public class IntermodCalculatorTest {
+
+  @Test
+  public void testTwoSignal() {
+    List<Signal> transmitters = Arrays.asList(new Signal(101, 0), new Signal(100, 0));
+    Signal low = new Signal(99, 0.01);
+    Signal high = new Signal(102, 0.01);
+    List<Hit> hits = new IntermodCalculator(transmitters, Arrays.asList(low, high)).calculate();
+    assertEquals(2, hits.size());
+    /**
+     * 2f1 - f2 = 99 and f1 - 2f2 = -102, with the transmitters in ascending
+     * frequency order.
+     */
+    assertEquals(3, hits.get(0).getOrder());
+    assertEquals(99, hits.get(0).getFrequency(), 1e-9);
+    assertSame(low, hits.get(0).getReceiver());
+    assertEquals("|2f1 - f2|", hits.get(0).getFormula());
+    assertEquals(100, hits.get(0).getTransmitters().get(0).getFrequency(), 0);
+    assertEquals(102, hits.get(1).getFrequency(), 1e-9);
+    assertSame(high, hits.get(1).getReceiver());
+    assertEquals("|f1 - 2f2|", hits.get(1).getFormula());
+    assertArrayEquals(new int[]{1, -2}, hits.get(1).getCoefficients());
+  }
+
+  @Test
+  public void testBandwidth() {
+    /**
+     * The 3rd order product 2f1 - f2 = 99 has a bandwidth of 2 * 0.2 + 0.2;
+     * it reaches a receiver up to 0.35 MHz away with a 0.1 MHz passband.
+     */
+    List<Signal> transmitters = Arrays.asList(new Signal(100, 0.2), new Signal(101, 0.2));
+    List<Hit> hits = new IntermodCalculator(transmitters, Arrays.asList(new Signal(99.34, 0.1))).calculate(3, 2, null);
+    assertEquals(1, hits.size());
+    assertEquals(0.6, hits.get(0).getBandwidth(), 1e-9);
+    hits = new IntermodCalculator(transmitters, Arrays.asList(new Signal(99.4, 0.1))).calculate(3, 2, null);
+    assertTrue(hits.isEmpty());
+  }
+
+  @Test
+  public void testRandom() {
+    Random random = new Random(41);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    int total = 0;
+    try {
+      for (int run = 0; run < 20; run++) {
+        List<Signal> transmitters = new ArrayList<>();
+        for (int i = 0, n = 2 + random.nextInt(14); i < n; i++) {
+          transmitters.add(new Signal(100 + random.nextDouble() * 100, random.nextDouble()));
+        }
+        List<Signal> receivers = new ArrayList<>();
+        for (int i = 0, n = 1 + random.nextInt(10); i < n; i++) {
+          receivers.add(new Signal(random.nextDouble() * 600, random.nextDouble() * 2));
+        }
+        IntermodCalculator calculator = new IntermodCalculator(transmitters, receivers);
+        for (int order = 2; order <= 5; order++) {
+          for (int maxSignals = 2; maxSignals <= 3; maxSignals++) {
+            List<String> expected = bruteForce(transmitters, receivers, order, maxSignals);
+            total += expected.size();
+            assertEquals(expected, keys(calculator.calculate(order, maxSignals, null), transmitters, receivers));
+            assertEquals(expected, keys(calculator.calculate(order, maxSignals, pool), transmitters, receivers));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+    assertTrue(total > 100);
+  }
+
+  /**
+   * Enumerate every combination of m ascending transmitters and every
+   * coefficient pattern whose absolute values sum to the order.
+   */
+  private static List<String> bruteForce(List<Signal> transmitters, List<Signal> receivers, int order, int maxSignals) {
+    List<Signal> sorted = new ArrayList<>(transmitters);
+    Collections.sort(sorted);
+    List<String> keys = new ArrayList<>();
+    for (int m = 2; m <= Math.min(order, maxSignals); m++) {
+      List<int[]> patterns = new ArrayList<>();
+      compositions(order, new int[m], 0, patterns);
+      for (int[] indices : combinations(sorted.size(), m)) {
+        for (int[] pattern : patterns) {
+          double sum = 0;
+          double width = 0;
+          for (int j = 0; j < m; j++) {
+            sum += pattern[j] * sorted.get(indices[j]).getFrequency();
+            width += Math.abs(pattern[j]) * sorted.get(indices[j]).getBandwidth() / 2;
+          }
+          double product = Math.abs(sum);
+          for (Signal receiver : receivers) {
+            if (product > 0 && Math.abs(product - receiver.getFrequency()) <= receiver.getBandwidth() / 2 + width) {
+              Signal[] signals = new Signal[m];
+              for (int j = 0; j < m; j++) {
+                signals[j] = sorted.get(indices[j]);
+              }
+              keys.add(key(pattern, Arrays.asList(signals), receiver, transmitters, receivers));
+            }
+          }
+        }
+      }
+    }
+    Collections.sort(keys);
+    return keys;
+  }
+
+  /**
+   * Recursive method to build the patterns of positive parts summing to the
+   * order, then sign every part but the first.
+   */
+  private static void compositions(int order, int[] pattern, int index, List<int[]> patterns) {
+    if (index == pattern.length) {
+      if (order == 0) {
+        for (int signs = 0; signs < 1 << (pattern.length - 1); signs++) {
+          int[] signed = pattern.clone();
+          for (int j = 1; j < pattern.length; j++) {
+            if ((signs & 1 << (j - 1)) != 0) {
+              signed[j] = -signed[j];
+            }
+          }
+          patterns.add(signed);
+        }
+      }
+      return;
+    }
+    for (int k = 1; k <= order; k++) {
+      pattern[index] = k;
+      compositions(order - k, pattern, index + 1, patterns);
+    }
+  }
+
+  private static List<int[]> combinations(int n, int m) {
+    List<int[]> combinations = new ArrayList<>();
+    int[] indices = new int[m];
+    for (int i = 0; i < m; i++) {
+      indices[i] = i;
+    }
+    while (m <= n) {
+      combinations.add(indices.clone());
+      int i = m - 1;
+      while (i >= 0 && indices[i] == n - m + i) {
+        i--;
+      }
+      if (i < 0) {
+        break;
+      }
+      indices[i]++;
+      for (int j = i + 1; j < m; j++) {
+        indices[j] = indices[j - 1] + 1;
+      }
+    }
+    return combinations;
+  }
+
+  private static List<String> keys(List<Hit> hits, List<Signal> transmitters, List<Signal> receivers) {
+    List<String> keys = new ArrayList<>();
+    for (Hit hit : hits) {
+      keys.add(key(hit.getCoefficients(), hit.getTransmitters(), hit.getReceiver(), transmitters, receivers));
+    }
+    Collections.sort(keys);
+    return keys;
+  }
+
+  /**
+   * Identify a hit by its pattern and the positions of its signals in the
+   * input lists.
+   */
+  private static String key(int[] pattern, List<Signal> signals, Signal receiver, List<Signal> transmitters, List<Signal> receivers) {
+    Map<Signal, Integer> position = new IdentityHashMap<>();
+    for (int i = 0; i < transmitters.size(); i++) {
+      position.put(transmitters.get(i), i);
+    }
+    StringBuilder sb = new StringBuilder(Arrays.toString(pattern));
+    for (Signal signal : signals) {
+      sb.append(' ').append(position.get(signal));
+    }
+    for (int i = 0; i < receivers.size(); i++) {
+      if (receivers.get(i) == receiver) {
+        sb.append(" -> ").append(i);
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.JRFL;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.assignment.Assigned;
+import us.gov.dod.standard.ssrf._3_1.assignment.Freq;
+import us.gov.dod.standard.ssrf._3_1.assignment.Link;
+import us.gov.dod.standard.ssrf._3_1.assignment.Station;
+import us.gov.dod.standard.ssrf._3_1.assignment.StationLoc;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntryLocation;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+import static org.junit.Assert.*;
+
+/**
+ * JRFLComplianceChecker frequency, location and schedule matching tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class JRFLComplianceCheckerTest {
+
+  /**
+   * 2015-01-01T00:00:00Z.
+   */
+  private static final long JAN_1_2015 = 1420070400000L;
+  private static final long DAY = 24 * 3600000L;
+
+  private static Assignment assignment(double freqMin, double freqMax) {
+    Freq freq = new Freq();
+    freq.setFreqMin(new FreqM(freqMin));
+    if (freqMax > freqMin) {
+      freq.setFreqMax(new FreqM(freqMax));
+    }
+    return new Assignment().withLink(new Link().withAssigned(new Assigned().withFreq(freq)));
+  }
+
+  private static Location point(double lat, double lon) {
+    return new Location().withPoint(new Point().withLat(lat).withLon(lon));
+  }
+
+  private static Assignment located(Assignment assignment, double lat, double lon, double radius) {
+    StationLoc stationLoc = new StationLoc().withLocSat(point(lat, lon));
+    if (radius > 0) {
+      stationLoc.withLocationRadius(radius);
+    }
+    return assignment.withStation(new Station().withStationLoc(stationLoc));
+  }
+
+  private static JRFLComplianceChecker checker(JRFL... jrfls) {
+    return new JRFLComplianceChecker(Arrays.asList(jrfls));
+  }
+
+  private static List<Assignment> assignments(List<JRFLComplianceChecker.Conflict> conflicts) {
+    List<Assignment> assignments = new ArrayList<>();
+    for (JRFLComplianceChecker.Conflict conflict : conflicts) {
+      assignments.add(conflict.getAssignment());
+    }
+    return assignments;
+  }
+
+  @Test
+  public void testFrequency() {
+    JRFLComplianceChecker checker = checker(new JRFL().withJRFLEntry(new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0),
+                                                                       new JRFLEntry().withFreqMin(300.0)));
+    List<JRFLComplianceChecker.Conflict> conflicts = checker.check(assignment(150, 250));
+    assertEquals(1, conflicts.size());
+    assertEquals(150, conflicts.get(0).getOverlapMin(), 0);
+    assertEquals(200, conflicts.get(0).getOverlapMax(), 0);
+    assertEquals(1, checker.check(assignment(200, 200)).size());
+    assertEquals(1, checker.check(assignment(300, 300)).size());
+    assertEquals(2, checker.check(assignment(50, 350)).size());
+    assertTrue(checker.check(assignment(200.5, 299.5)).isEmpty());
+    assertTrue(checker.check(new Assignment()).isEmpty());
+  }
+
+  @Test
+  public void testLocation() {
+    JRFLEntry entry = new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0)
+      .withJRFLEntryLocation(new JRFLEntryLocation().withLocation(point(38, -77)));
+    JRFLComplianceChecker checker = checker(new JRFL().withJRFLEntry(entry));
+    assertEquals(1, checker.check(located(assignment(150, 150), 38, -77, 0)).size());
+    assertTrue(checker.check(located(assignment(150, 150), 40, -77, 0)).isEmpty());
+    /**
+     * The location radius reaches the entry location.
+     */
+    assertEquals(1, checker.check(located(assignment(150, 150), 38.5, -77, 60)).size());
+    assertTrue(checker.check(located(assignment(150, 150), 38.5, -77, 40)).isEmpty());
+    /**
+     * An assignment without a station location may conflict anywhere, and an
+     * entry without a location applies everywhere.
+     */
+    assertEquals(1, checker.check(assignment(150, 150)).size());
+    JRFLComplianceChecker everywhere = checker(new JRFL().withJRFLEntry(new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0)));
+    assertEquals(1, everywhere.check(located(assignment(150, 150), -40, 120, 0)).size());
+  }
+
+  @Test
+  public void testDateline() {
+    JRFLEntry entry = new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0)
+      .withJRFLEntryLocation(new JRFLEntryLocation().withLocation(point(0, 179.9)));
+    JRFLComplianceChecker checker = checker(new JRFL().withJRFLEntry(entry));
+    assertEquals(1, checker.check(located(assignment(150, 150), 0, -179.9, 50)).size());
+    assertTrue(checker.check(located(assignment(150, 150), 0, -179, 50)).isEmpty());
+  }
+
+  @Test
+  public void testSchedule() {
+    /**
+     * JRFL validity periods: January and February 2015.
+     */
+    JRFL january = new JRFL().withEffectiveDateTime(new Date(JAN_1_2015)).withExpirationDateTime(new Date(JAN_1_2015 + 30 * DAY))
+      .withJRFLEntry(new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0));
+    JRFL february = new JRFL().withEffectiveDateTime(new Date(JAN_1_2015 + 31 * DAY)).withExpirationDateTime(new Date(JAN_1_2015 + 58 * DAY))
+      .withHours("0-5")
+      .withJRFLEntry(new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0),
+                     new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0).withHours("12"));
+    JRFLComplianceChecker checker = checker(january, february);
+    Assignment always = assignment(150, 150);
+    assertEquals(3, checker.check(always).size());
+    Assignment early = assignment(150, 150).withExpirationDateTime(new Date(JAN_1_2015 + 10 * DAY));
+    List<JRFLComplianceChecker.Conflict> conflicts = checker.check(early);
+    assertEquals(1, conflicts.size());
+    assertSame(january, conflicts.get(0).getJRFL());
+    /**
+     * In February the first entry follows the JRFL hours and the second its
+     * own hours.
+     */
+    Assignment night = assignment(150, 150).withEffectiveDateTime(new Date(JAN_1_2015 + 40 * DAY)).withHours("3");
+    conflicts = checker.check(night);
+    assertEquals(1, conflicts.size());
+    assertSame(february.getJRFLEntry().iterator().next(), conflicts.get(0).getJRFLEntry());
+    Assignment noon = assignment(150, 150).withEffectiveDateTime(new Date(JAN_1_2015 + 40 * DAY)).withHours("12");
+    conflicts = checker.check(noon);
+    assertEquals(1, conflicts.size());
+    assertEquals("12", conflicts.get(0).getJRFLEntry().getHours().getValue());
+    assertTrue(checker.check(assignment(150, 150).withEffectiveDateTime(new Date(JAN_1_2015 + 40 * DAY)).withHours("8")).isEmpty());
+  }
+
+  @Test
+  public void testProtected() {
+    Assignment assignment = assignment(150, 150).withSerial(new Serial("USA:IC:AS:1"));
+    JRFLEntry entry = new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0).withAssignmentAllotment(assignment);
+    JRFLComplianceChecker checker = checker(new JRFL().withJRFLEntry(entry));
+    assertTrue(checker.check(assignment).isEmpty());
+    assertEquals(1, checker.check(assignment(150, 150).withSerial(new Serial("USA:IC:AS:2"))).size());
+  }
+
+  @Test
+  public void testBulk() {
+    JRFLEntry entry = new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0)
+      .withJRFLEntryLocation(new JRFLEntryLocation().withLocation(point(38, -77)));
+    JRFLComplianceChecker checker = checker(new JRFL().withJRFLEntry(entry));
+    List<Assignment> assignments = new ArrayList<>();
+    int expected = 0;
+    for (int i = 0; i < 1000; i++) {
+      double frequency = 50 + i % 200;
+      double lat = 37 + i % 3;
+      assignments.add(located(assignment(frequency, frequency), lat, -77, 0));
+      if (frequency >= 100 && frequency <= 200 && lat == 38) {
+        expected++;
+      }
+    }
+    List<JRFLComplianceChecker.Conflict> sequential = checker.check(assignments, null);
+    assertTrue(expected > 100);
+    assertEquals(expected, sequential.size());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertEquals(assignments(sequential), assignments(checker.check(assignments, pool)));
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(assignments(sequential), assignments(checker.check(assignments)));
+    assertTrue(checker.check(Collections.<Assignment>emptyList()).isEmpty());
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.Random;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.location.Polygon;
+import us.gov.dod.standard.ssrf._3_1.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
+
+import static org.junit.Assert.*;
+
+/**
+ * LocationGeometry containment and distance tests against known values and
+ * sampled shape boundaries.
+ *
+ * @author Jesse Caulfield
+ */
+public class LocationGeometryTest {
+
+  private static final double DEGREE = 1 / GeoBounds.KM_PER_DEGREE;
+
+  private static Polygon polygon(double[]... vertices) {
+    Polygon polygon = new Polygon();
+    for (double[] vertex : vertices) {
+      polygon.withPolygonPoint(new PolygonPoint().withLat(vertex[0]).withLon(vertex[1]));
+    }
+    return polygon;
+  }
+
+  /**
+   * Get the coordinate at a range and bearing from an origin on the sphere.
+   *
+   * @return the latitude and longitude (decimal degrees)
+   */
+  private static double[] destination(double lat, double lon, double km, double bearing) {
+    double phi = Math.toRadians(lat);
+    double delta = Math.toRadians(km * DEGREE);
+    double theta = Math.toRadians(bearing);
+    double phi2 = Math.asin(Math.sin(phi) * Math.cos(delta) + Math.cos(phi) * Math.sin(delta) * Math.cos(theta));
+    double lambda = Math.atan2(Math.sin(theta) * Math.sin(delta) * Math.cos(phi),
+                               Math.cos(delta) - Math.sin(phi) * Math.sin(phi2));
+    return new double[]{Math.toDegrees(phi2), lon + Math.toDegrees(lambda)};
+  }
+
+  @Test
+  public void testPoint() {
+    Location location = new Location().withPoint(new Point().withLat(38.0).withLon(-77.0));
+    LocationGeometry geometry = LocationGeometry.getInstance(location, 10);
+    double lat = 38 + 5 * DEGREE;
+    assertTrue(geometry.contains(lat, -77));
+    assertEquals(0, geometry.distance(lat, -77), 0);
+    lat = 38 + 25 * DEGREE;
+    assertFalse(geometry.contains(lat, -77));
+    assertEquals(15, geometry.distance(lat, -77), 1e-6);
+    /**
+     * Without a radius a point contains only itself.
+     */
+    geometry = LocationGeometry.getInstance(location);
+    assertTrue(geometry.contains(38, -77));
+    assertFalse(geometry.contains(lat, -77));
+  }
+
+  @Test
+  public void testPolygon() {
+    Polygon square = polygon(new double[]{0, 0}, new double[]{1, 0}, new double[]{1, 1}, new double[]{0, 1});
+    Polygon hole = polygon(new double[]{0.4, 0.4}, new double[]{0.6, 0.4}, new double[]{0.6, 0.6}, new double[]{0.4, 0.6})
+      .withExcluded(ListCBO.YES);
+    LocationGeometry geometry = LocationGeometry.getInstance(new Location().withPolygon(square, hole));
+    assertTrue(geometry.contains(0.2, 0.2));
+    assertFalse(geometry.contains(0.5, 0.5));
+    assertFalse(geometry.contains(2, 2));
+    /**
+     * Excluded shapes do not affect the distance to the included shapes.
+     */
+    assertEquals(0, geometry.distance(0.5, 0.5), 0);
+    assertEquals(GeoBounds.distance(0.5, 2, 0.5, 1), geometry.distance(0.5, 2), 0.5);
+    assertEquals(GeoBounds.distance(-1, 0.5, 0, 0.5), geometry.distance(-1, 0.5), 0.5);
+  }
+
+  @Test
+  public void testConcavePolygon() {
+    /**
+     * An L shape: the notch at the upper right is outside.
+     */
+    LocationGeometry geometry = LocationGeometry.getInstance(new Location().withPolygon(
+      polygon(new double[]{0, 0}, new double[]{2, 0}, new double[]{2, 1}, new double[]{1, 1}, new double[]{1, 2}, new double[]{0, 2})));
+    assertTrue(geometry.contains(0.5, 0.5));
+    assertTrue(geometry.contains(1.5, 0.5));
+    assertTrue(geometry.contains(0.5, 1.5));
+    assertFalse(geometry.contains(1.5, 1.5));
+    assertFalse(geometry.contains(-0.5, 0.5));
+    /**
+     * An explicitly closed ring is the same polygon.
+     */
+    LocationGeometry closed = LocationGeometry.getInstance(new Location().withPolygon(
+      polygon(new double[]{0, 0}, new double[]{2, 0}, new double[]{2, 1}, new double[]{1, 1}, new double[]{1, 2}, new double[]{0, 2}, new double[]{0, 0})));
+    Random random = new Random(46);
+    for (int i = 0; i < 1000; i++) {
+      double lat = random.nextDouble() * 3 - 0.5;
+      double lon = random.nextDouble() * 3 - 0.5;
+      assertEquals(geometry.contains(lat, lon), closed.contains(lat, lon));
+    }
+  }
+
+  @Test
+  public void testAntimeridianPolygon() {
+    LocationGeometry geometry = LocationGeometry.getInstance(new Location().withPolygon(
+      polygon(new double[]{-1, 179.5}, new double[]{1, 179.5}, new double[]{1, -179.5}, new double[]{-1, -179.5})));
+    assertTrue(geometry.contains(0, 180));
+    assertTrue(geometry.contains(0, 179.9));
+    assertTrue(geometry.contains(0, -179.9));
+    assertFalse(geometry.contains(0, 179));
+    assertFalse(geometry.contains(0, 0));
+    assertEquals(GeoBounds.distance(0, 179, 0, 179.5), geometry.distance(0, 179), 0.1);
+  }
+
+  @Test
+  public void testPolygonEdgeDistance() {
+    /**
+     * Compare with the smallest great circle distance to points sampled along
+     * each edge of a regional polygon.
+     */
+    double[][] vertices = {{10, 20}, {10.5, 20.2}, {10.8, 21}, {10.2, 21.3}, {9.8, 20.6}};
+    LocationGeometry geometry = LocationGeometry.getInstance(new Location().withPolygon(polygon(vertices)));
+    Random random = new Random(46);
+    for (int run = 0; run < 200; run++) {
+      double lat = 9 + random.nextDouble() * 3;
+      double lon = 19 + random.nextDouble() * 3.5;
+      double distance = geometry.distance(lat, lon);
+      if (geometry.contains(lat, lon)) {
+        assertEquals(0, distance, 0);
+        continue;
+      }
+      double sampled = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < vertices.length; i++) {
+        double[] a = vertices[i];
+        double[] b = vertices[(i + 1) % vertices.length];
+        for (int k = 0; k <= 1000; k++) {
+          double t = k / 1000.0;
+          sampled = Math.min(sampled, GeoBounds.distance(lat, lon, a[0] + t * (b[0] - a[0]), a[1] + t * (b[1] - a[1])));
+        }
+      }
+      assertEquals(sampled, distance, 0.01 * sampled + 0.2);
+    }
+  }
+
+  @Test
+  public void testEllipse() {
+    Ellipse ellipse = new Ellipse().withLat(0.0).withLon(0.0).withSemiMajorAxis(10.0).withSemiMinorAxis(5.0).withAzimuth(0.0);
+    LocationGeometry geometry = LocationGeometry.getInstance(new Location().withEllipse(ellipse));
+    /**
+     * The major axis points north.
+     */
+    assertTrue(geometry.contains(8 * DEGREE, 0));
+    assertFalse(geometry.contains(0, 8 * DEGREE));
+    assertTrue(geometry.contains(0, 4 * DEGREE));
+    assertEquals(10, geometry.distance(20 * DEGREE, 0), 1e-3);
+    assertEquals(3, geometry.distance(0, 8 * DEGREE), 1e-3);
+  }
+
+  @Test
+  public void testRotatedEllipse() {
+    /**
+     * Points at a known range and bearing from the center are inside if
+     * (u / a)^2 + (v / b)^2 &le; 1 in the ellipse axes.
+     */
+    double lat = 40;
+    double lon = -100;
+    double azimuth = 60;
+    double a = 30;
+    double b = 12;
+    Ellipse ellipse = new Ellipse().withLat(lat).withLon(lon).withSemiMajorAxis(a).withSemiMinorAxis(b).withAzimuth(azimuth);
+    LocationGeometry geometry = LocationGeometry.getInstance(new Location().withEllipse(ellipse));
+    Random random = new Random(46);
+    for (int run = 0; run < 1000; run++) {
+      double range = random.nextDouble() * 40;
+      double bearing = random.nextDouble() * 360;
+      double angle = Math.toRadians(bearing - azimuth);
+      double u = range * Math.cos(angle) / a;
+      double v = range * Math.sin(angle) / b;
+      double f = u * u + v * v;
+      if (Math.abs(f - 1) < 1e-3) {
+        continue;
+      }
+      double[] point = destination(lat, lon, range, bearing);
+      assertEquals(f < 1, geometry.contains(point[0], point[1]));
+    }
+    /**
+     * Along the axes the distance is the range less the semi-axis.
+     */
+    double[] point = destination(lat, lon, 50, azimuth);
+    assertEquals(20, geometry.distance(point[0], point[1]), 1e-3);
+    point = destination(lat, lon, 50, azimuth + 90);
+    assertEquals(38, geometry.distance(point[0], point[1]), 1e-3);
+  }
+
+  @Test
+  public void testBatch() {
+    Random random = new Random(41);
+    Location location = new Location()
+      .withPoint(new Point().withLat(35.0).withLon(-95.0))
+      .withPolygon(polygon(new double[]{36, -96}, new double[]{37, -96}, new double[]{37, -94}))
+      .withEllipse(new Ellipse().withLat(34.0).withLon(-97.0).withSemiMajorAxis(50.0).withSemiMinorAxis(20.0).withAzimuth(30.0));
+    LocationGeometry geometry = LocationGeometry.getInstance(location, 5);
+    int n = 500;
+    double[] lat = new double[n];
+    double[] lon = new double[n];
+    for (int i = 0; i < n; i++) {
+      lat[i] = 33 + random.nextDouble() * 5;
+      lon[i] = -98 + random.nextDouble() * 5;
+    }
+    boolean[] inside = new boolean[n];
+    double[] distance = new double[n];
+    double[] range = new double[n];
+    int count = geometry.contains(lat, lon, inside);
+    geometry.distance(lat, lon, distance);
+    LocationGeometry.distance(35, -95, lat, lon, range);
+    int expected = 0;
+    for (int i = 0; i < n; i++) {
+      assertEquals(geometry.contains(lat[i], lon[i]), inside[i]);
+      if (inside[i]) {
+        expected++;
+        assertEquals(0, distance[i], 0);
+      }
+      assertEquals(geometry.distance(lat[i], lon[i]), distance[i], 0);
+      assertEquals(GeoBounds.distance(35, -95, lat[i], lon[i]), range[i], 1e-6);
+    }
+    assertTrue(expected > 0);
+    assertEquals(expected, count);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.location.Polygon;
+import us.gov.dod.standard.ssrf._3_1.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
+
+import static org.junit.Assert.*;
+
+/**
+ * LocationIndex tests against a brute force scan of the entries.
+ *
+ * @author Jesse Caulfield
+ */
+public class LocationIndexTest {
+
+  /**
+   * Build a location with a random point, polygon or ellipse in a region
+   * spanning several degrees, so that search radii cover a handful of
+   * entries.
+   */
+  private static Location randomLocation(Random random) {
+    double lat = 30 + random.nextDouble() * 10;
+    double lon = -100 + random.nextDouble() * 10;
+    switch (random.nextInt(3)) {
+      case 0:
+        return new Location().withPoint(new Point().withLat(lat).withLon(lon));
+      case 1:
+        double d = 0.01 + random.nextDouble() * 0.2;
+        return new Location().withPolygon(new Polygon().withPolygonPoint(new PolygonPoint().withLat(lat).withLon(lon),
+                                                                         new PolygonPoint().withLat(lat + d).withLon(lon),
+                                                                         new PolygonPoint().withLat(lat + d).withLon(lon + d),
+                                                                         new PolygonPoint().withLat(lat).withLon(lon + d)));
+      default:
+        double major = 1 + random.nextDouble() * 20;
+        return new Location().withEllipse(new Ellipse().withLat(lat).withLon(lon)
+          .withSemiMajorAxis(major).withSemiMinorAxis(major / 2).withAzimuth(random.nextDouble() * 360));
+    }
+  }
+
+  /**
+   * Wrap a list of entries as an identity set; entries do not override
+   * equals.
+   */
+  private static Map<LocationIndex.Entry, Boolean> set(List<LocationIndex.Entry> entries) {
+    Map<LocationIndex.Entry, Boolean> set = new IdentityHashMap<>();
+    for (LocationIndex.Entry entry : entries) {
+      set.put(entry, Boolean.TRUE);
+    }
+    return set;
+  }
+
+  @Test
+  public void testRandom() {
+    Random random = new Random(41);
+    List<LocationIndex.Entry> entries = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      entries.addAll(LocationIndex.extract(randomLocation(random)));
+    }
+    LocationIndex index = new LocationIndex(entries);
+    assertEquals(entries.size(), index.size());
+    for (int run = 0; run < 200; run++) {
+      double lat = 29 + random.nextDouble() * 12;
+      double lon = -101 + random.nextDouble() * 12;
+      double km = random.nextDouble() * 100;
+      /**
+       * Within: every entry within the distance, and only those.
+       */
+      List<LocationIndex.Entry> within = new ArrayList<>();
+      for (LocationIndex.Entry entry : entries) {
+        if (entry.distance(lat, lon) <= km) {
+          within.add(entry);
+        }
+      }
+      List<LocationIndex.Entry> found = index.findWithin(lat, lon, km);
+      assertEquals(within.size(), found.size());
+      assertEquals(set(within), set(found));
+      /**
+       * Intersecting: every entry whose bounds intersect the box.
+       */
+      GeoBounds bounds = GeoBounds.getInstance(lat, lon).expand(km);
+      List<LocationIndex.Entry> intersecting = new ArrayList<>();
+      for (LocationIndex.Entry entry : entries) {
+        if (entry.getBounds().intersects(bounds)) {
+          intersecting.add(entry);
+        }
+      }
+      found = index.findIntersecting(bounds);
+      assertEquals(intersecting.size(), found.size());
+      assertEquals(set(intersecting), set(found));
+      /**
+       * Nearest: the k smallest distances in ascending order. Equal distances
+       * may be returned in either order, so compare the distances.
+       */
+      int count = 1 + random.nextInt(20);
+      double[] distances = new double[entries.size()];
+      for (int i = 0; i < distances.length; i++) {
+        distances[i] = entries.get(i).distance(lat, lon);
+      }
+      Arrays.sort(distances);
+      found = index.findNearest(lat, lon, count);
+      assertEquals(count, found.size());
+      for (int i = 0; i < count; i++) {
+        assertEquals(distances[i], found.get(i).distance(lat, lon), 1e-9);
+      }
+    }
+  }
+
+  /**
+   * Circles on both sides of the anti-meridian are found across it.
+   */
+  @Test
+  public void testDateline() {
+    Random random = new Random(42);
+    List<LocationIndex.Entry> entries = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      double lon = random.nextBoolean() ? 175 + random.nextDouble() * 5 : -180 + random.nextDouble() * 5;
+      entries.add(LocationIndex.circle(-5 + random.nextDouble() * 10, lon, random.nextDouble() * 10, null, null));
+    }
+    LocationIndex index = new LocationIndex(entries);
+    for (int run = 0; run < 200; run++) {
+      double lat = -5 + random.nextDouble() * 10;
+      double lon = random.nextBoolean() ? 179 + random.nextDouble() : -180 + random.nextDouble();
+      double km = random.nextDouble() * 200;
+      List<LocationIndex.Entry> within = new ArrayList<>();
+      for (LocationIndex.Entry entry : entries) {
+        if (entry.distance(lat, lon) <= km) {
+          within.add(entry);
+        }
+      }
+      assertEquals(set(within), set(index.findWithin(lat, lon, km)));
+      GeoBounds bounds = GeoBounds.getInstance(lat, lon).expand(km);
+      List<LocationIndex.Entry> intersecting = new ArrayList<>();
+      for (LocationIndex.Entry entry : entries) {
+        if (entry.getBounds().intersects(bounds)) {
+          intersecting.add(entry);
+        }
+      }
+      assertEquals(set(intersecting), set(index.findIntersecting(bounds)));
+      double[] distances = new double[entries.size()];
+      for (int i = 0; i < distances.length; i++) {
+        distances[i] = entries.get(i).distance(lat, lon);
+      }
+      Arrays.sort(distances);
+      List<LocationIndex.Entry> found = index.findNearest(lat, lon, 5);
+      for (int i = 0; i < 5; i++) {
+        assertEquals(distances[i], found.get(i).distance(lat, lon), 1e-9);
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    LocationIndex index = new LocationIndex(Collections.<LocationIndex.Entry>emptyList());
+    assertTrue(index.isEmpty());
+    assertTrue(index.findWithin(0, 0, 1000).isEmpty());
+    assertTrue(index.findNearest(0, 0, 5).isEmpty());
+  }
+
+  @Test
+  public void testExtract() {
+    Location referenced = new Location().withPoint(new Point().withLat(1.0).withLon(1.0));
+    Location location = new Location()
+      .withPoint(new Point().withLat(0.0).withLon(0.0),
+                 new Point().withLat(5.0).withLon(5.0).withExcluded(ListCBO.YES))
+      .withLocation(referenced);
+    /**
+     * Excluded shapes are not indexed; referenced locations are.
+     */
+    List<LocationIndex.Entry> entries = LocationIndex.extract(location);
+    assertEquals(2, entries.size());
+    for (LocationIndex.Entry entry : entries) {
+      assertSame(location, entry.getOwner());
+    }
+    LocationIndex index = new LocationIndex(entries);
+    assertTrue(index.findWithin(5, 5, 10).isEmpty());
+    assertEquals(1, index.findWithin(1, 1, 0).size());
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.JRFL;
+import us.gov.dod.standard.ssrf._3_1.assignment.Assigned;
+import us.gov.dod.standard.ssrf._3_1.assignment.Freq;
+import us.gov.dod.standard.ssrf._3_1.assignment.Link;
+import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Schedule and JRFL schedule matching tests.
+ *
+ * @author Jesse Caulfield
+ */
+public class ScheduleTest {
+
+  private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+  /**
+   * 2015-01-01T00:00:00Z, a Thursday.
+   */
+  private static final long JAN_1_2015 = 1420070400000L;
+  private static final long HOUR = 3600000L;
+  private static final long DAY = 24 * HOUR;
+
+  private static Schedule schedule(String seconds, String minutes, String hours, String daysOfMonth,
+                                   String months, String daysOfWeek, String years, Integer duration) {
+    return Schedule.getInstance(seconds != null ? new MinSec(seconds) : null,
+                                minutes != null ? new MinSec(minutes) : null,
+                                hours != null ? new Hours(hours) : null,
+                                daysOfMonth != null ? new DaysOfMonth(daysOfMonth) : null,
+                                months != null ? new Months(months) : null,
+                                daysOfWeek != null ? new DaysOfWeek(daysOfWeek) : null,
+                                years != null ? new Years(years) : null,
+                                duration != null ? new Duration_UN4(BigInteger.valueOf(duration)) : null);
+  }
+
+  private static long time(int year, int month, int day, int hour, int minute, int second) {
+    Calendar calendar = new GregorianCalendar(UTC);
+    calendar.clear();
+    calendar.set(year, month - 1, day, hour, minute, second);
+    return calendar.getTimeInMillis();
+  }
+
+  @Test
+  public void testUnset() {
+    assertNull(schedule(null, null, null, null, null, null, null, 10));
+    assertTrue(Schedule.overlaps(null, null, JAN_1_2015, JAN_1_2015));
+    assertFalse(Schedule.overlaps(null, null, JAN_1_2015, JAN_1_2015 - 1));
+  }
+
+  @Test
+  public void testHours() {
+    Schedule schedule = schedule(null, null, "9-17", null, null, null, null, null);
+    assertEquals(time(2015, 1, 1, 9, 0, 0), schedule.nextActive(JAN_1_2015, Long.MAX_VALUE));
+    assertEquals(time(2015, 1, 1, 17, 59, 59), schedule.nextActive(time(2015, 1, 1, 17, 59, 59), Long.MAX_VALUE));
+    assertEquals(time(2015, 1, 2, 9, 0, 0), schedule.nextActive(time(2015, 1, 1, 18, 0, 0), Long.MAX_VALUE));
+    assertFalse(schedule.isActive(JAN_1_2015, time(2015, 1, 1, 8, 59, 59)));
+  }
+
+  /**
+   * The SSRF example: 2 minutes every 10 minutes from 0900 to 1700 every
+   * weekday in 2007.
+   */
+  @Test
+  public void testDuration() {
+    Schedule schedule = schedule(null, "*/10", "9-17", null, null, "1-5", "2007", 2);
+    assertFalse(schedule.isActive(JAN_1_2015, Long.MAX_VALUE));
+    long monday = time(2007, 1, 1, 0, 0, 0);
+    assertEquals(time(2007, 1, 1, 9, 0, 0), schedule.nextActive(monday, Long.MAX_VALUE));
+    assertEquals(time(2007, 1, 1, 9, 11, 59), schedule.nextActive(time(2007, 1, 1, 9, 11, 59), Long.MAX_VALUE));
+    assertEquals(time(2007, 1, 1, 9, 20, 0), schedule.nextActive(time(2007, 1, 1, 9, 12, 0), Long.MAX_VALUE));
+    assertEquals(time(2007, 1, 8, 9, 0, 0), schedule.nextActive(time(2007, 1, 5, 18, 0, 0), Long.MAX_VALUE));
+    /**
+     * The 1750 event runs to 1752.
+     */
+    assertEquals(time(2007, 1, 1, 17, 51, 30), schedule.nextActive(time(2007, 1, 1, 17, 51, 30), Long.MAX_VALUE));
+    assertEquals(time(2007, 1, 2, 9, 0, 0), schedule.nextActive(time(2007, 1, 1, 17, 52, 0), Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testDays() {
+    assertFalse(schedule(null, null, null, "30,31", "2", null, null, null).isActive(JAN_1_2015, Long.MAX_VALUE));
+    assertEquals(time(2016, 2, 29, 0, 0, 0),
+                 schedule(null, null, null, "29", "2", null, null, null).nextActive(JAN_1_2015, Long.MAX_VALUE));
+    assertEquals(Schedule.NEVER,
+                 schedule(null, null, null, "29", "2", null, "2017-2019", null).nextActive(JAN_1_2015, Long.MAX_VALUE));
+    /**
+     * Day of month or day of week; 7 is Sunday.
+     */
+    Schedule schedule = schedule(null, null, null, "15", null, "7", null, null);
+    assertEquals(time(2015, 1, 4, 0, 0, 0), schedule.nextActive(JAN_1_2015, Long.MAX_VALUE));
+    assertEquals(time(2015, 1, 15, 0, 0, 0), schedule.nextActive(time(2015, 1, 12, 0, 0, 0), Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testOverlaps() {
+    Schedule day = schedule(null, null, "9-17", null, null, null, null, null);
+    Schedule night = schedule(null, null, "18-23", null, null, null, null, null);
+    Schedule evening = schedule(null, null, "17-20", null, null, null, null, null);
+    assertFalse(Schedule.overlaps(day, night, JAN_1_2015, JAN_1_2015 + 30 * DAY));
+    assertTrue(Schedule.overlaps(day, evening, JAN_1_2015, JAN_1_2015 + 30 * DAY));
+    assertTrue(Schedule.overlaps(day, null, JAN_1_2015, JAN_1_2015 + 30 * DAY));
+    assertFalse(Schedule.overlaps(null, day, JAN_1_2015, JAN_1_2015 + 8 * HOUR));
+    Schedule tenMinutes = schedule(null, "*/10", null, null, null, null, null, 2);
+    assertFalse(Schedule.overlaps(tenMinutes, schedule(null, "5", null, null, null, null, null, null), JAN_1_2015, JAN_1_2015 + DAY));
+    assertTrue(Schedule.overlaps(tenMinutes, schedule(null, "11", null, null, null, null, null, null), JAN_1_2015, JAN_1_2015 + DAY));
+    /**
+     * Schedules without Duration are intersected exactly over any period.
+     */
+    assertFalse(Schedule.overlaps(day, night, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertFalse(Schedule.overlaps(schedule(null, null, null, "1-10", null, null, null, null),
+                                  schedule(null, null, null, "11-20", null, null, null, null), Long.MIN_VALUE, Long.MAX_VALUE));
+    assertEquals(true, Schedule.overlaps(schedule(null, null, null, "13", null, null, null, null),
+                                         schedule(null, null, null, null, null, "5", null, null), JAN_1_2015, Long.MAX_VALUE));
+  }
+
+  /**
+   * Without a Duration the schedule is active exactly at the seconds matching
+   * every set field.
+   */
+  @Test
+  public void testRandomized() {
+    Random random = new Random(42);
+    Calendar calendar = new GregorianCalendar(UTC);
+    for (int run = 0; run < 20; run++) {
+      String minutes = random.nextBoolean() ? null : random.nextInt(60) + "-" + (30 + random.nextInt(30)) + "/" + (1 + random.nextInt(7));
+      String hours = random.nextBoolean() ? null : random.nextInt(24) + "," + random.nextInt(24);
+      String daysOfWeek = random.nextBoolean() ? null : "*/" + (2 + random.nextInt(3));
+      String seconds = minutes == null && hours == null && daysOfWeek == null ? "0-29" : null;
+      Schedule schedule = schedule(seconds, minutes, hours, null, null, daysOfWeek, null, null);
+      Schedule[] fields = {
+        schedule(seconds, null, null, null, null, null, null, null),
+        schedule(null, minutes, null, null, null, null, null, null),
+        schedule(null, null, hours, null, null, null, null, null),
+        schedule(null, null, null, null, null, daysOfWeek, null, null)};
+      long expected = Schedule.NEVER;
+      long from = JAN_1_2015 + random.nextInt(7 * 24 * 60) * 60000L;
+      for (long time = from; time < from + 3 * DAY; time += 1000) {
+        calendar.setTimeInMillis(time);
+        boolean active = (seconds == null || calendar.get(Calendar.SECOND) < 30)
+                         && (fields[1] == null || fields[1].nextActive(time, time) == time)
+                         && (fields[2] == null || fields[2].nextActive(time, time) == time)
+                         && (daysOfWeek == null || (calendar.get(Calendar.DAY_OF_WEEK) - 1) % Integer.parseInt(daysOfWeek.substring(2)) == 0);
+        if (active) {
+          expected = time;
+          break;
+        }
+      }
+      long actual = schedule.nextActive(from, from + 3 * DAY - 1);
+      assertEquals(schedule.toString(), expected, actual);
+    }
+  }
+
+  /**
+   * A JRFL entry only conflicts with an assignment when their schedules are
+   * both active.
+   */
+  @Test
+  public void testComplianceChecker() {
+    JRFLEntry jrflEntry = new JRFLEntry().withFreqMin(100.0).withFreqMax(200.0).withHours("0-5");
+    JRFLComplianceChecker checker = new JRFLComplianceChecker(Arrays.asList(new JRFL().withJRFLEntry(jrflEntry)));
+    assertEquals(0, checker.check(assignment(150.0, "12-18")).size());
+    assertEquals(1, checker.check(assignment(150.0, "4-6")).size());
+    assertEquals(1, checker.check(assignment(150.0, null)).size());
+    assertEquals(0, checker.check(assignment(250.0, null)).size());
+    List<JRFLComplianceChecker.Conflict> conflicts = checker.check(Arrays.asList(assignment(150.0, "12-18"), assignment(150.0, "3")));
+    assertEquals(1, conflicts.size());
+    assertEquals("3", conflicts.get(0).getAssignment().getHours().getValue());
+  }
+
+  private static Assignment assignment(double frequency, String hours) {
+    Freq freq = new Freq();
+    freq.setFreqMin(new FreqM(frequency));
+    Assignment assignment = new Assignment().withLink(new Link().withAssigned(new Assigned().withFreq(freq)));
+    if (hours != null) {
+      assignment.withHours(hours);
+    }
+    return assignment;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.analysis;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.TOA;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCSN;
+import us.gov.dod.standard.ssrf._3_1.toa.Allocation;
+import us.gov.dod.standard.ssrf._3_1.toa.Footnote;
+import us.gov.dod.standard.ssrf._3_1.toa.FreqBand;
+
+import static org.junit.Assert.*;
+
+/**
+ * TOALookup tests against a linear scan of the TOA bands.
+ *
+ * @author Jesse Caulfield
+ */
+public class TOALookupTest {
+
+  /**
+   * Build a random TOA whose band edges fall on a coarse grid, so that bands
+   * share edges and some bands have identical frequency ranges.
+   */
+  private static TOA randomTOA(Random random, int size) {
+    TOA toa = new TOA();
+    for (int i = 0; i < size; i++) {
+      FreqBand freqBand = new FreqBand().withFreqMin((double) random.nextInt(100));
+      if (random.nextInt(5) > 0) {
+        freqBand.withFreqMax((double) random.nextInt(100));
+      }
+      toa.withFreqBand(freqBand);
+    }
+    return toa;
+  }
+
+  /**
+   * Get the bands covering a range by linear scan.
+   */
+  private static List<FreqBand> scan(TOALookup lookup, double freqMin, double freqMax) {
+    List<FreqBand> found = new ArrayList<>();
+    for (TOALookup.Band band : lookup.getBands()) {
+      if (band.getFreqMin() <= freqMax && band.getFreqMax() >= freqMin) {
+        found.add(band.getFreqBand());
+      }
+    }
+    return found;
+  }
+
+  private static List<FreqBand> freqBands(List<TOALookup.Band> bands) {
+    List<FreqBand> found = new ArrayList<>();
+    for (TOALookup.Band band : bands) {
+      found.add(band.getFreqBand());
+    }
+    return found;
+  }
+
+  @Test
+  public void testFind() {
+    Random random = new Random(43);
+    for (int run = 0; run < 50; run++) {
+      TOA toa = randomTOA(random, 1 + random.nextInt(200));
+      TOALookup lookup = TOALookup.getInstance(toa);
+      assertEquals(toa.getFreqBand().size(), lookup.getBands().size());
+      for (int i = 0; i < 200; i++) {
+        double frequency = random.nextInt(4) == 0 ? random.nextDouble() * 110 - 5 : random.nextInt(100);
+        assertEquals(scan(lookup, frequency, frequency), freqBands(lookup.find(frequency)));
+        double other = random.nextInt(4) == 0 ? random.nextDouble() * 110 - 5 : random.nextInt(100);
+        double freqMin = Math.min(frequency, other);
+        double freqMax = Math.max(frequency, other);
+        assertEquals(scan(lookup, freqMin, freqMax), freqBands(lookup.find(freqMin, freqMax)));
+      }
+    }
+  }
+
+  /**
+   * Bands having the same frequency range are all returned, in TOA order.
+   */
+  @Test
+  public void testIdenticalBands() {
+    TOA toa = new TOA();
+    List<FreqBand> expected = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      FreqBand freqBand = new FreqBand().withFreqMin(10.0).withFreqMax(20.0);
+      toa.withFreqBand(freqBand);
+      expected.add(freqBand);
+    }
+    TOALookup lookup = TOALookup.getInstance(toa);
+    assertEquals(expected, freqBands(lookup.find(15)));
+    assertEquals(expected, freqBands(lookup.find(5, 25)));
+    assertEquals(expected, freqBands(lookup.find(20, 25)));
+    assertTrue(lookup.find(20.5, 25).isEmpty());
+  }
+
+  @Test
+  public void testAllocations() {
+    Footnote footnote = new Footnote().withIdx(BigInteger.ONE);
+    Allocation fixed = new Allocation().withAllocatedService(ListCSN.AERONAUTICAL_FIXED).withFootnotes(BigInteger.ONE, BigInteger.TEN);
+    Allocation mobile = new Allocation().withAllocatedService(ListCSN.AERONAUTICAL_MOBILE_ROUTE);
+    TOA toa = new TOA()
+      .withFootnote(footnote)
+      .withFreqBand(new FreqBand().withFreqMin(100.0).withFreqMax(200.0).withAllocation(fixed),
+                    new FreqBand().withFreqMin(150.0).withFreqMax(300.0).withAllocation(mobile));
+    TOALookup lookup = TOALookup.getInstance(toa);
+    assertEquals(1, lookup.findAllocations(120).size());
+    assertEquals(2, lookup.findAllocations(150).size());
+    assertEquals(0, lookup.findAllocations(301).size());
+    List<TOALookup.AllocationEntry> allocations = lookup.findAllocations(120, fixed.getAllocatedService().getValue());
+    assertEquals(1, allocations.size());
+    assertSame(fixed, allocations.get(0).getAllocation());
+    assertEquals(1, allocations.get(0).getFootnotes().size());
+    assertSame(footnote, allocations.get(0).getFootnotes().get(0));
+    assertTrue(allocations.get(0).getChannelPlans().isEmpty());
+  }
+}